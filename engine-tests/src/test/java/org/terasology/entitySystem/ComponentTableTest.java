@@ -0,0 +1,156 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.entitySystem;
+
+import com.google.common.collect.Sets;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.terasology.engine.entitySystem.entity.internal.ComponentStorageType;
+import org.terasology.engine.entitySystem.entity.internal.ComponentTable;
+import org.terasology.engine.entitySystem.stubs.IntegerComponent;
+import org.terasology.engine.entitySystem.stubs.StringComponent;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ComponentTableTest {
+
+    @ParameterizedTest
+    @EnumSource(ComponentStorageType.class)
+    public void testPutGetAndRemove(ComponentStorageType storageType) {
+        ComponentTable table = storageType.createTable();
+        StringComponent stringComponent = new StringComponent("a");
+        IntegerComponent integerComponent = new IntegerComponent(1);
+
+        assertNull(table.put(1, stringComponent));
+        assertNull(table.put(1, integerComponent));
+        assertSame(stringComponent, table.get(1, StringComponent.class));
+        assertSame(integerComponent, table.get(1, IntegerComponent.class));
+
+        StringComponent replacement = new StringComponent("b");
+        assertSame(stringComponent, table.put(1, replacement));
+        assertSame(replacement, table.get(1, StringComponent.class));
+
+        assertSame(replacement, table.remove(1, StringComponent.class));
+        assertNull(table.get(1, StringComponent.class));
+        assertSame(integerComponent, table.get(1, IntegerComponent.class));
+        assertNull(table.remove(1, StringComponent.class));
+
+        table.remove(1);
+        assertNull(table.get(1, IntegerComponent.class));
+        assertEquals(0, table.numEntities());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ComponentStorageType.class)
+    public void testQueryEntitiesWithSeveralComponents(ComponentStorageType storageType) {
+        ComponentTable table = storageType.createTable();
+        for (long id = 1; id <= 100; id++) {
+            table.put(id, new IntegerComponent((int) id));
+            if (id % 3 == 0) {
+                table.put(id, new StringComponent());
+            }
+        }
+        // removing from the middle of an archetype moves other entities within it
+        for (long id = 1; id <= 100; id += 10) {
+            table.remove(id);
+        }
+        table.remove(30, StringComponent.class);
+
+        Set<Long> expected = Sets.newHashSet();
+        for (long id = 1; id <= 100; id++) {
+            if (id % 3 == 0 && id % 10 != 1 && id != 30) {
+                expected.add(id);
+            }
+        }
+        assertEquals(expected, collect(table.entityIdIterator(new Class[]{IntegerComponent.class,
+                StringComponent.class})));
+        assertEquals(90, table.numEntities());
+        assertEquals(90, table.getComponentCount(IntegerComponent.class));
+        assertEquals(expected.size(), table.getComponentCount(StringComponent.class));
+
+        TLongObjectIterator<IntegerComponent> iterator = table.componentIterator(IntegerComponent.class);
+        int iterated = 0;
+        while (iterator.hasNext()) {
+            iterator.advance();
+            assertEquals(iterator.key(), iterator.value().value);
+            iterated++;
+        }
+        assertEquals(90, iterated);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ComponentStorageType.class)
+    public void testRepeatedQueryFollowsChanges(ComponentStorageType storageType) {
+        ComponentTable table = storageType.createTable();
+        Class<? extends Component>[] query = new Class[]{StringComponent.class, IntegerComponent.class};
+        table.put(1, new StringComponent());
+        table.put(1, new IntegerComponent());
+        table.put(2, new StringComponent());
+        assertEquals(Sets.newHashSet(1L), collect(table.entityIdIterator(query)));
+
+        table.put(2, new IntegerComponent());
+        table.remove(1, StringComponent.class);
+        table.put(3, new IntegerComponent());
+        assertEquals(Sets.newHashSet(2L), collect(table.entityIdIterator(query)));
+        assertEquals(1, table.getEntityCount(query));
+
+        table.remove(2);
+        assertEquals(0, table.getEntityCount(query));
+        table.put(3, new StringComponent());
+        assertEquals(Sets.newHashSet(3L), collect(table.entityIdIterator(query)));
+        assertEquals(Sets.newHashSet(3L), collect(table.entityIdIterator(new Class[]{IntegerComponent.class,
+                StringComponent.class})));
+
+        table.clear();
+        assertEquals(0, table.getEntityCount(query));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ComponentStorageType.class)
+    public void testRemoveThroughComponentIterator(ComponentStorageType storageType) {
+        ComponentTable table = storageType.createTable();
+        Class<? extends Component>[] query = new Class[]{IntegerComponent.class, StringComponent.class};
+        for (long id = 1; id <= 20; id++) {
+            table.put(id, new IntegerComponent((int) id));
+            if (id % 2 == 0) {
+                table.put(id, new StringComponent());
+            }
+        }
+        assertEquals(10, table.getEntityCount(query));
+
+        Set<Long> visited = Sets.newHashSet();
+        TLongObjectIterator<IntegerComponent> iterator = table.componentIterator(IntegerComponent.class);
+        while (iterator.hasNext()) {
+            iterator.advance();
+            assertTrue(visited.add(iterator.key()), "Entity visited twice");
+            if (iterator.key() % 4 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(20, visited.size());
+        assertEquals(15, table.getComponentCount(IntegerComponent.class));
+        for (long id = 4; id <= 20; id += 4) {
+            assertNull(table.get(id, IntegerComponent.class));
+            assertNotNull(table.get(id, StringComponent.class));
+        }
+        assertEquals(Sets.newHashSet(2L, 6L, 10L, 14L, 18L), collect(table.entityIdIterator(query)));
+        assertEquals(5, table.getEntityCount(query));
+    }
+
+    private static Set<Long> collect(TLongIterator iterator) {
+        Set<Long> ids = Sets.newHashSet();
+        while (iterator.hasNext()) {
+            ids.add(iterator.next());
+        }
+        return ids;
+    }
+}
@@ -192,6 +192,54 @@ public void testEventReceiverRegistration() {
         assertEquals(1, receiver.eventList.size());
     }
 
+    @Test
+    public void testCachedDispatchFollowsComponentsAndHandlers() {
+        TestCompoundComponentEventHandler handler = new TestCompoundComponentEventHandler();
+        eventSystem.registerEventHandler(handler);
+        entity.addComponent(new StringComponent());
+        entity.send(new TestEvent());
+        assertEquals(0, handler.receivedList.size());
+
+        entity.addComponent(new IntegerComponent());
+        entity.send(new TestEvent());
+        assertEquals(1, handler.receivedList.size());
+
+        TestHighPriorityEventHandler handlerHigh = new TestHighPriorityEventHandler();
+        handlerHigh.cancel = true;
+        eventSystem.registerEventHandler(handlerHigh);
+        entity.send(new TestEvent());
+        assertEquals(1, handler.receivedList.size());
+        assertEquals(1, handlerHigh.receivedList.size());
+
+        eventSystem.unregisterEventHandler(handlerHigh);
+        entity.removeComponent(StringComponent.class);
+        entity.send(new TestEvent());
+        entity.addComponent(new StringComponent());
+        entity.send(new TestEvent());
+        assertEquals(2, handler.receivedList.size());
+        assertEquals(1, handlerHigh.receivedList.size());
+    }
+
+    @Test
+    public void testEventsFromOtherThreadKeepTheirOrder() throws InterruptedException {
+        TestEventReceiver receiver = new TestEventReceiver();
+        eventSystem.registerEventReceiver(receiver, TestEvent.class);
+
+        List<TestEvent> sentEvents = Lists.newArrayList();
+        for (int i = 0; i < 10000; i++) {
+            sentEvents.add(new TestEvent());
+        }
+        Thread producer = new Thread(() -> sentEvents.forEach(entity::send));
+        producer.start();
+        producer.join();
+        assertEquals(0, receiver.eventList.size());
+        assertEquals(sentEvents.size(), eventSystem.getPendingEventCount());
+
+        eventSystem.process();
+        assertEquals(sentEvents, receiver.eventList);
+        assertEquals(0, eventSystem.getPendingEventCount());
+    }
+
     private static class TestEvent extends AbstractConsumableEvent {
 
     }
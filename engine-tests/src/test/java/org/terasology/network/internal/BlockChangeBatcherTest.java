@@ -0,0 +1,66 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.common.collect.Maps;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.Test;
+import org.terasology.protobuf.NetData;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BlockChangeBatcherTest {
+
+    private final BlockChangeBatcher batcher = new BlockChangeBatcher();
+
+    @Test
+    public void testFewChangesAreSentSeparately() throws InvalidProtocolBufferException {
+        batcher.add(new Vector3i(1, 2, 3), 5);
+        batcher.add(new Vector3i(-1, 2, 3), 6);
+
+        NetData.NetMessage message = sendAndReceive();
+
+        assertEquals(2, message.getBlockChangeCount());
+        assertEquals(0, message.getBlockChangeBatchCount());
+        assertTrue(batcher.isEmpty());
+    }
+
+    @Test
+    public void testFilledRegionIsBatchedPerChunk() throws InvalidProtocolBufferException {
+        Map<Vector3i, Integer> expected = Maps.newHashMap();
+        for (int x = -8; x < 8; x++) {
+            for (int y = 10; y < 14; y++) {
+                for (int z = 0; z < 16; z++) {
+                    int blockId = y == 13 ? 2 : 1;
+                    batcher.add(new Vector3i(x, y, z), blockId);
+                    expected.put(new Vector3i(x, y, z), blockId);
+                }
+            }
+        }
+        // a later change of the same block replaces the earlier one
+        batcher.add(new Vector3i(0, 10, 0), 3);
+        expected.put(new Vector3i(0, 10, 0), 3);
+
+        NetData.NetMessage message = sendAndReceive();
+
+        assertEquals(0, message.getBlockChangeCount());
+        List<NetData.BlockChangeBatch> batches = message.getBlockChangeBatchList();
+        assertEquals(2, batches.size());
+        Map<Vector3i, Integer> received = Maps.newHashMap();
+        for (NetData.BlockChangeBatch batch : batches) {
+            BlockChangeBatcher.forEachChange(batch, received::put);
+        }
+        assertEquals(expected, received);
+    }
+
+    private NetData.NetMessage sendAndReceive() throws InvalidProtocolBufferException {
+        NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder();
+        batcher.writeTo(message);
+        return NetData.NetMessage.parseFrom(message.build().toByteArray());
+    }
+}
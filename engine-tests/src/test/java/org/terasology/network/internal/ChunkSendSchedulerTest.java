@@ -0,0 +1,76 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.world.chunks.Chunk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ChunkSendSchedulerTest {
+
+    private final ChunkSendScheduler scheduler = new ChunkSendScheduler();
+
+    @Test
+    public void testNearestChunkFirst() {
+        Chunk far = mock(Chunk.class);
+        Chunk near = mock(Chunk.class);
+        Chunk nearest = mock(Chunk.class);
+        scheduler.add(new Vector3i(5, 0, 0), far);
+        scheduler.add(new Vector3i(0, 2, 0), near);
+        scheduler.add(new Vector3i(0, 0, 0), nearest);
+
+        assertSame(nearest, scheduler.poll());
+        assertSame(near, scheduler.poll());
+        assertSame(far, scheduler.poll());
+        assertNull(scheduler.poll());
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void testChunksInViewDirectionFirst() {
+        Chunk behind = mock(Chunk.class);
+        Chunk ahead = mock(Chunk.class);
+        scheduler.add(new Vector3i(-3, 0, 0), behind);
+        scheduler.add(new Vector3i(3, 0, 0), ahead);
+
+        scheduler.setViewpoint(new Vector3i(), new Vector3f(1, 0, 0));
+        assertEquals(new Vector3i(3, 0, 0), scheduler.peek());
+
+        scheduler.setViewpoint(new Vector3i(), new Vector3f(-1, 0, 0));
+        assertSame(behind, scheduler.poll());
+    }
+
+    @Test
+    public void testMovingReordersChunks() {
+        Chunk first = mock(Chunk.class);
+        Chunk second = mock(Chunk.class);
+        scheduler.add(new Vector3i(0, 0, 1), first);
+        scheduler.add(new Vector3i(10, 0, 0), second);
+
+        scheduler.setViewpoint(new Vector3i(9, 0, 0), new Vector3f());
+        assertSame(second, scheduler.poll());
+        assertSame(first, scheduler.poll());
+    }
+
+    @Test
+    public void testRemovedChunkIsDropped() {
+        Chunk dropped = mock(Chunk.class);
+        Chunk kept = mock(Chunk.class);
+        scheduler.add(new Vector3i(0, 0, 0), dropped);
+        scheduler.add(new Vector3i(1, 0, 0), kept);
+
+        assertTrue(scheduler.remove(new Vector3i(0, 0, 0)));
+        assertFalse(scheduler.remove(new Vector3i(0, 0, 0)));
+        assertEquals(1, scheduler.size());
+        assertSame(kept, scheduler.poll());
+        assertNull(scheduler.poll());
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.common.collect.Sets;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.Component;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.stubs.IntegerComponent;
+import org.terasology.engine.entitySystem.stubs.StringComponent;
+import org.terasology.engine.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EntityDeltaCacheTest {
+
+    private final EntityDeltaCache cache = new EntityDeltaCache();
+    private final NetworkEntitySerializer serializer = mock(NetworkEntitySerializer.class);
+    private final MetricRecordingHandler metrics = new MetricRecordingHandler();
+    private final EntityRef entity = mock(EntityRef.class);
+    private final EntityData.PackedEntity entityData = EntityData.PackedEntity.newBuilder().addComponentId(1).build();
+
+    @Test
+    public void testDeltaSerializedOnceForSameChanges() {
+        when(serializer.serialize(eq(entity), anySet(), anySet(), anySet(), any())).thenReturn(entityData);
+        Set<Class<? extends Component>> changed = Sets.newLinkedHashSet();
+        changed.add(StringComponent.class);
+
+        assertSame(entityData, cache.getEntityDelta(1, entity, Collections.emptySet(), changed, Collections.emptySet(),
+                serializer, metrics));
+        // another client with its own set of the same changes
+        Set<Class<? extends Component>> otherChanged = Sets.newLinkedHashSet();
+        otherChanged.add(StringComponent.class);
+        assertSame(entityData, cache.getEntityDelta(1, entity, Collections.emptySet(), otherChanged, Collections.emptySet(),
+                serializer, metrics));
+        otherChanged.add(IntegerComponent.class);
+        cache.getEntityDelta(1, entity, Collections.emptySet(), otherChanged, Collections.emptySet(), serializer, metrics);
+
+        verify(serializer, times(2)).serialize(eq(entity), anySet(), anySet(), anySet(), any());
+        assertEquals(1, metrics.getSerializationCacheHitsSinceLastCall());
+        assertEquals(entityData.getSerializedSize(), metrics.getSerializationBytesSavedSinceLastCall());
+    }
+
+    @Test
+    public void testEmptyDeltaIsCached() {
+        Set<Class<? extends Component>> changed = Collections.singleton(StringComponent.class);
+
+        assertNull(cache.getEntityDelta(1, entity, Collections.emptySet(), changed, Collections.emptySet(), serializer, metrics));
+        assertNull(cache.getEntityDelta(1, entity, Collections.emptySet(), changed, Collections.emptySet(), serializer, metrics));
+
+        verify(serializer, times(1)).serialize(eq(entity), anySet(), anySet(), anySet(), any());
+        assertEquals(0, metrics.getSerializationCacheHitsSinceLastCall());
+    }
+
+    @Test
+    public void testClearForgetsSerializedEntities() {
+        when(serializer.serialize(eq(entity), eq(true), any())).thenReturn(entityData.toBuilder());
+
+        cache.getInitialEntity(1, entity, serializer, metrics);
+        cache.getInitialEntity(1, entity, serializer, metrics);
+        cache.clear();
+        cache.getInitialEntity(1, entity, serializer, metrics);
+
+        verify(serializer, times(2)).serialize(eq(entity), eq(true), any());
+        assertEquals(1, metrics.getSerializationCacheHitsSinceLastCall());
+    }
+
+    @Test
+    public void testRemoveForgetsChangedEntity() {
+        when(serializer.serialize(eq(entity), eq(true), any())).thenReturn(entityData.toBuilder());
+        when(serializer.serialize(eq(entity), anySet(), anySet(), anySet(), any())).thenReturn(entityData);
+        Set<Class<? extends Component>> changed = Collections.singleton(StringComponent.class);
+
+        cache.getInitialEntity(1, entity, serializer, metrics);
+        cache.getEntityDelta(1, entity, Collections.emptySet(), changed, Collections.emptySet(), serializer, metrics);
+        cache.getInitialEntity(2, entity, serializer, metrics);
+        // the entity changes between the messages of two clients
+        cache.remove(1);
+        cache.getInitialEntity(1, entity, serializer, metrics);
+        cache.getEntityDelta(1, entity, Collections.emptySet(), changed, Collections.emptySet(), serializer, metrics);
+        cache.getInitialEntity(2, entity, serializer, metrics);
+
+        verify(serializer, times(3)).serialize(eq(entity), eq(true), any());
+        verify(serializer, times(2)).serialize(eq(entity), anySet(), anySet(), anySet(), any());
+        assertEquals(1, metrics.getSerializationCacheHitsSinceLastCall());
+    }
+}
@@ -0,0 +1,102 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import org.joml.Vector3f;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.characters.AliveCharacterComponent;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.engine.logic.location.LocationComponent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EntityInterpolatorTest {
+    private static final float EPSILON = 0.0001f;
+
+    private final EntityInterpolator interpolator = new EntityInterpolator();
+    private final LocationComponent location = new LocationComponent();
+    private final CharacterMovementComponent movement = new CharacterMovementComponent();
+    private EntityRef entity;
+
+    @BeforeEach
+    public void setUp() {
+        entity = mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(location);
+        when(entity.getComponent(CharacterMovementComponent.class)).thenReturn(movement);
+        when(entity.hasComponent(CharacterMovementComponent.class)).thenReturn(true);
+        when(entity.hasComponent(AliveCharacterComponent.class)).thenReturn(false);
+    }
+
+    @Test
+    public void testVelocityOfFirstUpdateIsShown() {
+        // a dead character sliding along x at 4 blocks per second
+        receive(0, 0.0f, 4.0f);
+
+        interpolator.apply(EntitySnapshotBuffer.MIN_INTERPOLATION_DELAY);
+
+        assertEquals(0.0f, location.getLocalPosition().x, EPSILON);
+        assertEquals(4.0f, movement.getVelocity().x, EPSILON);
+    }
+
+    @Test
+    public void testSentVelocityIsInterpolated() {
+        receive(0, 0.0f, 4.0f);
+        receive(50, 0.2f, 4.0f);
+        receive(100, 0.4f, 2.0f);
+
+        interpolator.apply(75 + EntitySnapshotBuffer.MIN_INTERPOLATION_DELAY);
+
+        assertEquals(0.3f, location.getLocalPosition().x, EPSILON);
+        assertEquals(3.0f, movement.getVelocity().x, EPSILON);
+    }
+
+    @Test
+    public void testStoppedEntityIsNotExtrapolated() {
+        // the entity hits a wall: it was moving, but the last update says it stands still
+        receive(0, 0.0f, 4.0f);
+        receive(50, 0.2f, 4.0f);
+        receive(100, 0.4f, 0.0f);
+
+        interpolator.apply(200 + EntitySnapshotBuffer.MIN_INTERPOLATION_DELAY);
+
+        assertEquals(0.4f, location.getLocalPosition().x, EPSILON);
+        assertEquals(0.0f, movement.getVelocity().x, EPSILON);
+    }
+
+    @Test
+    public void testVelocityIsDerivedWithoutMovementUpdate() {
+        receive(0, 0.0f, 0.0f);
+        location.setLocalPosition(new Vector3f(0.2f, 0, 0));
+        interpolator.record(entity, 50, false);
+        location.setLocalPosition(new Vector3f(0.4f, 0, 0));
+        interpolator.record(entity, 100, false);
+
+        interpolator.apply(100 + EntitySnapshotBuffer.MIN_INTERPOLATION_DELAY);
+
+        assertEquals(0.4f, location.getLocalPosition().x, EPSILON);
+        assertEquals(4.0f, movement.getVelocity().x, EPSILON);
+    }
+
+    @Test
+    public void testLivingCharactersAreLeftOut() {
+        when(entity.hasComponent(AliveCharacterComponent.class)).thenReturn(true);
+
+        receive(0, 0.0f, 4.0f);
+
+        assertEquals(0, interpolator.size());
+    }
+
+    /**
+     * Applies an update of the location and movement of the entity, like the deserialization of an entity update
+     * does, and records it.
+     */
+    private void receive(long serverTime, float x, float velocityX) {
+        location.setLocalPosition(new Vector3f(x, 0, 0));
+        movement.setVelocity(new Vector3f(velocityX, 0, 0));
+        interpolator.record(entity, serverTime, true);
+    }
+}
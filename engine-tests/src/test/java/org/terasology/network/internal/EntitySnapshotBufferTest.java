@@ -0,0 +1,98 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntitySnapshotBufferTest {
+    private static final float EPSILON = 0.0001f;
+
+    private final EntitySnapshotBuffer buffer = new EntitySnapshotBuffer();
+    private final Vector3f position = new Vector3f();
+    private final Quaternionf rotation = new Quaternionf();
+    private final Vector3f velocity = new Vector3f();
+
+    @Test
+    public void testEmptyBuffer() {
+        assertFalse(buffer.sample(1000, position, rotation, velocity));
+    }
+
+    @Test
+    public void testInterpolatesBetweenUpdates() {
+        // walking along x at 4 blocks per second, updated every net tick
+        receive(0, 0.0f);
+        receive(50, 0.2f);
+        receive(100, 0.4f);
+        assertEquals(EntitySnapshotBuffer.MIN_INTERPOLATION_DELAY, buffer.getDelay());
+
+        assertX(0.1f, 25 + buffer.getDelay());
+        assertX(0.3f, 75 + buffer.getDelay());
+        assertEquals(4.0f, velocity.x, EPSILON);
+    }
+
+    @Test
+    public void testShowsFirstUpdateUntilThereIsAnother() {
+        receive(1000, 5.0f);
+
+        assertX(5.0f, 1000);
+    }
+
+    @Test
+    public void testExtrapolationIsBounded() {
+        receive(0, 0.0f);
+        receive(50, 0.2f);
+        receive(100, 0.4f);
+
+        assertX(0.8f, 200 + buffer.getDelay());
+        assertX(0.4f + 4.0f * EntitySnapshotBuffer.MAX_EXTRAPOLATION / 1000, 100 + EntitySnapshotBuffer.MAX_EXTRAPOLATION + buffer.getDelay());
+        // the entity stopped, so it returns to where it was last
+        assertX(0.4f, 1000 + buffer.getDelay());
+        assertEquals(0, velocity.x, EPSILON);
+    }
+
+    @Test
+    public void testTeleportIsShownAtOnce() {
+        receive(0, 0.0f);
+        receive(50, 0.2f);
+        receive(100, 50.0f);
+
+        assertEquals(1, buffer.size());
+        assertX(50.0f, 100);
+    }
+
+    @Test
+    public void testOlderUpdatesAreIgnored() {
+        receive(0, 0.0f);
+        receive(100, 0.4f);
+        receive(50, 10.0f);
+
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    public void testDelayFollowsUpdateInterval() {
+        // a distant entity, updated every fourth net tick
+        for (int i = 0; i < 20; i++) {
+            receive(i * 200, i * 0.8f);
+        }
+        long delay = buffer.getDelay();
+        assertTrue(delay > 200, "Delay should cover the time between updates, but was " + delay);
+
+        assertX(18.5f * 0.8f, 3700 + delay);
+    }
+
+    private void receive(long time, float x) {
+        buffer.add(time, new Vector3f(x, 0, 0), new Quaternionf(), null);
+    }
+
+    private void assertX(float expected, long time) {
+        assertTrue(buffer.sample(time, position, rotation, velocity));
+        assertEquals(expected, position.x, EPSILON);
+    }
+}
@@ -0,0 +1,68 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.junit.jupiter.api.Test;
+import org.terasology.protobuf.NetData;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NetworkCompressionTest {
+
+    @Test
+    public void testParse() {
+        assertEquals(NetworkCompression.NONE, NetworkCompression.parse("none"));
+        assertEquals(NetworkCompression.ZLIB, NetworkCompression.parse("zlib"));
+        assertEquals(NetworkCompression.zlib(1), NetworkCompression.parse(" ZLIB-1 "));
+        assertEquals(NetworkCompression.FAST, NetworkCompression.parse("fast"));
+    }
+
+    @Test
+    public void testParseUnknown() {
+        assertNull(NetworkCompression.parse(""));
+        assertNull(NetworkCompression.parse("zlib-10"));
+        assertNull(NetworkCompression.parse("zlib-x"));
+        assertNull(NetworkCompression.parse("lz4"));
+        assertNull(NetworkCompression.parse(null));
+    }
+
+    @Test
+    public void testToStringParsesBack() {
+        for (NetworkCompression compression : new NetworkCompression[]{NetworkCompression.NONE, NetworkCompression.zlib(9),
+                NetworkCompression.FAST}) {
+            assertEquals(compression, NetworkCompression.parse(compression.toString()));
+        }
+    }
+
+    @Test
+    public void testChooseAllowedCompression() {
+        assertEquals(NetworkCompression.FAST,
+                NetworkCompression.choose(NetworkCompression.FAST, NetworkCompression.ZLIB, Arrays.asList("none", " Fast ")));
+    }
+
+    @Test
+    public void testChooseConfiguredCompression() {
+        NetworkCompression configured = NetworkCompression.zlib(4);
+        assertEquals(configured, NetworkCompression.choose(null, configured, Arrays.asList("none", "fast")));
+        assertEquals(configured, NetworkCompression.choose(NetworkCompression.NONE, configured, Arrays.asList("zlib-6", "fast")));
+        assertEquals(configured, NetworkCompression.choose(NetworkCompression.zlib(9), configured, Collections.singletonList("zlib")));
+        assertEquals(configured, NetworkCompression.choose(NetworkCompression.zlib(4), configured, Collections.emptyList()));
+    }
+
+    @Test
+    public void testHandshakeCarriesCompression() throws InvalidProtocolBufferException {
+        NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder()
+                .setHandshakeVerification(NetData.HandshakeVerification.newBuilder());
+        HandshakeCommon.setCompression(message, NetworkCompression.zlib(3));
+
+        NetData.NetMessage received = NetData.NetMessage.parseFrom(message.build().toByteArray());
+
+        assertEquals(NetworkCompression.zlib(3), HandshakeCommon.getCompression(received));
+        assertNull(HandshakeCommon.getCompression(NetData.NetMessage.getDefaultInstance()));
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.terasology.engine.network.internal;
 
+import org.joml.Vector3f;
+import org.joml.Vector3i;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -30,12 +32,15 @@
 import org.terasology.engine.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.engine.entitySystem.metadata.EventLibrary;
+import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.network.NetworkComponent;
 import org.terasology.engine.network.NetworkSystem;
 import org.terasology.engine.testUtil.ModuleManagerFactory;
 import org.terasology.engine.world.BlockEntityRegistry;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -184,4 +189,33 @@ public void testClientSendInitialForRelevantOwnedItems() {
         verify(client, times(1)).setNetInitial(entityA.getComponent(NetworkComponent.class).getNetworkId());
 
     }
+
+    @Test
+    public void testClientNoInitialForRelevantEntityOutsideItsChunks() {
+        connectClient();
+        EntityRef entity = entityManager.create(new NetworkComponent(), new LocationComponent(new Vector3f(100, 0, 100)));
+
+        networkSystem.registerNetworkEntity(entity);
+
+        verify(client, times(0)).setNetInitial(entity.getComponent(NetworkComponent.class).getNetworkId());
+    }
+
+    @Test
+    public void testClientSentInitialForRelevantEntityInItsChunks() {
+        connectClient();
+        when(client.isChunkRelevant(any())).thenReturn(true);
+        EntityRef entity = entityManager.create(new NetworkComponent(), new LocationComponent(new Vector3f(100, 0, 100)));
+
+        networkSystem.registerNetworkEntity(entity);
+
+        verify(client).setNetInitial(entity.getComponent(NetworkComponent.class).getNetworkId());
+    }
+
+    @Test
+    public void testUpdateIntervalGrowsWithDistance() {
+        Vector3i clientChunk = new Vector3i(0, 0, 0);
+        assertEquals(1, InterestManager.getUpdateInterval(clientChunk, new Vector3i(2, -1, 0)));
+        assertEquals(InterestManager.MEDIUM_UPDATE_INTERVAL, InterestManager.getUpdateInterval(clientChunk, new Vector3i(0, 0, -4)));
+        assertEquals(InterestManager.FAR_UPDATE_INTERVAL, InterestManager.getUpdateInterval(clientChunk, new Vector3i(5, 0, 0)));
+    }
 }
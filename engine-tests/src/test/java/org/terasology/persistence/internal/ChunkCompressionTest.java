@@ -0,0 +1,63 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+import org.terasology.protobuf.EntityData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChunkCompressionTest {
+
+    @Test
+    public void testCodecsRestoreChunkStore() throws IOException {
+        EntityData.ChunkStore store = createChunkStore();
+        for (String codecName : new String[]{"none", "lz", "deflate-0", "deflate-6", "deflate-9"}) {
+            ChunkCompressionCodec codec = ChunkCompression.getCodec(codecName);
+            assertEquals(codecName, codec.getName());
+            assertEquals(store, ChunkCompression.decode(ChunkCompression.encode(store, codec)), codecName);
+        }
+    }
+
+    @Test
+    public void testGzipChunkOfOldSavesIsDecoded() throws IOException {
+        EntityData.ChunkStore store = createChunkStore();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            store.writeTo(gzipOut);
+        }
+        assertEquals(store, ChunkCompression.decode(baos.toByteArray()));
+    }
+
+    @Test
+    public void testDamagedChunkIsRejected() {
+        byte[] encoded = ChunkCompression.encode(createChunkStore(), ChunkCompression.getCodec("lz"));
+        byte[] truncated = new byte[encoded.length / 2];
+        System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+        assertThrows(IOException.class, () -> ChunkCompression.decode(truncated));
+    }
+
+    @Test
+    public void testUnknownCodecName() {
+        assertThrows(IllegalArgumentException.class, () -> ChunkCompression.getCodec("deflate-10"));
+    }
+
+    private static EntityData.ChunkStore createChunkStore() {
+        byte[] data = new byte[20000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 97 < 50 ? 1 : i % 7);
+        }
+        return EntityData.ChunkStore.newBuilder()
+                .setX(1)
+                .setY(-2)
+                .setZ(3)
+                .setDeprecatedData4(ByteString.copyFrom(data))
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import com.google.common.collect.ImmutableMap;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ChunkRegionFileTest {
+    private static final Vector3i CHUNK_POS = new Vector3i(1, 2, 3);
+    private static final Vector3i OTHER_CHUNK_POS = new Vector3i(15, 0, 15);
+
+    private Path regionPath;
+    private Path journalPath;
+    private ChunkRegionFile regionFile;
+
+    @BeforeEach
+    public void setup(@TempDir Path tempDir) throws IOException {
+        regionPath = tempDir.resolve("0.0.0.region");
+        journalPath = tempDir.resolve("0.0.0.region.journal");
+        regionFile = ChunkRegionFile.open(regionPath);
+    }
+
+    @AfterEach
+    public void cleanup() throws IOException {
+        regionFile.close();
+    }
+
+    @Test
+    public void testWrittenChunkIsReadAfterJournalGotApplied() throws IOException {
+        byte[] data = createData(3000, 1);
+        regionFile.writeChunks(ImmutableMap.of(CHUNK_POS, data), journalPath);
+        assertNull(regionFile.read(CHUNK_POS));
+
+        regionFile.applyJournal(journalPath);
+        assertArrayEquals(data, regionFile.read(CHUNK_POS));
+        assertNull(regionFile.read(OTHER_CHUNK_POS));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void testChunksSurviveReopening() throws IOException {
+        byte[] data = createData(100, 1);
+        byte[] otherData = createData(5000, 2);
+        regionFile.writeChunks(ImmutableMap.of(CHUNK_POS, data, OTHER_CHUNK_POS, otherData), journalPath);
+        regionFile.applyJournal(journalPath);
+        regionFile.close();
+
+        regionFile = ChunkRegionFile.open(regionPath);
+        assertArrayEquals(data, regionFile.read(CHUNK_POS));
+        assertArrayEquals(otherData, regionFile.read(OTHER_CHUNK_POS));
+    }
+
+    @Test
+    public void testOverwrittenChunkKeepsOtherChunks() throws IOException {
+        byte[] otherData = createData(2000, 2);
+        regionFile.writeChunks(ImmutableMap.of(CHUNK_POS, createData(2000, 1), OTHER_CHUNK_POS, otherData),
+                journalPath);
+        regionFile.applyJournal(journalPath);
+
+        byte[] newData = createData(7000, 3);
+        regionFile.writeChunks(ImmutableMap.of(CHUNK_POS, newData), journalPath);
+        regionFile.applyJournal(journalPath);
+
+        assertArrayEquals(newData, regionFile.read(CHUNK_POS));
+        assertArrayEquals(otherData, regionFile.read(OTHER_CHUNK_POS));
+    }
+
+    @Test
+    public void testDamagedJournalKeepsPreviousChunk() throws IOException {
+        byte[] data = createData(1000, 1);
+        regionFile.writeChunks(ImmutableMap.of(CHUNK_POS, data), journalPath);
+        regionFile.applyJournal(journalPath);
+
+        regionFile.writeChunks(ImmutableMap.of(CHUNK_POS, createData(1000, 2)), journalPath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 3));
+        regionFile.applyJournal(journalPath);
+
+        assertArrayEquals(data, regionFile.read(CHUNK_POS));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void testDiscardedJournalFreesItsSectors() throws IOException {
+        ChunkRegionFile.Journal journal = new ChunkRegionFile.Journal();
+        regionFile.writeChunk(CHUNK_POS, ByteBuffer.wrap(createData(5000, 1)), journal);
+        long size = Files.size(regionPath);
+        regionFile.discard(journal);
+
+        byte[] data = createData(5000, 2);
+        regionFile.writeChunks(ImmutableMap.of(OTHER_CHUNK_POS, data), journalPath);
+        regionFile.applyJournal(journalPath);
+
+        assertEquals(size, Files.size(regionPath), "Sectors of the discarded journal must be reused");
+        assertArrayEquals(data, regionFile.read(OTHER_CHUNK_POS));
+        assertNull(regionFile.read(CHUNK_POS));
+    }
+
+    private static byte[] createData(int length, int seed) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + seed);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelChunkWriterTest {
+
+    private static final int ENCODER_THREADS = 2;
+    /**
+     * Buffers of the pool of the writer, which get held by encoded chunks until they are written.
+     */
+    private static final int BUFFER_COUNT = ENCODER_THREADS * 4;
+    private static final int CHUNK_COUNT = BUFFER_COUNT + 2;
+
+    private final Map<Vector3i, CompressedChunkBuilder> chunks = Maps.newHashMap();
+    private final List<Vector3i> order = Lists.newArrayList();
+    private final AtomicInteger acquiredBuffers = new AtomicInteger();
+    private final CountDownLatch lastChunkStarted = new CountDownLatch(1);
+    private final CountDownLatch lastChunkEncoded = new CountDownLatch(1);
+    private ParallelChunkWriter writer;
+
+    @BeforeEach
+    public void setUp() throws InterruptedException {
+        writer = new ParallelChunkWriter(ENCODER_THREADS);
+        for (int i = 0; i < CHUNK_COUNT; i++) {
+            Vector3i chunkPos = new Vector3i(i, 0, 0);
+            CompressedChunkBuilder builder = mock(CompressedChunkBuilder.class);
+            boolean delayed = i == 1;
+            boolean last = i == CHUNK_COUNT - 1;
+            when(builder.encodeChunk(any())).thenAnswer(invocation -> {
+                if (delayed) {
+                    // only asks for a buffer once all of them are held by chunks later in the order
+                    lastChunkEncoded.await();
+                }
+                if (last) {
+                    lastChunkStarted.countDown();
+                }
+                ChunkBufferPool pool = invocation.getArgument(0);
+                ByteBuffer buffer = pool.acquire(16);
+                acquiredBuffers.incrementAndGet();
+                if (last) {
+                    lastChunkEncoded.countDown();
+                }
+                buffer.putInt(chunkPos.x);
+                buffer.flip();
+                return buffer;
+            });
+            chunks.put(chunkPos, builder);
+            order.add(chunkPos);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    void testFailedWriteReleasesBuffersOfEncodedChunks() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThrows(IOException.class, () -> writer.write(chunks, order, (chunkPos, data) -> {
+                // fail once the pool is empty, so the remaining encoders need the buffers of unwritten chunks
+                lastChunkStarted.await();
+                while (acquiredBuffers.get() < BUFFER_COUNT) {
+                    Thread.sleep(1);
+                }
+                throw new IOException("Disk full");
+            }));
+            assertEquals(CHUNK_COUNT, acquiredBuffers.get(), "Chunks which were started must be waited for");
+        }, "Failed write must not wait for encoders which are blocked on the buffer pool");
+    }
+}
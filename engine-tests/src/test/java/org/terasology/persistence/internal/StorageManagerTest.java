@@ -312,6 +312,103 @@ public void testChunkSurvivesStorageSaveAndRestore() throws Exception {
         assertEquals(testBlock2, restored.getChunk().getBlock(0, 4, 2));
     }
 
+    @Test
+    public void testChunkSurvivesRegionStorageSaveAndRestore() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, extraDataManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.setBlock(0, 4, 2, testBlock2);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        when(chunkProvider.getChunk(ArgumentMatchers.any(Vector3ic.class))).thenReturn(chunk);
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.setChunkStorageFormat(ChunkStorageFormat.REGIONS);
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        StorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager, blockManager,
+                extraDataManager, ChunkStorageFormat.REGIONS, recordAndReplaySerializer, recordAndReplayUtils,
+                recordAndReplayCurrentStatus);
+        newSM.loadGlobalStore();
+
+        ChunkStore restored = newSM.loadChunkStore(CHUNK_POS);
+        assertNotNull(restored);
+        assertEquals(CHUNK_POS, restored.getChunkPosition());
+        assertEquals(testBlock, restored.getChunk().getBlock(0, 0, 0));
+        assertEquals(testBlock2, restored.getChunk().getBlock(0, 4, 2));
+    }
+
+    @Test
+    public void testChunkFilesGetConvertedToRegions() throws Exception {
+        Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, extraDataManager);
+        chunk.setBlock(0, 0, 0, testBlock);
+        chunk.markReady();
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+        Path chunkPath = esm.getStoragePathProvider().getChunkPath(CHUNK_POS);
+        assertTrue(Files.isRegularFile(chunkPath));
+
+        ReadWriteStorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, entityManager,
+                blockManager, extraDataManager, ChunkStorageFormat.REGIONS, recordAndReplaySerializer,
+                recordAndReplayUtils, recordAndReplayCurrentStatus);
+        newSM.checkAndRepairSaveIfNecessary();
+
+        assertFalse(Files.isRegularFile(chunkPath));
+        ChunkStore restored = newSM.loadChunkStore(CHUNK_POS);
+        assertNotNull(restored);
+        assertEquals(testBlock, restored.getChunk().getBlock(0, 0, 0));
+    }
+
+    @Test
+    public void testOnlyChangedChunksGetSavedAgain() throws Exception {
+        Vector3ic otherChunkPos = new Vector3i(CHUNK_POS).add(1, 0, 0);
+        ChunkImpl chunk = new ChunkImpl(CHUNK_POS, blockManager, extraDataManager);
+        ChunkImpl otherChunk = new ChunkImpl(otherChunkPos, blockManager, extraDataManager);
+        chunk.markReady();
+        otherChunk.markReady();
+        assertTrue(chunk.isPersistentDirty());
+        ChunkProvider chunkProvider = mock(ChunkProvider.class);
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(chunk, otherChunk));
+        CoreRegistry.put(ChunkProvider.class, chunkProvider);
+
+        esm.waitForCompletionOfPreviousSaveAndStartSaving();
+        esm.finishSavingAndShutdown();
+        assertFalse(chunk.isPersistentDirty());
+
+        EntitySystemSetupUtil.addReflectionBasedLibraries(context);
+        EntitySystemSetupUtil.addEntityManagementRelatedClasses(context);
+        EngineEntityManager newEntityManager = context.get(EngineEntityManager.class);
+        ReadWriteStorageManager newSM = new ReadWriteStorageManager(savePath, moduleEnvironment, newEntityManager,
+                blockManager, extraDataManager, false, recordAndReplaySerializer, recordAndReplayUtils,
+                recordAndReplayCurrentStatus);
+        ChunkImpl loadedChunk = (ChunkImpl) newSM.loadChunkStore(CHUNK_POS).getChunk();
+        ChunkImpl loadedOtherChunk = (ChunkImpl) newSM.loadChunkStore(otherChunkPos).getChunk();
+        loadedChunk.markReady();
+        loadedOtherChunk.markReady();
+        assertFalse(loadedChunk.isPersistentDirty());
+        loadedChunk.setBlock(0, 0, 0, testBlock);
+        assertTrue(loadedChunk.isPersistentDirty());
+        when(chunkProvider.getAllChunks()).thenReturn(Arrays.asList(loadedChunk, loadedOtherChunk));
+        Path chunkPath = newSM.getStoragePathProvider().getChunkPath(CHUNK_POS);
+        Path otherChunkPath = newSM.getStoragePathProvider().getChunkPath(otherChunkPos);
+        Files.delete(chunkPath);
+        Files.delete(otherChunkPath);
+
+        newSM.waitForCompletionOfPreviousSaveAndStartSaving();
+        newSM.finishSavingAndShutdown();
+
+        assertTrue(Files.isRegularFile(chunkPath));
+        assertFalse(Files.isRegularFile(otherChunkPath));
+    }
+
     @Test
     public void testEntitySurvivesStorageInChunkStore() throws Exception {
         Chunk chunk = new ChunkImpl(CHUNK_POS, blockManager, extraDataManager);
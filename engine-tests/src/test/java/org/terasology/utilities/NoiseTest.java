@@ -27,6 +27,8 @@
 import org.terasology.engine.utilities.procedural.WhiteNoise;
 import org.terasology.engine.utilities.random.FastRandom;
 import org.terasology.engine.utilities.random.Random;
+import org.terasology.engine.world.block.BlockArea;
+import org.terasology.engine.world.block.BlockRegion;
 
 import java.util.List;
 
@@ -55,6 +57,48 @@ public static List<Noise> data() {
             );
     }
 
+    public static List<Noise> bulkData() {
+        List<Noise> noises = data();
+        noises.add(new BrownianNoise(new SimplexNoise(0xCAFE), 4));
+        return noises;
+    }
+
+    @ParameterizedTest
+    @MethodSource("bulkData")
+    public void testBulkArea(Noise noiseGen) {
+        BlockArea area = new BlockArea(-7, 3, 9, 12);
+        float scale = 0.37f;
+        float[] values = noiseGen.noise(area, scale);
+
+        for (int y = area.minY(); y <= area.maxY(); y++) {
+            for (int x = area.minX(); x <= area.maxX(); x++) {
+                int index = x - area.minX() + area.getSizeX() * (y - area.minY());
+                assertEquals(noiseGen.noise(x * scale, y * scale), values[index]);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("bulkData")
+    public void testBulkRegionWithStride(Noise noiseGen) {
+        BlockRegion region = new BlockRegion(-5, -9, 2, 6, 4, 11);
+        int stride = 4;
+        int samplesX = 3;
+        int samplesY = 4;
+        float[] values = new float[samplesX * samplesY * 3];
+        noiseGen.noise(values, region, stride, 0.11f, 0.23f, 0.05f);
+
+        for (int k = 0; k < 3; k++) {
+            for (int j = 0; j < samplesY; j++) {
+                for (int i = 0; i < samplesX; i++) {
+                    float expected = noiseGen.noise((region.minX() + i * stride) * 0.11f,
+                            (region.minY() + j * stride) * 0.23f, (region.minZ() + k * stride) * 0.05f);
+                    assertEquals(expected, values[i + samplesX * (j + samplesY * k)]);
+                }
+            }
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("data")
     public void testMinMax(Noise noiseGen) {
@@ -0,0 +1,107 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.internal;
+
+import com.google.common.collect.Sets;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.location.LocationComponent;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChunkRelevanceRegionTest {
+
+    private static final float EPSILON = 1e-4f;
+    private static final float PREDICTION_SECONDS = 4;
+
+    private LocationComponent location;
+    private ChunkRelevanceRegion region;
+
+    @BeforeEach
+    public void setUp() {
+        location = new LocationComponent();
+        EntityRef entity = mock(EntityRef.class);
+        when(entity.getComponent(LocationComponent.class)).thenReturn(location);
+        when(entity.hasComponent(LocationComponent.class)).thenReturn(true);
+        region = new ChunkRelevanceRegion(entity, new Vector3i(3, 3, 3));
+        region.update(1);
+    }
+
+    @Test
+    void testVelocityIsSmoothed() {
+        moveTo(20, 1);
+        Assertions.assertEquals(6, region.getVelocity().x(), EPSILON, "Velocity must only follow the movement partly");
+
+        moveTo(40, 1);
+        Assertions.assertEquals(10.2f, region.getVelocity().x(), EPSILON, "Velocity must approach the movement");
+        Assertions.assertEquals(0, region.getVelocity().y(), EPSILON);
+        Assertions.assertEquals(0, region.getVelocity().z(), EPSILON);
+    }
+
+    @Test
+    void testTeleportResetsVelocity() {
+        moveTo(20, 1);
+        moveTo(40, 1);
+
+        moveTo(2000, 1);
+
+        Assertions.assertEquals(0, region.getVelocity().length(), EPSILON, "Teleport must reset the velocity");
+        Set<Vector3ic> predicted = Sets.newHashSet();
+        Assertions.assertEquals(0, region.gatherPredictedChunks(PREDICTION_SECONDS, 100, predicted));
+        Assertions.assertTrue(predicted.isEmpty(), "No chunks must be predicted after a teleport");
+    }
+
+    @Test
+    void testSlowEntityGetsNoPrediction() {
+        moveTo(20, 1);
+        Assertions.assertTrue(region.getVelocity().length() < 10);
+
+        Set<Vector3ic> predicted = Sets.newHashSet();
+        Assertions.assertEquals(0, region.gatherPredictedChunks(PREDICTION_SECONDS, 100, predicted));
+        Assertions.assertTrue(predicted.isEmpty(), "No chunks must be predicted for slow entities");
+    }
+
+    @Test
+    void testFastEntityGetsChunksAhead() {
+        moveTo(20, 1);
+        moveTo(40, 1);
+        moveTo(60, 1);
+        Assertions.assertTrue(region.getVelocity().length() > 10);
+
+        Set<Vector3ic> predicted = Sets.newHashSet();
+        int added = region.gatherPredictedChunks(PREDICTION_SECONDS, 100, predicted);
+
+        Assertions.assertTrue(added > 0, "Chunks must be predicted for fast entities");
+        Assertions.assertEquals(added, predicted.size());
+        for (Vector3ic pos : predicted) {
+            Assertions.assertFalse(region.getCurrentRegion().contains(pos),
+                    "Chunks of the current region must not be predicted");
+            Assertions.assertTrue(pos.x() > region.getCurrentRegion().maxX(),
+                    "Predicted chunks must be ahead of the region");
+        }
+    }
+
+    @Test
+    void testPredictionIsLimited() {
+        moveTo(20, 1);
+        moveTo(40, 1);
+        moveTo(60, 1);
+
+        Set<Vector3ic> predicted = Sets.newHashSet();
+        Assertions.assertEquals(4, region.gatherPredictedChunks(PREDICTION_SECONDS, 4, predicted));
+        Assertions.assertEquals(4, predicted.size());
+    }
+
+    private void moveTo(float x, float delta) {
+        location.setWorldPosition(new Vector3f(x, 0, 0));
+        region.update(delta);
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.localChunkProvider;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import org.joml.Vector3i;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.chunks.Chunk;
+
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChunkPregeneratorTest {
+
+    /**
+     * 3 x 3 tiles of 8 x 8 columns of a single chunk.
+     */
+    private static final BlockRegion REGION = new BlockRegion(0, 0, 0, 23, 0, 23);
+
+    private LocalChunkProvider chunkProvider;
+
+    @BeforeEach
+    public void setUp() {
+        chunkProvider = mock(LocalChunkProvider.class);
+    }
+
+    @Test
+    void testClosestTileFirst() {
+        when(chunkProvider.isChunkReady(any())).thenReturn(true);
+        ChunkPregenerator pregenerator = new ChunkPregenerator(chunkProvider, REGION);
+
+        Assertions.assertFalse(pregenerator.update(), "Pre-generation must not be done before the first tile");
+
+        Assertions.assertTrue(pregenerator.isRequested(new Vector3i(11, 0, 11)),
+                "Center tile must be requested first");
+        Assertions.assertFalse(pregenerator.isRequested(new Vector3i(0, 0, 0)),
+                "Corner tile must not be requested first");
+
+        int updates = 1;
+        while (!pregenerator.update()) {
+            updates++;
+            if (updates == 9) {
+                Assertions.assertTrue(Stream.of(new Vector3i(0, 0, 0), new Vector3i(23, 0, 0),
+                        new Vector3i(0, 0, 23), new Vector3i(23, 0, 23)).anyMatch(pregenerator::isRequested),
+                        "A corner tile must be requested last");
+            }
+        }
+        Assertions.assertEquals(9, updates, "Each tile must be requested once");
+    }
+
+    @Test
+    void testCompletion() {
+        when(chunkProvider.isChunkReady(any())).thenReturn(true);
+        ChunkPregenerator pregenerator = new ChunkPregenerator(chunkProvider, REGION);
+
+        Assertions.assertFalse(pregenerator.update());
+        Assertions.assertEquals(0, pregenerator.getDoneCount(), "No tile must be done before it was checked");
+        Assertions.assertFalse(pregenerator.update());
+        Assertions.assertEquals(64, pregenerator.getDoneCount(), "Chunks of the first tile must be done");
+
+        while (!pregenerator.update()) {
+            // wait for the remaining tiles
+        }
+        Assertions.assertEquals(REGION.volume(), pregenerator.getDoneCount(), "All chunks must be done");
+        Assertions.assertEquals(REGION.volume(), pregenerator.getTotalCount());
+        Assertions.assertFalse(pregenerator.isRequested(new Vector3i(11, 0, 11)),
+                "No chunk must be kept after completion");
+    }
+
+    @Test
+    void testTileWaitsForChunks() {
+        SettableFuture<Chunk> future = SettableFuture.create();
+        when(chunkProvider.isChunkReady(any())).thenReturn(false);
+        when(chunkProvider.createOrLoadChunk(any())).thenReturn(future);
+        ChunkPregenerator pregenerator = new ChunkPregenerator(chunkProvider, REGION);
+
+        Assertions.assertFalse(pregenerator.update());
+        Assertions.assertFalse(pregenerator.update());
+        Assertions.assertEquals(0, pregenerator.getDoneCount(), "Tile must not be done while its chunks are processed");
+
+        future.setException(new IllegalStateException("Failed chunk"));
+        Assertions.assertFalse(pregenerator.update());
+        Assertions.assertEquals(64, pregenerator.getDoneCount(), "Failed chunks must not block their tile");
+    }
+
+    @Test
+    void testFailedChunkDoesNotBlockCompletion() {
+        when(chunkProvider.isChunkReady(any())).thenReturn(false);
+        when(chunkProvider.createOrLoadChunk(any()))
+                .thenReturn(Futures.immediateFailedFuture(new IllegalStateException("Failed chunk")));
+        ChunkPregenerator pregenerator = new ChunkPregenerator(chunkProvider, new BlockRegion(0, 0, 0));
+
+        Assertions.assertFalse(pregenerator.update());
+        Assertions.assertTrue(pregenerator.update(), "Pre-generation must be done when all chunks failed");
+        Assertions.assertEquals(1, pregenerator.getDoneCount());
+    }
+}
@@ -2,6 +2,7 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.world.chunks.localChunkProvider;
 
+import com.google.common.base.Ticker;
 import com.google.common.collect.Maps;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
@@ -39,9 +40,12 @@
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 class LocalChunkProviderTest {
@@ -58,6 +62,7 @@ class LocalChunkProviderTest {
     private Block blockAtBlockManager;
     private TestStorageManager storageManager;
     private TestWorldGenerator generator;
+    private ManualTicker ticker;
 
     @BeforeEach
     public void setUp() {
@@ -73,15 +78,18 @@ public void setUp() {
         chunkCache = Maps.newConcurrentMap();
         storageManager = new TestStorageManager();
         generator = new TestWorldGenerator(blockManager);
+        ticker = new ManualTicker();
         chunkProvider = new LocalChunkProvider(storageManager,
                 entityManager,
                 generator,
                 blockManager,
                 extraDataManager,
-                chunkCache);
+                chunkCache,
+                ticker);
         chunkProvider.setBlockEntityRegistry(blockEntityRegistry);
         chunkProvider.setWorldEntity(worldEntity);
-        chunkProvider.setRelevanceSystem(new RelevanceSystem(chunkProvider)); // workaround. initialize loading pipeline
+        // workaround. initialize loading pipeline
+        chunkProvider.setRelevanceSystem(new RelevanceSystem(chunkProvider, null));
     }
 
     @AfterEach
@@ -107,6 +115,73 @@ private Future<Chunk> requestCreatingOrLoadingArea(Vector3ic chunkPosition) {
         return requestCreatingOrLoadingArea(chunkPosition, 1);
     }
 
+    @Test
+    void testSpeculativeChunkIsKeptWarmUntilRequested() throws InterruptedException, ExecutionException,
+            TimeoutException {
+        Vector3i chunkPosition = new Vector3i(0, 0, 0);
+        Future<Chunk> chunkFuture = chunkProvider.requestSpeculativeChunk(chunkPosition);
+        new BlockRegion(chunkPosition).expand(1, 1, 1).iterator()
+                .forEachRemaining(pos -> chunkProvider.requestSpeculativeChunk(pos));
+        chunkFuture.get(WAIT_CHUNK_IS_READY_IN_SECONDS, TimeUnit.SECONDS);
+        chunkProvider.update();
+
+        verify(worldEntity, never()).send(any(OnChunkGenerated.class));
+        Assertions.assertNull(chunkProvider.getChunk(chunkPosition), "Warm chunk must not be in the world");
+
+        chunkProvider.createOrLoadChunk(chunkPosition).get(WAIT_CHUNK_IS_READY_IN_SECONDS, TimeUnit.SECONDS);
+        chunkProvider.update();
+
+        verify(worldEntity).send(any(OnChunkGenerated.class));
+        Assertions.assertNotNull(chunkProvider.getChunk(chunkPosition), "Requested warm chunk must be in the world");
+    }
+
+    @Test
+    void testWarmChunkIsDisposedWhenExpired() throws InterruptedException, ExecutionException, TimeoutException {
+        Vector3i chunkPosition = new Vector3i(0, 0, 0);
+        Chunk chunk = requestWarmChunk(chunkPosition);
+        Assertions.assertFalse(chunk.isDisposed(), "Warm chunk must not be disposed before it expires");
+
+        ticker.advance(LocalChunkProvider.WARM_CHUNK_EXPIRY_SECONDS + 1, TimeUnit.SECONDS);
+        chunkProvider.update();
+
+        Assertions.assertTrue(chunk.isDisposed(), "Expired warm chunk must be disposed");
+        requestCreatingOrLoadingArea(chunkPosition).get(WAIT_CHUNK_IS_READY_IN_SECONDS, TimeUnit.SECONDS);
+        chunkProvider.update();
+        Assertions.assertNotSame(chunk, chunkProvider.getChunk(chunkPosition),
+                "Expired warm chunk must not be put into the world");
+    }
+
+    @Test
+    void testWarmChunkIsDisposedWithProvider() throws InterruptedException, ExecutionException, TimeoutException {
+        Chunk chunk = requestWarmChunk(new Vector3i(0, 0, 0));
+
+        chunkProvider.dispose();
+
+        Assertions.assertTrue(chunk.isDisposed(), "Warm chunk must be disposed with the chunk provider");
+    }
+
+    @Test
+    void testSecondPregenerationIsRefused() {
+        BlockRegion region = new BlockRegion(0, 0, 0).expand(1, 0, 1);
+        Assertions.assertEquals(region.volume(), chunkProvider.pregenerate(region));
+
+        Assertions.assertTrue(chunkProvider.isPregenerating());
+        Assertions.assertEquals(region.volume(), chunkProvider.getPregenerationTotal());
+        Assertions.assertThrows(IllegalStateException.class, () -> chunkProvider.pregenerate(region),
+                "A running pre-generation must not be replaced");
+    }
+
+    private Chunk requestWarmChunk(Vector3ic chunkPosition) throws InterruptedException, ExecutionException,
+            TimeoutException {
+        Future<Chunk> chunkFuture = chunkProvider.requestSpeculativeChunk(chunkPosition);
+        new BlockRegion(chunkPosition).expand(1, 1, 1).iterator()
+                .forEachRemaining(pos -> chunkProvider.requestSpeculativeChunk(pos));
+        Chunk chunk = chunkFuture.get(WAIT_CHUNK_IS_READY_IN_SECONDS, TimeUnit.SECONDS);
+        chunkProvider.update();
+        Assertions.assertNull(chunkProvider.getChunk(chunkPosition), "Warm chunk must not be in the world");
+        return chunk;
+    }
+
     @Test
     void testGenerateSingleChunk() throws InterruptedException, ExecutionException, TimeoutException {
         Vector3i chunkPosition = new Vector3i(0, 0, 0);
@@ -296,4 +371,17 @@ void testUnloadChunkAndDeactivationBlock() throws InterruptedException, TimeoutE
         Assertions.assertTrue(beforeDeactivateBlocks.get().blockCount() > 0,
                 "BeforeDeactivateBlocks must have block count more then zero");
     }
+
+    private static class ManualTicker extends Ticker {
+        private final AtomicLong nanos = new AtomicLong();
+
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+
+        void advance(long duration, TimeUnit unit) {
+            nanos.addAndGet(unit.toNanos(duration));
+        }
+    }
 }
@@ -0,0 +1,74 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.world.chunks.pipeline;
+
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+class ChunkTaskQueueTest {
+
+    @Test
+    void takesClosestPositionFirst() {
+        ChunkTaskQueue queue = new ChunkTaskQueue(p -> (int) p.gridDistance(new Vector3i()));
+        queue.offer(future(new Vector3i(3, 0, 0)));
+        queue.offer(future(new Vector3i(1, 0, 0)));
+        queue.offer(future(new Vector3i(2, 0, 0)));
+
+        Assertions.assertEquals(new Vector3i(1, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+        Assertions.assertEquals(new Vector3i(2, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+        Assertions.assertEquals(new Vector3i(3, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+        Assertions.assertNull(queue.poll());
+    }
+
+    @Test
+    void samePriorityKeepsArrivalOrder() {
+        ChunkTaskQueue queue = new ChunkTaskQueue(p -> 0);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(future(new Vector3i(i, 0, 0)));
+        }
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(new Vector3i(i, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+        }
+    }
+
+    @Test
+    void reprioritizeReordersQueuedTasks() {
+        AtomicReference<Vector3ic> center = new AtomicReference<>(new Vector3i());
+        ChunkTaskQueue queue = new ChunkTaskQueue(p -> (int) p.gridDistance(center.get()));
+        for (int i = 0; i <= 10; i++) {
+            queue.offer(future(new Vector3i(i, 0, 0)));
+        }
+
+        center.set(new Vector3i(10, 0, 0));
+        queue.reprioritize();
+
+        for (int i = 10; i >= 0; i--) {
+            Assertions.assertEquals(new Vector3i(i, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+        }
+    }
+
+    @Test
+    void removeKeepsOrder() {
+        ChunkTaskQueue queue = new ChunkTaskQueue(p -> p.x());
+        PositionFuture<Object> removed = future(new Vector3i(2, 0, 0));
+        queue.offer(future(new Vector3i(4, 0, 0)));
+        queue.offer(removed);
+        queue.offer(future(new Vector3i(1, 0, 0)));
+        queue.offer(future(new Vector3i(3, 0, 0)));
+
+        Assertions.assertTrue(queue.remove(removed));
+        Assertions.assertEquals(3, queue.size());
+        Assertions.assertEquals(new Vector3i(1, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+        Assertions.assertEquals(new Vector3i(3, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+        Assertions.assertEquals(new Vector3i(4, 0, 0), ((PositionFuture<?>) queue.poll()).getPosition());
+    }
+
+    private PositionFuture<Object> future(Vector3ic position) {
+        return new PositionFuture<>(() -> null, position, f -> { });
+    }
+}
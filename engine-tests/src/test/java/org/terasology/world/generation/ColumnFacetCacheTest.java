@@ -0,0 +1,140 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.world.generation;
+
+import org.junit.jupiter.api.Test;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.context.internal.ContextImpl;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
+import org.terasology.engine.world.generation.Border3D;
+import org.terasology.engine.world.generation.Facet;
+import org.terasology.engine.world.generation.FacetProvider;
+import org.terasology.engine.world.generation.GeneratingRegion;
+import org.terasology.engine.world.generation.Produces;
+import org.terasology.engine.world.generation.Region;
+import org.terasology.engine.world.generation.Requires;
+import org.terasology.engine.world.generation.Updates;
+import org.terasology.engine.world.generation.WorldBuilder;
+import org.terasology.engine.world.generation.WorldImpl;
+import org.terasology.engine.world.generation.facets.base.BaseFacet2D;
+import org.terasology.engine.world.generation.facets.base.BaseFacet3D;
+import org.terasology.engine.world.generator.plugin.WorldGeneratorPluginLibrary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ColumnFacetCacheTest {
+
+    private Context context = new ContextImpl();
+    private HeightProvider heightProvider = new HeightProvider();
+
+    @Test
+    public void testStackedRegionsShareFacets() {
+        WorldImpl world = buildWorld(new DensityProvider());
+
+        Region lower = world.getWorldData(new BlockRegion(0, 0, 0).setSize(32, 64, 32));
+        Region upper = world.getWorldData(new BlockRegion(0, 64, 0).setSize(32, 64, 32));
+
+        lower.getFacet(DensityFacet.class);
+        upper.getFacet(DensityFacet.class);
+
+        assertEquals(1, heightProvider.calls);
+        assertSame(lower.getFacet(HeightFacet.class), upper.getFacet(HeightFacet.class));
+        assertEquals(1, world.getFacetCache().getStats().hitCount());
+        assertEquals(1, world.getFacetCache().getStats().missCount());
+    }
+
+    @Test
+    public void testOtherColumnsAreGeneratedAgain() {
+        WorldImpl world = buildWorld(new DensityProvider());
+
+        Region region = world.getWorldData(new BlockRegion(0, 0, 0).setSize(32, 64, 32));
+        Region nextRegion = world.getWorldData(new BlockRegion(32, 0, 0).setSize(32, 64, 32));
+
+        assertNotSame(region.getFacet(HeightFacet.class), nextRegion.getFacet(HeightFacet.class));
+        assertEquals(2, heightProvider.calls);
+    }
+
+    @Test
+    public void testFacetsUpdatedFrom3DFacetsAreNotShared() {
+        WorldImpl world = buildWorld(new CaveProvider(), new HeightFromCavesUpdater());
+
+        world.getWorldData(new BlockRegion(0, 0, 0).setSize(32, 64, 32)).getFacet(HeightFacet.class);
+        world.getWorldData(new BlockRegion(0, 64, 0).setSize(32, 64, 32)).getFacet(HeightFacet.class);
+
+        assertEquals(2, heightProvider.calls);
+        assertEquals(0, world.getFacetCache().size());
+    }
+
+    private WorldImpl buildWorld(FacetProvider... providers) {
+        WorldBuilder worldBuilder = new WorldBuilder(context.get(WorldGeneratorPluginLibrary.class));
+        worldBuilder.setSeed(12);
+        worldBuilder.addProvider(heightProvider);
+        for (FacetProvider provider : providers) {
+            worldBuilder.addProvider(provider);
+        }
+        return (WorldImpl) worldBuilder.build();
+    }
+
+    public static class HeightFacet extends BaseFacet2D {
+        public HeightFacet(BlockRegionc targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class DensityFacet extends BaseFacet3D {
+        public DensityFacet(BlockRegion targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    public static class CaveFacet extends BaseFacet3D {
+        public CaveFacet(BlockRegion targetRegion, Border3D border) {
+            super(targetRegion, border);
+        }
+    }
+
+    @Produces(HeightFacet.class)
+    public static class HeightProvider implements FacetProvider {
+        private int calls;
+
+        @Override
+        public void process(GeneratingRegion region) {
+            calls++;
+            region.setRegionFacet(HeightFacet.class, new HeightFacet(region.getRegion(),
+                    region.getBorderForFacet(HeightFacet.class)));
+        }
+    }
+
+    @Produces(DensityFacet.class)
+    @Requires(@Facet(HeightFacet.class))
+    public static class DensityProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(DensityFacet.class, new DensityFacet(region.getRegion(),
+                    region.getBorderForFacet(DensityFacet.class)));
+        }
+    }
+
+    @Produces(CaveFacet.class)
+    public static class CaveProvider implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+            region.setRegionFacet(CaveFacet.class, new CaveFacet(region.getRegion(),
+                    region.getBorderForFacet(CaveFacet.class)));
+        }
+    }
+
+    @Requires(@Facet(CaveFacet.class))
+    @Updates(@Facet(HeightFacet.class))
+    public static class HeightFromCavesUpdater implements FacetProvider {
+
+        @Override
+        public void process(GeneratingRegion region) {
+        }
+    }
+}
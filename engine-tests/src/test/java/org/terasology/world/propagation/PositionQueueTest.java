@@ -0,0 +1,111 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.propagation;
+
+import org.joml.Vector3i;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PositionQueueTest {
+    private final Deque<long[]> bitsetPool = new ArrayDeque<>();
+    private final PositionQueue queue = new PositionQueue(bitsetPool);
+
+    @Test
+    public void testPackRoundTrip() {
+        int[] values = {0, 1, -1, 31, 32, -33, 1_000_000, -1_000_000};
+        for (int x : values) {
+            for (int y : values) {
+                for (int z : values) {
+                    assertEquals(new Vector3i(x, y, z), PositionQueue.unpack(PositionQueue.pack(x, y, z), new Vector3i()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFirstInFirstOut() {
+        queue.add(1, 2, 3);
+        queue.add(-40, 70, 5);
+        queue.add(0, 0, 0);
+
+        assertEquals(3, queue.size());
+        assertEquals(new Vector3i(1, 2, 3), poll());
+        assertEquals(new Vector3i(-40, 70, 5), poll());
+        assertEquals(new Vector3i(0, 0, 0), poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testDuplicatesAreIgnored() {
+        assertTrue(queue.add(1, 2, 3));
+        assertFalse(queue.add(1, 2, 3));
+        assertEquals(1, queue.size());
+
+        poll();
+        assertTrue(queue.add(1, 2, 3));
+    }
+
+    @Test
+    public void testRemovedPositionsAreSkipped() {
+        queue.add(1, 2, 3);
+        queue.add(4, 5, 6);
+        queue.add(7, 8, 9);
+
+        assertTrue(queue.remove(4, 5, 6));
+        assertFalse(queue.remove(4, 5, 6));
+        assertEquals(2, queue.size());
+        assertEquals(new Vector3i(1, 2, 3), poll());
+        assertEquals(new Vector3i(7, 8, 9), poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testReaddedPositionIsPolledOnce() {
+        queue.add(1, 2, 3);
+        queue.add(4, 5, 6);
+        queue.remove(1, 2, 3);
+        queue.add(1, 2, 3);
+
+        assertEquals(2, queue.size());
+        assertEquals(new Vector3i(1, 2, 3), poll());
+        assertEquals(new Vector3i(4, 5, 6), poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testGrowsAndReturnsClearedBitsets() {
+        for (int i = 0; i < 1000; i++) {
+            queue.add(i, 0, 0);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, poll().x);
+        }
+        assertTrue(queue.isEmpty());
+        // one bitset for each of the chunks along x
+        assertEquals(32, bitsetPool.size());
+        for (long[] bitset : bitsetPool) {
+            for (long bits : bitset) {
+                assertEquals(0, bits);
+            }
+        }
+    }
+
+    @Test
+    public void testClear() {
+        queue.add(1, 2, 3);
+        queue.clear();
+
+        assertTrue(queue.isEmpty());
+        assertTrue(queue.add(1, 2, 3));
+    }
+
+    private Vector3i poll() {
+        return PositionQueue.unpack(queue.poll(), new Vector3i());
+    }
+}
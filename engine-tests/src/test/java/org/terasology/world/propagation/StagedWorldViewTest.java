@@ -0,0 +1,133 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.propagation;
+
+import com.google.common.collect.Lists;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.terasology.assets.ResourceUrn;
+import org.terasology.assets.management.AssetManager;
+import org.terasology.engine.TerasologyTestingEnvironment;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.block.BlockManager;
+import org.terasology.engine.world.block.BlockUri;
+import org.terasology.engine.world.block.family.SymmetricFamily;
+import org.terasology.engine.world.block.internal.BlockManagerImpl;
+import org.terasology.engine.world.block.loader.BlockFamilyDefinition;
+import org.terasology.engine.world.block.loader.BlockFamilyDefinitionData;
+import org.terasology.engine.world.block.shapes.BlockShape;
+import org.terasology.engine.world.block.tiles.NullWorldAtlas;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.engine.world.chunks.internal.ChunkImpl;
+import org.terasology.engine.world.propagation.light.LightPropagationRules;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Tag("TteTest")
+public class StagedWorldViewTest extends TerasologyTestingEnvironment {
+    private static final Vector3ic TORCH_POS = new Vector3i(16, 16, 16);
+
+    private Block air;
+    private Block torch;
+    private Chunk chunk;
+    private StagedWorldView view;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        super.setup();
+        AssetManager assetManager = CoreRegistry.get(AssetManager.class);
+        BlockManagerImpl blockManager = new BlockManagerImpl(new NullWorldAtlas(), assetManager, true);
+        CoreRegistry.put(BlockManager.class, blockManager);
+        air = blockManager.getBlock(BlockManager.AIR_ID);
+
+        BlockFamilyDefinitionData torchData = new BlockFamilyDefinitionData();
+        torchData.getBaseSection().setDisplayName("Torch");
+        torchData.getBaseSection().setShape(assetManager.getAsset("engine:cube", BlockShape.class).get());
+        torchData.getBaseSection().setLuminance(Chunks.MAX_LIGHT);
+        torchData.getBaseSection().setTranslucent(true);
+        torchData.setBlockFamily(SymmetricFamily.class);
+        assetManager.loadAsset(new ResourceUrn("engine:torch"), torchData, BlockFamilyDefinition.class);
+        torch = blockManager.getBlock(new BlockUri(new ResourceUrn("engine:torch")));
+
+        chunk = new ChunkImpl(new Vector3i(), blockManager, new ExtraBlockDataManager());
+        view = new StagedWorldView(new LightPropagationRules(), Lists.newArrayList(chunk));
+    }
+
+    @Test
+    public void testPositionsOutsideOfChunksAreUnavailable() {
+        assertEquals(PropagatorWorldView.UNAVAILABLE, view.getValueAt(new Vector3i(-1, 0, 0)));
+        assertNull(view.getBlockAt(new Vector3i(0, Chunks.SIZE_Y, 0)));
+    }
+
+    @Test
+    public void testValuesAreStagedUntilPublished() {
+        chunk.setLight(TORCH_POS, (byte) 3);
+        view.setValueAt(TORCH_POS, (byte) 7);
+
+        assertEquals(7, view.getValueAt(TORCH_POS));
+        assertEquals(3, chunk.getLight(TORCH_POS));
+
+        view.publish(new ChunkLightView());
+
+        assertEquals(7, chunk.getLight(TORCH_POS));
+        assertEquals(7, view.getValueAt(TORCH_POS));
+    }
+
+    @Test
+    public void testPropagationLeavesChunkUntouched() {
+        chunk.setBlock(TORCH_POS, torch);
+        StandardBatchPropagator propagator = new StandardBatchPropagator(new LightPropagationRules(), view);
+        propagator.process(new BlockChange(TORCH_POS, air, torch));
+
+        Vector3i adjPos = new Vector3i(TORCH_POS).add(3, 0, 0);
+        assertEquals(Chunks.MAX_LIGHT, view.getValueAt(TORCH_POS));
+        assertEquals(Chunks.MAX_LIGHT - 3, view.getValueAt(adjPos));
+        assertEquals(0, chunk.getLight(TORCH_POS));
+        assertEquals(0, chunk.getLight(adjPos));
+
+        view.publish(new ChunkLightView());
+
+        assertEquals(Chunks.MAX_LIGHT, chunk.getLight(TORCH_POS));
+        assertEquals(Chunks.MAX_LIGHT - 3, chunk.getLight(adjPos));
+    }
+
+    @Test
+    public void testCopiedChunksIgnoreLaterChanges() {
+        chunk.setLight(TORCH_POS, (byte) 3);
+        StagedWorldView copyView = new StagedWorldView(new LightPropagationRules(),
+                Lists.newArrayList(chunk.copyBlocksAndLight()));
+
+        chunk.setBlock(TORCH_POS, torch);
+        chunk.setLight(TORCH_POS, (byte) 9);
+
+        assertEquals(air, copyView.getBlockAt(TORCH_POS));
+        assertEquals(3, copyView.getValueAt(TORCH_POS));
+    }
+
+    /**
+     * The light of the chunk at the origin, as the chunk provider would see it.
+     */
+    private class ChunkLightView implements PropagatorWorldView {
+        @Override
+        public byte getValueAt(Vector3ic pos) {
+            return chunk.getLight(pos);
+        }
+
+        @Override
+        public void setValueAt(Vector3ic pos, byte value) {
+            chunk.setLight(pos, value);
+        }
+
+        @Override
+        public Block getBlockAt(Vector3ic pos) {
+            return chunk.getBlock(pos);
+        }
+    }
+}
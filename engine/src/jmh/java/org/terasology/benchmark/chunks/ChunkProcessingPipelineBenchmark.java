@@ -0,0 +1,137 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.chunks;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.blockdata.TeraArray;
+import org.terasology.engine.world.chunks.blockdata.TeraSparseArray8Bit;
+import org.terasology.engine.world.chunks.internal.ChunkImpl;
+import org.terasology.engine.world.chunks.pipeline.ChunkProcessingPipeline;
+import org.terasology.engine.world.chunks.pipeline.stages.ChunkTaskProvider;
+import org.terasology.engine.world.chunks.pipeline.stages.MultiplyRequirementChunkTask;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Measures chunks per second, which {@link ChunkProcessingPipeline} processes, when many chunks are in flight at once.
+ * <p>
+ * Chunks form a flat square and have a light-merging-like stage which requires all neighbours, so the benchmark is
+ * dominated by dependency scheduling rather than by chunk tasks themselves.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Fork(1)
+@Measurement(iterations = 3)
+public class ChunkProcessingPipelineBenchmark {
+
+    @Benchmark
+    public void processChunks(PipelineState state, ProcessedChunks processed) throws ExecutionException,
+            InterruptedException {
+        List<Future<Chunk>> futures = Lists.newArrayListWithCapacity(state.positions.size());
+        for (Vector3ic position : state.positions) {
+            futures.add(state.pipeline.invokeGeneratorTask(new Vector3i(position), () -> createChunk(position)));
+        }
+        for (Future<Chunk> future : futures) {
+            future.get();
+        }
+        processed.chunks += futures.size();
+    }
+
+    private static Chunk createChunk(Vector3ic position) {
+        return new ChunkImpl(position,
+                new TeraSparseArray8Bit(Chunks.SIZE_X, Chunks.SIZE_Y, Chunks.SIZE_Z),
+                new TeraArray[0],
+                null);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ProcessedChunks {
+        public long chunks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            chunks = 0;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PipelineState {
+        @Param({"1000", "5000", "20000"})
+        private int inFlightChunks;
+
+        @Param({"4"})
+        private int threads;
+
+        private List<Vector3ic> positions;
+        private Map<Vector3ic, Chunk> chunkCache;
+        private ChunkProcessingPipeline pipeline;
+
+        @Setup(Level.Trial)
+        public void setupPositions() {
+            int side = (int) Math.ceil(Math.sqrt(inFlightChunks));
+            positions = Lists.newArrayListWithCapacity(inFlightChunks);
+            for (int i = 0; i < inFlightChunks; i++) {
+                positions.add(new Vector3i(i % side, 0, i / side));
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void setupPipeline() {
+            Set<Vector3ic> area = Sets.newHashSet(positions);
+            chunkCache = Maps.newConcurrentMap();
+            pipeline = new ChunkProcessingPipeline(threads, chunkCache::get, position -> 0);
+            pipeline.addStage(ChunkTaskProvider.create("Chunk prepare", (UnaryOperator<Chunk>) chunk -> chunk))
+                    .addStage(new ChunkTaskProvider("Neighbour merging",
+                            pos -> new MultiplyRequirementChunkTask("Neighbour merging", pos,
+                                    chunks -> chunks.stream()
+                                            .filter(chunk -> chunk.getPosition().equals(pos))
+                                            .findFirst()
+                                            .orElseThrow(IllegalStateException::new),
+                                    StreamSupport.stream(new BlockRegion(pos).expand(1, 1, 1).spliterator(), false)
+                                            .filter(area::contains)
+                                            .map(Vector3i::new)
+                                            .collect(Collectors.toSet()))))
+                    .addStage(ChunkTaskProvider.create("Chunk ready",
+                            (Consumer<Chunk>) chunk -> chunkCache.put(chunk.getPosition(new Vector3i()), chunk)));
+        }
+
+        @TearDown(Level.Invocation)
+        public void shutdownPipeline() {
+            pipeline.shutdown();
+            chunkCache.clear();
+        }
+    }
+}
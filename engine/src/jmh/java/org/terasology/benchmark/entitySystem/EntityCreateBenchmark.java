@@ -10,12 +10,14 @@
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.terasology.engine.entitySystem.Component;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.ComponentStorageType;
 import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.rendering.logic.MeshComponent;
@@ -38,6 +40,8 @@ public EntityRef createEntity(StateObject state) {
 
     @State(Scope.Thread)
     public static class StateObject {
+        @Param({"HASH_MAP", "CACHED_QUERY_HASH_MAP", "ARCHETYPE"})
+        private ComponentStorageType storageType;
 
         private List<Component> entityData;
         private PojoEntityManager entityManager;
@@ -45,7 +49,7 @@ public static class StateObject {
         @Setup(Level.Invocation)
         public void setup() {
             entityData = Lists.newArrayList();
-            entityManager = new PojoEntityManager();
+            entityManager = new PojoEntityManager(storageType);
             FastRandom rand = new FastRandom(0L);
             if (rand.nextFloat() < 0.75f) {
                 entityData.add(new LocationComponent());
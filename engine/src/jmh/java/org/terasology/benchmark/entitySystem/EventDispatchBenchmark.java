@@ -0,0 +1,126 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.entitySystem;
+
+import com.google.common.collect.Lists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
+import org.terasology.engine.entitySystem.event.Event;
+import org.terasology.engine.entitySystem.event.ReceiveEvent;
+import org.terasology.engine.entitySystem.event.internal.EventSystemImpl;
+import org.terasology.engine.entitySystem.systems.BaseComponentSystem;
+import org.terasology.engine.entitySystem.systems.ComponentSystem;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.rendering.logic.MeshComponent;
+import org.terasology.engine.world.block.BlockComponent;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many events per second get delivered to handlers which take zero to three component parameters.
+ * <p>
+ * Every entity has all components, so each event reaches exactly one handler method. Run it before and after a
+ * change to the event system to compare the cost of invoking handlers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Fork(1)
+@Measurement(iterations = 3)
+public class EventDispatchBenchmark {
+
+    @Benchmark
+    public void sendEvent(StateObject state, Blackhole blackhole) {
+        state.nextEntity().send(state.event);
+        blackhole.consume(state.event.received);
+    }
+
+    @State(Scope.Thread)
+    public static class StateObject {
+        private static final int ENTITY_COUNT = 1000;
+
+        @Param({"0", "1", "2", "3"})
+        private int componentParams;
+
+        private final BenchmarkEvent event = new BenchmarkEvent();
+        private final List<EntityRef> entities = Lists.newArrayList();
+        private int nextEntity;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            PojoEntityManager entityManager = new PojoEntityManager();
+            EventSystemImpl eventSystem = new EventSystemImpl(true);
+            entityManager.setEventSystem(eventSystem);
+            eventSystem.registerEventHandler(createHandler(componentParams));
+            for (int i = 0; i < ENTITY_COUNT; i++) {
+                entities.add(entityManager.create(new LocationComponent(), new MeshComponent(), new BlockComponent()));
+            }
+        }
+
+        EntityRef nextEntity() {
+            nextEntity = (nextEntity + 1) % entities.size();
+            return entities.get(nextEntity);
+        }
+
+        private static ComponentSystem createHandler(int componentParams) {
+            switch (componentParams) {
+                case 0:
+                    return new NoComponentHandler();
+                case 1:
+                    return new OneComponentHandler();
+                case 2:
+                    return new TwoComponentHandler();
+                default:
+                    return new ThreeComponentHandler();
+            }
+        }
+    }
+
+    public static class BenchmarkEvent implements Event {
+        private long received;
+    }
+
+    public static class NoComponentHandler extends BaseComponentSystem {
+        @ReceiveEvent(components = LocationComponent.class)
+        public void onEvent(BenchmarkEvent event, EntityRef entity) {
+            event.received++;
+        }
+    }
+
+    public static class OneComponentHandler extends BaseComponentSystem {
+        @ReceiveEvent
+        public void onEvent(BenchmarkEvent event, EntityRef entity, LocationComponent location) {
+            event.received++;
+        }
+    }
+
+    public static class TwoComponentHandler extends BaseComponentSystem {
+        @ReceiveEvent
+        public void onEvent(BenchmarkEvent event, EntityRef entity, LocationComponent location, MeshComponent mesh) {
+            event.received++;
+        }
+    }
+
+    public static class ThreeComponentHandler extends BaseComponentSystem {
+        @ReceiveEvent
+        public void onEvent(BenchmarkEvent event, EntityRef entity, LocationComponent location, MeshComponent mesh,
+                            BlockComponent block) {
+            event.received++;
+        }
+    }
+}
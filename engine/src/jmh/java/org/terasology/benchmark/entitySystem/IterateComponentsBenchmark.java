@@ -6,14 +6,18 @@
 import com.google.common.collect.Lists;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.terasology.engine.entitySystem.Component;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.ComponentStorageType;
 import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.rendering.logic.MeshComponent;
@@ -31,9 +35,14 @@ public class IterateComponentsBenchmark {
 
     @State(Scope.Benchmark)
     public static class StateObject {
-        private final PojoEntityManager entityManager = new PojoEntityManager();
+        @Param({"HASH_MAP", "CACHED_QUERY_HASH_MAP", "ARCHETYPE"})
+        private ComponentStorageType storageType;
 
+        private PojoEntityManager entityManager;
+
+        @Setup(Level.Trial)
         public void setup() {
+            entityManager = new PojoEntityManager(storageType);
             FastRandom rand = new FastRandom(0L);
             for (int i = 0; i < 1000; ++i) {
                 List<Component> entityData = Lists.newArrayList();
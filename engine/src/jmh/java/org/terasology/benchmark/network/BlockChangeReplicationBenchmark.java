@@ -0,0 +1,107 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.network;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.joml.Vector3i;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.engine.network.internal.BlockChangeBatcher;
+import org.terasology.engine.network.internal.NetMessageUtil;
+import org.terasology.protobuf.NetData;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replicates filling a 64x64x64 region with one block to 8 clients, as it happens when a module fills a large area.
+ * The server builds and serializes a message for every client, every client parses its message and reads the block
+ * changes out of it.
+ * <p>
+ * Compares a {@link NetData.BlockChangeMessage} per block to the per-chunk batches of {@link BlockChangeBatcher}.
+ * The {@code sentBytes} counter adds up the serialized size of all messages sent during an iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Fork(1)
+@Measurement(iterations = 3)
+public class BlockChangeReplicationBenchmark {
+    private static final int FILL_SIZE = 64;
+    private static final int CLIENTS = 8;
+    private static final int BLOCK_ID = 7;
+
+    @Benchmark
+    public void replicateFill(FillState state, MessageSize size, Blackhole blackhole) throws InvalidProtocolBufferException {
+        for (int client = 0; client < CLIENTS; client++) {
+            NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder();
+            if (state.encoding == Encoding.BATCHED) {
+                BlockChangeBatcher batcher = new BlockChangeBatcher();
+                for (Vector3i pos : state.filledPositions) {
+                    batcher.add(pos, BLOCK_ID);
+                }
+                batcher.writeTo(message);
+            } else {
+                for (Vector3i pos : state.filledPositions) {
+                    message.addBlockChange(NetData.BlockChangeMessage.newBuilder()
+                            .setPos(NetMessageUtil.convert(pos))
+                            .setNewBlock(BLOCK_ID));
+                }
+            }
+            byte[] data = message.build().toByteArray();
+            size.sentBytes += data.length;
+
+            NetData.NetMessage received = NetData.NetMessage.parseFrom(data);
+            for (NetData.BlockChangeMessage change : received.getBlockChangeList()) {
+                blackhole.consume(NetMessageUtil.convert(change.getPos()));
+            }
+            for (NetData.BlockChangeBatch batch : received.getBlockChangeBatchList()) {
+                BlockChangeBatcher.forEachChange(batch, (pos, blockId) -> blackhole.consume(pos));
+            }
+        }
+    }
+
+    public enum Encoding {
+        INDIVIDUAL,
+        BATCHED
+    }
+
+    @State(Scope.Benchmark)
+    public static class FillState {
+        @Param({"INDIVIDUAL", "BATCHED"})
+        private Encoding encoding;
+
+        private Vector3i[] filledPositions;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            filledPositions = new Vector3i[FILL_SIZE * FILL_SIZE * FILL_SIZE];
+            int i = 0;
+            for (int x = 0; x < FILL_SIZE; x++) {
+                for (int y = 0; y < FILL_SIZE; y++) {
+                    for (int z = 0; z < FILL_SIZE; z++) {
+                        filledPositions[i++] = new Vector3i(x - FILL_SIZE / 2, y, z - FILL_SIZE / 2);
+                    }
+                }
+            }
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class MessageSize {
+        public long sentBytes;
+    }
+}
@@ -0,0 +1,110 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.noise;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.utilities.procedural.BrownianNoise;
+import org.terasology.engine.utilities.procedural.Noise;
+import org.terasology.engine.utilities.procedural.PerlinNoise;
+import org.terasology.engine.utilities.procedural.SimplexNoise;
+import org.terasology.engine.world.block.BlockArea;
+import org.terasology.engine.world.block.BlockAreac;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sampling noise one position at a time, the way facet providers used to, with filling a whole area or
+ * region in one call to the bulk methods of {@link Noise}.
+ * <p>
+ * The area is the size of a chunk column, the region the size of a chunk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Fork(1)
+@Measurement(iterations = 3)
+public class NoiseBenchmark {
+    private static final float SCALE = 0.01f;
+
+    @Benchmark
+    public float[] pointArea(NoiseState state) {
+        BlockAreac area = state.area;
+        float[] result = state.result;
+        for (int y = 0; y < area.getSizeY(); y++) {
+            for (int x = 0; x < area.getSizeX(); x++) {
+                result[x + area.getSizeX() * y] = state.noise.noise((area.minX() + x) * SCALE,
+                        (area.minY() + y) * SCALE);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public float[] bulkArea(NoiseState state) {
+        state.noise.noise(state.result, state.area, 1, SCALE, SCALE);
+        return state.result;
+    }
+
+    @Benchmark
+    public float[] pointRegion(NoiseState state) {
+        BlockRegionc region = state.region;
+        float[] result = state.result;
+        for (int z = 0; z < region.getSizeZ(); z++) {
+            for (int y = 0; y < region.getSizeY(); y++) {
+                for (int x = 0; x < region.getSizeX(); x++) {
+                    result[x + region.getSizeX() * (y + region.getSizeY() * z)] = state.noise.noise(
+                            (region.minX() + x) * SCALE, (region.minY() + y) * SCALE, (region.minZ() + z) * SCALE);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public float[] bulkRegion(NoiseState state) {
+        state.noise.noise(state.result, state.region, 1, SCALE, SCALE, SCALE);
+        return state.result;
+    }
+
+    @State(Scope.Thread)
+    public static class NoiseState {
+        @Param({"simplex", "perlin", "brownian"})
+        private String type;
+
+        private Noise noise;
+        private final BlockAreac area = new BlockArea(-16, -16, 15, 15);
+        private final BlockRegionc region = new BlockRegion(-16, -32, -16, 15, 31, 15);
+        private final float[] result = new float[region.volume()];
+
+        @Setup(Level.Trial)
+        public void setup() {
+            switch (type) {
+                case "simplex":
+                    noise = new SimplexNoise(0xCAFE);
+                    break;
+                case "perlin":
+                    noise = new PerlinNoise(0xCAFE);
+                    break;
+                case "brownian":
+                    noise = new BrownianNoise(new SimplexNoise(0xCAFE), 6);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown noise " + type);
+            }
+        }
+    }
+}
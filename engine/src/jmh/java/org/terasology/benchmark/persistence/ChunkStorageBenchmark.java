@@ -0,0 +1,201 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.persistence;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.joml.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.terasology.engine.persistence.internal.ChunkRegionStore;
+import org.terasology.engine.persistence.internal.ChunkStorageFormat;
+import org.terasology.engine.persistence.internal.StoragePathProvider;
+import org.terasology.engine.utilities.FilesUtil;
+import org.terasology.engine.utilities.random.FastRandom;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares save and load throughput of {@link ChunkStorageFormat#ZIPS} and {@link ChunkStorageFormat#REGIONS} on a
+ * world with 50k stored chunks.
+ * <p>
+ * Each save writes a batch of changed chunks spread over the world, like an autosave does. The zip layout mirrors
+ * what {@code SaveTransaction} does: every touched zip is rebuilt and the untouched chunks get copied over.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Fork(1)
+@Measurement(iterations = 3)
+public class ChunkStorageBenchmark {
+    private static final ImmutableMap<String, String> CREATE_ZIP_OPTIONS = ImmutableMap.of("create", "true");
+
+    @Benchmark
+    public void saveChangedChunks(WorldState state) throws IOException {
+        Map<Vector3i, byte[]> changed = Maps.newHashMap();
+        for (Vector3i chunkPos : state.nextBatch()) {
+            changed.put(chunkPos, state.encodedChunk);
+        }
+        state.save(changed);
+    }
+
+    @Benchmark
+    public void loadChunks(WorldState state, Blackhole blackhole) throws IOException {
+        for (Vector3i chunkPos : state.nextBatch()) {
+            blackhole.consume(state.load(chunkPos));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WorldState {
+        @Param({"ZIPS", "REGIONS"})
+        private ChunkStorageFormat format;
+
+        @Param({"50000"})
+        private int worldChunks;
+
+        @Param({"500"})
+        private int batchSize;
+
+        private final FastRandom random = new FastRandom(0L);
+        private Path savePath;
+        private StoragePathProvider storagePathProvider;
+        private ChunkRegionStore regionStore;
+        private List<Vector3i> positions;
+        private byte[] encodedChunk;
+
+        @Setup(Level.Trial)
+        public void createWorld() throws IOException {
+            savePath = Files.createTempDirectory("chunkStorageBenchmark");
+            storagePathProvider = new StoragePathProvider(savePath);
+            Files.createDirectories(storagePathProvider.getWorldPath());
+            regionStore = new ChunkRegionStore(storagePathProvider, false);
+
+            // typical size of a compressed chunk
+            encodedChunk = new byte[3000];
+            for (int i = 0; i < encodedChunk.length; i++) {
+                encodedChunk[i] = (byte) random.nextInt(256);
+            }
+
+            int side = (int) Math.ceil(Math.sqrt(worldChunks / 4.0));
+            positions = Lists.newArrayListWithCapacity(worldChunks);
+            for (int i = 0; i < worldChunks; i++) {
+                positions.add(new Vector3i(i % side, (i / side) / side, (i / side) % side));
+            }
+            Map<Vector3i, byte[]> world = Maps.newHashMap();
+            for (Vector3i chunkPos : positions) {
+                world.put(chunkPos, encodedChunk);
+            }
+            save(world);
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteWorld() throws IOException {
+            regionStore.close();
+            FilesUtil.recursiveDelete(savePath);
+        }
+
+        List<Vector3i> nextBatch() {
+            List<Vector3i> batch = Lists.newArrayListWithCapacity(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(positions.get(random.nextInt(positions.size())));
+            }
+            return batch;
+        }
+
+        void save(Map<Vector3i, byte[]> chunks) throws IOException {
+            if (format == ChunkStorageFormat.REGIONS) {
+                saveRegions(chunks);
+            } else {
+                saveZips(chunks);
+            }
+        }
+
+        byte[] load(Vector3i chunkPos) throws IOException {
+            if (format == ChunkStorageFormat.REGIONS) {
+                return regionStore.loadChunk(chunkPos);
+            }
+            Path chunkZipPath = storagePathProvider.getChunkZipPath(storagePathProvider.getChunkZipPosition(chunkPos));
+            try (FileSystem chunkZip = FileSystems.newFileSystem(chunkZipPath, null)) {
+                return Files.readAllBytes(chunkZip.getPath(storagePathProvider.getChunkFilename(chunkPos)));
+            }
+        }
+
+        private void saveRegions(Map<Vector3i, byte[]> chunks) throws IOException {
+            Map<Vector3i, Map<Vector3i, byte[]>> chunksByRegion = Maps.newHashMap();
+            for (Map.Entry<Vector3i, byte[]> entry : chunks.entrySet()) {
+                chunksByRegion.computeIfAbsent(storagePathProvider.getChunkRegionPosition(entry.getKey()),
+                        pos -> Maps.newHashMap()).put(entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<Vector3i, Map<Vector3i, byte[]>> entry : chunksByRegion.entrySet()) {
+                Path journalPath = storagePathProvider.getChunkRegionJournalPath(entry.getKey());
+                regionStore.writeRegion(entry.getKey(), entry.getValue(), journalPath);
+                regionStore.applyJournal(entry.getKey(), journalPath);
+            }
+        }
+
+        private void saveZips(Map<Vector3i, byte[]> chunks) throws IOException {
+            Map<Vector3i, Map<Vector3i, byte[]>> chunksByZip = Maps.newHashMap();
+            for (Map.Entry<Vector3i, byte[]> entry : chunks.entrySet()) {
+                chunksByZip.computeIfAbsent(storagePathProvider.getChunkZipPosition(entry.getKey()),
+                        pos -> Maps.newHashMap()).put(entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<Vector3i, Map<Vector3i, byte[]>> zipEntry : chunksByZip.entrySet()) {
+                Path oldZipPath = storagePathProvider.getChunkZipPath(zipEntry.getKey());
+                Path newZipPath = oldZipPath.resolveSibling(oldZipPath.getFileName() + ".new");
+                try (FileSystem zip = FileSystems.newFileSystem(URI.create("jar:" + newZipPath.toUri()),
+                        CREATE_ZIP_OPTIONS)) {
+                    for (Map.Entry<Vector3i, byte[]> chunk : zipEntry.getValue().entrySet()) {
+                        Files.write(zip.getPath(storagePathProvider.getChunkFilename(chunk.getKey())), chunk.getValue());
+                    }
+                    if (Files.isRegularFile(oldZipPath)) {
+                        copyUntouchedChunks(oldZipPath, zip);
+                    }
+                }
+                Files.move(newZipPath, oldZipPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        private static void copyUntouchedChunks(Path oldZipPath, FileSystem zip) throws IOException {
+            try (FileSystem oldZip = FileSystems.newFileSystem(oldZipPath, null)) {
+                for (Path root : oldZip.getRootDirectories()) {
+                    Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                            if (!Files.isRegularFile(zip.getPath(file.toString()))) {
+                                Files.copy(file, zip.getPath(file.toString()));
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.benchmark.propagation;
+
+import com.google.common.collect.Lists;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.engine.math.Side;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.propagation.BatchPropagator;
+import org.terasology.engine.world.propagation.BlockChange;
+import org.terasology.engine.world.propagation.PropagatorWorldView;
+import org.terasology.engine.world.propagation.StandardBatchPropagator;
+import org.terasology.engine.world.propagation.light.LightPropagationRules;
+import org.terasology.engine.world.propagation.light.SunlightPropagationRules;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long {@link StandardBatchPropagator} takes to update block light and sunlight after a batch of block
+ * changes.
+ * <p>
+ * The world is a flat stone floor with air above it. Each invocation applies the changes and then reverts them, so
+ * the light spreads out and is reduced again, and the world is back where it started for the next invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Fork(1)
+@Measurement(iterations = 3)
+public class LightPropagationBenchmark {
+    private static final int SIZE_X = 128;
+    private static final int SIZE_Y = 64;
+    private static final int SIZE_Z = 128;
+    private static final int GROUND_HEIGHT = 32;
+    /**
+     * Sunlight is only let into holes near the surface.
+     */
+    private static final int DIG_DEPTH = 8;
+
+    @Benchmark
+    public void blockLight(BlockLightState state) {
+        state.apply(state.placeTorches);
+        state.apply(state.removeTorches);
+    }
+
+    @Benchmark
+    public void sunlight(SunlightState state) {
+        state.apply(state.digHoles);
+        state.apply(state.fillHoles);
+    }
+
+    private static Block createAir() {
+        Block air = new Block();
+        air.setTranslucent(true);
+        return air;
+    }
+
+    private static Block createStone() {
+        Block stone = new Block();
+        for (Side side : Side.values()) {
+            stone.setFullSide(side, true);
+        }
+        return stone;
+    }
+
+    private static Block createTorch() {
+        Block torch = new Block();
+        torch.setTranslucent(true);
+        torch.setLuminance(Chunks.MAX_LIGHT);
+        return torch;
+    }
+
+    /**
+     * Picks distinct random positions between the given heights.
+     */
+    private static List<Vector3ic> pickPositions(int count, int minY, int maxY, long seed) {
+        Random random = new Random(seed);
+        boolean[] picked = new boolean[SIZE_X * SIZE_Y * SIZE_Z];
+        List<Vector3ic> positions = Lists.newArrayListWithCapacity(count);
+        while (positions.size() < count) {
+            Vector3i pos = new Vector3i(random.nextInt(SIZE_X), minY + random.nextInt(maxY - minY), random.nextInt(SIZE_Z));
+            int index = ArrayWorldView.index(pos);
+            if (!picked[index]) {
+                picked[index] = true;
+                positions.add(pos);
+            }
+        }
+        return positions;
+    }
+
+    private abstract static class WorldState {
+        final Block air = createAir();
+        final Block stone = createStone();
+        final ArrayWorldView world = new ArrayWorldView();
+        BatchPropagator propagator;
+
+        void createWorld() {
+            for (int y = 0; y < SIZE_Y; y++) {
+                for (int z = 0; z < SIZE_Z; z++) {
+                    for (int x = 0; x < SIZE_X; x++) {
+                        world.blocks[ArrayWorldView.index(x, y, z)] = y < GROUND_HEIGHT ? stone : air;
+                    }
+                }
+            }
+        }
+
+        void apply(List<BlockChange> changes) {
+            for (BlockChange change : changes) {
+                world.setBlockAt(change.getPosition(), change.getTo());
+            }
+            propagator.process(changes);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BlockLightState extends WorldState {
+        @Param({"1000", "10000", "100000"})
+        private int changes;
+
+        List<BlockChange> placeTorches;
+        List<BlockChange> removeTorches;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            createWorld();
+            propagator = new StandardBatchPropagator(new LightPropagationRules(), world);
+
+            Block torch = createTorch();
+            placeTorches = Lists.newArrayListWithCapacity(changes);
+            removeTorches = Lists.newArrayListWithCapacity(changes);
+            for (Vector3ic pos : pickPositions(changes, GROUND_HEIGHT, SIZE_Y, 1L)) {
+                placeTorches.add(new BlockChange(pos, air, torch));
+                removeTorches.add(new BlockChange(pos, torch, air));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SunlightState extends WorldState {
+        @Param({"1000", "10000", "100000"})
+        private int changes;
+
+        List<BlockChange> digHoles;
+        List<BlockChange> fillHoles;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            createWorld();
+            ArrayWorldView regen = new ArrayWorldView();
+            for (int i = 0; i < world.blocks.length; i++) {
+                if (world.blocks[i] == air) {
+                    regen.values[i] = Chunks.MAX_SUNLIGHT_REGEN;
+                    world.values[i] = Chunks.MAX_SUNLIGHT;
+                }
+            }
+            propagator = new StandardBatchPropagator(new SunlightPropagationRules(regen), world);
+
+            digHoles = Lists.newArrayListWithCapacity(changes);
+            fillHoles = Lists.newArrayListWithCapacity(changes);
+            for (Vector3ic pos : pickPositions(changes, GROUND_HEIGHT - DIG_DEPTH, GROUND_HEIGHT, 2L)) {
+                digHoles.add(new BlockChange(pos, stone, air));
+                fillHoles.add(new BlockChange(pos, air, stone));
+            }
+        }
+    }
+
+    /**
+     * A world of {@link #SIZE_X} x {@link #SIZE_Y} x {@link #SIZE_Z} blocks, without chunks in between.
+     */
+    private static final class ArrayWorldView implements PropagatorWorldView {
+        final byte[] values = new byte[SIZE_X * SIZE_Y * SIZE_Z];
+        final Block[] blocks = new Block[SIZE_X * SIZE_Y * SIZE_Z];
+
+        static int index(Vector3ic pos) {
+            return index(pos.x(), pos.y(), pos.z());
+        }
+
+        static int index(int x, int y, int z) {
+            return x + SIZE_X * (z + SIZE_Z * y);
+        }
+
+        static boolean contains(Vector3ic pos) {
+            return pos.x() >= 0 && pos.x() < SIZE_X
+                    && pos.y() >= 0 && pos.y() < SIZE_Y
+                    && pos.z() >= 0 && pos.z() < SIZE_Z;
+        }
+
+        @Override
+        public byte getValueAt(Vector3ic pos) {
+            return contains(pos) ? values[index(pos)] : UNAVAILABLE;
+        }
+
+        @Override
+        public void setValueAt(Vector3ic pos, byte value) {
+            values[index(pos)] = value;
+        }
+
+        @Override
+        public Block getBlockAt(Vector3ic pos) {
+            return contains(pos) ? blocks[index(pos)] : null;
+        }
+
+        void setBlockAt(Vector3ic pos, Block block) {
+            blocks[index(pos)] = block;
+        }
+    }
+}
@@ -49,6 +49,22 @@ public class NetworkConfig {
      */
     private String masterServer = "meta.terasology.org";
 
+    /**
+     * How the server compresses the data it sends to clients: none, zlib, zlib-1 to zlib-9, or fast
+     */
+    private String compression = "zlib-6";
+
+    /**
+     * The compression the client asks the server for when joining, empty to leave it to the server
+     */
+    private String preferredCompression = "";
+
+    /**
+     * The compressions the server accepts when a client asks for one. Clients asking for another one get the
+     * compression of the server.
+     */
+    private List<String> allowedCompressions = Lists.newArrayList("fast", "zlib-1", "zlib-6");
+
     public void clear() {
         servers.clear();
     }
@@ -96,4 +112,28 @@ public String getMasterServer() {
     public void setMasterServer(String masterServer) {
         this.masterServer = masterServer;
     }
+
+    public String getCompression() {
+        return compression;
+    }
+
+    public void setCompression(String compression) {
+        this.compression = compression;
+    }
+
+    public String getPreferredCompression() {
+        return preferredCompression;
+    }
+
+    public void setPreferredCompression(String preferredCompression) {
+        this.preferredCompression = preferredCompression;
+    }
+
+    public List<String> getAllowedCompressions() {
+        return Collections.unmodifiableList(allowedCompressions);
+    }
+
+    public void setAllowedCompressions(List<String> allowedCompressions) {
+        this.allowedCompressions = Lists.newArrayList(allowedCompressions);
+    }
 }
@@ -7,6 +7,7 @@
 import org.terasology.engine.config.flexible.Setting;
 import org.terasology.engine.config.flexible.constraints.LocaleConstraint;
 import org.terasology.engine.config.flexible.constraints.NumberRangeConstraint;
+import org.terasology.engine.config.flexible.constraints.StringConstraint;
 
 import java.util.Locale;
 import java.util.Locale.Category;
@@ -21,6 +22,10 @@
 public class SystemConfig extends AutoConfig {
     public static final String SAVED_GAMES_ENABLED_PROPERTY = "org.terasology.savedGamesEnabled";
     public static final String PERMISSIVE_SECURITY_ENABLED_PROPERTY = "org.terasology.permissiveSecurityEnabled";
+    /**
+     * Name of the codec which compresses the chunks of new worlds, unless configured otherwise.
+     */
+    public static final String DEFAULT_CHUNK_COMPRESSION = "lz";
 
     public final Setting<Long> dayNightLengthInMs = setting(
             type(Long.class),
@@ -36,6 +41,13 @@ public class SystemConfig extends AutoConfig {
             constraint(new NumberRangeConstraint<>(0, Integer.MAX_VALUE, false, false))
     );
 
+    public final Setting<Integer> chunkProcessingThreads = setting(
+            type(Integer.class),
+            defaultValue(4),
+            name("Chunk processing threads"),
+            constraint(new NumberRangeConstraint<>(0, Integer.MAX_VALUE, false, false))
+    );
+
     public final Setting<Integer> maxSecondsBetweenSaves = setting(
             type(Integer.class),
             defaultValue(60),
@@ -50,6 +62,13 @@ public class SystemConfig extends AutoConfig {
             constraint(new NumberRangeConstraint<>(0, 100, false, false))
     );
 
+    public final Setting<Integer> saveEncoderThreads = setting(
+            type(Integer.class),
+            defaultValue(2),
+            name("Save encoder threads"),
+            constraint(new NumberRangeConstraint<>(0, Integer.MAX_VALUE, false, false))
+    );
+
     public final Setting<Boolean> debugEnabled = setting(
             type(Boolean.class),
             defaultValue(false),
@@ -71,6 +90,44 @@ public class SystemConfig extends AutoConfig {
                     .map(Boolean::parseBoolean))
     );
 
+    public final Setting<Boolean> regionChunkStorageEnabled = setting(
+            type(Boolean.class),
+            defaultValue(false),
+            name("Region chunk storage")
+    );
+
+    public final Setting<Boolean> archetypeEntityStorageEnabled = setting(
+            type(Boolean.class),
+            defaultValue(false),
+            name("Archetype entity storage")
+    );
+
+    public final Setting<Boolean> cachedEntityQueriesEnabled = setting(
+            type(Boolean.class),
+            defaultValue(false),
+            name("Cached entity queries")
+    );
+
+    public final Setting<Boolean> predictiveChunkGenerationEnabled = setting(
+            type(Boolean.class),
+            defaultValue(false),
+            name("Predictive chunk generation")
+    );
+
+    public final Setting<Integer> chunkPregenerationRadius = setting(
+            type(Integer.class),
+            defaultValue(8),
+            name("Chunk pre-generation radius"),
+            constraint(new NumberRangeConstraint<>(0, 256, false, false))
+    );
+
+    public final Setting<String> chunkCompression = setting(
+            type(String.class),
+            defaultValue(DEFAULT_CHUNK_COMPRESSION),
+            name("Chunk compression of new worlds"),
+            constraint(new StringConstraint(StringConstraint.regex("none|lz|deflate-[0-9]")))
+    );
+
     public final Setting<Long> chunkGenerationFailTimeoutInMs = setting(
             type(Long.class),
             defaultValue(1800000L),
@@ -5,11 +5,13 @@
 
 import org.terasology.assets.ResourceUrn;
 import org.terasology.engine.audio.events.PlaySoundEvent;
+import org.terasology.engine.config.SystemConfig;
 import org.terasology.engine.context.Context;
 import org.terasology.engine.core.module.ModuleManager;
 import org.terasology.engine.entitySystem.Component;
 import org.terasology.engine.entitySystem.entity.EntityManager;
 import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.entity.internal.ComponentStorageType;
 import org.terasology.engine.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.engine.entitySystem.entity.internal.PojoEntityManager;
 import org.terasology.engine.entitySystem.event.Event;
@@ -106,7 +108,14 @@ public static void addEntityManagementRelatedClasses(Context context) {
         NetworkSystem networkSystem = context.get(NetworkSystem.class);
 
         // Entity Manager
-        PojoEntityManager entityManager = new PojoEntityManager();
+        SystemConfig systemConfig = context.get(SystemConfig.class);
+        ComponentStorageType storageType = ComponentStorageType.HASH_MAP;
+        if (systemConfig != null && systemConfig.archetypeEntityStorageEnabled.get()) {
+            storageType = ComponentStorageType.ARCHETYPE;
+        } else if (systemConfig != null && systemConfig.cachedEntityQueriesEnabled.get()) {
+            storageType = ComponentStorageType.CACHED_QUERY_HASH_MAP;
+        }
+        PojoEntityManager entityManager = new PojoEntityManager(storageType);
         context.put(EntityManager.class, entityManager);
         context.put(EngineEntityManager.class, entityManager);
 
@@ -22,6 +22,9 @@
 import org.terasology.engine.logic.players.LocalPlayer;
 import org.terasology.module.ModuleEnvironment;
 import org.terasology.engine.persistence.StorageManager;
+import org.terasology.engine.persistence.internal.AbstractStorageManager;
+import org.terasology.engine.persistence.internal.ChunkCompression;
+import org.terasology.engine.persistence.internal.ChunkStorageFormat;
 import org.terasology.engine.persistence.internal.ReadOnlyStorageManager;
 import org.terasology.engine.persistence.internal.ReadWriteStorageManager;
 import org.terasology.engine.recording.DirectionAndOriginPosRecorderList;
@@ -109,21 +112,29 @@ public boolean step() {
         // Init. a new world
         EngineEntityManager entityManager = (EngineEntityManager) context.get(EntityManager.class);
         boolean writeSaveGamesEnabled = context.get(SystemConfig.class).writeSaveGamesEnabled.get();
+        ChunkStorageFormat chunkStorageFormat = context.get(SystemConfig.class).regionChunkStorageEnabled.get()
+                ? ChunkStorageFormat.REGIONS
+                : ChunkStorageFormat.ZIPS;
         //Gets save data from a normal save or from a recording if it is a replay
         Path saveOrRecordingPath = getSaveOrRecordingPath();
-        StorageManager storageManager;
+        AbstractStorageManager storageManager;
         RecordAndReplaySerializer recordAndReplaySerializer = context.get(RecordAndReplaySerializer.class);
         RecordAndReplayUtils recordAndReplayUtils = context.get(RecordAndReplayUtils.class);
         RecordAndReplayCurrentStatus recordAndReplayCurrentStatus = context.get(RecordAndReplayCurrentStatus.class);
         try {
             storageManager = writeSaveGamesEnabled
-                    ? new ReadWriteStorageManager(saveOrRecordingPath, environment, entityManager, blockManager, extraDataManager, recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus)
-                    : new ReadOnlyStorageManager(saveOrRecordingPath, environment, entityManager, blockManager, extraDataManager);
+                    ? new ReadWriteStorageManager(saveOrRecordingPath, environment, entityManager, blockManager, extraDataManager, chunkStorageFormat, recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus)
+                    : new ReadOnlyStorageManager(saveOrRecordingPath, environment, entityManager, blockManager, extraDataManager, chunkStorageFormat);
         } catch (IOException e) {
             logger.error("Unable to create storage manager!", e);
             context.get(GameEngine.class).changeState(new StateMainMenu("Unable to create storage manager!"));
             return true; // We need to return true, otherwise the loading state will just call us again immediately
         }
+        // keep the codec the world was created with, new worlds use the configured one
+        String chunkCompression = gameManifest.getChunkCompression() != null
+                ? gameManifest.getChunkCompression()
+                : context.get(SystemConfig.class).chunkCompression.get();
+        storageManager.setChunkCompressionCodec(ChunkCompression.getCodec(chunkCompression));
         context.put(StorageManager.class, storageManager);
         LocalChunkProvider chunkProvider = new LocalChunkProvider(storageManager,
                 entityManager,
@@ -131,7 +142,7 @@ public boolean step() {
                 blockManager,
                 extraDataManager,
                 Maps.newConcurrentMap());
-        RelevanceSystem relevanceSystem = new RelevanceSystem(chunkProvider);
+        RelevanceSystem relevanceSystem = new RelevanceSystem(chunkProvider, context.get(SystemConfig.class));
         context.put(RelevanceSystem.class, relevanceSystem);
         context.get(ComponentSystemManager.class).register(relevanceSystem, "engine:relevanceSystem");
         chunkProvider.setRelevanceSystem(relevanceSystem);
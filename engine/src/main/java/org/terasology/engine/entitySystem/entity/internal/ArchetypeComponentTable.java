@@ -0,0 +1,439 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.entitySystem.entity.internal;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.impl.Constants;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongLongMap;
+import gnu.trove.map.hash.TLongLongHashMap;
+import org.terasology.engine.entitySystem.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A table which groups entities by the set of component types they have, their archetype.
+ * <p>
+ * Every archetype keeps the ids of its entities in one dense array and each of its component types in a column array
+ * of the same length, so an entity is one row across these arrays. A sparse index maps entity ids to their archetype
+ * and row. Queries for several component types only look at the archetypes which have all of them and copy their id
+ * arrays, instead of checking every entity.
+ * <p>
+ * Adding or removing a component type moves the entity's row to another archetype. The archetype reached by adding
+ * or removing a type is remembered per archetype, so moves don't need to look up archetypes by their type set.
+ * <p>
+ * Unlike {@link HashComponentTable}, this table is not thread safe: rows move between archetypes on every change, so
+ * no single lookup can be made safe on its own. It must only be used by one thread at a time, which is the case for
+ * the entity pools of the {@link PojoEntityManager}, as they are only changed from the main thread.
+ */
+public class ArchetypeComponentTable implements ComponentTable {
+    private static final long NO_LOCATION = -1L;
+    private static final int INITIAL_ROWS = 16;
+
+    // not thread safe, see the class comment
+    private final List<Archetype> archetypes = Lists.newArrayList();
+    private final Map<Set<Class<?>>, Archetype> archetypesBySignature = Maps.newHashMap();
+    private final Map<Class<?>, List<Archetype>> archetypesByType = Maps.newHashMap();
+    /** Archetype index in the upper and row in the lower 32 bits, by entity id. */
+    private final TLongLongMap locations = new TLongLongHashMap(Constants.DEFAULT_CAPACITY,
+            Constants.DEFAULT_LOAD_FACTOR, 0L, NO_LOCATION);
+    private Archetype emptyArchetype;
+
+    public ArchetypeComponentTable() {
+        emptyArchetype = createArchetype(ImmutableSet.of());
+    }
+
+    @Override
+    public <T extends Component> T get(long entityId, Class<T> componentClass) {
+        long location = locations.get(entityId);
+        if (location == NO_LOCATION) {
+            return null;
+        }
+        Archetype archetype = archetypes.get(archetypeIndex(location));
+        int column = archetype.column(componentClass);
+        if (column < 0) {
+            return null;
+        }
+        return componentClass.cast(archetype.columns[column][row(location)]);
+    }
+
+    @Override
+    public Component put(long entityId, Component component) {
+        Class<? extends Component> componentClass = component.getClass();
+        long location = locations.get(entityId);
+        Archetype source = (location == NO_LOCATION) ? emptyArchetype : archetypes.get(archetypeIndex(location));
+        int column = source.column(componentClass);
+        if (column >= 0) {
+            int row = row(location);
+            Component previous = source.columns[column][row];
+            source.columns[column][row] = component;
+            return previous;
+        }
+
+        Archetype target = withAdded(source, componentClass);
+        int row = (location == NO_LOCATION) ? addRow(entityId, target) : moveRow(entityId, source, row(location), target);
+        target.columns[target.column(componentClass)][row] = component;
+        return null;
+    }
+
+    @Override
+    public <T extends Component> Component remove(long entityId, Class<T> componentClass) {
+        long location = locations.get(entityId);
+        if (location == NO_LOCATION) {
+            return null;
+        }
+        Archetype source = archetypes.get(archetypeIndex(location));
+        int column = source.column(componentClass);
+        if (column < 0) {
+            return null;
+        }
+        int row = row(location);
+        Component removed = source.columns[column][row];
+        if (source.types.length == 1) {
+            removeRow(source, row);
+            locations.remove(entityId);
+        } else {
+            moveRow(entityId, source, row, withRemoved(source, componentClass));
+        }
+        return removed;
+    }
+
+    @Override
+    public List<Component> removeAndReturnComponentsOf(long entityId) {
+        List<Component> components = getComponentsInNewList(entityId);
+        remove(entityId);
+        return components;
+    }
+
+    @Override
+    public void remove(long entityId) {
+        long location = locations.remove(entityId);
+        if (location != NO_LOCATION) {
+            removeRow(archetypes.get(archetypeIndex(location)), row(location));
+        }
+    }
+
+    @Override
+    public void clear() {
+        archetypes.clear();
+        archetypesBySignature.clear();
+        archetypesByType.clear();
+        locations.clear();
+        emptyArchetype = createArchetype(ImmutableSet.of());
+    }
+
+    @Override
+    public int getComponentCount(Class<? extends Component> componentClass) {
+        int count = 0;
+        for (Archetype archetype : archetypesByType.getOrDefault(componentClass, Collections.emptyList())) {
+            count += archetype.size;
+        }
+        return count;
+    }
+
+    @Override
+    public Iterable<Component> iterateComponents(long entityId) {
+        return getComponentsInNewList(entityId);
+    }
+
+    @Override
+    public List<Component> getComponentsInNewList(long entityId) {
+        long location = locations.get(entityId);
+        if (location == NO_LOCATION) {
+            return Lists.newArrayList();
+        }
+        Archetype archetype = archetypes.get(archetypeIndex(location));
+        int row = row(location);
+        List<Component> components = Lists.newArrayListWithCapacity(archetype.types.length);
+        for (Component[] column : archetype.columns) {
+            components.add(column[row]);
+        }
+        return components;
+    }
+
+    @Override
+    public <T extends Component> TLongObjectIterator<T> componentIterator(Class<T> componentClass) {
+        List<Archetype> withType = archetypesByType.get(componentClass);
+        if (withType == null) {
+            return null;
+        }
+        return new ColumnIterator<>(withType, componentClass);
+    }
+
+    @Override
+    public TLongIterator entityIdIterator() {
+        TLongList ids = new TLongArrayList(locations.size());
+        for (Archetype archetype : archetypes) {
+            ids.add(archetype.ids, 0, archetype.size);
+        }
+        return ids.iterator();
+    }
+
+    /**
+     * Starts from the component type which is part of the fewest archetypes, and copies the ids of those of its
+     * archetypes which have all the other types too.
+     */
+    @Override
+    public TLongIterator entityIdIterator(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length == 0) {
+            return entityIdIterator();
+        }
+        List<Archetype> candidates = null;
+        for (Class<? extends Component> componentClass : componentClasses) {
+            List<Archetype> withType = archetypesByType.getOrDefault(componentClass, Collections.emptyList());
+            if (candidates == null || withType.size() < candidates.size()) {
+                candidates = withType;
+            }
+        }
+        List<Class<? extends Component>> required = Arrays.asList(componentClasses);
+        TLongList ids = new TLongArrayList();
+        for (Archetype archetype : candidates) {
+            if (archetype.signature.containsAll(required)) {
+                ids.add(archetype.ids, 0, archetype.size);
+            }
+        }
+        return ids.iterator();
+    }
+
+    @Override
+    public int getEntityCount(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length == 0) {
+            return numEntities();
+        }
+        List<Class<? extends Component>> required = Arrays.asList(componentClasses);
+        int count = 0;
+        for (Archetype archetype : archetypesByType.getOrDefault(componentClasses[0], Collections.emptyList())) {
+            if (archetype.signature.containsAll(required)) {
+                count += archetype.size;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int numEntities() {
+        return locations.size();
+    }
+
+    private Archetype withAdded(Archetype source, Class<?> componentClass) {
+        Archetype target = source.addEdges.get(componentClass);
+        if (target == null) {
+            Set<Class<?>> signature = ImmutableSet.<Class<?>>builder()
+                    .addAll(source.signature)
+                    .add(componentClass)
+                    .build();
+            target = getOrCreateArchetype(signature);
+            source.addEdges.put(componentClass, target);
+        }
+        return target;
+    }
+
+    private Archetype withRemoved(Archetype source, Class<?> componentClass) {
+        Archetype target = source.removeEdges.get(componentClass);
+        if (target == null) {
+            ImmutableSet.Builder<Class<?>> signature = ImmutableSet.builder();
+            for (Class<?> type : source.types) {
+                if (type != componentClass) {
+                    signature.add(type);
+                }
+            }
+            target = getOrCreateArchetype(signature.build());
+            source.removeEdges.put(componentClass, target);
+        }
+        return target;
+    }
+
+    private Archetype getOrCreateArchetype(Set<Class<?>> signature) {
+        Archetype archetype = archetypesBySignature.get(signature);
+        return (archetype != null) ? archetype : createArchetype(signature);
+    }
+
+    private Archetype createArchetype(Set<Class<?>> signature) {
+        Archetype archetype = new Archetype(archetypes.size(), signature);
+        archetypes.add(archetype);
+        archetypesBySignature.put(signature, archetype);
+        for (Class<?> type : signature) {
+            archetypesByType.computeIfAbsent(type, key -> Lists.newArrayList()).add(archetype);
+        }
+        return archetype;
+    }
+
+    private int addRow(long entityId, Archetype target) {
+        int row = target.addRow(entityId);
+        locations.put(entityId, location(target.index, row));
+        return row;
+    }
+
+    /**
+     * Copies the components of the row which the target archetype has too, and removes the row from the source.
+     *
+     * @return the row of the entity in the target archetype.
+     */
+    private int moveRow(long entityId, Archetype source, int sourceRow, Archetype target) {
+        int targetRow = addRow(entityId, target);
+        for (int column = 0; column < source.types.length; column++) {
+            int targetColumn = target.column(source.types[column]);
+            if (targetColumn >= 0) {
+                target.columns[targetColumn][targetRow] = source.columns[column][sourceRow];
+            }
+        }
+        removeRow(source, sourceRow);
+        return targetRow;
+    }
+
+    /**
+     * Fills the row with the last row of the archetype, so the arrays stay dense.
+     */
+    private void removeRow(Archetype archetype, int row) {
+        int last = archetype.size - 1;
+        if (row != last) {
+            long movedId = archetype.ids[last];
+            archetype.ids[row] = movedId;
+            for (Component[] column : archetype.columns) {
+                column[row] = column[last];
+            }
+            locations.put(movedId, location(archetype.index, row));
+        }
+        for (Component[] column : archetype.columns) {
+            column[last] = null;
+        }
+        archetype.size = last;
+    }
+
+    private static long location(int archetypeIndex, int row) {
+        return ((long) archetypeIndex << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    private static int archetypeIndex(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int row(long location) {
+        return (int) location;
+    }
+
+    private static final class Archetype {
+        private final int index;
+        private final Set<Class<?>> signature;
+        private final Class<?>[] types;
+        private final Map<Class<?>, Integer> columnIndices = Maps.newIdentityHashMap();
+        private final Map<Class<?>, Archetype> addEdges = Maps.newIdentityHashMap();
+        private final Map<Class<?>, Archetype> removeEdges = Maps.newIdentityHashMap();
+        private final Component[][] columns;
+        private long[] ids;
+        private int size;
+
+        Archetype(int index, Set<Class<?>> signature) {
+            this.index = index;
+            this.signature = signature;
+            this.types = signature.toArray(new Class<?>[0]);
+            for (int i = 0; i < types.length; i++) {
+                columnIndices.put(types[i], i);
+            }
+            int capacity = types.length == 0 ? 0 : INITIAL_ROWS;
+            this.ids = new long[capacity];
+            this.columns = new Component[types.length][capacity];
+        }
+
+        int column(Class<?> type) {
+            Integer column = columnIndices.get(type);
+            return (column == null) ? -1 : column;
+        }
+
+        int addRow(long entityId) {
+            if (size == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] = Arrays.copyOf(columns[i], capacity);
+                }
+            }
+            ids[size] = entityId;
+            return size++;
+        }
+    }
+
+    /**
+     * Iterates over one column of all archetypes which have it. Removing the current component moves the entity to
+     * another archetype and the last row of the current archetype into its place, so the iterator steps back a row to
+     * visit that one next.
+     */
+    private final class ColumnIterator<T extends Component> implements TLongObjectIterator<T> {
+        private final List<Archetype> archetypes;
+        private final Class<T> componentClass;
+        private int archetypeIndex;
+        private int row = -1;
+        private Archetype current;
+        private Component[] column;
+        private boolean removed;
+
+        ColumnIterator(List<Archetype> archetypes, Class<T> componentClass) {
+            this.archetypes = archetypes;
+            this.componentClass = componentClass;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current != null && row + 1 < current.size) {
+                return true;
+            }
+            for (int i = archetypeIndex; i < archetypes.size(); i++) {
+                if (archetypes.get(i).size > 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void advance() {
+            removed = false;
+            row++;
+            while (current == null || row >= current.size) {
+                if (archetypeIndex >= archetypes.size()) {
+                    throw new NoSuchElementException();
+                }
+                current = archetypes.get(archetypeIndex++);
+                column = current.columns[current.column(componentClass)];
+                row = 0;
+            }
+        }
+
+        @Override
+        public long key() {
+            return current.ids[row];
+        }
+
+        @Override
+        public T value() {
+            return componentClass.cast(column[row]);
+        }
+
+        @Override
+        public T setValue(T val) {
+            T previous = value();
+            column[row] = val;
+            return previous;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null || removed) {
+                throw new IllegalStateException("No current component to remove");
+            }
+            ArchetypeComponentTable.this.remove(current.ids[row], componentClass);
+            removed = true;
+            row--;
+        }
+    }
+}
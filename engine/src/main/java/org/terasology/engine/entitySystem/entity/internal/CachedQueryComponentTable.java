@@ -0,0 +1,252 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.entitySystem.entity.internal;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.terasology.engine.entitySystem.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps the result of queries for several component types up to date while components get added and removed, so
+ * repeating such a query costs as much as its result, not the number of entities with one of the types.
+ * <p>
+ * A live view is created the first time a set of component types is queried, up to {@value #MAX_VIEWS} views. The
+ * order the types are given in doesn't matter. Every change to the table updates the views which contain the changed
+ * component type.
+ * <p>
+ * Like {@link HashComponentTable}, the table may be used from several threads: the views are kept in concurrent maps
+ * and each view is locked while it is changed or copied. As with the delegate, changes to the same entity from
+ * several threads at once are not atomic.
+ * <p>
+ * The views are kept by the table rather than through {@link EntityChangeSubscriber}, because subscribers are told
+ * about new entities only after their lifecycle events were sent, and queries from event handlers need to see them.
+ */
+public class CachedQueryComponentTable implements ComponentTable {
+    static final int MAX_VIEWS = 64;
+
+    private final ComponentTable delegate;
+    private final Map<Set<Class<? extends Component>>, LiveView> views = Maps.newConcurrentMap();
+    private final Map<Class<?>, List<LiveView>> viewsByType = Maps.newConcurrentMap();
+
+    public CachedQueryComponentTable(ComponentTable delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T extends Component> T get(long entityId, Class<T> componentClass) {
+        return delegate.get(entityId, componentClass);
+    }
+
+    @Override
+    public Component put(long entityId, Component component) {
+        Component previous = delegate.put(entityId, component);
+        if (previous == null) {
+            for (LiveView view : viewsByType.getOrDefault(component.getClass(), Collections.emptyList())) {
+                if (hasAll(entityId, view.componentClasses)) {
+                    view.add(entityId);
+                }
+            }
+        }
+        return previous;
+    }
+
+    @Override
+    public <T extends Component> Component remove(long entityId, Class<T> componentClass) {
+        Component removed = delegate.remove(entityId, componentClass);
+        if (removed != null) {
+            for (LiveView view : viewsByType.getOrDefault(componentClass, Collections.emptyList())) {
+                view.remove(entityId);
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public List<Component> removeAndReturnComponentsOf(long entityId) {
+        removeFromViews(entityId);
+        return delegate.removeAndReturnComponentsOf(entityId);
+    }
+
+    @Override
+    public void remove(long entityId) {
+        removeFromViews(entityId);
+        delegate.remove(entityId);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        for (LiveView view : views.values()) {
+            view.clear();
+        }
+    }
+
+    @Override
+    public int getComponentCount(Class<? extends Component> componentClass) {
+        return delegate.getComponentCount(componentClass);
+    }
+
+    @Override
+    public Iterable<Component> iterateComponents(long entityId) {
+        return delegate.iterateComponents(entityId);
+    }
+
+    @Override
+    public List<Component> getComponentsInNewList(long entityId) {
+        return delegate.getComponentsInNewList(entityId);
+    }
+
+    @Override
+    public <T extends Component> TLongObjectIterator<T> componentIterator(Class<T> componentClass) {
+        TLongObjectIterator<T> iterator = delegate.componentIterator(componentClass);
+        if (iterator == null) {
+            return null;
+        }
+        return new TLongObjectIterator<T>() {
+            @Override
+            public long key() {
+                return iterator.key();
+            }
+
+            @Override
+            public T value() {
+                return iterator.value();
+            }
+
+            @Override
+            public T setValue(T val) {
+                return iterator.setValue(val);
+            }
+
+            @Override
+            public void advance() {
+                iterator.advance();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public void remove() {
+                long entityId = iterator.key();
+                iterator.remove();
+                for (LiveView view : viewsByType.getOrDefault(componentClass, Collections.emptyList())) {
+                    view.remove(entityId);
+                }
+            }
+        };
+    }
+
+    @Override
+    public TLongIterator entityIdIterator() {
+        return delegate.entityIdIterator();
+    }
+
+    @Override
+    public TLongIterator entityIdIterator(Class<? extends Component>[] componentClasses) {
+        LiveView view = getView(componentClasses);
+        if (view == null) {
+            return delegate.entityIdIterator(componentClasses);
+        }
+        return TLongArrayList.wrap(view.toArray()).iterator();
+    }
+
+    @Override
+    public int getEntityCount(Class<? extends Component>[] componentClasses) {
+        LiveView view = getView(componentClasses);
+        if (view == null) {
+            return delegate.getEntityCount(componentClasses);
+        }
+        return view.size();
+    }
+
+    @Override
+    public int numEntities() {
+        return delegate.numEntities();
+    }
+
+    /**
+     * @return the live view of the component types, or null if it is not worth one or there are too many views.
+     */
+    private LiveView getView(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length < 2) {
+            return null;
+        }
+        Set<Class<? extends Component>> key = ImmutableSet.copyOf(componentClasses);
+        LiveView view = views.get(key);
+        if (view == null && views.size() < MAX_VIEWS) {
+            view = views.computeIfAbsent(key, this::createView);
+        }
+        return view;
+    }
+
+    private LiveView createView(Set<Class<? extends Component>> componentClasses) {
+        LiveView view = new LiveView(componentClasses.toArray(new Class[0]));
+        // register first, so changes made while the view is filled aren't missed
+        for (Class<? extends Component> componentClass : componentClasses) {
+            viewsByType.computeIfAbsent(componentClass, type -> new CopyOnWriteArrayList<>()).add(view);
+        }
+        TLongIterator iterator = delegate.entityIdIterator(view.componentClasses);
+        while (iterator.hasNext()) {
+            view.add(iterator.next());
+        }
+        return view;
+    }
+
+    private void removeFromViews(long entityId) {
+        for (LiveView view : views.values()) {
+            view.remove(entityId);
+        }
+    }
+
+    private boolean hasAll(long entityId, Class<? extends Component>[] componentClasses) {
+        for (Class<? extends Component> componentClass : componentClasses) {
+            if (delegate.get(entityId, componentClass) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class LiveView {
+        private final Class<? extends Component>[] componentClasses;
+        private final TLongSet ids = new TLongHashSet();
+
+        LiveView(Class<? extends Component>[] componentClasses) {
+            this.componentClasses = componentClasses;
+        }
+
+        synchronized void add(long entityId) {
+            ids.add(entityId);
+        }
+
+        synchronized void remove(long entityId) {
+            ids.remove(entityId);
+        }
+
+        synchronized void clear() {
+            ids.clear();
+        }
+
+        synchronized int size() {
+            return ids.size();
+        }
+
+        synchronized long[] toArray() {
+            return ids.toArray();
+        }
+    }
+}
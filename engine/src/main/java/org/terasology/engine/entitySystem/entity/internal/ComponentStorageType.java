@@ -0,0 +1,38 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.entitySystem.entity.internal;
+
+import java.util.function.Supplier;
+
+/**
+ * The ways the entity pools of a {@link PojoEntityManager} can store their components. It is chosen when the entity
+ * manager gets created.
+ */
+public enum ComponentStorageType {
+    /**
+     * One map from entity id to component per component type. Adding and removing components is cheap, queries for
+     * several component types check every entity with the first type.
+     */
+    HASH_MAP(HashComponentTable::new),
+    /**
+     * Like {@link #HASH_MAP}, but queries for several component types are kept up to date in live views. Repeated
+     * queries get cheaper, while adding and removing components of queried types costs a bit more.
+     */
+    CACHED_QUERY_HASH_MAP(() -> new CachedQueryComponentTable(new HashComponentTable())),
+    /**
+     * Entities with the same set of component types are stored together in dense arrays. Queries for several
+     * component types scan the arrays of matching sets, but adding or removing a component moves the entity to
+     * another set.
+     */
+    ARCHETYPE(ArchetypeComponentTable::new);
+
+    private final Supplier<ComponentTable> tableFactory;
+
+    ComponentStorageType(Supplier<ComponentTable> tableFactory) {
+        this.tableFactory = tableFactory;
+    }
+
+    public ComponentTable createTable() {
+        return tableFactory.get();
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.terasology.engine.entitySystem.entity.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import gnu.trove.iterator.TLongIterator;
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.terasology.engine.entitySystem.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A table for storing entities and components. Focused on allowing iteration across a components of a given type
+ * <p>
+ * Keeps a map from entity id to component for every component type.
+ */
+public class HashComponentTable implements ComponentTable {
+    private Map<Class<?>, TLongObjectMap<Component>> store = Maps.newConcurrentMap();
+
+    @Override
+    public <T extends Component> T get(long entityId, Class<T> componentClass) {
+        TLongObjectMap<Component> entityMap = store.get(componentClass);
+        if (entityMap != null) {
+            return componentClass.cast(entityMap.get(entityId));
+        }
+        return null;
+    }
+
+    @Override
+    public Component put(long entityId, Component component) {
+        TLongObjectMap<Component> entityMap = store.get(component.getClass());
+        if (entityMap == null) {
+            entityMap = new TLongObjectHashMap<>();
+            store.put(component.getClass(), entityMap);
+        }
+        return entityMap.put(entityId, component);
+    }
+
+    @Override
+    public <T extends Component> Component remove(long entityId, Class<T> componentClass) {
+        TLongObjectMap<Component> entityMap = store.get(componentClass);
+        if (entityMap != null) {
+            return entityMap.remove(entityId);
+        }
+        return null;
+    }
+
+
+    @Override
+    public List<Component> removeAndReturnComponentsOf(long entityId) {
+        List<Component> componentList = Lists.newArrayList();
+        for (TLongObjectMap<Component> entityMap : store.values()) {
+            Component component = entityMap.remove(entityId);
+            if (component != null) {
+                componentList.add(component);
+            }
+        }
+        return componentList;
+    }
+
+    @Override
+    public void remove(long entityId) {
+        for (TLongObjectMap<Component> entityMap : store.values()) {
+            entityMap.remove(entityId);
+        }
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    @Override
+    public int getComponentCount(Class<? extends Component> componentClass) {
+        TLongObjectMap<Component> map = store.get(componentClass);
+        return (map == null) ? 0 : map.size();
+    }
+
+    @Override
+    public Iterable<Component> iterateComponents(long entityId) {
+        return getComponentsInNewList(entityId);
+    }
+
+    @Override
+    public List<Component> getComponentsInNewList(long entityId) {
+        List<Component> components = Lists.newArrayList();
+        for (TLongObjectMap<Component> componentMap : store.values()) {
+            Component comp = componentMap.get(entityId);
+            if (comp != null) {
+                components.add(comp);
+            }
+        }
+        return components;
+    }
+
+    @Override
+    public <T extends Component> TLongObjectIterator<T> componentIterator(Class<T> componentClass) {
+        TLongObjectMap<T> entityMap = (TLongObjectMap<T>) store.get(componentClass);
+        if (entityMap != null) {
+            return entityMap.iterator();
+        }
+        return null;
+    }
+
+    @Override
+    public TLongIterator entityIdIterator() {
+        TLongSet idSet = new TLongHashSet();
+        for (TLongObjectMap<Component> componentMap : store.values()) {
+            idSet.addAll(componentMap.keys());
+        }
+        return idSet.iterator();
+    }
+
+    /**
+     * Walks the ids of the component type with the fewest entities and looks up the other types for each of them.
+     */
+    @Override
+    public TLongIterator entityIdIterator(Class<? extends Component>[] componentClasses) {
+        TLongObjectMap<Component> smallestMap = null;
+        for (Class<? extends Component> componentClass : componentClasses) {
+            TLongObjectMap<Component> entityMap = store.get(componentClass);
+            if (entityMap == null) {
+                return new TLongArrayList(0).iterator();
+            }
+            if (smallestMap == null || entityMap.size() < smallestMap.size()) {
+                smallestMap = entityMap;
+            }
+        }
+        if (smallestMap == null) {
+            return entityIdIterator();
+        }
+        TLongList ids = new TLongArrayList(smallestMap.size());
+        TLongIterator iterator = smallestMap.keySet().iterator();
+        while (iterator.hasNext()) {
+            long id = iterator.next();
+            if (hasAll(id, componentClasses)) {
+                ids.add(id);
+            }
+        }
+        return ids.iterator();
+    }
+
+    @Override
+    public int getEntityCount(Class<? extends Component>[] componentClasses) {
+        if (componentClasses.length == 0) {
+            return numEntities();
+        }
+        TLongObjectMap<Component> smallestMap = null;
+        for (Class<? extends Component> componentClass : componentClasses) {
+            TLongObjectMap<Component> entityMap = store.get(componentClass);
+            if (entityMap == null) {
+                return 0;
+            }
+            if (smallestMap == null || entityMap.size() < smallestMap.size()) {
+                smallestMap = entityMap;
+            }
+        }
+        int count = 0;
+        TLongIterator iterator = smallestMap.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (hasAll(iterator.next(), componentClasses)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean hasAll(long entityId, Class<? extends Component>[] componentClasses) {
+        for (Class<? extends Component> componentClass : componentClasses) {
+            if (!store.get(componentClass).containsKey(entityId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int numEntities() {
+        TLongSet idSet = new TLongHashSet();
+        for (TLongObjectMap<Component> componentMap : store.values()) {
+            idSet.addAll(componentMap.keys());
+        }
+        return idSet.size();
+    }
+
+}
@@ -52,8 +52,9 @@ public class PojoEntityManager implements EngineEntityManager {
     private long nextEntityId = 1;
     private TLongSet loadedIds = new TLongHashSet();
 
-    private EngineEntityPool globalPool = new PojoEntityPool(this);
-    private PojoSectorManager sectorManager = new PojoSectorManager(this);
+    private final ComponentStorageType componentStorageType;
+    private EngineEntityPool globalPool;
+    private PojoSectorManager sectorManager;
     private Map<Long, EngineEntityPool> poolMap = new MapMaker().initialCapacity(1000).makeMap();
     private List<EngineEntityPool> worldPools = Lists.newArrayList();
     private Map<EngineEntityPool, Long> poolCounts = new HashMap<EngineEntityPool, Long>();
@@ -70,6 +71,23 @@ public class PojoEntityManager implements EngineEntityManager {
 
     private TypeHandlerLibrary typeSerializerLibrary;
 
+    public PojoEntityManager() {
+        this(ComponentStorageType.HASH_MAP);
+    }
+
+    /**
+     * @param componentStorageType how the entity pools of this manager store their components.
+     */
+    public PojoEntityManager(ComponentStorageType componentStorageType) {
+        this.componentStorageType = componentStorageType;
+        this.globalPool = new PojoEntityPool(this);
+        this.sectorManager = new PojoSectorManager(this);
+    }
+
+    public ComponentStorageType getComponentStorageType() {
+        return componentStorageType;
+    }
+
     @Override
     public RefStrategy getEntityRefStrategy() {
         return refStrategy;
@@ -15,8 +15,9 @@
  */
 package org.terasology.engine.entitySystem.entity.internal;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.MapMaker;
+import gnu.trove.iterator.TLongIterator;
 import org.joml.Quaternionfc;
 import org.joml.Vector3fc;
 import org.slf4j.Logger;
@@ -32,6 +33,7 @@
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 
@@ -44,10 +46,11 @@ public class PojoEntityPool implements EngineEntityPool {
     private static final Logger logger = LoggerFactory.getLogger(PojoEntityPool.class);
 
     private Map<Long, BaseEntityRef> entityStore = new MapMaker().weakValues().concurrencyLevel(4).initialCapacity(1000).makeMap();
-    private ComponentTable componentStore = new ComponentTable();
+    private ComponentTable componentStore;
 
     public PojoEntityPool(PojoEntityManager entityManager) {
         this.entityManager = entityManager;
+        this.componentStore = entityManager.getComponentStorageType().createTable();
     }
 
     @Override
@@ -298,6 +301,9 @@ public EntityRef getEntity(long entityId) {
     @SafeVarargs
     @Override
     public final Iterable<EntityRef> getEntitiesWith(Class<? extends Component>... componentClasses) {
+        if (componentClasses.length > 0) {
+            return () -> iterateEntitiesWith(componentClasses);
+        }
         return () -> entityStore.keySet().stream()
                 //Keep entities which have all of the required components
                 .filter(id -> Arrays.stream(componentClasses)
@@ -306,6 +312,35 @@ public final Iterable<EntityRef> getEntitiesWith(Class<? extends Component>... c
                 .iterator();
     }
 
+    /**
+     * Takes the ids from the component store when iteration starts, and skips entities which lost one of the
+     * components in the meantime.
+     */
+    private Iterator<EntityRef> iterateEntitiesWith(Class<? extends Component>[] componentClasses) {
+        TLongIterator ids = componentStore.entityIdIterator(componentClasses);
+        return new AbstractIterator<EntityRef>() {
+            @Override
+            protected EntityRef computeNext() {
+                while (ids.hasNext()) {
+                    long id = ids.next();
+                    if (hasAllComponents(id, componentClasses)) {
+                        return getEntity(id);
+                    }
+                }
+                return endOfData();
+            }
+        };
+    }
+
+    private boolean hasAllComponents(long entityId, Class<? extends Component>[] componentClasses) {
+        for (Class<? extends Component> componentClass : componentClasses) {
+            if (componentStore.get(entityId, componentClass) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public int getCountOfEntitiesWith(Class<? extends Component>[] componentClasses) {
         switch (componentClasses.length) {
@@ -314,7 +349,7 @@ public int getCountOfEntitiesWith(Class<? extends Component>[] componentClasses)
             case 1:
                 return componentStore.getComponentCount(componentClasses[0]);
             default:
-                return Lists.newArrayList(getEntitiesWith(componentClasses)).size();
+                return componentStore.getEntityCount(componentClasses);
         }
     }
 
@@ -0,0 +1,155 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.entitySystem.event.internal;
+
+import org.terasology.engine.entitySystem.Component;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.event.Event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Calls an event handler method with the event, the entity and the components of the entity the method takes as
+ * further parameters.
+ * <p>
+ * Invokers are created once when the handler gets registered. They are specialised by the number of component
+ * parameters and call an exactly typed method handle, so calling a handler with up to
+ * {@value #MAX_SPECIALISED_COMPONENTS} component parameters does not allocate.
+ */
+abstract class EventHandlerInvoker {
+    static final int MAX_SPECIALISED_COMPONENTS = 3;
+
+    /**
+     * @param handler          the object the method gets called on
+     * @param method           the handler method, taking the event, the entity and then the components
+     * @param componentParams  the types of the component parameters of the method
+     * @throws IllegalAccessException if the method can't be accessed
+     */
+    static EventHandlerInvoker create(Object handler, Method method, List<Class<? extends Component>> componentParams)
+            throws IllegalAccessException {
+        MethodHandle methodHandle = MethodHandles.lookup().unreflect(method).bindTo(handler);
+        switch (componentParams.size()) {
+            case 0:
+                return new NoComponentInvoker(methodHandle);
+            case 1:
+                return new OneComponentInvoker(methodHandle, componentParams.get(0));
+            case 2:
+                return new TwoComponentInvoker(methodHandle, componentParams.get(0), componentParams.get(1));
+            case 3:
+                return new ThreeComponentInvoker(methodHandle, componentParams.get(0), componentParams.get(1),
+                        componentParams.get(2));
+            default:
+                return new SpreadingInvoker(methodHandle, componentParams);
+        }
+    }
+
+    abstract void invoke(Event event, EntityRef entity) throws Throwable;
+
+    private static MethodType invokerType(int componentCount) {
+        MethodType type = MethodType.methodType(void.class, Event.class, EntityRef.class);
+        for (int i = 0; i < componentCount; i++) {
+            type = type.appendParameterTypes(Component.class);
+        }
+        return type;
+    }
+
+    private static final class NoComponentInvoker extends EventHandlerInvoker {
+        private final MethodHandle methodHandle;
+
+        NoComponentInvoker(MethodHandle methodHandle) {
+            this.methodHandle = methodHandle.asType(invokerType(0));
+        }
+
+        @Override
+        void invoke(Event event, EntityRef entity) throws Throwable {
+            methodHandle.invokeExact(event, entity);
+        }
+    }
+
+    private static final class OneComponentInvoker extends EventHandlerInvoker {
+        private final MethodHandle methodHandle;
+        private final Class<? extends Component> component1;
+
+        OneComponentInvoker(MethodHandle methodHandle, Class<? extends Component> component1) {
+            this.methodHandle = methodHandle.asType(invokerType(1));
+            this.component1 = component1;
+        }
+
+        @Override
+        void invoke(Event event, EntityRef entity) throws Throwable {
+            Component param1 = entity.getComponent(component1);
+            methodHandle.invokeExact(event, entity, param1);
+        }
+    }
+
+    private static final class TwoComponentInvoker extends EventHandlerInvoker {
+        private final MethodHandle methodHandle;
+        private final Class<? extends Component> component1;
+        private final Class<? extends Component> component2;
+
+        TwoComponentInvoker(MethodHandle methodHandle, Class<? extends Component> component1,
+                            Class<? extends Component> component2) {
+            this.methodHandle = methodHandle.asType(invokerType(2));
+            this.component1 = component1;
+            this.component2 = component2;
+        }
+
+        @Override
+        void invoke(Event event, EntityRef entity) throws Throwable {
+            Component param1 = entity.getComponent(component1);
+            Component param2 = entity.getComponent(component2);
+            methodHandle.invokeExact(event, entity, param1, param2);
+        }
+    }
+
+    private static final class ThreeComponentInvoker extends EventHandlerInvoker {
+        private final MethodHandle methodHandle;
+        private final Class<? extends Component> component1;
+        private final Class<? extends Component> component2;
+        private final Class<? extends Component> component3;
+
+        ThreeComponentInvoker(MethodHandle methodHandle, Class<? extends Component> component1,
+                              Class<? extends Component> component2, Class<? extends Component> component3) {
+            this.methodHandle = methodHandle.asType(invokerType(3));
+            this.component1 = component1;
+            this.component2 = component2;
+            this.component3 = component3;
+        }
+
+        @Override
+        void invoke(Event event, EntityRef entity) throws Throwable {
+            Component param1 = entity.getComponent(component1);
+            Component param2 = entity.getComponent(component2);
+            Component param3 = entity.getComponent(component3);
+            methodHandle.invokeExact(event, entity, param1, param2, param3);
+        }
+    }
+
+    /**
+     * Handlers with many component parameters are rare, they get their components passed in a new array.
+     */
+    private static final class SpreadingInvoker extends EventHandlerInvoker {
+        private final MethodHandle methodHandle;
+        private final Class<? extends Component>[] components;
+
+        @SuppressWarnings("unchecked")
+        SpreadingInvoker(MethodHandle methodHandle, List<Class<? extends Component>> components) {
+            this.components = components.toArray(new Class[0]);
+            this.methodHandle = methodHandle.asSpreader(Object[].class, components.size())
+                    .asType(MethodType.methodType(void.class, Event.class, EntityRef.class, Object[].class));
+        }
+
+        @Override
+        void invoke(Event event, EntityRef entity) throws Throwable {
+            Object[] params = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                params[i] = entity.getComponent(components[i]);
+            }
+            methodHandle.invokeExact(event, entity, params);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.entitySystem.event.internal;
+
+import com.google.common.collect.Queues;
+import org.terasology.engine.entitySystem.Component;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.entitySystem.event.Event;
+import org.terasology.engine.entitySystem.event.PendingEvent;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Collects events sent from threads other than the main thread, until the main thread processes them.
+ * <p>
+ * Every producer thread gets its own bounded ring of events, which only that thread writes to and only the main
+ * thread reads from. Sending an event therefore takes no lock and allocates nothing, and the events of each producer
+ * are processed in the order they were sent. There is no order between events of different producers.
+ * <p>
+ * When the ring of a producer is full, the producer waits a short while for the main thread to drain it. If the main
+ * thread does not get to it in time, for example because it waits for the producer, the event goes to an unbounded
+ * overflow queue of the producer instead, so events are never lost.
+ */
+final class EventInbox {
+    static final int DEFAULT_RING_CAPACITY = 4096;
+
+    private static final long MAX_BLOCK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int ringCapacity;
+    private final List<ProducerRing> rings = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<ProducerRing> producerRing = ThreadLocal.withInitial(this::createRing);
+
+    private final LongAdder blockedSends = new LongAdder();
+    private final LongAdder overflowedSends = new LongAdder();
+
+    /**
+     * Receives the events drained from the inbox, on the main thread.
+     */
+    @FunctionalInterface
+    interface PendingEventConsumer {
+        /**
+         * @param component the component the event was sent to, or null if it was sent to the whole entity.
+         */
+        void accept(EntityRef entity, Event event, Component component);
+    }
+
+    EventInbox() {
+        this(DEFAULT_RING_CAPACITY);
+    }
+
+    /**
+     * @param ringCapacity the number of events each producer can have pending without waiting, a power of two.
+     */
+    EventInbox(int ringCapacity) {
+        if (Integer.bitCount(ringCapacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + ringCapacity);
+        }
+        this.ringCapacity = ringCapacity;
+    }
+
+    /**
+     * Adds an event to the ring of the current thread.
+     *
+     * @param component the component the event is sent to, or null to send it to the whole entity.
+     */
+    void offer(EntityRef entity, Event event, Component component) {
+        ProducerRing ring = producerRing.get();
+        if (ring.overflow.isEmpty()) {
+            if (ring.offer(entity, event, component)) {
+                return;
+            }
+            blockedSends.increment();
+            long deadline = System.nanoTime() + MAX_BLOCK_NANOS;
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(PARK_NANOS);
+                if (ring.offer(entity, event, component)) {
+                    return;
+                }
+            }
+        }
+        overflowedSends.increment();
+        ring.overflow.add(new PendingEvent(entity, event, component));
+    }
+
+    /**
+     * Passes all events which are pending at the start of the call to the consumer. Must only be called from the main
+     * thread.
+     *
+     * @return the number of events drained.
+     */
+    int drain(PendingEventConsumer consumer) {
+        int drained = 0;
+        for (ProducerRing ring : rings) {
+            drained += ring.drain(consumer);
+            if (!ring.producer.isAlive() && ring.isEmpty()) {
+                rings.remove(ring);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * @return the number of events waiting to be drained.
+     */
+    long getQueuedEvents() {
+        long queued = 0;
+        for (ProducerRing ring : rings) {
+            queued += ring.size();
+        }
+        return queued;
+    }
+
+    /**
+     * @return how many sends found the ring of their producer full and had to wait.
+     */
+    long getBlockedSends() {
+        return blockedSends.sum();
+    }
+
+    /**
+     * @return how many sends waited too long for a full ring and went to the overflow queue.
+     */
+    long getOverflowedSends() {
+        return overflowedSends.sum();
+    }
+
+    private ProducerRing createRing() {
+        ProducerRing ring = new ProducerRing(Thread.currentThread(), ringCapacity);
+        rings.add(ring);
+        return ring;
+    }
+
+    /**
+     * Ring buffer with a single producer, the thread it belongs to, and a single consumer, the main thread.
+     */
+    private static final class ProducerRing {
+        private final Thread producer;
+        private final EntityRef[] entities;
+        private final Event[] events;
+        private final Component[] components;
+        private final int mask;
+        /** Index of the next event to read, only written by the consumer. */
+        private final AtomicLong head = new AtomicLong();
+        /** Index of the next event to write, only written by the producer. */
+        private final AtomicLong tail = new AtomicLong();
+        private final Queue<PendingEvent> overflow = Queues.newConcurrentLinkedQueue();
+
+        ProducerRing(Thread producer, int capacity) {
+            this.producer = producer;
+            this.entities = new EntityRef[capacity];
+            this.events = new Event[capacity];
+            this.components = new Component[capacity];
+            this.mask = capacity - 1;
+        }
+
+        boolean offer(EntityRef entity, Event event, Component component) {
+            long index = tail.get();
+            if (index - head.get() > mask) {
+                return false;
+            }
+            int slot = (int) index & mask;
+            entities[slot] = entity;
+            events[slot] = event;
+            components[slot] = component;
+            tail.lazySet(index + 1);
+            return true;
+        }
+
+        /**
+         * Drains the ring before the overflow queue: the producer only adds to the ring while the overflow queue is
+         * empty, so everything in the ring was sent before anything in the overflow queue. The size of the overflow
+         * queue is taken first, so events which went to the ring while this drain runs are not overtaken either.
+         */
+        int drain(PendingEventConsumer consumer) {
+            int overflowed = overflow.size();
+            long index = head.get();
+            long end = tail.get();
+            int drained = (int) (end - index);
+            for (; index < end; index++) {
+                int slot = (int) index & mask;
+                EntityRef entity = entities[slot];
+                Event event = events[slot];
+                Component component = components[slot];
+                entities[slot] = null;
+                events[slot] = null;
+                components[slot] = null;
+                head.lazySet(index + 1);
+                consumer.accept(entity, event, component);
+            }
+            for (; overflowed > 0; overflowed--) {
+                PendingEvent pending = overflow.poll();
+                consumer.accept(pending.getEntity(), pending.getEvent(), pending.getComponent());
+                drained++;
+            }
+            return drained;
+        }
+
+        boolean isEmpty() {
+            return size() == 0;
+        }
+
+        long size() {
+            return tail.get() - head.get() + overflow.size();
+        }
+    }
+}
@@ -2,7 +2,8 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.entitySystem.event.internal;
 
-import com.esotericsoftware.reflectasm.MethodAccess;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import com.google.common.base.Objects;
 import com.google.common.base.Predicates;
 import com.google.common.collect.BiMap;
@@ -11,7 +12,6 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import org.reflections.ReflectionUtils;
@@ -24,7 +24,6 @@
 import org.terasology.engine.entitySystem.event.ConsumableEvent;
 import org.terasology.engine.entitySystem.event.Event;
 import org.terasology.engine.entitySystem.event.EventPriority;
-import org.terasology.engine.entitySystem.event.PendingEvent;
 import org.terasology.engine.entitySystem.event.ReceiveEvent;
 import org.terasology.engine.entitySystem.metadata.EventLibrary;
 import org.terasology.engine.entitySystem.metadata.EventMetadata;
@@ -46,13 +45,13 @@
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 
 /**
  * An implementation of the EventSystem.
@@ -66,12 +65,17 @@ public class EventSystemImpl implements EventSystem {
     private SetMultimap<Class<? extends Event>, EventHandlerInfo> generalHandlers = HashMultimap.create();
     private Comparator<EventHandlerInfo> priorityComparator = new EventHandlerPriorityComparator();
 
+    // Sorted handlers, cleared whenever handlers change
+    private Map<Class<? extends Event>, EventDispatchCache> dispatchCaches = Maps.newHashMap();
+    private Map<Class<? extends Event>, Map<Class<? extends Component>, EventHandlerInfo[]>> componentDispatchCaches =
+            Maps.newHashMap();
+
     // Event metadata
     private BiMap<ResourceUrn, Class<? extends Event>> eventIdMap = HashBiMap.create();
     private SetMultimap<Class<? extends Event>, Class<? extends Event>> childEvents = HashMultimap.create();
 
     private Thread mainThread;
-    private BlockingQueue<PendingEvent> pendingEvents = Queues.newLinkedBlockingQueue();
+    private final EventInbox pendingEvents = new EventInbox();
 
 
     public EventSystemImpl(boolean isAutority) {
@@ -81,18 +85,42 @@ public EventSystemImpl(boolean isAutority) {
 
     @Override
     public void process() {
-        for (PendingEvent event = pendingEvents.poll(); event != null; event = pendingEvents.poll()) {
-            if (event.getComponent() != null) {
-                send(event.getEntity(), event.getEvent(), event.getComponent());
-            } else {
-                send(event.getEntity(), event.getEvent());
-            }
+        pendingEvents.drain(this::sendPendingEvent);
+    }
+
+    private void sendPendingEvent(EntityRef entity, Event event, Component component) {
+        if (component != null) {
+            send(entity, event, component);
+        } else {
+            send(entity, event);
         }
     }
 
+    /**
+     * @return the number of events sent from other threads which wait for the next {@link #process()}.
+     */
+    public long getPendingEventCount() {
+        return pendingEvents.getQueuedEvents();
+    }
+
+    /**
+     * @return how often a thread sent events faster than the main thread processed them and had to wait.
+     */
+    public long getBlockedPendingEventCount() {
+        return pendingEvents.getBlockedSends();
+    }
+
+    /**
+     * @return how often a thread waited too long for the main thread and queued its event without a bound.
+     */
+    public long getOverflowedPendingEventCount() {
+        return pendingEvents.getOverflowedSends();
+    }
+
     @Override
     public void registerEvent(ResourceUrn uri, Class<? extends Event> eventType) {
         eventIdMap.put(uri, eventType);
+        clearDispatchCaches();
         logger.debug("Registering event {}", eventType.getSimpleName());
         for (Class parent : ReflectionUtils.getAllSuperTypes(eventType, Predicates.subtypeOf(Event.class))) {
             if (!AbstractConsumableEvent.class.equals(parent) && !Event.class.equals(parent)) {
@@ -110,6 +138,7 @@ public void registerEventHandler(ComponentSystem handler) {
         }
 
         logger.debug("Registering event handler " + handlerClass.getName());
+        clearDispatchCaches();
         for (Method method : handlerClass.getMethods()) {
             ReceiveEvent receiveEventAnnotation = method.getAnnotation(ReceiveEvent.class);
             if (receiveEventAnnotation != null) {
@@ -148,6 +177,7 @@ public void registerEventHandler(ComponentSystem handler) {
 
     @Override
     public void unregisterEventHandler(ComponentSystem handler) {
+        clearDispatchCaches();
         for (SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlers :
                 componentSpecificHandlers.values()) {
             Iterator<EventHandlerInfo> eventHandlerIterator = eventHandlers.values().iterator();
@@ -206,11 +236,13 @@ public <T extends Event> void registerEventReceiver(EventReceiver<T> eventReceiv
                                                         int priority, Class<? extends Component>... componentTypes) {
         EventHandlerInfo info = new ReceiverEventHandlerInfo<>(eventReceiver, priority, componentTypes);
         addEventHandler(eventClass, info, Arrays.asList(componentTypes));
+        clearDispatchCaches();
     }
 
     @Override
     public <T extends Event> void unregisterEventReceiver(EventReceiver<T> eventReceiver, Class<T> eventClass, Class<
             ? extends Component>... componentTypes) {
+        clearDispatchCaches();
         SetMultimap<Class<? extends Component>, EventHandlerInfo> eventHandlerMap =
                 componentSpecificHandlers.get(eventClass);
         if (eventHandlerMap != null) {
@@ -237,12 +269,9 @@ public <T extends Event> void unregisterEventReceiver(EventReceiver<T> eventRece
     @Override
     public void send(EntityRef entity, Event event) {
         if (Thread.currentThread() != mainThread) {
-            pendingEvents.offer(new PendingEvent(entity, event));
+            pendingEvents.offer(entity, event, null);
         } else {
-            Set<EventHandlerInfo> selectedHandlersSet = selectEventHandlers(event.getClass(), entity);
-            List<EventHandlerInfo> selectedHandlers = Lists.newArrayList(selectedHandlersSet);
-            selectedHandlers.sort(priorityComparator);
-
+            EventHandlerInfo[] selectedHandlers = getSortedEventHandlers(event.getClass(), entity);
             if (event instanceof ConsumableEvent) {
                 sendConsumableEvent(entity, event, selectedHandlers);
             } else {
@@ -251,7 +280,7 @@ public void send(EntityRef entity, Event event) {
         }
     }
 
-    private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
+    private void sendStandardEvent(EntityRef entity, Event event, EventHandlerInfo[] selectedHandlers) {
         for (EventHandlerInfo handler : selectedHandlers) {
             // Check isValid at each stage in case components were removed.
             if (handler.isValidFor(entity)) {
@@ -260,7 +289,7 @@ private void sendStandardEvent(EntityRef entity, Event event, List<EventHandlerI
         }
     }
 
-    private void sendConsumableEvent(EntityRef entity, Event event, List<EventHandlerInfo> selectedHandlers) {
+    private void sendConsumableEvent(EntityRef entity, Event event, EventHandlerInfo[] selectedHandlers) {
         ConsumableEvent consumableEvent = (ConsumableEvent) event;
         for (EventHandlerInfo handler : selectedHandlers) {
             // Check isValid at each stage in case components were removed.
@@ -276,22 +305,72 @@ private void sendConsumableEvent(EntityRef entity, Event event, List<EventHandle
     @Override
     public void send(EntityRef entity, Event event, Component component) {
         if (Thread.currentThread() != mainThread) {
-            pendingEvents.offer(new PendingEvent(entity, event, component));
+            pendingEvents.offer(entity, event, component);
         } else {
-            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers =
-                    componentSpecificHandlers.get(event.getClass());
-            if (handlers != null) {
-                List<EventHandlerInfo> eventHandlers = Lists.newArrayList(handlers.get(component.getClass()));
-                eventHandlers.sort(priorityComparator);
-                for (EventHandlerInfo eventHandler : eventHandlers) {
-                    if (eventHandler.isValidFor(entity)) {
-                        eventHandler.invoke(entity, event);
-                    }
+            for (EventHandlerInfo eventHandler : getSortedEventHandlers(event.getClass(), component.getClass())) {
+                if (eventHandler.isValidFor(entity)) {
+                    eventHandler.invoke(entity, event);
                 }
             }
         }
     }
 
+    /**
+     * @return handlers for the event that are valid for the entity, sorted by priority. The array is cached and
+     * must not be modified.
+     */
+    private EventHandlerInfo[] getSortedEventHandlers(Class<? extends Event> eventType, EntityRef entity) {
+        EventDispatchCache dispatchCache = dispatchCaches.get(eventType);
+        if (dispatchCache == null) {
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+            dispatchCache = new EventDispatchCache(handlers != null ? handlers.keySet()
+                    : Collections.<Class<? extends Component>>emptySet());
+            dispatchCaches.put(eventType, dispatchCache);
+        }
+        if (!dispatchCache.isUsable()) {
+            return sortHandlers(selectEventHandlers(eventType, entity));
+        }
+        long signature = dispatchCache.getSignature(entity);
+        EventHandlerInfo[] sortedHandlers = dispatchCache.get(signature);
+        if (sortedHandlers == null) {
+            sortedHandlers = sortHandlers(selectEventHandlers(eventType, entity));
+            dispatchCache.put(signature, sortedHandlers);
+        }
+        return sortedHandlers;
+    }
+
+    /**
+     * @return handlers for the event that are registered for the component type, sorted by priority. The array is
+     * cached and must not be modified.
+     */
+    private EventHandlerInfo[] getSortedEventHandlers(Class<? extends Event> eventType,
+                                                      Class<? extends Component> componentType) {
+        Map<Class<? extends Component>, EventHandlerInfo[]> dispatchCache = componentDispatchCaches.get(eventType);
+        if (dispatchCache == null) {
+            dispatchCache = Maps.newHashMap();
+            componentDispatchCaches.put(eventType, dispatchCache);
+        }
+        EventHandlerInfo[] sortedHandlers = dispatchCache.get(componentType);
+        if (sortedHandlers == null) {
+            SetMultimap<Class<? extends Component>, EventHandlerInfo> handlers = componentSpecificHandlers.get(eventType);
+            sortedHandlers = sortHandlers(handlers != null ? handlers.get(componentType)
+                    : Collections.<EventHandlerInfo>emptySet());
+            dispatchCache.put(componentType, sortedHandlers);
+        }
+        return sortedHandlers;
+    }
+
+    private EventHandlerInfo[] sortHandlers(Collection<EventHandlerInfo> handlers) {
+        EventHandlerInfo[] sortedHandlers = handlers.toArray(new EventHandlerInfo[0]);
+        Arrays.sort(sortedHandlers, priorityComparator);
+        return sortedHandlers;
+    }
+
+    private void clearDispatchCaches() {
+        dispatchCaches.clear();
+        componentDispatchCaches.clear();
+    }
+
     private Set<EventHandlerInfo> selectEventHandlers(Class<? extends Event> eventType, EntityRef entity) {
         Set<EventHandlerInfo> result = Sets.newHashSet();
         result.addAll(generalHandlers.get(eventType));
@@ -317,6 +396,46 @@ public void setToCurrentThread() {
         mainThread = Thread.currentThread();
     }
 
+    /**
+     * Sorted handlers of one event type by the signature of the entity the event is sent to. The signature has a bit
+     * for each component type that handlers of the event require, which is all that decides which handlers receive
+     * the event.
+     */
+    private static final class EventDispatchCache {
+        private final Class<? extends Component>[] componentTypes;
+        private final TLongObjectMap<EventHandlerInfo[]> handlersBySignature = new TLongObjectHashMap<>();
+
+        EventDispatchCache(Collection<Class<? extends Component>> componentTypes) {
+            this.componentTypes = componentTypes.toArray(new Class[0]);
+        }
+
+        /**
+         * @return false if there are too many component types for a signature, the handlers must be selected
+         * without the cache then.
+         */
+        boolean isUsable() {
+            return componentTypes.length <= Long.SIZE;
+        }
+
+        long getSignature(EntityRef entity) {
+            long signature = 0;
+            for (int i = 0; i < componentTypes.length; i++) {
+                if (entity.hasComponent(componentTypes[i])) {
+                    signature |= 1L << i;
+                }
+            }
+            return signature;
+        }
+
+        EventHandlerInfo[] get(long signature) {
+            return handlersBySignature.get(signature);
+        }
+
+        void put(long signature, EventHandlerInfo[] sortedHandlers) {
+            handlersBySignature.put(signature, sortedHandlers);
+        }
+    }
+
     private interface EventHandlerInfo {
         boolean isValidFor(EntityRef entity);
 
@@ -336,12 +455,12 @@ public int compare(EventHandlerInfo o1, EventHandlerInfo o2) {
     }
 
     private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
+        private static final int NO_ACTIVITY = -1;
+
         private ComponentSystem handler;
-        private String activity;
-        private MethodAccess methodAccess;
-        private int methodIndex;
+        private int activityId;
+        private EventHandlerInvoker invoker;
         private ImmutableList<Class<? extends Component>> filterComponents;
-        private ImmutableList<Class<? extends Component>> componentParams;
         private int priority;
 
         ByteCodeEventHandlerInfo(ComponentSystem handler,
@@ -353,11 +472,13 @@ private static class ByteCodeEventHandlerInfo implements EventHandlerInfo {
 
 
             this.handler = handler;
-            this.activity = activity;
-            this.methodAccess = MethodAccess.get(handler.getClass());
-            methodIndex = methodAccess.getIndex(method.getName(), method.getParameterTypes());
+            this.activityId = activity.isEmpty() ? NO_ACTIVITY : PerformanceMonitor.registerActivity(activity);
+            try {
+                this.invoker = EventHandlerInvoker.create(handler, method, ImmutableList.copyOf(componentParams));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Cannot access event handler method " + method, e);
+            }
             this.filterComponents = ImmutableList.copyOf(filterComponents);
-            this.componentParams = ImmutableList.copyOf(componentParams);
             this.priority = priority;
         }
 
@@ -374,26 +495,20 @@ public boolean isValidFor(EntityRef entity) {
         @Override
         public void invoke(EntityRef entity, Event event) {
             try {
-                Object[] params = new Object[2 + componentParams.size()];
-                params[0] = event;
-                params[1] = entity;
-                for (int i = 0; i < componentParams.size(); ++i) {
-                    params[i + 2] = entity.getComponent(componentParams.get(i));
-                }
-
-
-                if (!activity.isEmpty()) {
-                    PerformanceMonitor.startActivity(activity);
+                if (activityId != NO_ACTIVITY) {
+                    PerformanceMonitor.startActivity(activityId);
                 }
                 try {
-                    methodAccess.invoke(handler, methodIndex, params);
+                    invoker.invoke(event, entity);
                 } finally {
-                    if (!activity.isEmpty()) {
+                    if (activityId != NO_ACTIVITY) {
                         PerformanceMonitor.endActivity();
                     }
                 }
-            } catch (Exception ex) {
-                logger.error("Failed to invoke event", ex);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                logger.error("Failed to invoke event", t);
             }
         }
 
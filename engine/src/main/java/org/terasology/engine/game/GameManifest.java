@@ -50,6 +50,7 @@ public class GameManifest {
     private Map<String, Short> blockIdMap = Maps.newHashMap();
     private Map<String, WorldInfo> worlds = Maps.newHashMap();
     private List<NameVersion> modules = Lists.newArrayList();
+    private String chunkCompression;
 
     public GameManifest() {
     }
@@ -104,6 +105,18 @@ public void setBlockIdMap(Map<String, Short> blockIdMap) {
         this.blockIdMap = blockIdMap;
     }
 
+    /**
+     * @return name of the codec, with which the chunks of the world get compressed. null for games saved before
+     *         chunk compression was configurable.
+     */
+    public String getChunkCompression() {
+        return chunkCompression;
+    }
+
+    public void setChunkCompression(String chunkCompression) {
+        this.chunkCompression = chunkCompression;
+    }
+
     public WorldInfo getWorldInfo(String name) {
         return worlds.get(name);
     }
@@ -3,6 +3,7 @@
 package org.terasology.engine.logic.console.commands;
 
 import org.joml.Vector3i;
+import org.joml.Vector3ic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.engine.config.Config;
@@ -27,7 +28,11 @@
 import org.terasology.engine.network.NetworkSystem;
 import org.terasology.engine.persistence.StorageManager;
 import org.terasology.engine.registry.In;
+import org.terasology.engine.world.block.BlockRegion;
 import org.terasology.engine.world.chunks.ChunkProvider;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.chunks.localChunkProvider.LocalChunkProvider;
+import org.terasology.engine.world.generator.WorldGenerator;
 
 /**
  * Commands to administer a remote server
@@ -37,6 +42,7 @@
 public class ServerCommands extends BaseComponentSystem {
 
     private static final Logger logger = LoggerFactory.getLogger(ServerCommands.class);
+    private static final int PREGENERATION_VERTICAL_RADIUS = 4;
 
     @In
     private EntityManager entityManager;
@@ -59,6 +65,9 @@ public class ServerCommands extends BaseComponentSystem {
     @In
     private GameEngine gameEngine;
 
+    @In
+    private WorldGenerator worldGenerator;
+
     @Command(shortDescription = "Shutdown the server", runOnServer = true,
             requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
     public String shutdownServer(@Sender EntityRef sender) {
@@ -196,4 +205,28 @@ public String reloadChunk(@CommandParam("x") int x, @CommandParam("y") int y, @C
     public void purgeWorld() {
         chunkProvider.purgeWorld();
     }
+
+    @Command(shortDescription = "Generates and stores the chunks around the spawn",
+            helpText = "Generates all chunks within the configured pre-generation radius around the spawn, "
+                    + "using all processors, and stores them in the save game",
+            runOnServer = true,
+            requiredPermission = PermissionManager.SERVER_MANAGEMENT_PERMISSION)
+    public String pregenerateChunks() {
+        if (!(chunkProvider instanceof LocalChunkProvider)) {
+            return "Chunks can only be pre-generated by the server";
+        }
+        if (!systemConfig.writeSaveGamesEnabled.get()) {
+            return "Writing save games is disabled! Pre-generated chunks would not be stored";
+        }
+        LocalChunkProvider localChunkProvider = (LocalChunkProvider) chunkProvider;
+        if (localChunkProvider.isPregenerating()) {
+            return "Already pre-generating: " + localChunkProvider.getPregeneratedCount() + " of "
+                    + localChunkProvider.getPregenerationTotal() + " chunks done";
+        }
+        int radius = systemConfig.chunkPregenerationRadius.get();
+        Vector3ic spawnChunk = Chunks.toChunkPos(worldGenerator.getSpawnPosition(EntityRef.NULL), new Vector3i());
+        int count = localChunkProvider.pregenerate(
+                new BlockRegion(spawnChunk).expand(radius, PREGENERATION_VERTICAL_RADIUS, radius));
+        return "Pre-generating " + count + " chunks around " + spawnChunk;
+    }
 }
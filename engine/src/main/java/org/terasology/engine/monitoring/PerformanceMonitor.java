@@ -15,11 +15,15 @@
  */
 package org.terasology.engine.monitoring;
 
+import com.google.common.collect.Maps;
 import gnu.trove.map.TObjectDoubleMap;
 import org.terasology.engine.monitoring.impl.NullPerformanceMonitor;
 import org.terasology.engine.monitoring.impl.PerformanceMonitorImpl;
 import org.terasology.engine.monitoring.impl.PerformanceMonitorInternal;
 
+import java.util.Arrays;
+import java.util.Map;
+
 /**
  * Maintains a running average of execution times and memory allocated by different activities.
  * Activities call to denote when they start and stop.
@@ -33,6 +37,9 @@
 public final class PerformanceMonitor {
     private static PerformanceMonitorInternal instance;
 
+    private static final Map<String, Integer> activityIds = Maps.newHashMap();
+    private static volatile String[] activityNames = new String[0];
+
     static {
         instance = new NullPerformanceMonitor();
     }
@@ -82,6 +89,36 @@ public static Activity startActivity(String activityName) {
         return instance.startActivity(activityName);
     }
 
+    /**
+     * Assigns an id to the name of an activity, so code which starts the activity very often can refer to it by
+     * {@link #startActivity(int)} without passing the name around. Registering the same name twice returns the
+     * same id.
+     *
+     * @param activityName the name of the activity.
+     * @return the id of the activity, which stays valid while the engine runs.
+     */
+    public static synchronized int registerActivity(String activityName) {
+        Integer id = activityIds.get(activityName);
+        if (id == null) {
+            id = activityNames.length;
+            String[] names = Arrays.copyOf(activityNames, id + 1);
+            names[id] = activityName;
+            activityNames = names;
+            activityIds.put(activityName, id);
+        }
+        return id;
+    }
+
+    /**
+     * Indicates the start of an activity registered with {@link #registerActivity(String)}, otherwise like
+     * {@link #startActivity(String)}.
+     *
+     * @param activityId the id of the activity starting.
+     */
+    public static Activity startActivity(int activityId) {
+        return instance.startActivity(activityNames[activityId]);
+    }
+
     /**
      * Indicates the end of the last started activity.
      */
@@ -48,6 +48,7 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
     private final Activity activityInstance = new ActivityInstance();
 
     private final Deque<ActivityInfo> activityStack;
+    private final Deque<ActivityInfo> freeActivityInfos;
 
     private final List<TObjectLongMap<String>> executionData;
     private final List<TObjectLongMap<String>> allocationData;
@@ -72,6 +73,7 @@ public class PerformanceMonitorImpl implements PerformanceMonitorInternal {
 
     public PerformanceMonitorImpl() {
         activityStack  = Queues.newArrayDeque();
+        freeActivityInfos = Queues.newArrayDeque();
         executionData  = Lists.newLinkedList();
         allocationData = Lists.newLinkedList();
         currentExecutionData = new TObjectLongHashMap<>();
@@ -122,7 +124,8 @@ public Activity startActivity(String activityName) {
             return OFF_THREAD_ACTIVITY;
         }
 
-        ActivityInfo newActivity = new ActivityInfo(activityName).initialize();
+        ActivityInfo newActivity = freeActivityInfos.isEmpty() ? new ActivityInfo() : freeActivityInfos.pop();
+        newActivity.initialize(activityName);
 
         if (!activityStack.isEmpty()) {
             ActivityInfo currentActivity = activityStack.peek();
@@ -150,6 +153,8 @@ public void endActivity() {
         long totalMem = (oldActivity.startMem - endMem > 0) ? oldActivity.startMem - endMem + oldActivity.ownMem : oldActivity.ownMem;
         currentAllocationData.adjustOrPutValue(oldActivity.name, totalMem, totalMem);
 
+        freeActivityInfos.push(oldActivity);
+
         if (!activityStack.isEmpty()) {
             ActivityInfo currentActivity = activityStack.peek();
             currentActivity.resumeTime = endTime;
@@ -192,14 +197,13 @@ private class ActivityInfo {
         public long startMem;
         public long ownMem;
 
-         ActivityInfo(String activityName) {
+        public void initialize(String activityName) {
             this.name = activityName;
-        }
-
-        public ActivityInfo initialize() {
             this.startTime = timer.getRealTimeInMs();
+            this.resumeTime = 0;
+            this.ownTime = 0;
             this.startMem = Runtime.getRuntime().freeMemory();
-            return this;
+            this.ownMem = 0;
         }
     }
 
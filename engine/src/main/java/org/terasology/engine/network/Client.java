@@ -47,4 +47,11 @@ public interface Client extends ChunkRegionListener {
     boolean isLocal();
 
     void setViewDistanceMode(ViewDistance viewDistance);
+
+    /**
+     * @return the metrics of the connection to the client, or null if it has none, like a local client
+     */
+    default NetMetricSource getMetrics() {
+        return null;
+    }
 }
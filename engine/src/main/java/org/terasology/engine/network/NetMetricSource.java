@@ -42,4 +42,37 @@ public interface NetMetricSource {
      * @return The amount of bytes sent since last time this method was called
      */
     int getSentBytesSinceLastCall();
+
+    /**
+     * @return The amount of entities sent since last time this method was called which were already serialized for
+     * another client in the same net tick
+     */
+    int getSerializationCacheHitsSinceLastCall();
+
+    /**
+     * @return The amount of bytes of entity data which did not need to be serialized again since last time this method
+     * was called
+     */
+    int getSerializationBytesSavedSinceLastCall();
+
+    /**
+     * @return The size of the compressed frames sent so far, relative to their size before compression
+     */
+    float getCompressionRatio();
+
+    /**
+     * @return The time spent compressing frames so far in nanoseconds, per byte before compression
+     */
+    float getCompressionTimePerByte();
+
+    /**
+     * @return The amount of bytes allocated to encode each message sent since last time this method was called, on
+     * average. A client is sent one message every net tick.
+     */
+    float getAllocationPerMessageSinceLastCall();
+
+    /**
+     * @return The time spent building and sending messages in milliseconds, since last time this method was called
+     */
+    float getMessageBuildTimeSinceLastCall();
 }
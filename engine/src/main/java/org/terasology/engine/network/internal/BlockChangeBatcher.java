@@ -0,0 +1,141 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.protobuf.NetData;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects the block changes to send to a client during a net tick, grouped by chunk. Only the last change of each
+ * block is kept.
+ * <p>
+ * Chunks with at least {@value #MIN_BATCH_SIZE} changed blocks are sent as one batch instead of a
+ * {@link NetData.BlockChangeMessage} per block. A batch is a {@link NetData.BlockChangeBatch} with the position of
+ * the chunk, which run length encodes the new block ids of the whole chunk in the order of
+ * {@link org.terasology.engine.world.chunks.internal.ChunkSerializer}, with {@value #UNCHANGED} for unchanged blocks.
+ * Filling a region of a chunk therefore takes a few runs, however many blocks it has.
+ */
+public final class BlockChangeBatcher {
+    static final int MIN_BATCH_SIZE = 4;
+    static final int UNCHANGED = -1;
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockChangeBatcher.class);
+    private static final int BLOCKS_PER_CHUNK = Chunks.SIZE_X * Chunks.SIZE_Y * Chunks.SIZE_Z;
+
+    private final Map<Vector3i, TIntIntMap> changesByChunk = Maps.newLinkedHashMap();
+
+    /**
+     * Records the new block at a position, replacing any change of it recorded before.
+     */
+    public synchronized void add(Vector3ic pos, int newBlock) {
+        Vector3i chunkPos = Chunks.toChunkPos(pos, new Vector3i());
+        TIntIntMap changes = changesByChunk.computeIfAbsent(chunkPos, key -> new TIntIntHashMap());
+        changes.put(toIndex(Chunks.toRelative(pos, new Vector3i())), newBlock);
+    }
+
+    public synchronized boolean isEmpty() {
+        return changesByChunk.isEmpty();
+    }
+
+    /**
+     * Writes the recorded changes to the message and forgets them.
+     */
+    public synchronized void writeTo(NetData.NetMessage.Builder message) {
+        Vector3i worldPos = new Vector3i();
+        for (Map.Entry<Vector3i, TIntIntMap> entry : changesByChunk.entrySet()) {
+            Vector3i chunkPos = entry.getKey();
+            TIntIntMap changes = entry.getValue();
+            if (changes.size() >= MIN_BATCH_SIZE) {
+                message.addBlockChangeBatch(encode(chunkPos, changes));
+            } else {
+                for (int index : changes.keys()) {
+                    toWorldPos(chunkPos, index, worldPos);
+                    message.addBlockChange(NetData.BlockChangeMessage.newBuilder()
+                            .setPos(NetMessageUtil.convert(worldPos))
+                            .setNewBlock(changes.get(index)));
+                }
+            }
+        }
+        changesByChunk.clear();
+    }
+
+    /**
+     * Calls the consumer with the world position and new block id of every change in the batch.
+     */
+    public static void forEachChange(NetData.BlockChangeBatch batch, BiConsumer<Vector3i, Integer> consumer) {
+        Vector3i chunkPos = new Vector3i(batch.getX(), batch.getY(), batch.getZ());
+        if (batch.getRunLengthsCount() != batch.getBlockIdsCount()) {
+            logger.error("Received block change batch for {} with invalid runs", chunkPos);
+            return;
+        }
+        int index = 0;
+        for (int run = 0; run < batch.getRunLengthsCount(); run++) {
+            int length = batch.getRunLengths(run);
+            int value = batch.getBlockIds(run);
+            if (length < 0 || index + length > BLOCKS_PER_CHUNK) {
+                logger.error("Received block change batch for {} with invalid runs", chunkPos);
+                return;
+            }
+            if (value != UNCHANGED) {
+                for (int i = index; i < index + length; i++) {
+                    consumer.accept(toWorldPos(chunkPos, i, new Vector3i()), value);
+                }
+            }
+            index += length;
+        }
+    }
+
+    static NetData.BlockChangeBatch encode(Vector3ic chunkPos, TIntIntMap changes) {
+        int[] indices = changes.keys();
+        Arrays.sort(indices);
+        NetData.BlockChangeBatch.Builder batch = NetData.BlockChangeBatch.newBuilder()
+                .setX(chunkPos.x()).setY(chunkPos.y()).setZ(chunkPos.z());
+        int next = 0;
+        int runValue = UNCHANGED;
+        int runLength = 0;
+        for (int index : indices) {
+            int value = changes.get(index);
+            if (index > next || value != runValue) {
+                if (runLength > 0) {
+                    batch.addRunLengths(runLength).addBlockIds(runValue);
+                }
+                if (index > next) {
+                    batch.addRunLengths(index - next).addBlockIds(UNCHANGED);
+                }
+                runValue = value;
+                runLength = 0;
+            }
+            runLength++;
+            next = index + 1;
+        }
+        if (runLength > 0) {
+            batch.addRunLengths(runLength).addBlockIds(runValue);
+        }
+        return batch.build();
+    }
+
+    /**
+     * @return the index of a position within a chunk, y first, then z, then x, like ChunkSerializer encodes blocks
+     */
+    private static int toIndex(Vector3ic relativePos) {
+        return (relativePos.y() * Chunks.SIZE_Z + relativePos.z()) * Chunks.SIZE_X + relativePos.x();
+    }
+
+    private static Vector3i toWorldPos(Vector3ic chunkPos, int index, Vector3i dest) {
+        int x = index % Chunks.SIZE_X;
+        int z = (index / Chunks.SIZE_X) % Chunks.SIZE_Z;
+        int y = index / (Chunks.SIZE_X * Chunks.SIZE_Z);
+        return dest.set(chunkPos.x() * Chunks.SIZE_X + x, chunkPos.y() * Chunks.SIZE_Y + y, chunkPos.z() * Chunks.SIZE_Z + z);
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.WorldChangeListener;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.Chunks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the encoded form of recently sent chunks, so a chunk sent to several clients is only encoded once. The block
+ * data in the encoded chunks is run length encoded, and the stream to the client is compressed on top with the
+ * {@link NetworkCompression} negotiated for its connection, if any.
+ * <p>
+ * The chunks are kept serialized, so {@link NetMessageEncoder} can add them to the messages of every client without
+ * copying them. The buffers are not reference counted, a chunk dropped from the cache stays valid for the messages
+ * which still hold it.
+ * <p>
+ * A chunk is encoded again once a block in it changed, or if another chunk got loaded at its position.
+ */
+final class ChunkPayloadCache implements WorldChangeListener {
+    static final int MAX_CACHED_CHUNKS = 512;
+
+    private final Map<Vector3i, CachedChunk> cachedChunks = new LinkedHashMap<Vector3i, CachedChunk>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Vector3i, CachedChunk> eldest) {
+            return size() > MAX_CACHED_CHUNKS;
+        }
+    };
+
+    /**
+     * @return the serialized {@link org.terasology.protobuf.EntityData.ChunkStore} of the chunk, shared with every other
+     * client it is sent to
+     */
+    synchronized ByteBuf getEncodedChunk(Chunk chunk) {
+        Vector3i pos = new Vector3i(chunk.getPosition());
+        CachedChunk cachedChunk = cachedChunks.get(pos);
+        if (cachedChunk == null || cachedChunk.chunk != chunk) {
+            ByteBuf encoded = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(chunk.encode().build().toByteArray()));
+            cachedChunk = new CachedChunk(chunk, encoded);
+            cachedChunks.put(pos, cachedChunk);
+        }
+        // every client reads it with its own indices
+        return cachedChunk.encoded.duplicate();
+    }
+
+    synchronized void clear() {
+        cachedChunks.clear();
+    }
+
+    @Override
+    public synchronized void onBlockChanged(Vector3ic pos, Block newBlock, Block originalBlock) {
+        cachedChunks.remove(Chunks.toChunkPos(pos, new Vector3i()));
+    }
+
+    @Override
+    public synchronized void onExtraDataChanged(int i, Vector3ic pos, int newData, int oldData) {
+        cachedChunks.remove(Chunks.toChunkPos(pos, new Vector3i()));
+    }
+
+    private static final class CachedChunk {
+        private final Chunk chunk;
+        private final ByteBuf encoded;
+
+        CachedChunk(Chunk chunk, ByteBuf encoded) {
+            this.chunk = chunk;
+            this.encoded = encoded;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.common.collect.Maps;
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.chunks.Chunk;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Orders the chunks waiting to be sent to a client, nearest to its character first. Chunks in the direction the
+ * character is looking count as up to {@value #BEHIND_DISTANCE_FACTOR} times nearer than those behind it.
+ * <p>
+ * The priorities are only computed again when the character moves to another chunk or turns around noticeably.
+ * Chunks which become irrelevant before they were sent are dropped.
+ */
+final class ChunkSendScheduler {
+    static final float BEHIND_DISTANCE_FACTOR = 2f;
+    /**
+     * The cosine of the angle the character needs to turn by before the priorities are computed again.
+     */
+    private static final float TURN_THRESHOLD = 0.9f;
+
+    private final Map<Vector3ic, Chunk> pendingChunks = Maps.newHashMap();
+    private final PriorityQueue<PendingChunk> queue = new PriorityQueue<>(Comparator.comparingDouble(chunk -> chunk.priority));
+    private final Vector3i center = new Vector3i();
+    private final Vector3f viewDirection = new Vector3f();
+
+    /**
+     * Adds a chunk to send, or replaces the chunk waiting to be sent at its position.
+     */
+    void add(Vector3ic pos, Chunk chunk) {
+        Vector3i key = new Vector3i(pos);
+        if (pendingChunks.put(key, chunk) == null) {
+            queue.add(new PendingChunk(key, getPriority(key)));
+        }
+    }
+
+    /**
+     * @return whether a chunk was waiting to be sent at the position
+     */
+    boolean remove(Vector3ic pos) {
+        boolean removed = pendingChunks.remove(pos) != null;
+        // removed entries are skipped once they reach the head of the queue, unless there are too many of them
+        if (removed && queue.size() > 2 * pendingChunks.size() + 16) {
+            rebuildQueue();
+        }
+        return removed;
+    }
+
+    boolean isEmpty() {
+        return pendingChunks.isEmpty();
+    }
+
+    int size() {
+        return pendingChunks.size();
+    }
+
+    /**
+     * Updates the position and view direction of the character the chunks are sent to.
+     *
+     * @param centerChunk the chunk the character is in
+     * @param direction the direction the character is looking in, may be zero if unknown
+     */
+    void setViewpoint(Vector3ic centerChunk, Vector3fc direction) {
+        boolean moved = !center.equals(centerChunk);
+        boolean turned = direction.lengthSquared() > 0
+                && (viewDirection.lengthSquared() == 0 || viewDirection.dot(direction) < TURN_THRESHOLD * direction.length());
+        if (moved || turned) {
+            center.set(centerChunk);
+            if (direction.lengthSquared() > 0) {
+                viewDirection.set(direction).normalize();
+            }
+            rebuildQueue();
+        }
+    }
+
+    /**
+     * @return the position of the chunk to send next, or null if there is none
+     */
+    Vector3ic peek() {
+        PendingChunk next = queue.peek();
+        while (next != null && !pendingChunks.containsKey(next.pos)) {
+            queue.poll();
+            next = queue.peek();
+        }
+        return next != null ? next.pos : null;
+    }
+
+    /**
+     * Takes the chunk to send next out of the scheduler.
+     *
+     * @return the chunk, or null if there is none
+     */
+    Chunk poll() {
+        Vector3ic pos = peek();
+        if (pos == null) {
+            return null;
+        }
+        queue.poll();
+        return pendingChunks.remove(pos);
+    }
+
+    float getPriority(Vector3ic pos) {
+        float dx = pos.x() - center.x();
+        float dy = pos.y() - center.y();
+        float dz = pos.z() - center.z();
+        float distanceSquared = dx * dx + dy * dy + dz * dz;
+        if (distanceSquared == 0 || viewDirection.lengthSquared() == 0) {
+            return distanceSquared;
+        }
+        float cos = (dx * viewDirection.x() + dy * viewDirection.y() + dz * viewDirection.z()) / (float) Math.sqrt(distanceSquared);
+        // 1 straight ahead, BEHIND_DISTANCE_FACTOR straight behind
+        float factor = 1 + (BEHIND_DISTANCE_FACTOR - 1) * (1 - cos) / 2;
+        return distanceSquared * factor * factor;
+    }
+
+    private void rebuildQueue() {
+        queue.clear();
+        for (Vector3ic pos : pendingChunks.keySet()) {
+            queue.add(new PendingChunk(pos, getPriority(pos)));
+        }
+    }
+
+    private static final class PendingChunk {
+        private final Vector3ic pos;
+        private final float priority;
+
+        PendingChunk(Vector3ic pos, float priority) {
+            this.pos = pos;
+            this.priority = priority;
+        }
+    }
+}
@@ -63,6 +63,10 @@ public void channelActive(ChannelHandlerContext ctx) throws Exception {
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         NetData.NetMessage message = (NetData.NetMessage) msg;
+        NetworkCompression compression = HandshakeCommon.getCompression(message);
+        if (compression != null) {
+            logger.info("Server compresses data with {}", compression);
+        }
         if (message.hasHandshakeHello()) {
             processServerHello(message.getHandshakeHello(), ctx);
         } else if (message.hasProvisionIdentity()) {
@@ -229,11 +233,12 @@ private void sendCertificate(NetData.HandshakeHello helloMessage, ChannelHandler
         byte[] dataToSign = Bytes.concat(helloMessage.toByteArray(), clientHello.toByteArray());
         byte[] signature = identity.getPlayerPrivateCertificate().sign(dataToSign);
 
-        ctx.channel().writeAndFlush(NetData.NetMessage.newBuilder()
+        NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder()
                 .setHandshakeHello(clientHello)
                 .setHandshakeVerification(NetData.HandshakeVerification.newBuilder()
-                        .setSignature(ByteString.copyFrom(signature)))
-                .build());
+                        .setSignature(ByteString.copyFrom(signature)));
+        requestCompression(message);
+        ctx.channel().writeAndFlush(message.build());
     }
 
     /**
@@ -249,13 +254,31 @@ private void requestIdentity(ChannelHandlerContext ctx) {
 
         masterSecret = HandshakeCommon.generateMasterSecret(preMasterSecret, clientRandom, serverRandom);
 
-        ctx.channel().writeAndFlush(NetData.NetMessage.newBuilder()
+        NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder()
                 .setNewIdentityRequest(NetData.NewIdentityRequest.newBuilder()
                         .setPreMasterSecret(ByteString.copyFrom(encryptedPreMasterSecret))
-                        .setRandom(ByteString.copyFrom(clientRandom)))
-                .build());
+                        .setRandom(ByteString.copyFrom(clientRandom)));
+        requestCompression(message);
+        ctx.channel().writeAndFlush(message.build());
         requestedCertificate = true;
     }
 
+    /**
+     * Asks the server for the compression preferred in the network config, if there is one.
+     * @param message The message finishing the handshake.
+     */
+    private void requestCompression(NetData.NetMessage.Builder message) {
+        String preferredCompression = config.getNetwork().getPreferredCompression();
+        if (preferredCompression == null || preferredCompression.isEmpty()) {
+            return;
+        }
+        NetworkCompression compression = NetworkCompression.parse(preferredCompression);
+        if (compression != null) {
+            HandshakeCommon.setCompression(message, compression);
+        } else {
+            logger.warn("Unknown network compression '{}', leaving it to the server", preferredCompression);
+        }
+    }
+
 
 }
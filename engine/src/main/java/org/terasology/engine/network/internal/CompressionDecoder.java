@@ -0,0 +1,96 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.MessageToMessageDecoder;
+import io.netty.handler.codec.compression.Snappy;
+
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decompresses the frames written by {@link CompressionEncoder}, each with the codec named by its first byte.
+ */
+public class CompressionDecoder extends MessageToMessageDecoder<ByteBuf> {
+    public static final String NAME = "compressionDecoder";
+
+    private Inflater inflater;
+    private final Snappy snappy = new Snappy();
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        byte id = in.readByte();
+        NetworkCompression.Type type = NetworkCompression.Type.fromId(id);
+        if (type == null) {
+            throw new CorruptedFrameException("Received frame with unknown compression " + id);
+        }
+        switch (type) {
+            case ZLIB:
+                out.add(inflate(ctx, in));
+                break;
+            case FAST:
+                ByteBuf decompressed = ctx.alloc().buffer(in.readableBytes() * 2);
+                try {
+                    snappy.decode(in, decompressed);
+                } catch (RuntimeException e) {
+                    decompressed.release();
+                    throw e;
+                } finally {
+                    snappy.reset();
+                }
+                out.add(decompressed);
+                break;
+            default:
+                out.add(in.retainedSlice());
+                break;
+        }
+    }
+
+    private ByteBuf inflate(ChannelHandlerContext ctx, ByteBuf in) throws DataFormatException {
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        int length = in.readableBytes();
+        if (in.hasArray()) {
+            inflater.setInput(in.array(), in.arrayOffset() + in.readerIndex(), length);
+        } else {
+            byte[] input = new byte[length];
+            in.getBytes(in.readerIndex(), input);
+            inflater.setInput(input);
+        }
+        in.skipBytes(length);
+
+        ByteBuf decompressed = ctx.alloc().heapBuffer(length * 4);
+        try {
+            while (!inflater.finished()) {
+                decompressed.ensureWritable(length);
+                int writable = decompressed.writableBytes();
+                int written = inflater.inflate(decompressed.array(), decompressed.arrayOffset() + decompressed.writerIndex(), writable);
+                decompressed.writerIndex(decompressed.writerIndex() + written);
+                if (written < writable && inflater.needsInput()) {
+                    break;
+                }
+                if (written == 0 && inflater.needsDictionary()) {
+                    throw new CorruptedFrameException("Received zlib frame which needs a dictionary");
+                }
+            }
+        } catch (DataFormatException | RuntimeException e) {
+            decompressed.release();
+            throw e;
+        }
+        return decompressed;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        if (inflater != null) {
+            inflater.end();
+            inflater = null;
+        }
+        super.handlerRemoved(ctx);
+    }
+}
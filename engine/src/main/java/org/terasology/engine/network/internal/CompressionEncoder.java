@@ -0,0 +1,155 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.compression.Snappy;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses each frame sent to a client with the {@link NetworkCompression} negotiated for the connection. Every
+ * frame starts with the id of the codec used for it, so the codec can change between frames and
+ * {@link CompressionDecoder} needs no further coordination.
+ * <p>
+ * Frames smaller than {@value #MIN_COMPRESSED_FRAME_SIZE} bytes are sent uncompressed, they don't get any smaller.
+ * Zlib frames are flushed parts of one deflate stream over the whole connection, so later frames profit from the
+ * data sent before. Fast frames are compressed on their own, and sent uncompressed when that didn't make them smaller.
+ * <p>
+ * The deflater reads the parts of composite frames, as written by {@link NetMessageEncoder}, one after another without
+ * copying them together first.
+ */
+public class CompressionEncoder extends MessageToByteEncoder<ByteBuf> {
+    public static final String NAME = "compressionEncoder";
+    static final int MIN_COMPRESSED_FRAME_SIZE = 64;
+
+    private NetworkCompression compression;
+    private Deflater deflater;
+    private final Snappy snappy = new Snappy();
+    private MetricRecordingHandler metrics;
+
+    public CompressionEncoder(NetworkCompression compression) {
+        super(ByteBuf.class);
+        this.compression = compression;
+    }
+
+    public NetworkCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Changes the codec for the frames written after this call. Must be called from the event loop of the channel.
+     */
+    public void setCompression(NetworkCompression compression) {
+        this.compression = compression;
+        if (deflater != null && compression.getType() == NetworkCompression.Type.ZLIB) {
+            deflater.setLevel(compression.getLevel());
+        }
+    }
+
+    @Override
+    protected ByteBuf allocateBuffer(ChannelHandlerContext ctx, ByteBuf msg, boolean preferDirect) {
+        // the deflater works on arrays
+        int capacity = msg.readableBytes() + 16;
+        MetricRecordingHandler metricRecordingHandler = getMetrics(ctx);
+        if (metricRecordingHandler != null) {
+            metricRecordingHandler.recordAllocation(capacity);
+        }
+        return ctx.alloc().heapBuffer(capacity);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, ByteBuf in, ByteBuf out) {
+        int length = in.readableBytes();
+        if (length < MIN_COMPRESSED_FRAME_SIZE || compression.getType() == NetworkCompression.Type.NONE) {
+            writeUncompressed(in, out);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        int startIndex = out.writerIndex();
+        if (compression.getType() == NetworkCompression.Type.ZLIB) {
+            out.writeByte(NetworkCompression.Type.ZLIB.getId());
+            deflate(in, out);
+        } else {
+            int readerIndex = in.readerIndex();
+            out.writeByte(NetworkCompression.Type.FAST.getId());
+            snappy.encode(in, out, length);
+            snappy.reset();
+            in.readerIndex(readerIndex + length);
+            if (out.writerIndex() - startIndex > length) {
+                out.writerIndex(startIndex);
+                in.readerIndex(readerIndex);
+                writeUncompressed(in, out);
+            }
+        }
+        recordCompression(ctx, length, out.writerIndex() - startIndex, System.nanoTime() - startTime);
+    }
+
+    private void writeUncompressed(ByteBuf in, ByteBuf out) {
+        out.writeByte(NetworkCompression.Type.NONE.getId());
+        out.writeBytes(in);
+    }
+
+    private void deflate(ByteBuf in, ByteBuf out) {
+        if (deflater == null) {
+            deflater = new Deflater(compression.getLevel());
+        }
+        int length = in.readableBytes();
+        for (ByteBuffer part : in.nioBuffers()) {
+            if (part.hasArray()) {
+                deflater.setInput(part.array(), part.arrayOffset() + part.position(), part.remaining());
+            } else {
+                byte[] input = new byte[part.remaining()];
+                part.get(input);
+                deflater.setInput(input);
+            }
+            while (!deflater.needsInput()) {
+                deflateInto(out, length, Deflater.NO_FLUSH);
+            }
+        }
+        in.skipBytes(length);
+
+        boolean filled;
+        do {
+            filled = deflateInto(out, length, Deflater.SYNC_FLUSH);
+        } while (filled);
+    }
+
+    /**
+     * @return whether the output filled all the space there was, so there may be more
+     */
+    private boolean deflateInto(ByteBuf out, int length, int flush) {
+        out.ensureWritable(Math.max(64, length / 2));
+        int writable = out.writableBytes();
+        int written = deflater.deflate(out.array(), out.arrayOffset() + out.writerIndex(), writable, flush);
+        out.writerIndex(out.writerIndex() + written);
+        return written == writable;
+    }
+
+    private void recordCompression(ChannelHandlerContext ctx, int uncompressedBytes, int compressedBytes, long nanos) {
+        MetricRecordingHandler metricRecordingHandler = getMetrics(ctx);
+        if (metricRecordingHandler != null) {
+            metricRecordingHandler.recordCompression(uncompressedBytes, compressedBytes, nanos);
+        }
+    }
+
+    private MetricRecordingHandler getMetrics(ChannelHandlerContext ctx) {
+        if (metrics == null) {
+            metrics = (MetricRecordingHandler) ctx.pipeline().get(MetricRecordingHandler.NAME);
+        }
+        return metrics;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+        super.handlerRemoved(ctx);
+    }
+}
@@ -0,0 +1,131 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.terasology.engine.entitySystem.Component;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.network.serialization.ServerComponentFieldCheck;
+import org.terasology.engine.persistence.serializers.NetworkEntitySerializer;
+import org.terasology.protobuf.EntityData;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the entities serialized for clients which don't own them during one net tick, so an entity sent to several
+ * clients is only serialized once.
+ * <p>
+ * Every client which doesn't own an entity gets the same fields of it, so the serialized entity only depends on the
+ * components to send. Entities sent to their owner are not cached, as there is only one owner.
+ * <p>
+ * Entities can change between the messages of two clients, e.g. by the messages received from the first one, so the
+ * network system evicts an entity whenever its replicated components change.
+ */
+final class EntityDeltaCache {
+    /**
+     * Stands for a delta without any fields, which is not sent.
+     */
+    private static final EntityData.PackedEntity NO_DELTA = EntityData.PackedEntity.getDefaultInstance();
+
+    private final TIntObjectMap<EntityData.PackedEntity> initialEntities = new TIntObjectHashMap<>();
+    private final TIntObjectMap<Map<DeltaKey, EntityData.PackedEntity>> deltas = new TIntObjectHashMap<>();
+
+    /**
+     * Forgets all serialized entities. Called at the start of every net tick, as the entities may have changed since.
+     */
+    void clear() {
+        initialEntities.clear();
+        deltas.clear();
+    }
+
+    /**
+     * Forgets the serialized entity with the given net id, as it has changed.
+     */
+    void remove(int netId) {
+        initialEntities.remove(netId);
+        deltas.remove(netId);
+    }
+
+    /**
+     * @return the whole entity, serialized for a client which doesn't own it
+     */
+    EntityData.PackedEntity getInitialEntity(int netId, EntityRef entity, NetworkEntitySerializer serializer,
+                                             MetricRecordingHandler metrics) {
+        EntityData.PackedEntity entityData = initialEntities.get(netId);
+        if (entityData != null) {
+            recordHit(entityData, metrics);
+            return entityData;
+        }
+        entityData = serializer.serialize(entity, true, new ServerComponentFieldCheck(false, true)).build();
+        initialEntities.put(netId, entityData);
+        return entityData;
+    }
+
+    /**
+     * @return the changes of the entity, serialized for a client which doesn't own it, or null if there are none
+     */
+    EntityData.PackedEntity getEntityDelta(int netId, EntityRef entity, Set<Class<? extends Component>> added,
+                                           Set<Class<? extends Component>> changed, Set<Class<? extends Component>> removed,
+                                           NetworkEntitySerializer serializer, MetricRecordingHandler metrics) {
+        Map<DeltaKey, EntityData.PackedEntity> entityDeltas = deltas.get(netId);
+        if (entityDeltas == null) {
+            entityDeltas = Maps.newHashMap();
+            deltas.put(netId, entityDeltas);
+        }
+        EntityData.PackedEntity entityData = entityDeltas.get(new DeltaKey(added, changed, removed));
+        if (entityData != null) {
+            if (entityData == NO_DELTA) {
+                return null;
+            }
+            recordHit(entityData, metrics);
+            return entityData;
+        }
+        entityData = serializer.serialize(entity, added, changed, removed, new ServerComponentFieldCheck(false, false));
+        // the sets are views of the pending changes of a client, which get cleared once sent
+        entityDeltas.put(new DeltaKey(ImmutableSet.copyOf(added), ImmutableSet.copyOf(changed), ImmutableSet.copyOf(removed)),
+                entityData != null ? entityData : NO_DELTA);
+        return entityData;
+    }
+
+    private static void recordHit(EntityData.PackedEntity entityData, MetricRecordingHandler metrics) {
+        if (metrics != null) {
+            metrics.recordSerializationCacheHit(entityData.getSerializedSize());
+        }
+    }
+
+    private static final class DeltaKey {
+        private final Set<Class<? extends Component>> added;
+        private final Set<Class<? extends Component>> changed;
+        private final Set<Class<? extends Component>> removed;
+
+        DeltaKey(Set<Class<? extends Component>> added, Set<Class<? extends Component>> changed,
+                 Set<Class<? extends Component>> removed) {
+            this.added = added;
+            this.changed = changed;
+            this.removed = removed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o instanceof DeltaKey) {
+                DeltaKey other = (DeltaKey) o;
+                return Objects.equal(added, other.added) && Objects.equal(changed, other.changed)
+                        && Objects.equal(removed, other.removed);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(added, changed, removed);
+        }
+    }
+}
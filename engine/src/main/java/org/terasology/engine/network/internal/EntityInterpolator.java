@@ -0,0 +1,92 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.common.collect.Maps;
+import org.joml.Quaternionf;
+import org.joml.Vector3f;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.characters.AliveCharacterComponent;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.engine.logic.location.LocationComponent;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Shows the entities the client doesn't own moving smoothly between the locations the server sent, see
+ * {@link EntitySnapshotBuffer}. Their {@link LocationComponent} is set to the interpolated location every frame, and
+ * the velocity of their {@link CharacterMovementComponent} follows it.
+ * <p>
+ * Living characters are left out, they are moved by the
+ * {@link org.terasology.engine.logic.characters.CharacterStateEvent}s they send instead.
+ */
+final class EntityInterpolator {
+    private final Map<EntityRef, EntitySnapshotBuffer> buffers = Maps.newHashMap();
+
+    /**
+     * Adds the location the server just sent for the entity, with the velocity of its
+     * {@link CharacterMovementComponent} if the server sent that too.
+     *
+     * @param serverTime the time of the server when it sent the location
+     * @param movementReceived whether the server sent the {@link CharacterMovementComponent} along with the location;
+     *         otherwise the velocity of the entity is derived from its previous location
+     */
+    void record(EntityRef entity, long serverTime, boolean movementReceived) {
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location == null || entity.hasComponent(AliveCharacterComponent.class) && entity.hasComponent(CharacterMovementComponent.class)) {
+            buffers.remove(entity);
+            return;
+        }
+        CharacterMovementComponent movement = movementReceived ? entity.getComponent(CharacterMovementComponent.class) : null;
+        buffers.computeIfAbsent(entity, key -> new EntitySnapshotBuffer())
+                .add(serverTime, location.getLocalPosition(), location.getLocalRotation(),
+                        movement != null ? movement.getVelocity() : null);
+    }
+
+    void remove(EntityRef entity) {
+        buffers.remove(entity);
+    }
+
+    void clear() {
+        buffers.clear();
+    }
+
+    int size() {
+        return buffers.size();
+    }
+
+    /**
+     * Moves every entity to where it is shown at the time.
+     *
+     * @param time the current game time, which follows the time of the server
+     */
+    void apply(long time) {
+        Vector3f position = new Vector3f();
+        Quaternionf rotation = new Quaternionf();
+        Vector3f velocity = new Vector3f();
+        Iterator<Map.Entry<EntityRef, EntitySnapshotBuffer>> iterator = buffers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<EntityRef, EntitySnapshotBuffer> entry = iterator.next();
+            EntityRef entity = entry.getKey();
+            LocationComponent location = entity.getComponent(LocationComponent.class);
+            if (location == null) {
+                iterator.remove();
+                continue;
+            }
+            if (!entry.getValue().sample(time, position, rotation, velocity)) {
+                continue;
+            }
+            if (!position.equals(location.getLocalPosition()) || !rotation.equals(location.getLocalRotation())) {
+                location.setLocalPosition(position);
+                location.setLocalRotation(rotation);
+                entity.saveComponent(location);
+            }
+            CharacterMovementComponent movement = entity.getComponent(CharacterMovementComponent.class);
+            if (movement != null && !velocity.equals(movement.getVelocity())) {
+                movement.setVelocity(velocity);
+                entity.saveComponent(movement);
+            }
+        }
+    }
+}
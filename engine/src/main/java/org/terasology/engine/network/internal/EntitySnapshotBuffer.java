@@ -0,0 +1,134 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import org.joml.Quaternionf;
+import org.joml.Quaternionfc;
+import org.joml.Vector3f;
+import org.joml.Vector3fc;
+import org.terasology.engine.utilities.collection.CircularBuffer;
+
+/**
+ * The last locations of a remote entity received from the server, with the server time they belong to. The entity is
+ * shown a little in the past, between two of them, so it moves smoothly however often the server sends updates.
+ * <p>
+ * The delay follows the time between updates, so entities the server updates less often are delayed further. When
+ * updates stop coming, the entity keeps moving with its last velocity for at most {@value #MAX_EXTRAPOLATION} ms and
+ * then returns to the last location received, which is where the server stopped sending it because it stood still. A
+ * jump further than {@value #TELEPORT_DISTANCE} blocks is shown at once.
+ */
+public class EntitySnapshotBuffer {
+    public static final long MIN_INTERPOLATION_DELAY = 100;
+    public static final long MAX_EXTRAPOLATION = 250;
+    static final float TELEPORT_DISTANCE = 8.0f;
+    static final int CAPACITY = 16;
+
+    private static final float NET_TICK = 50;
+
+    private final CircularBuffer<Snapshot> snapshots = CircularBuffer.create(CAPACITY);
+    private float averageInterval = NET_TICK;
+
+    /**
+     * Adds the location of the entity at a server time. Snapshots older than the last one are ignored.
+     *
+     * @param velocity the velocity in blocks per second, or null to derive it from the previous location
+     */
+    public void add(long time, Vector3fc position, Quaternionfc rotation, Vector3fc velocity) {
+        if (!snapshots.isEmpty()) {
+            Snapshot last = snapshots.getLast();
+            if (time <= last.time) {
+                return;
+            }
+            if (last.position.distanceSquared(position) > TELEPORT_DISTANCE * TELEPORT_DISTANCE) {
+                snapshots.clear();
+            } else {
+                averageInterval = 0.8f * averageInterval + 0.2f * Math.min(time - last.time, 1000);
+            }
+        }
+        Vector3f snapshotVelocity;
+        if (velocity != null) {
+            snapshotVelocity = new Vector3f(velocity);
+        } else if (!snapshots.isEmpty()) {
+            Snapshot last = snapshots.getLast();
+            snapshotVelocity = new Vector3f(position).sub(last.position).mul(1000.0f / (time - last.time));
+        } else {
+            snapshotVelocity = new Vector3f();
+        }
+        snapshots.add(new Snapshot(time, new Vector3f(position), new Quaternionf(rotation), snapshotVelocity));
+    }
+
+    /**
+     * @return how far in the past the entity is shown, in ms
+     */
+    public long getDelay() {
+        return Math.max(MIN_INTERPOLATION_DELAY, Math.round(averageInterval + NET_TICK));
+    }
+
+    /**
+     * Determines where the entity is shown at a time, which is {@link #getDelay()} after the server time of that
+     * location.
+     *
+     * @return whether there was any snapshot to determine the location from
+     */
+    public boolean sample(long time, Vector3f position, Quaternionf rotation, Vector3f velocity) {
+        if (snapshots.isEmpty()) {
+            return false;
+        }
+        long renderTime = time - getDelay();
+        Snapshot previous = null;
+        Snapshot next = null;
+        for (Snapshot snapshot : snapshots) {
+            if (snapshot.time <= renderTime) {
+                previous = snapshot;
+            } else {
+                next = snapshot;
+                break;
+            }
+        }
+
+        if (previous == null) {
+            position.set(next.position);
+            rotation.set(next.rotation);
+            velocity.set(next.velocity);
+        } else if (next != null) {
+            float t = (float) (renderTime - previous.time) / (next.time - previous.time);
+            previous.position.lerp(next.position, t, position);
+            previous.rotation.nlerp(next.rotation, t, rotation);
+            previous.velocity.lerp(next.velocity, t, velocity);
+        } else {
+            // moves on with the last velocity for a while, then goes back to the last location as smoothly
+            long elapsed = renderTime - previous.time;
+            long extrapolated = elapsed <= MAX_EXTRAPOLATION ? elapsed : Math.max(0, 2 * MAX_EXTRAPOLATION - elapsed);
+            previous.velocity.mulAdd(extrapolated / 1000.0f, previous.position, position);
+            rotation.set(previous.rotation);
+            if (elapsed < MAX_EXTRAPOLATION) {
+                velocity.set(previous.velocity);
+            } else {
+                velocity.zero();
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    public void clear() {
+        snapshots.clear();
+    }
+
+    private static final class Snapshot {
+        private final long time;
+        private final Vector3f position;
+        private final Quaternionf rotation;
+        private final Vector3f velocity;
+
+        Snapshot(long time, Vector3f position, Quaternionf rotation, Vector3f velocity) {
+            this.time = time;
+            this.position = position;
+            this.rotation = rotation;
+            this.velocity = velocity;
+        }
+    }
+}
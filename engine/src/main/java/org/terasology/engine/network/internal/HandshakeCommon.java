@@ -26,7 +26,6 @@
  * Common methods for both server and client ends of the authentication handshake
  */
 public final class HandshakeCommon {
-
     private HandshakeCommon() {
     }
 
@@ -65,4 +64,25 @@ public static SecretKeySpec generateSymmetricKey(byte[] masterSecret, byte[] cli
     public static byte[] getSignatureData(NetData.HandshakeHello serverHello, NetData.HandshakeHello clientHello) {
         return Bytes.concat(serverHello.toByteArray(), clientHello.toByteArray());
     }
+
+    /**
+     * Adds the compression to a handshake message
+     *
+     * @param message
+     * @param compression
+     */
+    public static void setCompression(NetData.NetMessage.Builder message, NetworkCompression compression) {
+        message.setCompression(compression.toString());
+    }
+
+    /**
+     * @param message
+     * @return the compression in a handshake message, or null if it has none or it is unknown
+     */
+    public static NetworkCompression getCompression(NetData.NetMessage message) {
+        if (!message.hasCompression()) {
+            return null;
+        }
+        return NetworkCompression.parse(message.getCompression());
+    }
 }
@@ -0,0 +1,174 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import gnu.trove.iterator.TIntIterator;
+import gnu.trove.set.TIntSet;
+import gnu.trove.set.hash.TIntHashSet;
+import org.joml.RoundingMode;
+import org.joml.Vector3f;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.logic.location.LocationComponent;
+import org.terasology.engine.network.Client;
+import org.terasology.engine.world.block.BlockComponent;
+import org.terasology.engine.world.chunks.Chunks;
+
+import java.util.Collection;
+
+/**
+ * Decides which of the net entities replicated with {@link org.terasology.engine.network.NetworkComponent.ReplicateMode#RELEVANT}
+ * each client is interested in, and how often it should receive their updates.
+ * <p>
+ * An entity is of interest to a client if the client owns it, if it has no position in the world, or if the chunk it
+ * is in has been sent to the client. Entities entering and leaving the interest of a client are checked every
+ * {@value #UPDATE_INTERVAL_TICKS} net ticks, so the position of every entity is looked up once per pass no matter how
+ * many clients there are.
+ * <p>
+ * Entities further away from the character of a client get their updates less often, see
+ * {@link #getUpdateInterval(Vector3ic, Vector3ic)}.
+ */
+final class InterestManager {
+    static final int UPDATE_INTERVAL_TICKS = 10;
+
+    /**
+     * Entities up to this many chunks away from the character of a client are updated every net tick.
+     */
+    static final int NEAR_CHUNK_DISTANCE = 2;
+    /**
+     * Entities up to this many chunks away are updated every {@value #MEDIUM_UPDATE_INTERVAL} net ticks, further ones
+     * every {@value #FAR_UPDATE_INTERVAL} net ticks.
+     */
+    static final int MEDIUM_CHUNK_DISTANCE = 4;
+    static final int MEDIUM_UPDATE_INTERVAL = 2;
+    static final int FAR_UPDATE_INTERVAL = 4;
+
+    private final NetworkSystemImpl networkSystem;
+    private final TIntSet managedEntities = new TIntHashSet();
+    private int ticksUntilUpdate = UPDATE_INTERVAL_TICKS;
+
+    InterestManager(NetworkSystemImpl networkSystem) {
+        this.networkSystem = networkSystem;
+    }
+
+    /**
+     * Starts managing the interest of clients in a newly registered entity, and sends it to the interested clients.
+     */
+    void add(int netId, EntityRef entity, Collection<NetClient> clients) {
+        managedEntities.add(netId);
+        Vector3i chunkPos = getChunkPos(entity, new Vector3i());
+        Client owner = networkSystem.getOwner(entity);
+        for (NetClient client : clients) {
+            updateInterest(client, netId, chunkPos, owner);
+        }
+    }
+
+    /**
+     * Sends the managed entities a newly connected client is interested in to it.
+     */
+    void addClient(NetClient client) {
+        Vector3i chunkPos = new Vector3i();
+        TIntIterator iterator = managedEntities.iterator();
+        while (iterator.hasNext()) {
+            int netId = iterator.next();
+            EntityRef entity = networkSystem.getEntity(netId);
+            updateInterest(client, netId, getChunkPos(entity, chunkPos), networkSystem.getOwner(entity));
+        }
+    }
+
+    void remove(int netId) {
+        managedEntities.remove(netId);
+    }
+
+    void clear() {
+        managedEntities.clear();
+        ticksUntilUpdate = UPDATE_INTERVAL_TICKS;
+    }
+
+    /**
+     * Called every net tick. Every {@value #UPDATE_INTERVAL_TICKS} ticks, entities which entered the interest of a
+     * client are sent to it, and those which left are removed from it.
+     */
+    void update(Collection<NetClient> clients) {
+        if (--ticksUntilUpdate > 0 || clients.isEmpty()) {
+            return;
+        }
+        ticksUntilUpdate = UPDATE_INTERVAL_TICKS;
+
+        // null for clients whose character has no position, their update intervals don't depend on distance
+        Vector3i[] clientChunks = new Vector3i[clients.size()];
+        int index = 0;
+        for (NetClient client : clients) {
+            clientChunks[index++] = client.getCharacterChunkPos(new Vector3i());
+        }
+
+        Vector3i chunkPos = new Vector3i();
+        TIntIterator iterator = managedEntities.iterator();
+        while (iterator.hasNext()) {
+            int netId = iterator.next();
+            EntityRef entity = networkSystem.getEntity(netId);
+            if (!entity.exists()) {
+                continue;
+            }
+            Vector3i entityChunk = getChunkPos(entity, chunkPos);
+            Client owner = networkSystem.getOwner(entity);
+            index = 0;
+            for (NetClient client : clients) {
+                Vector3i clientChunk = clientChunks[index];
+                if (updateInterest(client, netId, entityChunk, owner) && entityChunk != null && clientChunk != null
+                        && owner != client) {
+                    client.setUpdateInterval(netId, getUpdateInterval(clientChunk, entityChunk));
+                }
+                index++;
+            }
+        }
+    }
+
+    /**
+     * @return whether the client is interested in the entity after the update
+     */
+    private boolean updateInterest(NetClient client, int netId, Vector3ic entityChunk, Client owner) {
+        boolean interested = owner == client || entityChunk == null || client.isChunkRelevant(entityChunk);
+        boolean replicated = client.isNetRelevant(netId);
+        if (interested && !replicated) {
+            client.setNetInitial(netId);
+        } else if (!interested && replicated) {
+            client.setNetRemoved(netId);
+        }
+        return interested;
+    }
+
+    /**
+     * @return the number of net ticks between two updates of an entity in the given chunk to a client whose character
+     * is in the other given chunk
+     */
+    static int getUpdateInterval(Vector3ic clientChunk, Vector3ic entityChunk) {
+        int distance = Math.max(Math.abs(clientChunk.x() - entityChunk.x()),
+                Math.max(Math.abs(clientChunk.y() - entityChunk.y()), Math.abs(clientChunk.z() - entityChunk.z())));
+        if (distance <= NEAR_CHUNK_DISTANCE) {
+            return 1;
+        } else if (distance <= MEDIUM_CHUNK_DISTANCE) {
+            return MEDIUM_UPDATE_INTERVAL;
+        }
+        return FAR_UPDATE_INTERVAL;
+    }
+
+    /**
+     * @return the position of the chunk the entity is in, or null if the entity has no position in the world
+     */
+    static Vector3i getChunkPos(EntityRef entity, Vector3i dest) {
+        BlockComponent blockComponent = entity.getComponent(BlockComponent.class);
+        if (blockComponent != null) {
+            return Chunks.toChunkPos(blockComponent.getPosition(), dest);
+        }
+        LocationComponent location = entity.getComponent(LocationComponent.class);
+        if (location != null) {
+            Vector3f worldPosition = location.getWorldPosition(new Vector3f());
+            if (worldPosition.isFinite()) {
+                return Chunks.toChunkPos(dest.set(worldPosition, RoundingMode.HALF_UP), dest);
+            }
+        }
+        return null;
+    }
+}
@@ -23,6 +23,7 @@
 import org.terasology.engine.network.NetMetricSource;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A generic Netty handler for recording metrics on sent and received bytes and messages.
@@ -35,6 +36,15 @@ public class MetricRecordingHandler extends ChannelDuplexHandler implements NetM
     private AtomicInteger receivedBytes = new AtomicInteger();
     private AtomicInteger sentMessages = new AtomicInteger();
     private AtomicInteger sentBytes = new AtomicInteger();
+    private AtomicLong totalSentBytes = new AtomicLong();
+    private AtomicInteger serializationCacheHits = new AtomicInteger();
+    private AtomicInteger serializationBytesSaved = new AtomicInteger();
+    private AtomicLong uncompressedBytes = new AtomicLong();
+    private AtomicLong compressedBytes = new AtomicLong();
+    private AtomicLong compressionTime = new AtomicLong();
+    private AtomicInteger allocatedBytes = new AtomicInteger();
+    private AtomicInteger allocatingMessages = new AtomicInteger();
+    private AtomicLong messageBuildTime = new AtomicLong();
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
@@ -49,9 +59,62 @@ public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise)
         ByteBuf buf = (ByteBuf) msg;
         sentMessages.incrementAndGet();
         sentBytes.addAndGet(buf.readableBytes());
+        totalSentBytes.addAndGet(buf.readableBytes());
         super.write(ctx, msg, promise);
     }
 
+    /**
+     * @return the amount of bytes sent over the connection, after compression
+     */
+    public long getTotalSentBytes() {
+        return totalSentBytes.get();
+    }
+
+    /**
+     * Records an entity which was sent without serializing it again.
+     *
+     * @param savedBytes the size of the serialized entity
+     */
+    public void recordSerializationCacheHit(int savedBytes) {
+        serializationCacheHits.incrementAndGet();
+        serializationBytesSaved.addAndGet(savedBytes);
+    }
+
+    /**
+     * Records a frame compressed by the {@link CompressionEncoder} of the connection.
+     *
+     * @param uncompressed the size of the frame before compression
+     * @param compressed the size of the frame after compression
+     * @param nanos the time the compression took
+     */
+    public void recordCompression(int uncompressed, int compressed, long nanos) {
+        uncompressedBytes.addAndGet(uncompressed);
+        compressedBytes.addAndGet(compressed);
+        compressionTime.addAndGet(nanos);
+    }
+
+    /**
+     * Records the buffers allocated to encode a message, by the {@link NetMessageEncoder} of the connection.
+     */
+    public void recordMessageAllocation(int bytes) {
+        allocatingMessages.incrementAndGet();
+        allocatedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Records a buffer allocated to encode a message further down the pipeline.
+     */
+    public void recordAllocation(int bytes) {
+        allocatedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Records the time it took to build and send a message.
+     */
+    public void recordMessageBuild(long nanos) {
+        messageBuildTime.addAndGet(nanos);
+    }
+
     @Override
     public int getReceivedMessagesSinceLastCall() {
         return receivedMessages.getAndSet(0);
@@ -71,4 +134,38 @@ public int getSentMessagesSinceLastCall() {
     public int getSentBytesSinceLastCall() {
         return sentBytes.getAndSet(0);
     }
+
+    @Override
+    public int getSerializationCacheHitsSinceLastCall() {
+        return serializationCacheHits.getAndSet(0);
+    }
+
+    @Override
+    public int getSerializationBytesSavedSinceLastCall() {
+        return serializationBytesSaved.getAndSet(0);
+    }
+
+    @Override
+    public float getCompressionRatio() {
+        long uncompressed = uncompressedBytes.get();
+        return uncompressed == 0 ? 1.0f : (float) compressedBytes.get() / uncompressed;
+    }
+
+    @Override
+    public float getCompressionTimePerByte() {
+        long uncompressed = uncompressedBytes.get();
+        return uncompressed == 0 ? 0 : (float) compressionTime.get() / uncompressed;
+    }
+
+    @Override
+    public float getAllocationPerMessageSinceLastCall() {
+        int messages = allocatingMessages.getAndSet(0);
+        int bytes = allocatedBytes.getAndSet(0);
+        return messages == 0 ? 0 : (float) bytes / messages;
+    }
+
+    @Override
+    public float getMessageBuildTimeSinceLastCall() {
+        return messageBuildTime.getAndSet(0) / 1_000_000f;
+    }
 }
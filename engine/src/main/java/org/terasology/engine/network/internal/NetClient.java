@@ -6,13 +6,15 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import gnu.trove.iterator.TIntIterator;
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.hash.TIntIntHashMap;
 import gnu.trove.set.TIntSet;
 import gnu.trove.set.hash.TIntHashSet;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import org.joml.RoundingMode;
 import org.joml.Vector3f;
@@ -56,9 +58,9 @@
 import org.terasology.protobuf.NetData;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -70,6 +72,12 @@
 public class NetClient extends AbstractClient implements WorldChangeListener {
     private static final Logger logger = LoggerFactory.getLogger(NetClient.class);
     private static final float NET_TICK_RATE = 0.05f;
+    private static final int BYTES_PER_KILOBIT = 125;
+    /**
+     * The amount of serialized bytes to send before the compression ratio of the connection is estimated again.
+     */
+    private static final int COMPRESSION_SAMPLE_BYTES = 16384;
+    private static final float MIN_COMPRESSION_RATIO = 0.05f;
 
     private Time time;
     private NetworkSystemImpl networkSystem;
@@ -77,11 +85,14 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private NetworkEntitySerializer entitySerializer;
     private EventSerializer eventSerializer;
     private EventLibrary eventLibrary;
-    private NetMetricSource metricSource;
+    private MetricRecordingHandler metricSource;
 
     // Relevance
     private Set<Vector3i> relevantChunks = Sets.newHashSet();
     private TIntSet netRelevant = new TIntHashSet();
+    // Net ticks between updates of entities further away, see InterestManager
+    private TIntIntMap updateIntervals = new TIntIntHashMap();
+    private int netTickCount;
 
     // Entity replication data
     private TIntSet netInitial = new TIntHashSet();
@@ -94,19 +105,24 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
     private String preferredName = "Player";
     private long lastReceivedTime;
     private ViewDistance viewDistance = ViewDistance.NEAR;
-    private float chunkSendCounter = 1.0f;
-
-    private float chunkSendRate = 0.05469f;
+    // Chunk streaming
+    private final ChunkSendScheduler chunkSendScheduler = new ChunkSendScheduler();
+    private final Vector3i viewChunkPos = new Vector3i();
+    private final Vector3f viewDirection = new Vector3f();
+    private float chunkSendBudget;
+    private float compressionRatio = 1.0f;
+    private long serializedBytesSent;
+    private long lastSampledSerializedBytes;
+    private long lastSampledSentBytes;
 
     private PublicIdentityCertificate identity;
 
     // Outgoing messages
-    private BlockingQueue<NetData.BlockChangeMessage> queuedOutgoingBlockChanges = Queues.newLinkedBlockingQueue();
+    private final BlockChangeBatcher outgoingBlockChanges = new BlockChangeBatcher();
     private BlockingQueue<NetData.ExtraDataChangeMessage> queuedOutgoingExtraDataChanges = Queues.newLinkedBlockingQueue();
     private List<NetData.EventMessage> queuedOutgoingEvents = Lists.newArrayList();
     private final List<BlockFamily> newlyRegisteredFamilies = Lists.newArrayList();
 
-    private Map<Vector3i, Chunk> readyChunks = Maps.newLinkedHashMap();
     private Set<Vector3i> invalidatedChunks = Sets.newLinkedHashSet();
 
 
@@ -128,7 +144,7 @@ public class NetClient extends AbstractClient implements WorldChangeListener {
      */
     public NetClient(Channel channel, NetworkSystemImpl networkSystem, PublicIdentityCertificate identity) {
         this.channel = channel;
-        metricSource = (NetMetricSource) channel.pipeline().get(MetricRecordingHandler.NAME);
+        metricSource = (MetricRecordingHandler) channel.pipeline().get(MetricRecordingHandler.NAME);
         this.networkSystem = networkSystem;
         this.time = CoreRegistry.get(Time.class);
         this.identity = identity;
@@ -205,20 +221,48 @@ public void disconnect() {
     @Override
     public void update(boolean netTick) {
         if (netTick) {
-            NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder();
-            message.setTime(time.getGameTimeInMs());
-            sendRegisteredBlocks(message);
-            sendChunkInvalidations(message);
-            sendNewChunks(message);
-            sendRemovedEntities(message);
-            sendInitialEntities(message);
-            sendDirtyEntities(message);
-            sendEvents(message);
-            send(message.build());
+            completeMessage(prepareMessage());
         }
         processReceivedMessages();
     }
 
+    /**
+     * Starts the message of this net tick with everything that reads entities or the world: the entities, events and
+     * the chunks to invalidate. Also takes note of where the character is, for {@link #completeMessage}.
+     * <p>
+     * Must be called on the main thread.
+     */
+    NetData.NetMessage.Builder prepareMessage() {
+        netTickCount++;
+        NetData.NetMessage.Builder message = NetData.NetMessage.newBuilder();
+        message.setTime(time.getGameTimeInMs());
+        sendRegisteredBlocks(message);
+        sendChunkInvalidations(message);
+        sendRemovedEntities(message);
+        sendInitialEntities(message);
+        sendDirtyEntities(message);
+        sendEvents(message);
+        getCharacterChunkPos(viewChunkPos.zero());
+        getCharacterViewDirection(viewDirection);
+        return message;
+    }
+
+    /**
+     * Adds the new chunks and block changes to a message started by {@link #prepareMessage}, builds it and sends it.
+     * <p>
+     * Doesn't access any entities, so the messages of several clients may be completed in parallel, as long as the
+     * main thread waits for them.
+     */
+    void completeMessage(NetData.NetMessage.Builder message) {
+        long startTime = System.nanoTime();
+        List<ByteBuf> chunks = sendNewChunks();
+        outgoingBlockChanges.writeTo(message);
+        send(message.build(), chunks);
+        if (metricSource != null) {
+            metricSource.recordMessageBuild(System.nanoTime() - startTime);
+        }
+    }
+
     private void sendRegisteredBlocks(NetData.NetMessage.Builder message) {
         synchronized (newlyRegisteredFamilies) {
             for (BlockFamily family : newlyRegisteredFamilies) {
@@ -233,35 +277,110 @@ private void sendRegisteredBlocks(NetData.NetMessage.Builder message) {
         }
     }
 
-    private void sendNewChunks(NetData.NetMessage.Builder message) {
-        if (!readyChunks.isEmpty()) {
-            chunkSendCounter += chunkSendRate * NET_TICK_RATE * networkSystem.getBandwidthPerClient();
-            if (chunkSendCounter > 1.0f) {
-                chunkSendCounter -= 1.0f;
-                Vector3i center = new Vector3i();
-                LocationComponent loc = getEntity().getComponent(ClientComponent.class).character.getComponent(LocationComponent.class);
-                if (loc != null) {
-                    Vector3f target = loc.getWorldPosition(new Vector3f());
-                    if (target.isFinite()) {
-                        center.set(target, RoundingMode.HALF_UP); // use center as temporary variable
-                        Chunks.toChunkPos(center, center); // update center to chunkPos
-                    }
+    /**
+     * Sends the chunks nearest to the character, as many as the bandwidth of this client allows. The size of the
+     * chunks is estimated from their encoded size and how well the connection compressed the data sent so far.
+     *
+     * @return the serialized chunks to add to the message
+     */
+    private List<ByteBuf> sendNewChunks() {
+        if (chunkSendScheduler.isEmpty()) {
+            chunkSendBudget = 0;
+            return Collections.emptyList();
+        }
+        updateCompressionRatio();
+        float bytesPerTick = networkSystem.getBandwidthPerClient() * BYTES_PER_KILOBIT * NET_TICK_RATE;
+        // an unused budget is not saved up, a chunk larger than the budget is paid off over the next ticks
+        chunkSendBudget = Math.min(chunkSendBudget + bytesPerTick, bytesPerTick);
+        chunkSendScheduler.setViewpoint(viewChunkPos, viewDirection);
+
+        ChunkPayloadCache payloadCache = networkSystem.getChunkPayloadCache();
+        List<ByteBuf> chunks = Lists.newArrayList();
+        while (chunkSendBudget > 0) {
+            Chunk chunk = chunkSendScheduler.poll();
+            if (chunk == null) {
+                break;
+            }
+            ByteBuf encodedChunk = payloadCache.getEncodedChunk(chunk);
+            relevantChunks.add(new Vector3i(chunk.getPosition()));
+            chunks.add(encodedChunk);
+            chunkSendBudget -= encodedChunk.readableBytes() * compressionRatio;
+        }
+        return chunks;
+    }
+
+    private void updateCompressionRatio() {
+        if (metricSource == null) {
+            return;
+        }
+        long serializedBytes = serializedBytesSent - lastSampledSerializedBytes;
+        long wireBytes = metricSource.getTotalSentBytes() - lastSampledSentBytes;
+        if (serializedBytes >= COMPRESSION_SAMPLE_BYTES && wireBytes > 0) {
+            float sampledRatio = Math.max(MIN_COMPRESSION_RATIO, Math.min(1.0f, (float) wireBytes / serializedBytes));
+            compressionRatio = 0.75f * compressionRatio + 0.25f * sampledRatio;
+            lastSampledSerializedBytes = serializedBytesSent;
+            lastSampledSentBytes = metricSource.getTotalSentBytes();
+        }
+    }
+
+    /**
+     * @param dest will hold the position of the chunk the character of this client is in, if it has a position
+     * @return dest, or null if the character has no position in the world
+     */
+    Vector3i getCharacterChunkPos(Vector3i dest) {
+        ClientComponent clientComponent = getEntity().getComponent(ClientComponent.class);
+        if (clientComponent != null) {
+            LocationComponent loc = clientComponent.character.getComponent(LocationComponent.class);
+            if (loc != null) {
+                Vector3f target = loc.getWorldPosition(new Vector3f());
+                if (target.isFinite()) {
+                    dest.set(target, RoundingMode.HALF_UP);
+                    return Chunks.toChunkPos(dest, dest);
                 }
-                Vector3i pos = null;
-                long distance = Integer.MAX_VALUE;
-                for (Vector3i chunkPos : readyChunks.keySet()) {
-                    long chunkDistance = chunkPos.distanceSquared(center);
-                    if (pos == null || chunkDistance < distance) {
-                        pos = chunkPos;
-                        distance = chunkDistance;
-                    }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param dest will hold the direction the character of this client is looking in, or zero if it is unknown
+     * @return dest
+     */
+    private Vector3f getCharacterViewDirection(Vector3f dest) {
+        dest.zero();
+        ClientComponent clientComponent = getEntity().getComponent(ClientComponent.class);
+        if (clientComponent != null) {
+            LocationComponent loc = clientComponent.character.getComponent(LocationComponent.class);
+            if (loc != null) {
+                loc.getWorldDirection(dest);
+                if (!dest.isFinite()) {
+                    dest.zero();
                 }
-                Chunk chunk = readyChunks.remove(pos);
-                relevantChunks.add(pos);
-                message.addChunkInfo(chunk.encode());
             }
+        }
+        return dest;
+    }
+
+    boolean isChunkRelevant(Vector3ic chunkPos) {
+        return relevantChunks.contains(chunkPos);
+    }
+
+    /**
+     * @return whether the entity has been or is about to be sent to this client
+     */
+    boolean isNetRelevant(int netId) {
+        return netRelevant.contains(netId) || netInitial.contains(netId);
+    }
+
+    /**
+     * Sets the number of net ticks between two updates of the entity. Changes of its components in between are
+     * collected and sent together.
+     */
+    void setUpdateInterval(int netId, int interval) {
+        if (interval > 1) {
+            updateIntervals.put(netId, interval);
         } else {
-            chunkSendCounter = 1.0f;
+            updateIntervals.remove(netId);
         }
     }
 
@@ -281,9 +400,10 @@ public void setNetInitial(int netId) {
     }
 
     public void setNetRemoved(int netId) {
-        if (!netInitial.remove(netId)) {
+        if (!netInitial.remove(netId) && netRelevant.contains(netId)) {
             netRemoved.add(netId);
         }
+        updateIntervals.remove(netId);
         dirtyComponents.keySet().remove(netId);
         addedComponents.keySet().remove(netId);
         removedComponents.keySet().remove(netId);
@@ -365,24 +485,39 @@ public boolean isLocal() {
     }
 
     void send(NetData.NetMessage data) {
-        logger.trace("Sending packet with size {}", data.getSerializedSize());
+        send(data, Collections.emptyList());
+    }
+
+    /**
+     * Sends a message with serialized chunks, which are written into its chunkInfo field by the
+     * {@link NetMessageEncoder} without copying them.
+     */
+    private void send(NetData.NetMessage data, List<ByteBuf> chunks) {
+        int size = data.getSerializedSize();
+        for (ByteBuf chunk : chunks) {
+            size += NetMessageEncoder.getChunkFieldSize(chunk);
+        }
+        logger.trace("Sending packet with size {}", size);
         sentMessages.incrementAndGet();
-        sentBytes.addAndGet(data.getSerializedSize());
-        channel.writeAndFlush(data);
+        sentBytes.addAndGet(size);
+        serializedBytesSent += size;
+        channel.writeAndFlush(chunks.isEmpty() ? data : new OutgoingNetMessage(data, chunks));
     }
 
     @Override
     public void onChunkRelevant(Vector3ic pos, Chunk chunk) {
-        Vector3i result = new Vector3i(pos);
-        invalidatedChunks.remove(result);
-        readyChunks.put(result, chunk);
+        invalidatedChunks.remove(new Vector3i(pos));
+        chunkSendScheduler.add(pos, chunk);
     }
 
     @Override
     public void onChunkIrrelevant(Vector3ic pos) {
         Vector3i result = new Vector3i(pos);
-        readyChunks.remove(result);
-        invalidatedChunks.add(result);
+        // chunks which were not sent yet are dropped, the client doesn't know about them
+        chunkSendScheduler.remove(result);
+        if (relevantChunks.contains(result)) {
+            invalidatedChunks.add(result);
+        }
     }
 
 
@@ -390,10 +525,7 @@ public void onChunkIrrelevant(Vector3ic pos) {
     public void onBlockChanged(Vector3ic pos, Block newBlock, Block originalBlock) {
         org.joml.Vector3i chunkPos = Chunks.toChunkPos(pos, new org.joml.Vector3i());
         if (relevantChunks.contains(chunkPos)) {
-            queuedOutgoingBlockChanges.add(NetData.BlockChangeMessage.newBuilder()
-                .setPos(NetMessageUtil.convert(pos))
-                .setNewBlock(newBlock.getId())
-                .build());
+            outgoingBlockChanges.add(pos, newBlock.getId());
         }
     }
 
@@ -410,7 +542,7 @@ public void onExtraDataChanged(int i, Vector3ic pos, int newData, int oldData) {
     }
 
 
-    private void processReceivedMessages() {
+    void processReceivedMessages() {
         List<NetData.NetMessage> messages = Lists.newArrayListWithExpectedSize(queuedIncomingMessage.size());
         queuedIncomingMessage.drainTo(messages);
         for (NetData.NetMessage message : messages) {
@@ -424,10 +556,6 @@ private void processReceivedMessages() {
     }
 
     private void sendEvents(NetData.NetMessage.Builder message) {
-        List<NetData.BlockChangeMessage> blockChanges = Lists.newArrayListWithExpectedSize(queuedOutgoingBlockChanges.size());
-        queuedOutgoingBlockChanges.drainTo(blockChanges);
-        message.addAllBlockChange(blockChanges);
-
         List<NetData.ExtraDataChangeMessage> extraDataChanges = Lists.newArrayListWithExpectedSize(queuedOutgoingExtraDataChanges.size());
         queuedOutgoingExtraDataChanges.drainTo(extraDataChanges);
         message.addAllExtraDataChange(extraDataChanges);
@@ -450,21 +578,35 @@ private void sendDirtyEntities(NetData.NetMessage.Builder message) {
         TIntIterator dirtyIterator = netDirty.iterator();
         while (dirtyIterator.hasNext()) {
             int netId = dirtyIterator.next();
+            int interval = updateIntervals.get(netId);
+            // entities further away keep collecting changes; offset by net id so they are not all sent on the same tick
+            if (interval > 1 && (netTickCount + netId) % interval != 0) {
+                continue;
+            }
+            dirtyIterator.remove();
             EntityRef entity = networkSystem.getEntity(netId);
             if (!entity.exists()) {
                 logger.error("Sending non-existent entity update for netId {}", netId);
+                addedComponents.removeAll(netId);
+                removedComponents.removeAll(netId);
+                dirtyComponents.removeAll(netId);
+                continue;
+            }
+            EntityData.PackedEntity entityData;
+            if (networkSystem.getOwner(entity) == this) {
+                entityData = entitySerializer.serialize(entity, addedComponents.get(netId), dirtyComponents.get(netId),
+                        removedComponents.get(netId), new ServerComponentFieldCheck(true, false));
+            } else {
+                entityData = networkSystem.getEntityDeltaCache().getEntityDelta(netId, entity, addedComponents.get(netId),
+                        dirtyComponents.get(netId), removedComponents.get(netId), entitySerializer, metricSource);
             }
-            boolean isOwner = networkSystem.getOwner(entity) == this;
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, addedComponents.get(netId), dirtyComponents.get(netId), removedComponents.get(netId),
-                    new ServerComponentFieldCheck(isOwner, false));
             if (entityData != null) {
                 message.addUpdateEntity(NetData.UpdateEntityMessage.newBuilder().setEntity(entityData).setNetId(netId));
             }
+            addedComponents.removeAll(netId);
+            removedComponents.removeAll(netId);
+            dirtyComponents.removeAll(netId);
         }
-        netDirty.clear();
-        addedComponents.clear();
-        removedComponents.clear();
-        dirtyComponents.clear();
     }
 
     private void sendRemovedEntities(NetData.NetMessage.Builder message) {
@@ -488,7 +630,12 @@ private void sendInitialEntities(NetData.NetMessage.Builder message) {
             }
             // Note: Send owner->server fields on initial create
             Client owner = networkSystem.getOwner(entity);
-            EntityData.PackedEntity entityData = entitySerializer.serialize(entity, true, new ServerComponentFieldCheck(owner == this, true)).build();
+            EntityData.PackedEntity entityData;
+            if (owner == this) {
+                entityData = entitySerializer.serialize(entity, true, new ServerComponentFieldCheck(true, true)).build();
+            } else {
+                entityData = networkSystem.getEntityDeltaCache().getInitialEntity(netId, entity, entitySerializer, metricSource);
+            }
             NetData.CreateEntityMessage.Builder createMessage = NetData.CreateEntityMessage.newBuilder().setEntity(entityData);
             BlockComponent blockComponent = entity.getComponent(BlockComponent.class);
             if (blockComponent != null) {
@@ -545,6 +692,7 @@ public void messageReceived(NetData.NetMessage message) {
         queuedIncomingMessage.offer(message);
     }
 
+    @Override
     public NetMetricSource getMetrics() {
         return metricSource;
     }
@@ -0,0 +1,115 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import org.terasology.protobuf.NetData;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes {@link NetData.NetMessage}s with a varint length in front, like a ProtobufEncoder followed by a
+ * ProtobufVarint32LengthFieldPrepender, but without copying the message between them. The message is serialized
+ * straight into one pooled buffer.
+ * <p>
+ * The chunks of an {@link OutgoingNetMessage} are already serialized, they are added to the end of the message as
+ * parts of a composite buffer rather than copied into it. Protobuf reads repeated fields in the order they arrive, so
+ * this is the same message as one with the chunks in its chunkInfo field.
+ */
+public class NetMessageEncoder extends MessageToMessageEncoder<Object> {
+    public static final String NAME = "netMessageEncoder";
+    private static final int CHUNK_INFO_TAG_SIZE = CodedOutputStream.computeTagSize(NetData.NetMessage.CHUNKINFO_FIELD_NUMBER);
+
+    private MetricRecordingHandler metrics;
+
+    /**
+     * @return the size of an encoded chunk as a field of the message
+     */
+    static int getChunkFieldSize(ByteBuf chunk) {
+        int length = chunk.readableBytes();
+        return CHUNK_INFO_TAG_SIZE + CodedOutputStream.computeRawVarint32Size(length) + length;
+    }
+
+    @Override
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof NetData.NetMessage || msg instanceof OutgoingNetMessage;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, Object msg, List<Object> out) throws IOException {
+        NetData.NetMessage message;
+        List<ByteBuf> chunks;
+        if (msg instanceof OutgoingNetMessage) {
+            message = ((OutgoingNetMessage) msg).getMessage();
+            chunks = ((OutgoingNetMessage) msg).getChunks();
+        } else {
+            message = (NetData.NetMessage) msg;
+            chunks = null;
+        }
+
+        int messageSize = message.getSerializedSize();
+        int bodySize = messageSize;
+        int chunkHeadersSize = 0;
+        if (chunks != null) {
+            for (ByteBuf chunk : chunks) {
+                int chunkFieldSize = getChunkFieldSize(chunk);
+                bodySize += chunkFieldSize;
+                chunkHeadersSize += chunkFieldSize - chunk.readableBytes();
+            }
+        }
+        int headSize = CodedOutputStream.computeRawVarint32Size(bodySize) + messageSize;
+
+        // one array for the message and the field headers of the chunks, so the deflater can read it directly
+        int headLength = headSize + chunkHeadersSize;
+        ByteBuf head = ctx.alloc().heapBuffer(headLength);
+        recordAllocation(ctx, headLength);
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(head.array(), head.arrayOffset(), headLength);
+            output.writeRawVarint32(bodySize);
+            message.writeTo(output);
+            if (chunks == null || chunks.isEmpty()) {
+                output.checkNoSpaceLeft();
+                head.writerIndex(headLength);
+                out.add(head.retain());
+                return;
+            }
+
+            CompositeByteBuf frame = ctx.alloc().compositeHeapBuffer(2 * chunks.size() + 1);
+            try {
+                frame.addComponent(true, head.retainedSlice(0, headSize));
+                int index = headSize;
+                for (ByteBuf chunk : chunks) {
+                    output.writeTag(NetData.NetMessage.CHUNKINFO_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                    output.writeRawVarint32(chunk.readableBytes());
+                    int headerEnd = headLength - output.spaceLeft();
+                    frame.addComponent(true, head.retainedSlice(index, headerEnd - index));
+                    frame.addComponent(true, chunk.retain());
+                    index = headerEnd;
+                }
+                output.checkNoSpaceLeft();
+            } catch (IOException | RuntimeException e) {
+                frame.release();
+                throw e;
+            }
+            out.add(frame);
+        } finally {
+            head.release();
+        }
+    }
+
+    private void recordAllocation(ChannelHandlerContext ctx, int allocatedBytes) {
+        if (metrics == null) {
+            metrics = (MetricRecordingHandler) ctx.pipeline().get(MetricRecordingHandler.NAME);
+            if (metrics == null) {
+                return;
+            }
+        }
+        metrics.recordMessageAllocation(allocatedBytes);
+    }
+}
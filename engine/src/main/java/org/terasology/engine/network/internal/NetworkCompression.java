@@ -0,0 +1,161 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import com.google.common.base.Objects;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * How the data sent from the server to a client gets compressed. Written as {@code none}, {@code zlib}, {@code zlib-N}
+ * with a level N from 1 (fastest) to 9 (smallest), or {@code fast} for a fast LZ codec with less compression.
+ * <p>
+ * The server compresses with the codec configured in {@link org.terasology.engine.config.NetworkConfig}, unless the
+ * client asks for another one the config allows during the handshake.
+ */
+public final class NetworkCompression {
+    public static final int DEFAULT_ZLIB_LEVEL = 6;
+
+    public static final NetworkCompression NONE = new NetworkCompression(Type.NONE, 0);
+    public static final NetworkCompression ZLIB = new NetworkCompression(Type.ZLIB, DEFAULT_ZLIB_LEVEL);
+    public static final NetworkCompression FAST = new NetworkCompression(Type.FAST, 0);
+
+    private static final String ZLIB_PREFIX = "zlib-";
+
+    private final Type type;
+    private final int level;
+
+    private NetworkCompression(Type type, int level) {
+        this.type = type;
+        this.level = level;
+    }
+
+    /**
+     * @param level the zlib compression level, from 1 to 9
+     */
+    public static NetworkCompression zlib(int level) {
+        if (level < 1 || level > 9) {
+            throw new IllegalArgumentException("Zlib compression level must be between 1 and 9, but was " + level);
+        }
+        return new NetworkCompression(Type.ZLIB, level);
+    }
+
+    /**
+     * @return the compression described by the text, or null if it isn't a known compression
+     */
+    public static NetworkCompression parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        String name = text.trim().toLowerCase(Locale.ENGLISH);
+        switch (name) {
+            case "none":
+                return NONE;
+            case "zlib":
+                return ZLIB;
+            case "fast":
+                return FAST;
+            default:
+                if (name.startsWith(ZLIB_PREFIX)) {
+                    try {
+                        return zlib(Integer.parseInt(name.substring(ZLIB_PREFIX.length())));
+                    } catch (IllegalArgumentException e) {
+                        return null;
+                    }
+                }
+                return null;
+        }
+    }
+
+    /**
+     * Chooses the compression of a connection from the one the client asked for and the server's policy.
+     *
+     * @param requested the compression the client asked for, or null if it didn't ask for one
+     * @param configured the compression of the server
+     * @param allowed the compressions clients may ask for, as text
+     * @return the requested compression if it is allowed, otherwise the configured one
+     */
+    public static NetworkCompression choose(NetworkCompression requested, NetworkCompression configured, Collection<String> allowed) {
+        if (requested == null || requested.equals(configured)) {
+            return configured;
+        }
+        for (String allowedCompression : allowed) {
+            if (requested.equals(parse(allowedCompression))) {
+                return requested;
+            }
+        }
+        return configured;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the zlib compression level, or 0 for the other types
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (obj instanceof NetworkCompression) {
+            NetworkCompression other = (NetworkCompression) obj;
+            return type == other.type && level == other.level;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(type, level);
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case ZLIB:
+                return ZLIB_PREFIX + level;
+            case FAST:
+                return "fast";
+            default:
+                return "none";
+        }
+    }
+
+    /**
+     * The codecs, with the id marking the frames compressed with them on the wire.
+     */
+    public enum Type {
+        NONE(0),
+        ZLIB(1),
+        FAST(2);
+
+        private final byte id;
+
+        Type(int id) {
+            this.id = (byte) id;
+        }
+
+        public byte getId() {
+            return id;
+        }
+
+        /**
+         * @return the type with the id, or null if there is none
+         */
+        public static Type fromId(byte id) {
+            for (Type type : values()) {
+                if (type.id == id) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+}
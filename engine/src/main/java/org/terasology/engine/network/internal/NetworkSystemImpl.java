@@ -10,6 +10,7 @@
 import com.google.common.collect.Queues;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.protobuf.ByteString;
 import gnu.trove.map.TIntLongMap;
 import gnu.trove.map.hash.TIntLongHashMap;
@@ -47,6 +48,8 @@
 import org.terasology.engine.entitySystem.metadata.EventLibrary;
 import org.terasology.engine.entitySystem.metadata.EventMetadata;
 import org.terasology.engine.monitoring.PerformanceMonitor;
+import org.terasology.engine.monitoring.ThreadActivity;
+import org.terasology.engine.monitoring.ThreadMonitor;
 import org.terasology.engine.network.Client;
 import org.terasology.engine.network.JoinStatus;
 import org.terasology.engine.network.NetworkComponent;
@@ -92,6 +95,10 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Implementation of the Network System using Netty and TCP/IP
@@ -101,6 +108,7 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private static final int OWNER_DEPTH_LIMIT = 50;
     private static final int NET_TICK_RATE = 50;
     private static final int NULL_NET_ID = 0;
+    private static final int MAX_MESSAGE_BUILD_THREADS = 4;
     private final Set<Client> clientList = Sets.newLinkedHashSet();
     private final Set<NetClient> netClientList = Sets.newLinkedHashSet();
     // Shared
@@ -124,6 +132,8 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private ChannelFuture serverChannelFuture;
     private NioEventLoopGroup bossGroup;
     private NioEventLoopGroup workerGroup;
+    // Builds and sends the messages to the clients in parallel, see sendClientMessages
+    private ExecutorService messageBuildExecutor;
 
     private BlockingQueue<NetClient> newClients = Queues.newLinkedBlockingQueue();
     private BlockingQueue<NetClient> disconnectedClients = Queues.newLinkedBlockingQueue();
@@ -131,6 +141,9 @@ public class NetworkSystemImpl implements EntityChangeSubscriber, NetworkSystem
     private Map<EntityRef, Client> clientPlayerLookup = Maps.newHashMap();
     private Map<EntityRef, EntityRef> ownerLookup = Maps.newHashMap();
     private SetMultimap<EntityRef, EntityRef> ownedLookup = HashMultimap.create();
+    private final InterestManager interestManager = new InterestManager(this);
+    private final EntityDeltaCache entityDeltaCache = new EntityDeltaCache();
+    private final ChunkPayloadCache chunkPayloadCache = new ChunkPayloadCache();
     private StorageManager storageManager;
 
     // Client only
@@ -156,6 +169,12 @@ public void host(int port, boolean dedicatedServer) throws HostingFailedExceptio
                 }
                 generateSerializationTables();
 
+                int buildThreads = Math.max(1, Math.min(MAX_MESSAGE_BUILD_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+                messageBuildExecutor = Executors.newFixedThreadPool(buildThreads, new ThreadFactoryBuilder()
+                        .setNameFormat("Net-Message-Builder-%d")
+                        .setDaemon(true)
+                        .build());
+
                 // Configure the server.
                 bossGroup = new NioEventLoopGroup();
                 workerGroup = new NioEventLoopGroup();
@@ -285,6 +304,10 @@ public void shutdown() {
             clientGroup.shutdownGracefully().syncUninterruptibly();
         }
         // Shut down all event loops to terminate all threads.
+        if (messageBuildExecutor != null) {
+            messageBuildExecutor.shutdown();
+            messageBuildExecutor = null;
+        }
 
         processPendingDisconnects();
         clientList.forEach(this::processRemovedClient);
@@ -312,6 +335,8 @@ public void shutdown() {
         blockManager = null;
         ownerLookup.clear();
         ownedLookup.clear();
+        interestManager.clear();
+        entityDeltaCache.clear();
         ownershipHelper = null;
         storageManager = null;
         logger.info("Network shutdown");
@@ -338,9 +363,23 @@ public void update() {
                     nextNetworkTick += NET_TICK_RATE;
                     netTick = true;
                 }
+                if (netTick && mode.isServer()) {
+                    entityDeltaCache.clear();
+                    PerformanceMonitor.startActivity("Entity interest");
+                    interestManager.update(netClientList);
+                    PerformanceMonitor.endActivity();
+                }
                 PerformanceMonitor.startActivity("Client update");
+                boolean buildInParallel = netTick && messageBuildExecutor != null;
+                if (buildInParallel) {
+                    sendClientMessages();
+                }
                 for (Client client : clientList) {
-                    client.update(netTick);
+                    if (buildInParallel && client instanceof NetClient) {
+                        ((NetClient) client).processReceivedMessages();
+                    } else {
+                        client.update(netTick);
+                    }
                 }
                 PerformanceMonitor.endActivity();
                 if (server != null) {
@@ -350,6 +389,43 @@ public void update() {
         }
     }
 
+    /**
+     * Sends the message of this net tick to every remote client. The parts that read entities are prepared on the
+     * main thread, one client after the other. Adding the chunks, building and sending the messages happens on the
+     * message build threads, while the main thread waits for all of them to finish. So nothing changes the entities or
+     * the world in the meantime, and each client gets the same message as if they were built one after the other.
+     */
+    private void sendClientMessages() {
+        List<Future<?>> sends = Lists.newArrayListWithCapacity(netClientList.size());
+        for (NetClient client : netClientList) {
+            NetData.NetMessage.Builder message = client.prepareMessage();
+            sends.add(messageBuildExecutor.submit(() -> {
+                try (ThreadActivity ignored = ThreadMonitor.startThreadActivity("Build net message")) {
+                    client.completeMessage(message);
+                }
+            }));
+        }
+        // the messages must be done before the entities change again, so an interrupt only gets passed on afterwards
+        boolean interrupted = false;
+        for (Future<?> send : sends) {
+            while (true) {
+                try {
+                    send.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    logger.error("Failed to send message to client", e.getCause());
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            logger.warn("Interrupted while sending messages to clients");
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private void processPendingDisconnects() {
         if (!disconnectedClients.isEmpty()) {
             List<NetClient> removedPlayers = Lists.newArrayListWithExpectedSize(disconnectedClients.size());
@@ -405,6 +481,26 @@ NetClient getNetOwner(EntityRef entity) {
         return null;
     }
 
+    EntityDeltaCache getEntityDeltaCache() {
+        return entityDeltaCache;
+    }
+
+    ChunkPayloadCache getChunkPayloadCache() {
+        return chunkPayloadCache;
+    }
+
+    /**
+     * @return the compression configured for the data sent to clients, unless they ask for another one
+     */
+    public NetworkCompression getCompression() {
+        NetworkCompression compression = NetworkCompression.parse(config.getCompression());
+        if (compression == null) {
+            logger.warn("Unknown network compression '{}', using {}", config.getCompression(), NetworkCompression.ZLIB);
+            return NetworkCompression.ZLIB;
+        }
+        return compression;
+    }
+
     public int getBandwidthPerClient() {
         if (netClientList.size() > 0) {
             return config.getUpstreamBandwidth() / netClientList.size();
@@ -459,9 +555,11 @@ public void registerNetworkEntity(EntityRef entity) {
                         clientPlayer.setNetInitial(netComponent.getNetworkId());
                     }
                     break;
+                case RELEVANT:
+                    interestManager.add(netComponent.getNetworkId(), entity, netClientList);
+                    break;
                 default:
                     for (NetClient client : netClientList) {
-                        // TODO: Relevance Check
                         client.setNetInitial(netComponent.getNetworkId());
                     }
                     break;
@@ -545,6 +643,8 @@ public void unregisterNetworkEntity(EntityRef entity) {
             if (netComponent != null) {
                 logger.debug("Unregistering network entity: {} with netId {}", entity, netComponent.getNetworkId());
                 netIdToEntityId.remove(netComponent.getNetworkId());
+                interestManager.remove(netComponent.getNetworkId());
+                entityDeltaCache.remove(netComponent.getNetworkId());
                 if (mode.isServer()) {
                     for (NetClient client : netClientList) {
                         client.setNetRemoved(netComponent.getNetworkId());
@@ -599,6 +699,7 @@ public void onEntityComponentAdded(EntityRef entity, Class<? extends Component>
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
             if (mode.isServer()) {
                 if (metadata.isReplicated()) {
+                    entityDeltaCache.remove(netComp.getNetworkId());
                     for (NetClient client : netClientList) {
                         logger.debug("Component {} added to {}", component, entity);
                         client.setComponentAdded(netComp.getNetworkId(), component);
@@ -616,6 +717,7 @@ public void onEntityComponentRemoved(EntityRef entity, Class<? extends Component
         if (netComp != null && netComp.getNetworkId() != NULL_NET_ID) {
             if (mode.isServer()) {
                 if (metadata.isReplicated()) {
+                    entityDeltaCache.remove(netComp.getNetworkId());
                     for (NetClient client : netClientList) {
                         logger.debug("Component {} removed from {}", component, entity);
                         client.setComponentRemoved(netComp.getNetworkId(), component);
@@ -647,6 +749,7 @@ public void onEntityComponentChange(EntityRef entity, Class<? extends Component>
                 case LISTEN_SERVER:
                 case DEDICATED_SERVER:
                     if (metadata.isReplicated()) {
+                        entityDeltaCache.remove(netComp.getNetworkId());
                         for (NetClient client : netClientList) {
                             client.setComponentDirty(netComp.getNetworkId(), component);
                         }
@@ -827,6 +930,14 @@ private void processRemovedClient(Client client) {
             }
             NetClient netClient = (NetClient) client;
             netClientList.remove(netClient);
+            if (netClientList.isEmpty()) {
+                // the cache only learns about changed chunks while there are clients to send them to
+                WorldProvider worldProvider = context.get(WorldProvider.class);
+                if (worldProvider != null) {
+                    worldProvider.unregisterListener(chunkPayloadCache);
+                }
+                chunkPayloadCache.clear();
+            }
         }
         clientList.remove(client);
         clientPlayerLookup.remove(client.getEntity());
@@ -851,6 +962,12 @@ private void processNewClient(NetClient client) {
         client.send(NetData.NetMessage.newBuilder().setJoinComplete(
                 NetData.JoinCompleteMessage.newBuilder().setClientId(client.getEntity().getComponent(NetworkComponent.class).getNetworkId())).build());
         clientList.add(client);
+        if (netClientList.isEmpty()) {
+            WorldProvider worldProvider = context.get(WorldProvider.class);
+            if (worldProvider != null) {
+                worldProvider.registerListener(chunkPayloadCache);
+            }
+        }
         netClientList.add(client);
         clientPlayerLookup.put(client.getEntity(), client);
 
@@ -867,13 +984,16 @@ private void processNewClient(NetClient client) {
                             client.setNetInitial(netComp.getNetworkId());
                         }
                         break;
+                    case RELEVANT:
+                        // sent by the interest manager
+                        break;
                     default:
-                        // TODO: Relevance Check
                         client.setNetInitial(netComp.getNetworkId());
                         break;
                 }
             }
         }
+        interestManager.addClient(client);
     }
 
     private void connectClient(Client client) {
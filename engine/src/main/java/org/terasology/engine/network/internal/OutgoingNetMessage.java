@@ -0,0 +1,33 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.network.internal;
+
+import io.netty.buffer.ByteBuf;
+import org.terasology.protobuf.NetData;
+
+import java.util.List;
+
+/**
+ * A message with chunks which are serialized already, written by {@link NetMessageEncoder} as if the chunks were in
+ * the chunkInfo field of the message.
+ */
+final class OutgoingNetMessage {
+    private final NetData.NetMessage message;
+    private final List<ByteBuf> chunks;
+
+    /**
+     * @param chunks serialized {@link org.terasology.protobuf.EntityData.ChunkStore}s, which are not released
+     */
+    OutgoingNetMessage(NetData.NetMessage message, List<ByteBuf> chunks) {
+        this.message = message;
+        this.chunks = chunks;
+    }
+
+    NetData.NetMessage getMessage() {
+        return message;
+    }
+
+    List<ByteBuf> getChunks() {
+        return chunks;
+    }
+}
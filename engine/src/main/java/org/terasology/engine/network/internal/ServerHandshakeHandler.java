@@ -60,13 +60,37 @@ public void channelActive(ChannelHandlerContext ctx) throws Exception {
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         NetData.NetMessage message = (NetData.NetMessage) msg;
         if (message.hasNewIdentityRequest()) {
-            processNewIdentityRequest(message.getNewIdentityRequest(), ctx);
+            processNewIdentityRequest(message.getNewIdentityRequest(), chooseCompression(message, ctx), ctx);
         } else if (message.hasHandshakeHello() && message.hasHandshakeVerification()) {
-            processClientHandshake(message.getHandshakeHello(), message.getHandshakeVerification(), ctx);
+            processClientHandshake(message.getHandshakeHello(), message.getHandshakeVerification(), chooseCompression(message, ctx), ctx);
         }
     }
 
-    private void processClientHandshake(NetData.HandshakeHello clientHello, NetData.HandshakeVerification handshakeVerification, ChannelHandlerContext ctx) {
+    /**
+     * The compression the client asked for if the network config allows it, or else the one configured for the server
+     */
+    private NetworkCompression chooseCompression(NetData.NetMessage message, ChannelHandlerContext ctx) {
+        NetworkCompression requested = HandshakeCommon.getCompression(message);
+        NetworkCompression configured = ctx.pipeline().get(CompressionEncoder.class).getCompression();
+        NetworkCompression compression = NetworkCompression.choose(requested, configured, config.getNetwork().getAllowedCompressions());
+        if (requested != null && !requested.equals(compression)) {
+            logger.info("Client asked for compression {}, which isn't allowed", requested);
+        }
+        return compression;
+    }
+
+    /**
+     * Tells the client which compression the server uses from now on and switches to it
+     */
+    private void sendAndSwitchCompression(NetData.NetMessage.Builder message, NetworkCompression compression, ChannelHandlerContext ctx) {
+        HandshakeCommon.setCompression(message, compression);
+        ctx.channel().writeAndFlush(message.build());
+        logger.info("Compressing data sent to the client with {}", compression);
+        ctx.pipeline().get(CompressionEncoder.class).setCompression(compression);
+    }
+
+    private void processClientHandshake(NetData.HandshakeHello clientHello, NetData.HandshakeVerification handshakeVerification,
+                                        NetworkCompression compression, ChannelHandlerContext ctx) {
         logger.info("Received client certificate");
         PublicIdentityCertificate clientCert = NetMessageUtil.convert(clientHello.getCertificate());
 
@@ -86,16 +110,16 @@ private void processClientHandshake(NetData.HandshakeHello clientHello, NetData.
 
         logger.info("Sending server verification");
         byte[] serverSignature = config.getSecurity().getServerPrivateCertificate().sign(signatureData);
-        ctx.channel().writeAndFlush(NetData.NetMessage.newBuilder()
+        sendAndSwitchCompression(NetData.NetMessage.newBuilder()
                 .setHandshakeVerification(NetData.HandshakeVerification.newBuilder()
-                        .setSignature(ByteString.copyFrom(serverSignature))).build());
+                        .setSignature(ByteString.copyFrom(serverSignature))), compression, ctx);
 
         // Identity has been established, inform the server handler and withdraw from the pipeline
         ctx.pipeline().remove(this);
         serverConnectionHandler.channelAuthenticated(clientCert);
     }
 
-    private void processNewIdentityRequest(NetData.NewIdentityRequest newIdentityRequest, ChannelHandlerContext ctx) {
+    private void processNewIdentityRequest(NetData.NewIdentityRequest newIdentityRequest, NetworkCompression compression, ChannelHandlerContext ctx) {
         logger.info("Received new identity request");
         try {
             byte[] preMasterSecret = config.getSecurity().getServerPrivateCertificate().decrypt(newIdentityRequest.getPreMasterSecret().toByteArray());
@@ -121,10 +145,9 @@ private void processNewIdentityRequest(NetData.NewIdentityRequest newIdentityReq
                 return;
             }
 
-            ctx.channel().writeAndFlush(NetData.NetMessage.newBuilder()
+            sendAndSwitchCompression(NetData.NetMessage.newBuilder()
                     .setProvisionIdentity(NetData.ProvisionIdentity.newBuilder()
-                            .setEncryptedCertificates(ByteString.copyFrom(encryptedCert)))
-                    .build());
+                            .setEncryptedCertificates(ByteString.copyFrom(encryptedCert))), compression, ctx);
 
             // Identity has been established, inform the server handler and withdraw from the pipeline
             ctx.pipeline().remove(this);
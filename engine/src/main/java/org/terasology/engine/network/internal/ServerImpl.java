@@ -24,6 +24,8 @@
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.entity.internal.EngineEntityManager;
 import org.terasology.engine.entitySystem.event.Event;
+import org.terasology.engine.logic.characters.CharacterMovementComponent;
+import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.network.NetMetricSource;
 import org.terasology.engine.network.NetworkComponent;
 import org.terasology.engine.network.Server;
@@ -87,6 +89,8 @@ public class ServerImpl implements Server {
     private SetMultimap<Integer, Class<? extends Component>> changedComponents = HashMultimap.create();
     private ListMultimap<Vector3i, NetData.BlockChangeMessage> awaitingChunkReadyBlockUpdates = ArrayListMultimap.create();
     private ListMultimap<Vector3i, NetData.ExtraDataChangeMessage> awaitingChunkReadyExtraDataUpdates = ArrayListMultimap.create();
+    private final EntityInterpolator entityInterpolator = new EntityInterpolator();
+    private Map<Class<? extends Component>, Integer> componentIds;
 
     private EngineTime time;
 
@@ -103,9 +107,11 @@ void connectToEntitySystem(EngineEntityManager newEntityManager, NetworkEntitySe
         this.entityManager = newEntityManager;
         this.eventSerializer = newEventSerializer;
         this.entitySerializer = newEntitySerializer;
+        this.componentIds = newEntitySerializer.getIdMapping();
         this.blockEntityRegistry = newBlockEntityRegistry;
         blockManager = (BlockManagerImpl) CoreRegistry.get(BlockManager.class);
         extraDataManager = CoreRegistry.get(ExtraBlockDataManager.class);
+        entityInterpolator.clear();
     }
 
     void setServerInfo(NetData.ServerInfoMessage serverInfo) {
@@ -172,6 +178,7 @@ public void update(boolean netTick) {
             }
 
             processMessages();
+            entityInterpolator.apply(time.getGameTimeInMs());
         }
     }
 
@@ -257,7 +264,10 @@ private void processMessages() {
             processExtraDataChanges(message);
             processRemoveEntities(message);
             message.getCreateEntityList().forEach(this::createEntityMessage);
-            message.getUpdateEntityList().forEach(this::updateEntity);
+            long serverTime = message.hasTime() ? message.getTime() : time.getGameTimeInMs();
+            for (NetData.UpdateEntityMessage updateEntity : message.getUpdateEntityList()) {
+                updateEntity(updateEntity, serverTime);
+            }
             for (NetData.EventMessage event : message.getEventList()) {
                 try {
                     processEvent(event);
@@ -274,6 +284,7 @@ private void processRemoveEntities(NetData.NetMessage message) {
             EntityRef entity = networkSystem.getEntity(netId);
             if (entity.exists()) {
                 logger.info("Destroying entity: {}", entity);
+                entityInterpolator.remove(entity);
                 entity.destroy();
                 networkSystem.unregisterClientNetworkEntity(netId);
             }
@@ -284,6 +295,7 @@ private void processRemoveEntities(NetData.NetMessage message) {
      * Apply the block changes from the message to the local world.
      */
     private void processBlockChanges(NetData.NetMessage message) {
+        processBlockChangeBatches(message);
         for (NetData.BlockChangeMessage blockChange : message.getBlockChangeList()) {
             Block newBlock = blockManager.getBlock((short) blockChange.getNewBlock());
             logger.debug("Received block change to {}", newBlock);
@@ -298,6 +310,27 @@ private void processBlockChanges(NetData.NetMessage message) {
         }
     }
 
+    /**
+     * Apply the batched block changes from the message to the local world, all changes of a chunk at once.
+     */
+    private void processBlockChangeBatches(NetData.NetMessage message) {
+        if (message.getBlockChangeBatchCount() == 0) {
+            return;
+        }
+        WorldProvider worldProvider = CoreRegistry.get(WorldProvider.class);
+        for (NetData.BlockChangeBatch batch : message.getBlockChangeBatchList()) {
+            Vector3i chunkPos = new Vector3i(batch.getX(), batch.getY(), batch.getZ());
+            if (worldProvider.isBlockRelevant(new Vector3i(chunkPos).mul(Chunks.CHUNK_SIZE))) {
+                Map<Vector3i, Block> blocks = Maps.newHashMap();
+                BlockChangeBatcher.forEachChange(batch, (pos, blockId) -> blocks.put(pos, blockManager.getBlock(blockId.shortValue())));
+                worldProvider.setBlocks(blocks);
+            } else {
+                BlockChangeBatcher.forEachChange(batch, (pos, blockId) -> awaitingChunkReadyBlockUpdates.put(chunkPos,
+                        NetData.BlockChangeMessage.newBuilder().setPos(NetMessageUtil.convert(pos)).setNewBlock(blockId).build()));
+            }
+        }
+    }
+
     /**
      * Apply the extra-data changes from the message to the local world.
      */
@@ -350,7 +383,7 @@ private void processBlockRegistrations(NetData.NetMessage message) {
         }
     }
 
-    private void updateEntity(NetData.UpdateEntityMessage updateEntity) {
+    private void updateEntity(NetData.UpdateEntityMessage updateEntity, long serverTime) {
         EntityRef currentEntity = networkSystem.getEntity(updateEntity.getNetId());
         if (currentEntity.exists()) {
             NetworkComponent netComp = currentEntity.getComponent(NetworkComponent.class);
@@ -372,11 +405,23 @@ private void updateEntity(NetData.UpdateEntityMessage updateEntity) {
             if (netComp.getNetworkId() != updateEntity.getNetId()) {
                 logger.error("Network ID lost in update: {}, {} -> {}", currentEntity, updateEntity.getNetId(), netComp.getNetworkId());
             }
+            if (hasComponent(updateEntity.getEntity(), LocationComponent.class) && !isOwned(currentEntity)) {
+                entityInterpolator.record(currentEntity, serverTime,
+                        hasComponent(updateEntity.getEntity(), CharacterMovementComponent.class));
+            }
         } else {
             logger.warn("Received update for non-existent entity {}", updateEntity.getNetId());
         }
     }
 
+    /**
+     * @return whether the entity data holds the component
+     */
+    private boolean hasComponent(EntityData.PackedEntity entityData, Class<? extends Component> componentType) {
+        Integer componentId = componentIds.get(componentType);
+        return componentId != null && entityData.getComponentIdList().contains(componentId);
+    }
+
     private void createEntityMessage(NetData.CreateEntityMessage message) {
         entitySerializer.deserialize(message.getEntity());
     }
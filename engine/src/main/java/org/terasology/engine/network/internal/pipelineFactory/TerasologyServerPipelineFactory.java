@@ -20,12 +20,11 @@
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.LengthFieldPrepender;
-import io.netty.handler.codec.compression.JdkZlibEncoder;
 import io.netty.handler.codec.protobuf.ProtobufDecoder;
-import io.netty.handler.codec.protobuf.ProtobufEncoder;
 import io.netty.handler.codec.protobuf.ProtobufVarint32FrameDecoder;
-import io.netty.handler.codec.protobuf.ProtobufVarint32LengthFieldPrepender;
+import org.terasology.engine.network.internal.CompressionEncoder;
 import org.terasology.engine.network.internal.MetricRecordingHandler;
+import org.terasology.engine.network.internal.NetMessageEncoder;
 import org.terasology.engine.network.internal.NetworkSystemImpl;
 import org.terasology.engine.network.internal.ServerConnectionHandler;
 import org.terasology.engine.network.internal.ServerHandler;
@@ -52,9 +51,8 @@ protected void initChannel(Channel ch) throws Exception {
         p.addLast("protobufDecoder", new ProtobufDecoder(NetData.NetMessage.getDefaultInstance()));
 
         p.addLast("frameLengthEncoder", new LengthFieldPrepender(3));
-        p.addLast("deflateEncoder", new JdkZlibEncoder());
-        p.addLast("frameEncoder", new ProtobufVarint32LengthFieldPrepender());
-        p.addLast("protobufEncoder", new ProtobufEncoder());
+        p.addLast(CompressionEncoder.NAME, new CompressionEncoder(networkSystem.getCompression()));
+        p.addLast(NetMessageEncoder.NAME, new NetMessageEncoder());
 
         p.addLast("authenticationHandler", new ServerHandshakeHandler());
         p.addLast("connectionHandler", new ServerConnectionHandler(networkSystem));
@@ -39,7 +39,6 @@
 import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.FileSystem;
@@ -48,7 +47,6 @@
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
 
 /**
  * An abstract implementation of {@link StorageManager} that is able
@@ -68,18 +66,29 @@ public abstract class AbstractStorageManager implements StorageManager {
     private final PrefabSerializer prefabSerializer;
     private final OwnershipHelper helper;
 
-    private boolean storeChunksInZips = true;
+    private final ChunkRegionStore chunkRegionStore;
+
+    private ChunkStorageFormat chunkStorageFormat;
+    private ChunkCompressionCodec chunkCompressionCodec = ChunkCompression.getDefaultCodec();
 
     public AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, ExtraBlockDataManager extraDataManager, boolean storeChunksInZips) {
+        this(savePath, environment, entityManager, blockManager, extraDataManager,
+                ChunkStorageFormat.fromStoreChunksInZips(storeChunksInZips), false);
+    }
+
+    protected AbstractStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                     BlockManager blockManager, ExtraBlockDataManager extraDataManager,
+                                     ChunkStorageFormat chunkStorageFormat, boolean readOnly) {
         this.entityManager = entityManager;
         this.environment = environment;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageFormat = chunkStorageFormat;
         this.prefabSerializer = new PrefabSerializer(entityManager.getComponentLibrary(), entityManager.getTypeSerializerLibrary());
         this.blockManager = blockManager;
         this.extraDataManager = extraDataManager;
 
         this.storagePathProvider = new StoragePathProvider(savePath);
+        this.chunkRegionStore = new ChunkRegionStore(storagePathProvider, readOnly);
         this.helper = new OwnershipHelper(entityManager.getComponentLibrary());
     }
 
@@ -109,9 +118,8 @@ public ChunkStore loadChunkStore(Vector3ic chunkPos) {
         byte[] chunkData = loadCompressedChunk(chunkPos);
         ChunkStore store = null;
         if (chunkData != null) {
-            ByteArrayInputStream bais = new ByteArrayInputStream(chunkData);
-            try (GZIPInputStream gzipIn = new GZIPInputStream(bais)) {
-                EntityData.ChunkStore storeData = EntityData.ChunkStore.parseFrom(gzipIn);
+            try {
+                EntityData.ChunkStore storeData = ChunkCompression.decode(chunkData);
                 store = new ChunkStoreInternal(storeData, entityManager, blockManager, extraDataManager);
             } catch (IOException e) {
                 logger.error("Failed to read existing saved chunk {}", chunkPos);
@@ -142,31 +150,73 @@ public void update() {
     }
 
     public boolean isStoreChunksInZips() {
-        return storeChunksInZips;
+        return chunkStorageFormat == ChunkStorageFormat.ZIPS;
+    }
+
+    public ChunkStorageFormat getChunkStorageFormat() {
+        return chunkStorageFormat;
+    }
+
+    public ChunkCompressionCodec getChunkCompressionCodec() {
+        return chunkCompressionCodec;
+    }
+
+    /**
+     * Sets the codec with which chunks get compressed from now on. Chunks compressed with other codecs can still be
+     * loaded.
+     */
+    public void setChunkCompressionCodec(ChunkCompressionCodec chunkCompressionCodec) {
+        this.chunkCompressionCodec = chunkCompressionCodec;
     }
 
     /**
      * For tests only
      */
     void setStoreChunksInZips(boolean storeChunksInZips) {
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageFormat = ChunkStorageFormat.fromStoreChunksInZips(storeChunksInZips);
+    }
+
+    /**
+     * For tests only
+     */
+    void setChunkStorageFormat(ChunkStorageFormat chunkStorageFormat) {
+        this.chunkStorageFormat = chunkStorageFormat;
     }
 
+    /**
+     * Loads the chunk from the configured {@link ChunkStorageFormat}. Chunks which are not found there are looked up
+     * in the other formats as well, so worlds stay loadable when the format got changed.
+     */
     protected byte[] loadCompressedChunk(Vector3ic chunkPos) {
-        if (isStoreChunksInZips()) {
-            return loadChunkZip(chunkPos);
-        } else {
-            Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
-            if (Files.isRegularFile(chunkPath)) {
-                try {
-                    return Files.readAllBytes(chunkPath);
-                } catch (IOException e) {
-                    logger.error("Failed to load chunk {}", chunkPos, e);
-                }
+        byte[] chunkData = loadCompressedChunk(chunkPos, chunkStorageFormat);
+        for (ChunkStorageFormat format : ChunkStorageFormat.values()) {
+            if (chunkData != null) {
+                break;
+            }
+            if (format != chunkStorageFormat) {
+                chunkData = loadCompressedChunk(chunkPos, format);
             }
         }
+        return chunkData;
+    }
 
-        return null;
+    private byte[] loadCompressedChunk(Vector3ic chunkPos, ChunkStorageFormat format) {
+        switch (format) {
+            case REGIONS:
+                return chunkRegionStore.loadChunk(chunkPos);
+            case ZIPS:
+                return loadChunkZip(chunkPos);
+            default:
+                Path chunkPath = storagePathProvider.getChunkPath(chunkPos);
+                if (Files.isRegularFile(chunkPath)) {
+                    try {
+                        return Files.readAllBytes(chunkPath);
+                    } catch (IOException e) {
+                        logger.error("Failed to load chunk {}", chunkPos, e);
+                    }
+                }
+                return null;
+        }
     }
 
     protected EntityData.PlayerStore loadPlayerStoreData(String playerId) {
@@ -223,6 +273,10 @@ protected StoragePathProvider getStoragePathProvider() {
         return storagePathProvider;
     }
 
+    protected ChunkRegionStore getChunkRegionStore() {
+        return chunkRegionStore;
+    }
+
     protected ModuleEnvironment getEnvironment() {
         return environment;
     }
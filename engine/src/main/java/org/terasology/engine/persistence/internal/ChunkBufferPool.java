@@ -0,0 +1,59 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A fixed number of direct buffers, which hold encoded chunks between encoding and writing them to disk.
+ * <p>
+ * Encoders block in {@link #acquire(int)} while all buffers are waiting to be written, so encoding can't get ahead of
+ * the disk by more than the pool size. Direct buffers get written by file channels without an extra copy.
+ */
+final class ChunkBufferPool {
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private final int bufferSize;
+
+    ChunkBufferPool(int bufferCount, int bufferSize) {
+        this.bufferSize = bufferSize;
+        this.freeBuffers = new ArrayBlockingQueue<>(bufferCount);
+        for (int i = 0; i < bufferCount; i++) {
+            freeBuffers.add(ByteBuffer.allocateDirect(bufferSize));
+        }
+    }
+
+    /**
+     * Waits until a buffer is free. Chunks larger than the pooled buffers are rare, they get a new heap buffer.
+     *
+     * @return cleared buffer with room for at least the given number of bytes.
+     */
+    ByteBuffer acquire(int minSize) throws InterruptedException {
+        if (minSize > bufferSize) {
+            return ByteBuffer.allocate(minSize);
+        }
+        ByteBuffer buffer = freeBuffers.take();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * @return buffer of the pool, filled with the given data and ready to be read.
+     */
+    ByteBuffer copyOf(byte[] data) throws InterruptedException {
+        ByteBuffer buffer = acquire(data.length);
+        buffer.put(data);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer obtained by {@link #acquire(int)} to the pool.
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer.isDirect() && buffer.capacity() == bufferSize) {
+            freeBuffers.add(buffer);
+        }
+    }
+}
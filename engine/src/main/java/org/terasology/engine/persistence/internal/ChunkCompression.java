@@ -0,0 +1,175 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import org.terasology.engine.config.SystemConfig;
+import org.terasology.protobuf.EntityData;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Encodes and decodes stored chunks with a {@link ChunkCompressionCodec}.
+ * <p>
+ * Every encoded chunk starts with a small header naming its codec and its uncompressed size, so chunks of one world
+ * may use different codecs. Chunks saved before codecs existed are plain gzip streams, which are recognized by the
+ * gzip magic number and still get loaded.
+ * <p>
+ * Serialization and compression buffers are kept per thread and reused, only the final encoded chunk is allocated.
+ */
+public final class ChunkCompression {
+    public static final String DEFAULT_CODEC = SystemConfig.DEFAULT_CHUNK_COMPRESSION;
+
+    private static final byte MAGIC = 0x54;
+    private static final int HEADER_SIZE = 6;
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
+
+    private static final ChunkCompressionCodec NONE = new NoneChunkCompressionCodec();
+    private static final ChunkCompressionCodec LZ = new LzChunkCompressionCodec();
+    private static final ChunkCompressionCodec[] DEFLATE = new ChunkCompressionCodec[10];
+
+    private static final ThreadLocal<byte[][]> BUFFERS = ThreadLocal.withInitial(() -> new byte[2][]);
+    private static final int SERIALIZED_BUFFER = 0;
+    private static final int COMPRESSED_BUFFER = 1;
+
+    static {
+        for (int level = 0; level < DEFLATE.length; level++) {
+            DEFLATE[level] = new DeflateChunkCompressionCodec(level);
+        }
+    }
+
+    private ChunkCompression() {
+    }
+
+    /**
+     * @param name "none", "lz" or "deflate-" followed by a level from 0 to 9
+     * @return the codec with the given name
+     * @throws IllegalArgumentException if there is no such codec
+     */
+    public static ChunkCompressionCodec getCodec(String name) {
+        if (NoneChunkCompressionCodec.NAME.equals(name)) {
+            return NONE;
+        }
+        if (LzChunkCompressionCodec.NAME.equals(name)) {
+            return LZ;
+        }
+        if (name != null && name.startsWith(DeflateChunkCompressionCodec.NAME_PREFIX)) {
+            String level = name.substring(DeflateChunkCompressionCodec.NAME_PREFIX.length());
+            if (level.length() == 1 && Character.isDigit(level.charAt(0))) {
+                return DEFLATE[level.charAt(0) - '0'];
+            }
+        }
+        throw new IllegalArgumentException("Unknown chunk compression codec: " + name);
+    }
+
+    public static ChunkCompressionCodec getDefaultCodec() {
+        return getCodec(DEFAULT_CODEC);
+    }
+
+    /**
+     * @return serialized and compressed chunk store, including the header for {@link #decode(byte[])}.
+     */
+    public static byte[] encode(EntityData.ChunkStore store, ChunkCompressionCodec codec) {
+        int length = encodeToCompressedBuffer(store, codec);
+        return Arrays.copyOf(BUFFERS.get()[COMPRESSED_BUFFER], length);
+    }
+
+    /**
+     * Like {@link #encode(EntityData.ChunkStore, ChunkCompressionCodec)}, but puts the encoded chunk into a buffer of
+     * the pool instead of allocating a new array.
+     *
+     * @return buffer of the pool, ready to be read.
+     */
+    static ByteBuffer encode(EntityData.ChunkStore store, ChunkCompressionCodec codec, ChunkBufferPool pool)
+            throws InterruptedException {
+        int length = encodeToCompressedBuffer(store, codec);
+        ByteBuffer buffer = pool.acquire(length);
+        buffer.put(BUFFERS.get()[COMPRESSED_BUFFER], 0, length);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * @return length of the encoded chunk, which is at the start of the compression buffer of the current thread.
+     */
+    private static int encodeToCompressedBuffer(EntityData.ChunkStore store, ChunkCompressionCodec codec) {
+        int size = store.getSerializedSize();
+        byte[] serialized = getBuffer(SERIALIZED_BUFFER, size);
+        try {
+            CodedOutputStream out = CodedOutputStream.newInstance(serialized, 0, size);
+            store.writeTo(out);
+            out.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // as no real IO is involved this should not happen
+            throw new RuntimeException(e);
+        }
+
+        byte[] compressed = getBuffer(COMPRESSED_BUFFER, HEADER_SIZE + codec.maxCompressedLength(size));
+        compressed[0] = MAGIC;
+        compressed[1] = (byte) codec.getId();
+        compressed[2] = (byte) (size >>> 24);
+        compressed[3] = (byte) (size >>> 16);
+        compressed[4] = (byte) (size >>> 8);
+        compressed[5] = (byte) size;
+        return HEADER_SIZE + codec.compress(serialized, size, compressed, HEADER_SIZE);
+    }
+
+    /**
+     * @param data chunk encoded by {@link #encode(EntityData.ChunkStore, ChunkCompressionCodec)}, or a gzip
+     *             compressed chunk store of older save games.
+     */
+    public static EntityData.ChunkStore decode(byte[] data) throws IOException {
+        if (isGzip(data)) {
+            try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                return EntityData.ChunkStore.parseFrom(gzipIn);
+            }
+        }
+        if (data.length < HEADER_SIZE || data[0] != MAGIC) {
+            throw new IOException("Unknown chunk encoding");
+        }
+        ChunkCompressionCodec codec = getCodecById(data[1]);
+        int size = (data[2] & 0xFF) << 24 | (data[3] & 0xFF) << 16 | (data[4] & 0xFF) << 8 | (data[5] & 0xFF);
+        if (size < 0) {
+            throw new IOException("Invalid chunk size " + size);
+        }
+        // decoding does not use the compression buffer, so it is free to hold the decompressed chunk
+        byte[] decompressed = getBuffer(COMPRESSED_BUFFER, size);
+        codec.decompress(data, HEADER_SIZE, data.length - HEADER_SIZE, decompressed, size);
+        return EntityData.ChunkStore.parseFrom(CodedInputStream.newInstance(decompressed, 0, size));
+    }
+
+    private static boolean isGzip(byte[] data) {
+        return data.length >= 2 && (data[0] & 0xFF) == GZIP_MAGIC_FIRST && (data[1] & 0xFF) == GZIP_MAGIC_SECOND;
+    }
+
+    private static ChunkCompressionCodec getCodecById(int id) throws IOException {
+        switch (id) {
+            case NoneChunkCompressionCodec.ID:
+                return NONE;
+            case DeflateChunkCompressionCodec.ID:
+                // decompression does not depend on the level
+                return DEFLATE[0];
+            case LzChunkCompressionCodec.ID:
+                return LZ;
+            default:
+                throw new IOException("Unknown chunk compression codec id " + id);
+        }
+    }
+
+    private static byte[] getBuffer(int index, int minSize) {
+        byte[][] buffers = BUFFERS.get();
+        byte[] buffer = buffers[index];
+        if (buffer == null || buffer.length < minSize) {
+            // grow generously, chunks of a world have similar sizes
+            buffer = new byte[Math.max(minSize, buffer == null ? 0 : buffer.length + (buffer.length >> 1))];
+            buffers[index] = buffer;
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,50 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import java.io.IOException;
+
+/**
+ * Compresses serialized chunks for storage, see {@link ChunkCompression}.
+ * <p>
+ * Implementations must be thread-safe. Codecs that need state (e.g. a {@link java.util.zip.Deflater}) should keep
+ * one instance per thread and reuse it, instead of creating new state for every chunk.
+ */
+public interface ChunkCompressionCodec {
+
+    /**
+     * @return name under which the codec is configured and recorded in the game manifest, e.g. "deflate-6".
+     */
+    String getName();
+
+    /**
+     * @return id which is stored in front of every chunk compressed by the codec. Codecs which differ only in
+     *         compression parameters share the id, as their output is decompressed the same way.
+     */
+    int getId();
+
+    /**
+     * @return the maximum number of bytes {@link #compress(byte[], int, byte[], int)} writes for input of the given
+     *         length.
+     */
+    int maxCompressedLength(int length);
+
+    /**
+     * @param src serialized chunk
+     * @param length length of the serialized chunk within src
+     * @param dst target array, with at least {@link #maxCompressedLength(int)} bytes available after dstOffset
+     * @param dstOffset position in dst to write to
+     * @return count of written bytes
+     */
+    int compress(byte[] src, int length, byte[] dst, int dstOffset);
+
+    /**
+     * @param src compressed chunk
+     * @param srcOffset position of compressed data in src
+     * @param srcLength length of compressed data
+     * @param dst target array
+     * @param dstLength exact length of the decompressed data
+     * @throws IOException if the data is damaged
+     */
+    void decompress(byte[] src, int srcOffset, int srcLength, byte[] dst, int dstLength) throws IOException;
+}
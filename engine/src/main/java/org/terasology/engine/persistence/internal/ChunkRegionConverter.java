@@ -0,0 +1,120 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.joml.Vector3i;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves chunks stored as {@link ChunkStorageFormat#ZIPS} or {@link ChunkStorageFormat#FILES} into the region files of
+ * a {@link ChunkRegionStore}.
+ * <p>
+ * Each legacy file is deleted only after all of its chunks got written and applied to their regions. An interrupted
+ * conversion is continued on the next start and converts the remaining files again, which is harmless as the
+ * converted chunks are identical.
+ */
+class ChunkRegionConverter {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionConverter.class);
+
+    private final StoragePathProvider storagePathProvider;
+    private final ChunkRegionStore regionStore;
+
+    ChunkRegionConverter(StoragePathProvider storagePathProvider, ChunkRegionStore regionStore) {
+        this.storagePathProvider = storagePathProvider;
+        this.regionStore = regionStore;
+    }
+
+    /**
+     * Converts all legacy chunk files of the world. Must not run concurrently with a save transaction.
+     */
+    void convertLegacyChunks() throws IOException {
+        Path worldPath = storagePathProvider.getWorldPath();
+        if (!Files.isDirectory(worldPath)) {
+            return;
+        }
+        int convertedZips = 0;
+        try (DirectoryStream<Path> chunkZips = Files.newDirectoryStream(worldPath, "*.chunks.zip")) {
+            for (Path chunkZip : chunkZips) {
+                convertChunkZip(chunkZip);
+                convertedZips++;
+            }
+        }
+
+        // chunk files get converted region by region, so that not all of them have to be in memory at once
+        Map<Vector3i, List<Path>> chunkFilesByRegion = Maps.newHashMap();
+        int convertedFiles = 0;
+        try (DirectoryStream<Path> chunkFiles = Files.newDirectoryStream(worldPath, "*.chunk")) {
+            for (Path chunkFile : chunkFiles) {
+                Vector3i chunkPos = storagePathProvider.parseChunkFilename(chunkFile.getFileName().toString());
+                if (chunkPos != null) {
+                    chunkFilesByRegion.computeIfAbsent(storagePathProvider.getChunkRegionPosition(chunkPos),
+                            pos -> Lists.newArrayList()).add(chunkFile);
+                }
+            }
+        }
+        for (List<Path> chunkFiles : chunkFilesByRegion.values()) {
+            Map<Vector3i, byte[]> chunks = Maps.newHashMap();
+            for (Path chunkFile : chunkFiles) {
+                chunks.put(storagePathProvider.parseChunkFilename(chunkFile.getFileName().toString()),
+                        Files.readAllBytes(chunkFile));
+            }
+            writeAndApply(chunks);
+            for (Path chunkFile : chunkFiles) {
+                Files.delete(chunkFile);
+            }
+            convertedFiles += chunkFiles.size();
+        }
+
+        if (convertedZips > 0 || convertedFiles > 0) {
+            logger.info("Converted {} chunk zips and {} chunk files into chunk regions", convertedZips, convertedFiles);
+        }
+    }
+
+    private void convertChunkZip(Path chunkZipPath) throws IOException {
+        Map<Vector3i, byte[]> chunks = Maps.newHashMap();
+        try (FileSystem chunkZip = FileSystems.newFileSystem(chunkZipPath, null)) {
+            for (Path root : chunkZip.getRootDirectories()) {
+                Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                        Vector3i chunkPos = storagePathProvider.parseChunkFilename(file.getFileName().toString());
+                        if (chunkPos != null) {
+                            chunks.put(chunkPos, Files.readAllBytes(file));
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
+        }
+        writeAndApply(chunks);
+        Files.delete(chunkZipPath);
+    }
+
+    private void writeAndApply(Map<Vector3i, byte[]> chunks) throws IOException {
+        Map<Vector3i, Map<Vector3i, byte[]>> chunksByRegion = Maps.newHashMap();
+        for (Map.Entry<Vector3i, byte[]> entry : chunks.entrySet()) {
+            Vector3i regionPos = storagePathProvider.getChunkRegionPosition(entry.getKey());
+            chunksByRegion.computeIfAbsent(regionPos, pos -> Maps.newHashMap()).put(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<Vector3i, Map<Vector3i, byte[]>> entry : chunksByRegion.entrySet()) {
+            Path journalPath = storagePathProvider.getChunkRegionJournalPath(entry.getKey());
+            regionStore.writeRegion(entry.getKey(), entry.getValue(), journalPath);
+            regionStore.applyJournal(entry.getKey(), journalPath);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import gnu.trove.list.TIntList;
+import gnu.trove.list.array.TIntArrayList;
+import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * A single region file, which holds the encoded chunks of a cube of chunk positions with edge length
+ * {@link #REGION_DIM}.
+ * <p>
+ * The file starts with a header and an allocation table, which stores for every chunk of the region the first sector
+ * and the byte length of its data. The rest of the file is divided into sectors of {@link #SECTOR_SIZE} bytes.
+ * Chunks are written in place into free sectors, so saving a chunk does not touch any other chunk of the region.
+ * <p>
+ * Chunk data is never overwritten while it is still referenced by the table. New versions of chunks are written into
+ * free sectors first and the table is only changed afterwards, by applying a journal (see
+ * {@link #writeChunks(Map, Path)} and {@link #applyJournal(Path)}). A crash at any point leaves either the old or the
+ * new table, but never a table pointing at half-written data.
+ * <p>
+ * Reads go through a read-only memory map of the file, which is re-created when the file has grown.
+ */
+final class ChunkRegionFile implements Closeable {
+    static final int REGION_DIM = 16;
+    static final int SECTOR_SIZE = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionFile.class);
+
+    private static final int MAGIC = 0x54524731; // "TRG1"
+    private static final int JOURNAL_MAGIC = 0x54524A31; // "TRJ1"
+    private static final int VERSION = 1;
+    private static final int CHUNKS_PER_REGION = REGION_DIM * REGION_DIM * REGION_DIM;
+    private static final int TABLE_OFFSET = 16;
+    private static final int TABLE_ENTRY_SIZE = 8;
+    private static final int JOURNAL_ENTRY_SIZE = 12;
+    private static final int HEADER_SECTORS = (TABLE_OFFSET + CHUNKS_PER_REGION * TABLE_ENTRY_SIZE + SECTOR_SIZE - 1)
+            / SECTOR_SIZE;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final boolean readOnly;
+
+    private final int[] sectorOffsets = new int[CHUNKS_PER_REGION];
+    private final int[] byteLengths = new int[CHUNKS_PER_REGION];
+    /**
+     * Sectors which are referenced by the table, or which got written by a journal that is not applied yet.
+     */
+    private final BitSet usedSectors = new BitSet();
+
+    private MappedByteBuffer mappedFile;
+
+    private ChunkRegionFile(Path path, FileChannel channel, boolean readOnly) {
+        this.path = path;
+        this.channel = channel;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Opens the region file, creating it when it does not exist yet.
+     */
+    static ChunkRegionFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE);
+        ChunkRegionFile regionFile = new ChunkRegionFile(path, channel, false);
+        try {
+            if (channel.size() == 0) {
+                regionFile.writeHeader();
+            }
+            regionFile.readHeader();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return regionFile;
+    }
+
+    /**
+     * @return region file opened for reading only, or null if there is no region file at the path.
+     */
+    static ChunkRegionFile openReadOnly(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        ChunkRegionFile regionFile = new ChunkRegionFile(path, channel, true);
+        try {
+            regionFile.readHeader();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return regionFile;
+    }
+
+    /**
+     * @return encoded chunk, or null if the region does not contain the chunk.
+     */
+    synchronized byte[] read(Vector3ic chunkPos) throws IOException {
+        int index = getIndex(chunkPos);
+        int length = byteLengths[index];
+        if (length == 0) {
+            return null;
+        }
+        long start = (long) sectorOffsets[index] * SECTOR_SIZE;
+        if (mappedFile == null || start + length > mappedFile.capacity()) {
+            mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        byte[] data = new byte[length];
+        ByteBuffer source = mappedFile.duplicate();
+        source.position((int) start);
+        source.get(data);
+        return data;
+    }
+
+    /**
+     * Writes encoded chunks into free sectors and describes the change in a journal. The chunks become visible only
+     * when the journal gets applied with {@link #applyJournal(Path)}, until then the previous versions are read.
+     *
+     * @param chunks encoded chunks by position, all of which have to be part of this region.
+     * @param journalPath where to write the journal to.
+     */
+    synchronized void writeChunks(Map<? extends Vector3ic, byte[]> chunks, Path journalPath) throws IOException {
+        Journal journal = new Journal();
+        try {
+            for (Map.Entry<? extends Vector3ic, byte[]> entry : chunks.entrySet()) {
+                writeChunk(entry.getKey(), ByteBuffer.wrap(entry.getValue()), journal);
+            }
+            writeJournal(journal, journalPath);
+        } catch (IOException | RuntimeException e) {
+            discard(journal);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a single encoded chunk into free sectors, see {@link #writeChunks(Map, Path)}. The chunk becomes visible
+     * after the journal got written with {@link #writeJournal(Journal, Path)} and applied.
+     *
+     * @param data encoded chunk, from its position to its limit.
+     * @param journal collects the change of the allocation table.
+     */
+    synchronized void writeChunk(Vector3ic chunkPos, ByteBuffer data, Journal journal) throws IOException {
+        checkWritable();
+        int length = data.remaining();
+        int sectorCount = getSectorCount(length);
+        int sectorOffset = allocateSectors(sectorCount);
+        try {
+            writeFully(data, (long) sectorOffset * SECTOR_SIZE);
+        } catch (IOException | RuntimeException e) {
+            usedSectors.clear(sectorOffset, sectorOffset + sectorCount);
+            throw e;
+        }
+        journal.add(getIndex(chunkPos), sectorOffset, length);
+    }
+
+    /**
+     * Frees the sectors the chunks of the journal got written to. Only for journals which will never be applied, as
+     * the sectors may be handed out again right away. The journal is empty afterwards.
+     */
+    synchronized void discard(Journal journal) {
+        for (int i = 0; i < journal.size(); i++) {
+            int sectorOffset = journal.entries.get(i * 3 + 1);
+            int length = journal.entries.get(i * 3 + 2);
+            usedSectors.clear(sectorOffset, sectorOffset + getSectorCount(length));
+        }
+        journal.entries.clear();
+    }
+
+    /**
+     * Makes sure the chunks of the journal are on disk and writes the journal.
+     */
+    synchronized void writeJournal(Journal journal, Path journalPath) throws IOException {
+        checkWritable();
+        channel.force(false);
+
+        int count = journal.size();
+        ByteBuffer journalData = ByteBuffer.allocate(8 + count * JOURNAL_ENTRY_SIZE + 8);
+        journalData.putInt(JOURNAL_MAGIC);
+        journalData.putInt(count);
+        for (int i = 0; i < count * 3; i++) {
+            journalData.putInt(journal.entries.get(i));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(journalData.array(), 0, journalData.position());
+        journalData.putLong(crc.getValue());
+        Files.write(journalPath, journalData.array());
+    }
+
+    /**
+     * Changes the allocation table as described by the journal and frees the sectors of replaced chunks. Applying
+     * the same journal again does not change anything, so it is safe to re-apply a journal after a crash.
+     * <p>
+     * Journals which are damaged get discarded with a warning, the region then keeps the previous versions of the
+     * chunks.
+     */
+    synchronized void applyJournal(Path journalPath) throws IOException {
+        checkWritable();
+        ByteBuffer journal = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        if (!isValidJournal(journal)) {
+            logger.warn("Discarding damaged chunk region journal {}", journalPath);
+            Files.delete(journalPath);
+            return;
+        }
+        int count = journal.getInt(4);
+        journal.position(8);
+        ByteBuffer tableEntry = ByteBuffer.allocate(TABLE_ENTRY_SIZE);
+        for (int i = 0; i < count; i++) {
+            int index = journal.getInt();
+            int sectorOffset = journal.getInt();
+            int length = journal.getInt();
+
+            if (byteLengths[index] != 0) {
+                usedSectors.clear(sectorOffsets[index], sectorOffsets[index] + getSectorCount(byteLengths[index]));
+            }
+            sectorOffsets[index] = sectorOffset;
+            byteLengths[index] = length;
+            usedSectors.set(sectorOffset, sectorOffset + getSectorCount(length));
+
+            tableEntry.clear();
+            tableEntry.putInt(sectorOffset).putInt(length).flip();
+            writeFully(tableEntry, TABLE_OFFSET + (long) index * TABLE_ENTRY_SIZE);
+        }
+        channel.force(true);
+        Files.delete(journalPath);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        mappedFile = null;
+        channel.close();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private static boolean isValidJournal(ByteBuffer journal) {
+        if (journal.limit() < 16 || journal.getInt(0) != JOURNAL_MAGIC) {
+            return false;
+        }
+        int count = journal.getInt(4);
+        if (count < 0 || journal.limit() != 8 + count * JOURNAL_ENTRY_SIZE + 8) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(journal.array(), 0, journal.limit() - 8);
+        return crc.getValue() == journal.getLong(journal.limit() - 8);
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SECTORS * SECTOR_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(SECTOR_SIZE).putInt(REGION_DIM);
+        header.clear();
+        writeFully(header, 0);
+        channel.force(true);
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(TABLE_OFFSET + CHUNKS_PER_REGION * TABLE_ENTRY_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("Chunk region file " + path + " is truncated");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION || header.getInt() != SECTOR_SIZE
+                || header.getInt() != REGION_DIM) {
+            throw new IOException("Unsupported chunk region file " + path);
+        }
+        usedSectors.set(0, HEADER_SECTORS);
+        for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+            sectorOffsets[i] = header.getInt();
+            byteLengths[i] = header.getInt();
+            if (byteLengths[i] != 0) {
+                usedSectors.set(sectorOffsets[i], sectorOffsets[i] + getSectorCount(byteLengths[i]));
+            }
+        }
+    }
+
+    /**
+     * First fit search for a run of free sectors. The sectors get reserved right away, so they can't be handed out
+     * twice before the journal describing them is applied.
+     */
+    private int allocateSectors(int count) {
+        int start = usedSectors.nextClearBit(HEADER_SECTORS);
+        int end = usedSectors.nextSetBit(start);
+        while (end != -1 && end - start < count) {
+            start = usedSectors.nextClearBit(end);
+            end = usedSectors.nextSetBit(start);
+        }
+        usedSectors.set(start, start + count);
+        return start;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private void checkWritable() throws IOException {
+        if (readOnly) {
+            throw new IOException("Chunk region file " + path + " is opened read only");
+        }
+    }
+
+    /**
+     * Changes of the allocation table by chunks that got written, but which are not visible yet.
+     */
+    static final class Journal {
+        /**
+         * Index, sector offset and byte length of each written chunk.
+         */
+        private final TIntList entries = new TIntArrayList();
+
+        private void add(int index, int sectorOffset, int byteLength) {
+            entries.add(index);
+            entries.add(sectorOffset);
+            entries.add(byteLength);
+        }
+
+        int size() {
+            return entries.size() / 3;
+        }
+    }
+
+    private static int getSectorCount(int byteLength) {
+        return (byteLength + SECTOR_SIZE - 1) / SECTOR_SIZE;
+    }
+
+    private static int getIndex(Vector3ic chunkPos) {
+        int x = Math.floorMod(chunkPos.x(), REGION_DIM);
+        int y = Math.floorMod(chunkPos.y(), REGION_DIM);
+        int z = Math.floorMod(chunkPos.z(), REGION_DIM);
+        return (x * REGION_DIM + y) * REGION_DIM + z;
+    }
+}
@@ -0,0 +1,147 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import com.google.common.collect.Maps;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Stores encoded chunks of a world in {@link ChunkRegionFile}s, see {@link ChunkStorageFormat#REGIONS}.
+ * <p>
+ * Saving is split into two steps, so that it fits into {@link SaveTransaction}: {@link #writeRegion(Vector3i, Map, Path)}
+ * writes the chunks into free sectors and creates a journal in the temporary directory of the save transaction. After
+ * the save transaction got merged, {@link #applyJournals()} makes the new chunks visible.
+ * <p>
+ * Region files are opened on first use and kept open until the store is closed.
+ */
+public class ChunkRegionStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkRegionStore.class);
+
+    private final StoragePathProvider storagePathProvider;
+    private final boolean readOnly;
+    private final Map<Vector3i, ChunkRegionFile> openRegions = Maps.newHashMap();
+
+    public ChunkRegionStore(StoragePathProvider storagePathProvider, boolean readOnly) {
+        this.storagePathProvider = storagePathProvider;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * @return encoded chunk, or null if no region contains the chunk.
+     */
+    public byte[] loadChunk(Vector3ic chunkPos) {
+        Vector3i regionPos = storagePathProvider.getChunkRegionPosition(chunkPos);
+        try {
+            ChunkRegionFile region = getRegion(regionPos, false);
+            return region != null ? region.read(chunkPos) : null;
+        } catch (IOException e) {
+            logger.error("Failed to load chunk {} from region {}", chunkPos, regionPos, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the encoded chunks of one region.
+     *
+     * @param regionPos position of region, see {@link StoragePathProvider#getChunkRegionPosition(Vector3ic)}
+     * @param chunks encoded chunks, all of which have to be in the region
+     * @param journalPath where to write the journal of the change to
+     */
+    public void writeRegion(Vector3i regionPos, Map<Vector3i, byte[]> chunks, Path journalPath) throws IOException {
+        getRegion(regionPos, true).writeChunks(chunks, journalPath);
+    }
+
+    /**
+     * Writes a single encoded chunk, for saving chunks one by one as they get encoded. The journal of the region has to
+     * be written with {@link #writeJournal(Vector3i, ChunkRegionFile.Journal, Path)} once all chunks of the region are
+     * written.
+     */
+    void writeChunk(Vector3i regionPos, Vector3ic chunkPos, ByteBuffer data, ChunkRegionFile.Journal journal)
+            throws IOException {
+        getRegion(regionPos, true).writeChunk(chunkPos, data, journal);
+    }
+
+    void writeJournal(Vector3i regionPos, ChunkRegionFile.Journal journal, Path journalPath) throws IOException {
+        getRegion(regionPos, true).writeJournal(journal, journalPath);
+    }
+
+    /**
+     * Frees the sectors reserved for the chunks of a journal which will never be applied, e.g. because the save it
+     * belongs to failed.
+     */
+    synchronized void discardJournal(Vector3i regionPos, ChunkRegionFile.Journal journal) {
+        ChunkRegionFile region = openRegions.get(regionPos);
+        if (region != null) {
+            region.discard(journal);
+        }
+    }
+
+    /**
+     * Applies all journals in the world directory to their regions. Should be called with the write lock of the world
+     * directory after changes got merged, and on start up to finish saves which got interrupted.
+     */
+    public void applyJournals() throws IOException {
+        Path worldPath = storagePathProvider.getWorldPath();
+        if (readOnly || !Files.isDirectory(worldPath)) {
+            return;
+        }
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(worldPath, "*.journal")) {
+            for (Path journal : journals) {
+                Vector3i regionPos = storagePathProvider.parseChunkRegionJournalFilename(journal.getFileName().toString());
+                if (regionPos != null) {
+                    applyJournal(regionPos, journal);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the journal of a single region, see {@link #writeRegion(Vector3i, Map, Path)}.
+     */
+    public void applyJournal(Vector3i regionPos, Path journalPath) throws IOException {
+        getRegion(regionPos, true).applyJournal(journalPath);
+    }
+
+    /**
+     * Closes all open region files. The store can still be used afterwards, regions get opened again on demand.
+     */
+    @Override
+    public synchronized void close() {
+        for (ChunkRegionFile region : openRegions.values()) {
+            try {
+                region.close();
+            } catch (IOException e) {
+                logger.error("Failed to close chunk region {}", region.getPath(), e);
+            }
+        }
+        openRegions.clear();
+    }
+
+    private synchronized ChunkRegionFile getRegion(Vector3i regionPos, boolean create) throws IOException {
+        ChunkRegionFile region = openRegions.get(regionPos);
+        if (region == null) {
+            Path regionPath = storagePathProvider.getChunkRegionPath(regionPos);
+            if (readOnly) {
+                region = ChunkRegionFile.openReadOnly(regionPath);
+            } else if (create || Files.isRegularFile(regionPath)) {
+                Files.createDirectories(regionPath.getParent());
+                region = ChunkRegionFile.open(regionPath);
+            }
+            if (region != null) {
+                openRegions.put(regionPos, region);
+            }
+        }
+        return region;
+    }
+}
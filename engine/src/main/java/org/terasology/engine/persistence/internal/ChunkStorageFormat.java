@@ -0,0 +1,26 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+/**
+ * Layout in which a {@link AbstractStorageManager} stores the encoded chunks of a world.
+ */
+public enum ChunkStorageFormat {
+    /**
+     * One file per chunk.
+     */
+    FILES,
+    /**
+     * One zip file per 32x32x32 chunks. Each save rewrites the whole zip of every changed chunk.
+     */
+    ZIPS,
+    /**
+     * One {@link ChunkRegionFile} per 16x16x16 chunks, which is updated in place. Chunks stored as {@link #ZIPS} or
+     * {@link #FILES} are still loaded and get converted on start up.
+     */
+    REGIONS;
+
+    static ChunkStorageFormat fromStoreChunksInZips(boolean storeChunksInZips) {
+        return storeChunksInZips ? ZIPS : FILES;
+    }
+}
@@ -22,6 +22,7 @@
 import org.terasology.engine.world.block.BlockManager;
 import org.terasology.engine.world.chunks.Chunk;
 import org.terasology.engine.world.chunks.blockdata.ExtraBlockDataManager;
+import org.terasology.engine.world.chunks.internal.ChunkImpl;
 import org.terasology.engine.world.chunks.internal.ChunkSerializer;
 
 /**
@@ -39,7 +40,10 @@ final class ChunkStoreInternal implements ChunkStore {
         this.chunkPosition = new Vector3i(chunkData.getX(), chunkData.getY(), chunkData.getZ());
         this.entityManager = entityManager;
 
-        this.chunk = ChunkSerializer.decode(chunkData, blockManager, extraDataManager);
+        ChunkImpl loadedChunk = (ChunkImpl) ChunkSerializer.decode(chunkData, blockManager, extraDataManager);
+        // the chunk matches the stored version until it gets changed
+        loadedChunk.markPersistentChangesSaved(loadedChunk.getPersistentChangeGeneration());
+        this.chunk = loadedChunk;
         this.entityStore = chunkData.getStore();
     }
 
@@ -20,11 +20,9 @@
 import org.terasology.protobuf.EntityData;
 import org.terasology.engine.world.chunks.internal.ChunkImpl;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * Provides an easy to get a compressed version of a chunk. Either the chunk most have a snapshot of it's state
@@ -35,6 +33,7 @@ public class CompressedChunkBuilder {
     private EntityData.EntityStore entityStore;
     private ChunkImpl chunk;
     private boolean viaSnapshot;
+    private ChunkCompressionCodec codec;
     private byte[] result;
     private Set<EntityRef> storedEntities;
 
@@ -48,12 +47,27 @@ public class CompressedChunkBuilder {
     public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk,
                                   Collection<EntityRef> entitiesToSave,
                                   boolean chunkUnloaded) {
+        this(entityManager, chunk, entitiesToSave, chunkUnloaded, ChunkCompression.getDefaultCodec());
+    }
+
+    /**
+     *
+     * @param entitiesToSave all persistent entities within the given chunk
+     * @param chunkUnloaded if true the chunk data will be used directly.  If deactivate is false then the chunk will be
+     *                      but in snapshot mode so that concurrent modifications (and possibly future unload) is
+     *                      possible.
+     * @param codec         codec to compress the chunk with
+     */
+    public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk,
+                                  Collection<EntityRef> entitiesToSave,
+                                  boolean chunkUnloaded, ChunkCompressionCodec codec) {
         EntityStorer storer = new EntityStorer(entityManager);
         entitiesToSave.stream().filter(EntityRef::isPersistent).forEach(storer::store);
         storedEntities = storer.getStoredEntities();
         this.entityStore = storer.finaliseStore();
 
         this.chunk = chunk;
+        this.codec = codec;
         this.viaSnapshot = !chunkUnloaded;
         if (viaSnapshot) {
             this.chunk.createSnapshot();
@@ -67,36 +81,54 @@ public CompressedChunkBuilder(EngineEntityManager entityManager, ChunkImpl chunk
      * @param viaSnapshot specifies if the previously taken snapshot will be encoded or if
      */
     public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkImpl chunk, boolean viaSnapshot) {
+        this(entityStore, chunk, viaSnapshot, ChunkCompression.getDefaultCodec());
+    }
+
+    /**
+     *
+     * @param entityStore encoded entities to be stored.
+     * @param chunk       chunk for which {@link ChunkImpl#createSnapshot()} has been called.
+     * @param viaSnapshot specifies if the previously taken snapshot will be encoded or if
+     * @param codec       codec to compress the chunk with
+     */
+    public CompressedChunkBuilder(EntityData.EntityStore entityStore, ChunkImpl chunk, boolean viaSnapshot,
+                                  ChunkCompressionCodec codec) {
         this.entityStore = entityStore;
         this.chunk = chunk;
         this.viaSnapshot = viaSnapshot;
+        this.codec = codec;
     }
 
     public synchronized byte[] buildEncodedChunk() {
         if (result == null) {
-
-            EntityData.ChunkStore.Builder encoded;
-            if (viaSnapshot) {
-                encoded = chunk.encodeAndReleaseSnapshot();
-            } else {
-                encoded = chunk.encode();
-            }
-            encoded.setStore(entityStore);
-            EntityData.ChunkStore store = encoded.build();
-            result = compressChunkStore(store);
+            result = ChunkCompression.encode(buildChunkStore(), codec);
         }
         return result;
     }
 
-    private byte[] compressChunkStore(EntityData.ChunkStore store) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
-            store.writeTo(gzipOut);
-        } catch (IOException e) {
-            // as no real IO is involved this should not happen
-            throw new RuntimeException(e);
+    /**
+     * Puts the encoded chunk into a buffer of the pool. Chunks encoded via snapshot are not kept in memory afterwards,
+     * so for them this method must only be called once and not in addition to {@link #buildEncodedChunk()}.
+     * Unloaded chunks can be loaded again while they get saved, their encoded version is kept.
+     *
+     * @return buffer of the pool, ready to be read.
+     */
+    synchronized ByteBuffer encodeChunk(ChunkBufferPool pool) throws InterruptedException {
+        if (!viaSnapshot || result != null) {
+            return pool.copyOf(buildEncodedChunk());
+        }
+        return ChunkCompression.encode(buildChunkStore(), codec, pool);
+    }
+
+    private EntityData.ChunkStore buildChunkStore() {
+        EntityData.ChunkStore.Builder encoded;
+        if (viaSnapshot) {
+            encoded = chunk.encodeAndReleaseSnapshot();
+        } else {
+            encoded = chunk.encode();
         }
-        return baos.toByteArray();
+        encoded.setStore(entityStore);
+        return encoded.build();
     }
 
     public Set<EntityRef> getStoredEntities() {
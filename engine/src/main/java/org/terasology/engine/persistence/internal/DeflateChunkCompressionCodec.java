@@ -0,0 +1,71 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compresses chunks with zlib deflate at a configurable level. Each thread reuses its own {@link Deflater} and
+ * {@link Inflater}, which are expensive to create.
+ */
+class DeflateChunkCompressionCodec implements ChunkCompressionCodec {
+    static final String NAME_PREFIX = "deflate-";
+    static final int ID = 1;
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final int level;
+    private final ThreadLocal<Deflater> deflater;
+
+    DeflateChunkCompressionCodec(int level) {
+        this.level = level;
+        this.deflater = ThreadLocal.withInitial(() -> new Deflater(level));
+    }
+
+    @Override
+    public String getName() {
+        return NAME_PREFIX + level;
+    }
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        // bound of zlib's deflateBound() with some slack for the zlib header and trailer
+        return length + (length >> 12) + (length >> 14) + (length >> 25) + 64;
+    }
+
+    @Override
+    public int compress(byte[] src, int length, byte[] dst, int dstOffset) {
+        Deflater compressor = deflater.get();
+        compressor.reset();
+        compressor.setInput(src, 0, length);
+        compressor.finish();
+        int written = compressor.deflate(dst, dstOffset, dst.length - dstOffset);
+        if (!compressor.finished()) {
+            throw new IllegalStateException("Compressed chunk exceeds the expected maximum length");
+        }
+        return written;
+    }
+
+    @Override
+    public void decompress(byte[] src, int srcOffset, int srcLength, byte[] dst, int dstLength) throws IOException {
+        Inflater decompressor = INFLATER.get();
+        decompressor.reset();
+        decompressor.setInput(src, srcOffset, srcLength);
+        try {
+            int read = decompressor.inflate(dst, 0, dstLength);
+            if (read != dstLength || !decompressor.finished()) {
+                throw new IOException("Deflated chunk is truncated");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Deflated chunk is damaged", e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Fast LZ77 compression in the block format of LZ4, implemented in plain Java.
+ * <p>
+ * Compresses worse than deflate, but both compression and decompression are many times faster. Serialized chunks
+ * consist mostly of long runs in the block arrays, which this codec handles well.
+ * <p>
+ * The data is a sequence of tokens. Each token holds the length of the following literals and the length of a
+ * match, followed by the literals and the 2 byte little endian offset of the match. Lengths of 15 and above continue
+ * in extra bytes. The last token has only literals.
+ */
+class LzChunkCompressionCodec implements ChunkCompressionCodec {
+    static final String NAME = "lz";
+    static final int ID = 2;
+
+    private static final int MIN_MATCH = 4;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int HASH_LOG = 14;
+    private static final int RUN_MASK = 0x0F;
+
+    /**
+     * Last position of each hashed 4 byte sequence, reused by every compression on the same thread.
+     */
+    private static final ThreadLocal<int[]> HASH_TABLE = ThreadLocal.withInitial(() -> new int[1 << HASH_LOG]);
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    @Override
+    public int compress(byte[] src, int length, byte[] dst, int dstOffset) {
+        int[] hashTable = HASH_TABLE.get();
+        Arrays.fill(hashTable, -1);
+
+        int dstPos = dstOffset;
+        int anchor = 0;
+        int pos = 0;
+        int matchLimit = length - MIN_MATCH;
+        while (pos <= matchLimit) {
+            int sequence = readInt(src, pos);
+            int hash = hash(sequence);
+            int ref = hashTable[hash];
+            hashTable[hash] = pos;
+            if (ref < 0 || pos - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                pos++;
+                continue;
+            }
+            int matchLength = MIN_MATCH;
+            while (pos + matchLength < length && src[ref + matchLength] == src[pos + matchLength]) {
+                matchLength++;
+            }
+            dstPos = writeToken(src, anchor, pos - anchor, matchLength - MIN_MATCH, dst, dstPos);
+            dst[dstPos++] = (byte) (pos - ref);
+            dst[dstPos++] = (byte) ((pos - ref) >>> 8);
+            dstPos = writeLength(matchLength - MIN_MATCH, dst, dstPos);
+            pos += matchLength;
+            anchor = pos;
+        }
+        dstPos = writeToken(src, anchor, length - anchor, 0, dst, dstPos);
+        return dstPos - dstOffset;
+    }
+
+    @Override
+    public void decompress(byte[] src, int srcOffset, int srcLength, byte[] dst, int dstLength) throws IOException {
+        int srcPos = srcOffset;
+        int srcEnd = srcOffset + srcLength;
+        int dstPos = 0;
+        try {
+            while (srcPos < srcEnd) {
+                int token = src[srcPos++] & 0xFF;
+
+                int literalLength = token >>> 4;
+                if (literalLength == RUN_MASK) {
+                    int extra;
+                    do {
+                        extra = src[srcPos++] & 0xFF;
+                        literalLength += extra;
+                    } while (extra == 0xFF);
+                }
+                System.arraycopy(src, srcPos, dst, dstPos, literalLength);
+                srcPos += literalLength;
+                dstPos += literalLength;
+                if (srcPos >= srcEnd) {
+                    break;
+                }
+
+                int offset = (src[srcPos++] & 0xFF) | ((src[srcPos++] & 0xFF) << 8);
+                int matchLength = token & RUN_MASK;
+                if (matchLength == RUN_MASK) {
+                    int extra;
+                    do {
+                        extra = src[srcPos++] & 0xFF;
+                        matchLength += extra;
+                    } while (extra == 0xFF);
+                }
+                matchLength += MIN_MATCH;
+                int ref = dstPos - offset;
+                if (offset == 0 || ref < 0) {
+                    throw new IOException("Compressed chunk references data before its start");
+                }
+                // byte by byte, as source and target of a match may overlap
+                for (int i = 0; i < matchLength; i++) {
+                    dst[dstPos + i] = dst[ref + i];
+                }
+                dstPos += matchLength;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Compressed chunk is damaged", e);
+        }
+        if (dstPos != dstLength) {
+            throw new IOException("Compressed chunk has length " + dstPos + " instead of " + dstLength);
+        }
+    }
+
+    private static int writeToken(byte[] src, int literalStart, int literalLength, int matchLength, byte[] dst,
+                                  int dstPos) {
+        int token = (Math.min(literalLength, RUN_MASK) << 4) | Math.min(matchLength, RUN_MASK);
+        dst[dstPos++] = (byte) token;
+        if (literalLength >= RUN_MASK) {
+            dstPos = writeExtraLength(literalLength - RUN_MASK, dst, dstPos);
+        }
+        System.arraycopy(src, literalStart, dst, dstPos, literalLength);
+        return dstPos + literalLength;
+    }
+
+    private static int writeLength(int length, byte[] dst, int dstPos) {
+        if (length >= RUN_MASK) {
+            return writeExtraLength(length - RUN_MASK, dst, dstPos);
+        }
+        return dstPos;
+    }
+
+    private static int writeExtraLength(int length, byte[] dst, int dstPos) {
+        int remaining = length;
+        while (remaining >= 0xFF) {
+            dst[dstPos++] = (byte) 0xFF;
+            remaining -= 0xFF;
+        }
+        dst[dstPos++] = (byte) remaining;
+        return dstPos;
+    }
+
+    private static int readInt(byte[] data, int pos) {
+        return (data[pos] & 0xFF) | (data[pos + 1] & 0xFF) << 8 | (data[pos + 2] & 0xFF) << 16 | data[pos + 3] << 24;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+}
@@ -0,0 +1,42 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import java.io.IOException;
+
+/**
+ * Stores chunks uncompressed. Fastest, but the resulting save games are several times larger.
+ */
+class NoneChunkCompressionCodec implements ChunkCompressionCodec {
+    static final String NAME = "none";
+    static final int ID = 0;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public int maxCompressedLength(int length) {
+        return length;
+    }
+
+    @Override
+    public int compress(byte[] src, int length, byte[] dst, int dstOffset) {
+        System.arraycopy(src, 0, dst, dstOffset, length);
+        return length;
+    }
+
+    @Override
+    public void decompress(byte[] src, int srcOffset, int srcLength, byte[] dst, int dstLength) throws IOException {
+        if (srcLength != dstLength) {
+            throw new IOException("Uncompressed chunk has length " + srcLength + " instead of " + dstLength);
+        }
+        System.arraycopy(src, srcOffset, dst, 0, dstLength);
+    }
+}
@@ -0,0 +1,208 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.persistence.internal;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.joml.Vector3i;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.monitoring.ThreadActivity;
+import org.terasology.engine.monitoring.ThreadMonitor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Encodes the chunks of a save on a pool of encoder threads, while the saving thread writes the chunks that are
+ * already encoded.
+ * <p>
+ * Encoded chunks are held in the buffers of a {@link ChunkBufferPool}, which is reused by all saves. When the disk is
+ * slower than the encoders, the encoders wait for free buffers, so the memory needed for saving does not depend on
+ * the number of chunks.
+ * <p>
+ * The encoder threads only exist while a save runs: they are started for the first task of a save, and stopped by
+ * {@link #shutdown()} at its end. Storage managers which are dropped without being shut down leave no threads behind.
+ * <p>
+ * The time spent in each stage gets logged after every save. Encoder threads show up in the thread monitor.
+ */
+final class ParallelChunkWriter {
+    static final int DEFAULT_ENCODER_THREADS = 2;
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelChunkWriter.class);
+
+    private static final int BUFFERS_PER_ENCODER = 4;
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final ChunkBufferPool bufferPool;
+    private final int encoderThreads;
+    private ForkJoinPool encoderPool;
+
+    /**
+     * Consumer of encoded chunks, called on the thread that writes the chunks.
+     */
+    @FunctionalInterface
+    interface EncodedChunkWriter {
+        /**
+         * @param data encoded chunk, which is only valid during the call.
+         */
+        void write(Vector3i chunkPos, ByteBuffer data) throws IOException;
+    }
+
+    ParallelChunkWriter(int encoderThreads) {
+        this.encoderThreads = encoderThreads;
+        this.bufferPool = new ChunkBufferPool(encoderThreads * BUFFERS_PER_ENCODER, BUFFER_SIZE);
+    }
+
+    /**
+     * Encodes the chunks in parallel and passes them to the writer in the order they get done. Chunks get submitted
+     * in the given order, so chunks which are next to each other in the order are mostly written close in time.
+     *
+     * @param chunks  builders of all chunks to write
+     * @param order   positions of the chunks to write, in the order they should be encoded
+     * @param writer  called on the current thread for every encoded chunk
+     */
+    void write(Map<Vector3i, CompressedChunkBuilder> chunks, List<Vector3i> order, EncodedChunkWriter writer)
+            throws IOException {
+        LongAdder encodeNanos = new LongAdder();
+        long start = System.nanoTime();
+        long waitNanos = 0;
+        long writeNanos = 0;
+
+        CompletionService<EncodedChunk> completionService = new ExecutorCompletionService<>(getEncoderPool());
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<Future<EncodedChunk>> futures = Lists.newArrayListWithCapacity(order.size());
+        for (Vector3i chunkPos : order) {
+            CompressedChunkBuilder builder = chunks.get(chunkPos);
+            futures.add(completionService.submit(() -> encode(chunkPos, builder, encodeNanos, aborted)));
+        }
+        Set<Future<EncodedChunk>> takenFutures = Sets.newIdentityHashSet();
+        try {
+            while (takenFutures.size() < futures.size()) {
+                long waitStart = System.nanoTime();
+                Future<EncodedChunk> future = completionService.take();
+                takenFutures.add(future);
+                EncodedChunk encodedChunk = future.get();
+                long writeStart = System.nanoTime();
+                waitNanos += writeStart - waitStart;
+                try {
+                    writer.write(encodedChunk.position, encodedChunk.data);
+                } finally {
+                    bufferPool.release(encodedChunk.data);
+                }
+                writeNanos += System.nanoTime() - writeStart;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing chunks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to encode chunk", cause);
+        } finally {
+            if (takenFutures.size() < futures.size()) {
+                aborted.set(true);
+                releaseRemainingBuffers(completionService, futures.size() - takenFutures.size());
+            }
+        }
+        logger.info("Saved {} chunks in {} ms: encoding {} ms on {} threads, writing {} ms, waiting for encoders {} ms",
+                futures.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                TimeUnit.NANOSECONDS.toMillis(encodeNanos.sum()), encoderThreads,
+                TimeUnit.NANOSECONDS.toMillis(writeNanos), TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    /**
+     * Runs other work of a save on the encoder threads, so it can happen while chunks get written.
+     */
+    <T> Future<T> submit(Callable<T> task) {
+        return getEncoderPool().submit(task);
+    }
+
+    /**
+     * Stops the encoder threads once their tasks are done. They get started again for the next save.
+     */
+    synchronized void shutdown() {
+        if (encoderPool != null) {
+            encoderPool.shutdown();
+            encoderPool = null;
+        }
+    }
+
+    private synchronized ForkJoinPool getEncoderPool() {
+        if (encoderPool == null) {
+            encoderPool = new ForkJoinPool(encoderThreads, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Saving-encoder-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+        }
+        return encoderPool;
+    }
+
+    /**
+     * @return the encoded chunk, or null if the save got aborted before the chunk was started
+     */
+    private EncodedChunk encode(Vector3i chunkPos, CompressedChunkBuilder builder, LongAdder encodeNanos,
+                                AtomicBoolean aborted) throws InterruptedException {
+        if (aborted.get()) {
+            return null;
+        }
+        try (ThreadActivity ignored = ThreadMonitor.startThreadActivity("Encoding chunk")) {
+            long start = System.nanoTime();
+            ByteBuffer data = builder.encodeChunk(bufferPool);
+            encodeNanos.add(System.nanoTime() - start);
+            return new EncodedChunk(chunkPos, data);
+        }
+    }
+
+    /**
+     * Waits for the encoders that already started, so that the buffers of chunks which did not get written go back
+     * into the pool. Chunks which were not started yet are skipped by the encoders.
+     * <p>
+     * Buffers are released in the order the encoders finish, as encoders which are still running may wait for buffers
+     * held by chunks that finished after them. The tasks don't get cancelled, as a cancelled task which is already
+     * running would drop its buffer.
+     *
+     * @param remaining number of submitted chunks which were not taken from the completion service yet
+     */
+    private void releaseRemainingBuffers(CompletionService<EncodedChunk> completionService, int remaining) {
+        for (; remaining > 0; remaining--) {
+            try {
+                EncodedChunk encodedChunk = completionService.take().get();
+                if (encodedChunk != null) {
+                    bufferPool.release(encodedChunk.data);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // already failed, nothing to release
+            }
+        }
+    }
+
+    private static final class EncodedChunk {
+        private final Vector3i position;
+        private final ByteBuffer data;
+
+        private EncodedChunk(Vector3i position, ByteBuffer data) {
+            this.position = position;
+            this.data = data;
+        }
+    }
+}
@@ -41,12 +41,19 @@ public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, Engi
 
     public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
                                   BlockManager blockManager, ExtraBlockDataManager extraDataManager, boolean storeChunksInZips) {
-        super(savePath, environment, entityManager, blockManager, extraDataManager, storeChunksInZips);
+        this(savePath, environment, entityManager, blockManager, extraDataManager,
+                ChunkStorageFormat.fromStoreChunksInZips(storeChunksInZips));
+    }
+
+    public ReadOnlyStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                  BlockManager blockManager, ExtraBlockDataManager extraDataManager,
+                                  ChunkStorageFormat chunkStorageFormat) {
+        super(savePath, environment, entityManager, blockManager, extraDataManager, chunkStorageFormat, true);
     }
 
     @Override
     public void finishSavingAndShutdown() {
-        // don't care
+        getChunkRegionStore().close();
     }
 
     @Override
@@ -4,6 +4,7 @@
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.joml.Vector3f;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
@@ -60,6 +61,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -70,6 +72,7 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
 
     private final TaskMaster<Task> saveThreadManager;
     private final SaveTransactionHelper saveTransactionHelper;
+    private final ParallelChunkWriter chunkWriter;
 
     /**
      * This lock should be hold during read and write operation in the world directory. Currently it is being hold
@@ -100,6 +103,11 @@ public final class ReadWriteStorageManager extends AbstractStorageManager implem
 
     private EngineEntityManager privateEntityManager;
     private EntitySetDeltaRecorder entitySetDeltaRecorder;
+    /**
+     * Ids of the entities the last save put into the global store. Only accessed by the save transactions, which
+     * run one after another.
+     */
+    private final Set<Long> globalStoreEntityIds = Sets.newHashSet();
     private RecordAndReplaySerializer recordAndReplaySerializer;
     private RecordAndReplayUtils recordAndReplayUtils;
     private RecordAndReplayCurrentStatus recordAndReplayCurrentStatus;
@@ -120,7 +128,17 @@ public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, Eng
                                    BlockManager blockManager, ExtraBlockDataManager extraDataManager, boolean storeChunksInZips,
                                    RecordAndReplaySerializer recordAndReplaySerializer, RecordAndReplayUtils recordAndReplayUtils,
                             RecordAndReplayCurrentStatus recordAndReplayCurrentStatus) throws IOException {
-        super(savePath, environment, entityManager, blockManager, extraDataManager, storeChunksInZips);
+        this(savePath, environment, entityManager, blockManager, extraDataManager,
+            ChunkStorageFormat.fromStoreChunksInZips(storeChunksInZips), recordAndReplaySerializer, recordAndReplayUtils,
+            recordAndReplayCurrentStatus);
+    }
+
+    public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, EngineEntityManager entityManager,
+                                   BlockManager blockManager, ExtraBlockDataManager extraDataManager,
+                                   ChunkStorageFormat chunkStorageFormat, RecordAndReplaySerializer recordAndReplaySerializer,
+                                   RecordAndReplayUtils recordAndReplayUtils,
+                                   RecordAndReplayCurrentStatus recordAndReplayCurrentStatus) throws IOException {
+        super(savePath, environment, entityManager, blockManager, extraDataManager, chunkStorageFormat, false);
 
         entityManager.subscribeForDestruction(this);
         entityManager.subscribeForChanges(this);
@@ -131,6 +149,8 @@ public ReadWriteStorageManager(Path savePath, ModuleEnvironment environment, Eng
         this.saveThreadManager = TaskMaster.createFIFOTaskMaster("Saving", 1);
         this.config = CoreRegistry.get(Config.class);
         this.systemConfig = CoreRegistry.get((SystemConfig.class));
+        this.chunkWriter = new ParallelChunkWriter(systemConfig != null
+                ? systemConfig.saveEncoderThreads.get() : ParallelChunkWriter.DEFAULT_ENCODER_THREADS);
         this.entityRefReplacingComponentLibrary = privateEntityManager.getComponentLibrary()
                 .createCopyUsingCopyStrategy(EntityRef.class, new DelayedEntityRefCopyStrategy(this));
         this.entitySetDeltaRecorder = new EntitySetDeltaRecorder(this.entityRefReplacingComponentLibrary);
@@ -154,6 +174,8 @@ public void finishSavingAndShutdown() {
         }
         saveThreadManager.shutdown(new ShutdownTask(), true);
         checkSaveTransactionAndClearUpIfItIsDone();
+        chunkWriter.shutdown();
+        getChunkRegionStore().close();
     }
 
     private void checkSaveTransactionAndClearUpIfItIsDone() {
@@ -220,9 +242,17 @@ private void addChunksToSaveTransaction(SaveTransactionBuilder saveTransactionBu
 
         chunkProvider.getAllChunks().stream().filter(Chunk::isReady).forEach(chunk -> {
             // If there is a newer undisposed version of the chunk,we don't need to save the disposed version:
-            unloadedAndSavingChunkMap.remove(chunk.getPosition(new Vector3i()));
+            boolean replacesUnsavedChunk = unloadedAndSavingChunkMap.remove(chunk.getPosition(new Vector3i())) != null;
             ChunkImpl chunkImpl = (ChunkImpl) chunk;  // this storage manager can only work with ChunkImpls
-            saveTransactionBuilder.addLoadedChunk(chunk.getPosition(), chunkImpl);
+            /*
+             * A chunk that got loaded from a not yet saved disposed version differs from the saved one, even though
+             * it did not change since it got loaded.
+             */
+            if (replacesUnsavedChunk || chunkImpl.isPersistentDirty()) {
+                saveTransactionBuilder.addLoadedChunk(chunk.getPosition(), chunkImpl);
+            } else {
+                saveTransactionBuilder.addUnchangedLoadedChunk(chunk.getPosition(), chunkImpl);
+            }
         });
 
         for (Map.Entry<Vector3ic, CompressedChunkBuilder> entry : unloadedAndSavingChunkMap.entrySet()) {
@@ -254,7 +284,9 @@ private void waitForCompletionOfPreviousSave() {
 
     private SaveTransaction createSaveTransaction() {
         SaveTransactionBuilder saveTransactionBuilder = new SaveTransactionBuilder(privateEntityManager,
-                entitySetDeltaRecorder, isStoreChunksInZips(), getStoragePathProvider(), worldDirectoryWriteLock,
+                entitySetDeltaRecorder, globalStoreEntityIds, getChunkStorageFormat(), getChunkRegionStore(),
+                getChunkCompressionCodec(), chunkWriter, getStoragePathProvider(),
+                worldDirectoryWriteLock,
                 recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus);
 
         ChunkProvider chunkProvider = CoreRegistry.get(ChunkProvider.class);
@@ -318,7 +350,7 @@ public void deactivateChunk(Chunk chunk) {
         Collection<EntityRef> entitiesOfChunk = getEntitiesOfChunk(chunk);
         ChunkImpl chunkImpl = (ChunkImpl) chunk; // storage manager only works with ChunkImpl
         unloadedAndUnsavedChunkMap.put(chunk.getPosition(new Vector3i()), new CompressedChunkBuilder(getEntityManager(), chunkImpl,
-                entitiesOfChunk, true));
+                entitiesOfChunk, true, getChunkCompressionCodec()));
 
         entitiesOfChunk.forEach(this::deactivateOrDestroyEntityRecursive);
     }
@@ -364,6 +396,7 @@ private void addGameManifestToSaveTransaction(SaveTransactionBuilder saveTransac
         }
         gameManifest.setRegisteredBlockFamilies(registeredBlockFamilies);
         gameManifest.setBlockIdMap(blockManager.getBlockIdMap());
+        gameManifest.setChunkCompression(getChunkCompressionCodec().getName());
         List<WorldInfo> worlds = universeConfig.getWorlds();
         for (WorldInfo worldInfo: worlds) {
             gameManifest.addWorld(worldInfo);
@@ -481,6 +514,10 @@ public void checkAndRepairSaveIfNecessary() throws IOException {
         if (Files.exists(getStoragePathProvider().getUnmergedChangesPath())) {
             saveTransactionHelper.mergeChanges();
         }
+        getChunkRegionStore().applyJournals();
+        if (getChunkStorageFormat() == ChunkStorageFormat.REGIONS) {
+            new ChunkRegionConverter(getStoragePathProvider(), getChunkRegionStore()).convertLegacyChunks();
+        }
     }
 
 
@@ -491,6 +528,7 @@ public void deleteWorld() {
         unloadedAndSavingChunkMap.clear();
         unloadedAndUnsavedPlayerMap.clear();
         unloadedAndSavingPlayerMap.clear();
+        getChunkRegionStore().close();
 
         try {
             FilesUtil.recursiveDelete(getStoragePathProvider().getWorldPath());
@@ -5,6 +5,7 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.joml.Vector3f;
 import org.joml.Vector3i;
 import org.slf4j.Logger;
@@ -13,6 +14,7 @@
 import org.terasology.engine.entitySystem.Component;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.entity.internal.EngineEntityManager;
+import org.terasology.engine.entitySystem.entity.internal.OwnershipHelper;
 import org.terasology.engine.game.GameManifest;
 import org.terasology.engine.logic.location.LocationComponent;
 import org.terasology.engine.network.ClientComponent;
@@ -29,6 +31,8 @@
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileSystem;
@@ -38,6 +42,7 @@
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collection;
 import java.util.Collections;
@@ -45,6 +50,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -61,6 +68,7 @@ public class SaveTransaction extends AbstractTask {
     private final Lock worldDirectoryWriteLock;
     private final EngineEntityManager privateEntityManager;
     private final EntitySetDeltaRecorder deltaToSave;
+    private final Set<Long> globalStoreEntityIds;
     private volatile SaveTransactionResult result;
 
     // Unprocessed data to save:
@@ -68,16 +76,27 @@ public class SaveTransaction extends AbstractTask {
     private final Map<String, PlayerStoreBuilder> loadedPlayers;
     private final Map<Vector3i, CompressedChunkBuilder> unloadedChunks;
     private final Map<Vector3i, ChunkImpl> loadedChunks;
+    private final Map<Vector3i, ChunkImpl> unchangedLoadedChunks;
     private final GlobalStoreBuilder globalStoreBuilder;
 
     // processed data:
     private EntityData.GlobalStore globalStore;
     private Map<String, EntityData.PlayerStore> allPlayers;
     private Map<Vector3i, CompressedChunkBuilder> allChunks;
+    private Map<Vector3i, Set<Long>> savedEntitiesOfUnchangedChunks;
+    private Map<ChunkImpl, Long> savedChunkGenerations;
+    /**
+     * Journals of the chunks written into regions, whose sectors stay reserved until the journals got applied.
+     */
+    private final Map<Vector3i, ChunkRegionFile.Journal> regionJournals = Maps.newHashMap();
+    private boolean merging;
 
 
     // Save parameters:
-    private final boolean storeChunksInZips;
+    private final ChunkStorageFormat chunkStorageFormat;
+    private final ChunkRegionStore chunkRegionStore;
+    private final ChunkCompressionCodec chunkCompressionCodec;
+    private final ParallelChunkWriter chunkWriter;
 
     // utility classes for saving:
     private final StoragePathProvider storagePathProvider;
@@ -90,23 +109,30 @@ public class SaveTransaction extends AbstractTask {
 
 
     public SaveTransaction(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
-                           Map<String, EntityData.PlayerStore> unloadedPlayers,
+                           Set<Long> globalStoreEntityIds, Map<String, EntityData.PlayerStore> unloadedPlayers,
                            Map<String, PlayerStoreBuilder> loadedPlayers, GlobalStoreBuilder globalStoreBuilder,
                            Map<Vector3i, CompressedChunkBuilder> unloadedChunks, Map<Vector3i, ChunkImpl> loadedChunks,
-                           GameManifest gameManifest, boolean storeChunksInZips,
-                           StoragePathProvider storagePathProvider, Lock worldDirectoryWriteLock,
+                           Map<Vector3i, ChunkImpl> unchangedLoadedChunks, GameManifest gameManifest, ChunkStorageFormat chunkStorageFormat,
+                           ChunkRegionStore chunkRegionStore, ChunkCompressionCodec chunkCompressionCodec,
+                           ParallelChunkWriter chunkWriter, StoragePathProvider storagePathProvider,
+                           Lock worldDirectoryWriteLock,
                            RecordAndReplaySerializer recordAndReplaySerializer,
                            RecordAndReplayUtils recordAndReplayUtils,
                            RecordAndReplayCurrentStatus recordAndReplayCurrentStatus) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
+        this.globalStoreEntityIds = globalStoreEntityIds;
         this.unloadedPlayers = unloadedPlayers;
         this.loadedPlayers = loadedPlayers;
         this.unloadedChunks = unloadedChunks;
         this.loadedChunks = loadedChunks;
+        this.unchangedLoadedChunks = unchangedLoadedChunks;
         this.globalStoreBuilder = globalStoreBuilder;
         this.gameManifest = gameManifest;
-        this.storeChunksInZips = storeChunksInZips;
+        this.chunkStorageFormat = chunkStorageFormat;
+        this.chunkRegionStore = chunkRegionStore;
+        this.chunkCompressionCodec = chunkCompressionCodec;
+        this.chunkWriter = chunkWriter;
         this.storagePathProvider = storagePathProvider;
         this.saveTransactionHelper = new SaveTransactionHelper(storagePathProvider);
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
@@ -132,25 +158,37 @@ public void run() {
                 throw new IOException("Save rand while there were unmerged changes");
             }
             saveTransactionHelper.cleanupSaveTransactionDirectory();
+            savedEntitiesOfUnchangedChunks = collectEntityIdsOfUnchangedChunks();
             applyDeltaToPrivateEntityManager();
             prepareChunksPlayersAndGlobalStore();
             createPreviewImagesFolder();
             createSaveTransactionDirectory();
-            writePlayerStores();
-            writeGlobalStore();
-            writeChunkStores();
+            writeStores();
             saveGameManifest();
             perpareChangesForMerge();
             mergeChanges();
+            savedChunkGenerations.forEach(ChunkImpl::markPersistentChangesSaved);
             result = SaveTransactionResult.createSuccessResult();
             logger.info("Save game finished");
             saveRecordingData();
         } catch (IOException | RuntimeException t) {
             logger.error("Save game creation failed", t);
+            if (!merging) {
+                discardRegionJournals();
+            }
             result = SaveTransactionResult.createFailureResult(t);
         }
     }
 
+    /**
+     * Frees the sectors the chunks of this save got written to, as the journals referencing them will never be
+     * applied. Journals which got merged are applied later on instead, even if the merge failed, so they are kept.
+     */
+    private void discardRegionJournals() {
+        regionJournals.forEach(chunkRegionStore::discardJournal);
+        regionJournals.clear();
+    }
+
     private void createPreviewImagesFolder() throws IOException {
         Files.createDirectories(storagePathProvider.getPreviewsPath());
     }
@@ -197,6 +235,10 @@ private void prepareChunksPlayersAndGlobalStore() {
         preparePlayerStores(unsavedEntities);
         prepareCompressedChunkBuilders(unsavedEntities);
         this.globalStore = globalStoreBuilder.build(privateEntityManager, unsavedEntities);
+        globalStoreEntityIds.clear();
+        for (EntityRef entity : unsavedEntities) {
+            globalStoreEntityIds.add(entity.getId());
+        }
     }
 
 
@@ -209,18 +251,117 @@ private void prepareCompressedChunkBuilders(Set<EntityRef> unsavedEntities) {
 
         allChunks = Maps.newHashMap();
         allChunks.putAll(unloadedChunks);
+        savedChunkGenerations = Maps.newHashMap();
         for (Map.Entry<Vector3i, ChunkImpl> chunkEntry : loadedChunks.entrySet()) {
             Collection<EntityRef> entitiesToStore = chunkPosToEntitiesMap.get(chunkEntry.getKey());
             if (entitiesToStore == null) {
                 entitiesToStore = Collections.emptySet();
             }
-            ChunkImpl chunk = chunkEntry.getValue();
-            unsavedEntities.removeAll(entitiesToStore);
-            CompressedChunkBuilder compressedChunkBuilder = new CompressedChunkBuilder(privateEntityManager, chunk,
-                    entitiesToStore, false);
-            unsavedEntities.removeAll(compressedChunkBuilder.getStoredEntities());
-            allChunks.put(chunkEntry.getKey(), compressedChunkBuilder);
+            addLoadedChunkBuilder(chunkEntry.getKey(), chunkEntry.getValue(), entitiesToStore, unsavedEntities);
+        }
+
+        OwnershipHelper ownershipHelper = new OwnershipHelper(privateEntityManager.getComponentLibrary());
+        Set<Long> changedEntityIds = getChangedEntityIds();
+        int unchangedChunkCount = 0;
+        for (Map.Entry<Vector3i, ChunkImpl> chunkEntry : unchangedLoadedChunks.entrySet()) {
+            Collection<EntityRef> entitiesToStore = chunkPosToEntitiesMap.get(chunkEntry.getKey());
+            if (entitiesToStore == null) {
+                entitiesToStore = Collections.emptySet();
+            }
+            Set<EntityRef> storedEntities = collectStoredEntities(entitiesToStore, ownershipHelper);
+            Set<Long> storedEntityIds = Sets.newHashSet();
+            storedEntities.forEach(entity -> storedEntityIds.add(entity.getId()));
+            Set<Long> savedEntityIds = savedEntitiesOfUnchangedChunks.get(chunkEntry.getKey());
+            /*
+             * The saved version of the chunk is still up to date if it holds the same entities and none of them
+             * changed. Entities which the last save put into the global store are not part of the saved chunk.
+             */
+            if (storedEntityIds.equals(savedEntityIds)
+                    && Collections.disjoint(storedEntityIds, changedEntityIds)
+                    && Collections.disjoint(storedEntityIds, globalStoreEntityIds)) {
+                unsavedEntities.removeAll(storedEntities);
+                unchangedChunkCount++;
+            } else {
+                addLoadedChunkBuilder(chunkEntry.getKey(), chunkEntry.getValue(), entitiesToStore, unsavedEntities);
+            }
         }
+        logger.debug("Saving {} chunks, skipping {} unchanged chunks", allChunks.size(), unchangedChunkCount);
+    }
+
+    private void addLoadedChunkBuilder(Vector3i chunkPos, ChunkImpl chunk, Collection<EntityRef> entitiesToStore,
+                                       Set<EntityRef> unsavedEntities) {
+        unsavedEntities.removeAll(entitiesToStore);
+        // read before the snapshot gets taken, so that changes made in between keep the chunk dirty
+        savedChunkGenerations.put(chunk, chunk.getPersistentChangeGeneration());
+        CompressedChunkBuilder compressedChunkBuilder = new CompressedChunkBuilder(privateEntityManager, chunk,
+                entitiesToStore, false, chunkCompressionCodec);
+        unsavedEntities.removeAll(compressedChunkBuilder.getStoredEntities());
+        allChunks.put(chunkPos, compressedChunkBuilder);
+    }
+
+    /**
+     * Determines the ids of the entities which the unchanged chunks got saved with. Must be called before the delta
+     * gets applied to the private entity manager, which holds the state of the last save until then.
+     */
+    private Map<Vector3i, Set<Long>> collectEntityIdsOfUnchangedChunks() {
+        Map<Vector3i, Set<Long>> result = Maps.newHashMap();
+        if (unchangedLoadedChunks.isEmpty()) {
+            return result;
+        }
+        OwnershipHelper ownershipHelper = new OwnershipHelper(privateEntityManager.getComponentLibrary());
+        Map<Vector3i, Collection<EntityRef>> chunkPosToEntitiesMap = createChunkPosToUnsavedOwnerLessEntitiesMap();
+        for (Vector3i chunkPos : unchangedLoadedChunks.keySet()) {
+            Collection<EntityRef> entities = chunkPosToEntitiesMap.get(chunkPos);
+            Set<Long> entityIds = Sets.newHashSet();
+            if (entities != null) {
+                collectStoredEntities(entities, ownershipHelper).forEach(entity -> entityIds.add(entity.getId()));
+            }
+            result.put(chunkPos, entityIds);
+        }
+        return result;
+    }
+
+    /**
+     * @return the entities that a {@link CompressedChunkBuilder} stores for the given entities, which includes all
+     * entities owned by them.
+     */
+    private static Set<EntityRef> collectStoredEntities(Collection<EntityRef> entities,
+                                                        OwnershipHelper ownershipHelper) {
+        Set<EntityRef> storedEntities = Sets.newHashSet();
+        for (EntityRef entity : entities) {
+            if (entity.isPersistent()) {
+                collectStoredEntities(entity, ownershipHelper, storedEntities);
+            }
+        }
+        return storedEntities;
+    }
+
+    private static void collectStoredEntities(EntityRef entity, OwnershipHelper ownershipHelper,
+                                              Set<EntityRef> storedEntities) {
+        if (entity.isActive() && storedEntities.add(entity)) {
+            for (EntityRef ownedEntity : ownershipHelper.listOwnedEntities(entity)) {
+                if (!ownedEntity.isAlwaysRelevant() && ownedEntity.isPersistent()) {
+                    collectStoredEntities(ownedEntity, ownershipHelper, storedEntities);
+                }
+            }
+        }
+    }
+
+    private Set<Long> getChangedEntityIds() {
+        Set<Long> changedEntityIds = Sets.newHashSet();
+        deltaToSave.getEntityDeltas().forEachKey(entityId -> {
+            changedEntityIds.add(entityId);
+            return true;
+        });
+        deltaToSave.getDestroyedEntities().forEach(entityId -> {
+            changedEntityIds.add(entityId);
+            return true;
+        });
+        deltaToSave.getDeactivatedEntities().forEach(entityId -> {
+            changedEntityIds.add(entityId);
+            return true;
+        });
+        return changedEntityIds;
     }
 
     /**
@@ -386,27 +527,63 @@ private void writeGlobalStore() throws IOException {
         }
     }
 
+    /**
+     * Writes the player and global stores on an encoder thread, while the chunks get written. The encoder threads are
+     * stopped afterwards, even if writing fails.
+     */
+    private void writeStores() throws IOException {
+        try {
+            Future<Void> otherStoresWritten = chunkWriter.submit(() -> {
+                writePlayerStores();
+                writeGlobalStore();
+                return null;
+            });
+            try {
+                writeChunkStores();
+            } finally {
+                try {
+                    otherStoresWritten.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while writing player and global stores", e);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+        } finally {
+            chunkWriter.shutdown();
+        }
+    }
+
     private void writeChunkStores() throws IOException {
         Path chunksPath = storagePathProvider.getWorldTempPath();
         Files.createDirectories(chunksPath);
-        if (storeChunksInZips) {
+        if (chunkStorageFormat == ChunkStorageFormat.REGIONS) {
+            writeChunkRegions();
+        } else if (chunkStorageFormat == ChunkStorageFormat.ZIPS) {
             Map<Vector3i, FileSystem> newChunkZips = Maps.newHashMap();
-            for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
-                Vector3i chunkPos = entry.getKey();
-                Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(chunkPos);
-                FileSystem zip = newChunkZips.get(chunkZipPos);
-                if (zip == null) {
-                    Path targetPath = storagePathProvider.getChunkZipTempPath(chunkZipPos);
-                    Files.deleteIfExists(targetPath);
-                    zip = FileSystems.newFileSystem(URI.create("jar:" + targetPath.toUri()), CREATE_ZIP_OPTIONS);
-                    newChunkZips.put(chunkZipPos, zip);
-                }
-                Path chunkPath = zip.getPath(storagePathProvider.getChunkFilename(chunkPos));
-                CompressedChunkBuilder compressedChunkBuilder = entry.getValue();
-                byte[] compressedChunk = compressedChunkBuilder.buildEncodedChunk();
-                try (BufferedOutputStream bos = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
-                    bos.write(compressedChunk);
+            try {
+                chunkWriter.write(allChunks, Lists.newArrayList(allChunks.keySet()), (chunkPos, data) -> {
+                    Vector3i chunkZipPos = storagePathProvider.getChunkZipPosition(chunkPos);
+                    FileSystem zip = newChunkZips.get(chunkZipPos);
+                    if (zip == null) {
+                        Path targetPath = storagePathProvider.getChunkZipTempPath(chunkZipPos);
+                        Files.deleteIfExists(targetPath);
+                        zip = FileSystems.newFileSystem(URI.create("jar:" + targetPath.toUri()), CREATE_ZIP_OPTIONS);
+                        newChunkZips.put(chunkZipPos, zip);
+                    }
+                    Path chunkPath = zip.getPath(storagePathProvider.getChunkFilename(chunkPos));
+                    writeFully(chunkPath, data);
+                });
+            } catch (IOException | RuntimeException e) {
+                for (FileSystem zip : newChunkZips.values()) {
+                    zip.close();
                 }
+                throw e;
             }
             // Copy existing, unmodified content into the zips and close them
             for (Map.Entry<Vector3i, FileSystem> chunkZipEntry : newChunkZips.entrySet()) {
@@ -432,14 +609,43 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
                 zip.close();
             }
         } else {
-            for (Map.Entry<Vector3i, CompressedChunkBuilder> entry : allChunks.entrySet()) {
-                Vector3i chunkPos = entry.getKey();
-                CompressedChunkBuilder compressedChunkBuilder = entry.getValue();
-                byte[] compressedChunk = compressedChunkBuilder.buildEncodedChunk();
-                Path chunkPath = storagePathProvider.getChunkTempPath(chunkPos);
-                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(chunkPath))) {
-                    out.write(compressedChunk);
-                }
+            chunkWriter.write(allChunks, Lists.newArrayList(allChunks.keySet()),
+                    (chunkPos, data) -> writeFully(storagePathProvider.getChunkTempPath(chunkPos), data));
+        }
+    }
+
+    /**
+     * Writes the chunks into free sectors of their regions as soon as they are encoded. Chunks get encoded region by
+     * region, and the journal of a region is written once all its chunks are. The journals end up in the temporary
+     * world directory and get applied after the merge.
+     */
+    private void writeChunkRegions() throws IOException {
+        Map<Vector3i, List<Vector3i>> chunkPositionsByRegion = Maps.newHashMap();
+        for (Vector3i chunkPos : allChunks.keySet()) {
+            chunkPositionsByRegion.computeIfAbsent(storagePathProvider.getChunkRegionPosition(chunkPos),
+                    pos -> Lists.newArrayList()).add(chunkPos);
+        }
+        List<Vector3i> order = Lists.newArrayListWithCapacity(allChunks.size());
+        for (Map.Entry<Vector3i, List<Vector3i>> regionEntry : chunkPositionsByRegion.entrySet()) {
+            order.addAll(regionEntry.getValue());
+            regionJournals.put(regionEntry.getKey(), new ChunkRegionFile.Journal());
+        }
+        chunkWriter.write(allChunks, order, (chunkPos, data) -> {
+            Vector3i regionPos = storagePathProvider.getChunkRegionPosition(chunkPos);
+            ChunkRegionFile.Journal journal = regionJournals.get(regionPos);
+            chunkRegionStore.writeChunk(regionPos, chunkPos, data, journal);
+            if (journal.size() == chunkPositionsByRegion.get(regionPos).size()) {
+                chunkRegionStore.writeJournal(regionPos, journal,
+                        storagePathProvider.getChunkRegionJournalTempPath(regionPos));
+            }
+        });
+    }
+
+    private static void writeFully(Path path, ByteBuffer data) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
             }
         }
     }
@@ -464,7 +670,9 @@ private void saveGameManifest() {
     private void mergeChanges() throws IOException {
         worldDirectoryWriteLock.lock();
         try {
+            merging = true;
             saveTransactionHelper.mergeChanges();
+            chunkRegionStore.applyJournals();
         } finally {
             worldDirectoryWriteLock.unlock();
         }
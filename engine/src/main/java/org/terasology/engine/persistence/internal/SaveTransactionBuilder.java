@@ -27,6 +27,7 @@
 import org.terasology.engine.world.chunks.internal.ChunkImpl;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 
 /**
@@ -37,12 +38,17 @@ class SaveTransactionBuilder {
     private final Lock worldDirectoryWriteLock;
     private final EngineEntityManager privateEntityManager;
     private final EntitySetDeltaRecorder deltaToSave;
+    private final Set<Long> globalStoreEntityIds;
     private Map<String, EntityData.PlayerStore> unloadedPlayers = Maps.newHashMap();
     private Map<String, PlayerStoreBuilder> loadedPlayers = Maps.newHashMap();
     private Map<Vector3i, CompressedChunkBuilder> unloadedChunks = Maps.newHashMap();
     private Map<Vector3i, ChunkImpl> loadedChunks = Maps.newHashMap();
+    private Map<Vector3i, ChunkImpl> unchangedLoadedChunks = Maps.newHashMap();
     private GlobalStoreBuilder globalStoreBuilder;
-    private final boolean storeChunksInZips;
+    private final ChunkStorageFormat chunkStorageFormat;
+    private final ChunkRegionStore chunkRegionStore;
+    private final ChunkCompressionCodec chunkCompressionCodec;
+    private final ParallelChunkWriter chunkWriter;
     private final StoragePathProvider storagePathProvider;
     private GameManifest gameManifest;
     private RecordAndReplaySerializer recordAndReplaySerializer;
@@ -50,13 +56,19 @@ class SaveTransactionBuilder {
     private RecordAndReplayCurrentStatus recordAndReplayCurrentStatus;
 
     SaveTransactionBuilder(EngineEntityManager privateEntityManager, EntitySetDeltaRecorder deltaToSave,
-                           boolean storeChunksInZips, StoragePathProvider storagePathProvider,
+                           Set<Long> globalStoreEntityIds, ChunkStorageFormat chunkStorageFormat, ChunkRegionStore chunkRegionStore,
+                           ChunkCompressionCodec chunkCompressionCodec, ParallelChunkWriter chunkWriter,
+                           StoragePathProvider storagePathProvider,
                            Lock worldDirectoryWriteLock, RecordAndReplaySerializer recordAndReplaySerializer,
                            RecordAndReplayUtils recordAndReplayUtils,
                            RecordAndReplayCurrentStatus recordAndReplayCurrentStatus) {
         this.privateEntityManager = privateEntityManager;
         this.deltaToSave = deltaToSave;
-        this.storeChunksInZips = storeChunksInZips;
+        this.globalStoreEntityIds = globalStoreEntityIds;
+        this.chunkStorageFormat = chunkStorageFormat;
+        this.chunkRegionStore = chunkRegionStore;
+        this.chunkCompressionCodec = chunkCompressionCodec;
+        this.chunkWriter = chunkWriter;
         this.storagePathProvider = storagePathProvider;
         this.worldDirectoryWriteLock = worldDirectoryWriteLock;
         this.recordAndReplaySerializer = recordAndReplaySerializer;
@@ -81,13 +93,25 @@ void addUnloadedChunk(final Vector3ic chunkPosition, final CompressedChunkBuilde
     }
 
 
+    /**
+     * Adds a loaded chunk whose block or extra data differs from its saved version.
+     */
     void addLoadedChunk(final Vector3ic chunkPosition, final ChunkImpl chunk) {
         loadedChunks.put(new Vector3i(chunkPosition), chunk);
     }
 
+    /**
+     * Adds a loaded chunk whose block and extra data match its saved version. The chunk gets only saved if the
+     * entities stored with it changed.
+     */
+    void addUnchangedLoadedChunk(final Vector3ic chunkPosition, final ChunkImpl chunk) {
+        unchangedLoadedChunks.put(new Vector3i(chunkPosition), chunk);
+    }
+
     public SaveTransaction build() {
-        return new SaveTransaction(privateEntityManager, deltaToSave, unloadedPlayers, loadedPlayers, globalStoreBuilder,
-                unloadedChunks, loadedChunks, gameManifest, storeChunksInZips, storagePathProvider,
+        return new SaveTransaction(privateEntityManager, deltaToSave, globalStoreEntityIds, unloadedPlayers,
+                loadedPlayers, globalStoreBuilder, unloadedChunks, loadedChunks, unchangedLoadedChunks, gameManifest, chunkStorageFormat, chunkRegionStore, chunkCompressionCodec,
+                chunkWriter, storagePathProvider,
                 worldDirectoryWriteLock, recordAndReplaySerializer, recordAndReplayUtils, recordAndReplayCurrentStatus);
 
     }
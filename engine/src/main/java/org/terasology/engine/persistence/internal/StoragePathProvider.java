@@ -32,7 +32,10 @@ public class StoragePathProvider {
     private static final String GLOBAL_ENTITY_STORE = "global.dat";
     private static final String UNFINISHED_SAVE_TRANSACTION = "unfinished-save-transaction";
     private static final String UNMERGED_CHANGED = "unmerged-changes";
+    private static final String CHUNK_REGION_EXTENSION = ".region";
+    private static final String CHUNK_REGION_JOURNAL_EXTENSION = ".journal";
     private static final int CHUNK_ZIP_DIM = 32;
+    private static final int CHUNK_REGION_DIM = ChunkRegionFile.REGION_DIM;
 
     private final Path storagePathDirectory;
     private final Path playersPath;
@@ -130,6 +133,63 @@ public Vector3i getChunkZipPosition(Vector3ic chunkPos) {
         return result;
     }
 
+    public Vector3i getChunkRegionPosition(Vector3ic chunkPos) {
+        return new Vector3i(
+                Math.floorDiv(chunkPos.x(), CHUNK_REGION_DIM),
+                Math.floorDiv(chunkPos.y(), CHUNK_REGION_DIM),
+                Math.floorDiv(chunkPos.z(), CHUNK_REGION_DIM));
+    }
+
+    public Path getChunkRegionPath(Vector3ic chunkRegionPos) {
+        return worldPath.resolve(getChunkRegionFilename(chunkRegionPos));
+    }
+
+    public Path getChunkRegionJournalPath(Vector3ic chunkRegionPos) {
+        return worldPath.resolve(getChunkRegionFilename(chunkRegionPos) + CHUNK_REGION_JOURNAL_EXTENSION);
+    }
+
+    public Path getChunkRegionJournalTempPath(Vector3ic chunkRegionPos) {
+        return getWorldTempPath().resolve(getChunkRegionFilename(chunkRegionPos) + CHUNK_REGION_JOURNAL_EXTENSION);
+    }
+
+    /**
+     * @return position of region, if filename is a chunk region journal, otherwise null
+     */
+    public Vector3i parseChunkRegionJournalFilename(String filename) {
+        String suffix = CHUNK_REGION_EXTENSION + CHUNK_REGION_JOURNAL_EXTENSION;
+        if (!filename.endsWith(suffix)) {
+            return null;
+        }
+        return parsePosition(filename.substring(0, filename.length() - suffix.length()));
+    }
+
+    /**
+     * @return position of chunk, if filename is a single chunk file, otherwise null
+     */
+    public Vector3i parseChunkFilename(String filename) {
+        String suffix = ".chunk";
+        if (!filename.endsWith(suffix)) {
+            return null;
+        }
+        return parsePosition(filename.substring(0, filename.length() - suffix.length()));
+    }
+
+    private String getChunkRegionFilename(Vector3ic pos) {
+        return String.format("%d.%d.%d%s", pos.x(), pos.y(), pos.z(), CHUNK_REGION_EXTENSION);
+    }
+
+    private static Vector3i parsePosition(String position) {
+        String[] parts = position.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new Vector3i(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public Path getChunkPath(Vector3ic chunkPos) {
         return worldPath.resolve(getChunkFilename(chunkPos));
     }
@@ -40,6 +40,8 @@ public void initialise() {
         register(new AllocationsMode());
         register(new RunningThreadsMode());
         register(new WorldRendererMode());
+        register(new WorldGenerationMode());
+        register(new EventSystemMode());
         register(new HeapAllocationMode());
         register(new RenderingExecTimeMeansMode("\n- Rendering - Execution Time: Running Means - Sorted Alphabetically -"));
         currentMode = defaultMode;
@@ -0,0 +1,44 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.nui.layers.ingame.metrics;
+
+import org.terasology.engine.entitySystem.event.internal.EventSystem;
+import org.terasology.engine.entitySystem.event.internal.EventSystemImpl;
+import org.terasology.engine.registry.CoreRegistry;
+
+/**
+ * Shows how well the main thread keeps up with the events other threads send.
+ */
+final class EventSystemMode extends MetricsMode {
+
+    EventSystemMode() {
+        super("\n- Event System -");
+    }
+
+    @Override
+    public String getMetrics() {
+        EventSystemImpl eventSystem = getEventSystem();
+        if (eventSystem == null) {
+            return getName();
+        }
+        return getName() + "\n"
+                + String.format("Pending Events: %d%n", eventSystem.getPendingEventCount())
+                + String.format("Blocked Sends: %d%n", eventSystem.getBlockedPendingEventCount())
+                + String.format("Overflowed Sends: %d%n", eventSystem.getOverflowedPendingEventCount());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return getEventSystem() != null;
+    }
+
+    @Override
+    public boolean isPerformanceManagerMode() {
+        return false;
+    }
+
+    private static EventSystemImpl getEventSystem() {
+        EventSystem eventSystem = CoreRegistry.get(EventSystem.class);
+        return eventSystem instanceof EventSystemImpl ? (EventSystemImpl) eventSystem : null;
+    }
+}
@@ -4,6 +4,8 @@
 package org.terasology.engine.rendering.nui.layers.ingame.metrics;
 
 import org.terasology.engine.core.Time;
+import org.terasology.engine.network.Client;
+import org.terasology.engine.network.NetMetricSource;
 import org.terasology.engine.network.NetworkMode;
 import org.terasology.engine.network.NetworkSystem;
 import org.terasology.engine.registry.CoreRegistry;
@@ -38,6 +40,17 @@ public String getMetrics() {
             builder.append(String.format("In Bytes: %d%n", networkSystem.getIncomingBytesDelta()));
             builder.append(String.format("Out Msg: %d%n", networkSystem.getOutgoingMessagesDelta()));
             builder.append(String.format("Out Bytes: %d%n", networkSystem.getOutgoingBytesDelta()));
+            for (Client client : networkSystem.getPlayers()) {
+                NetMetricSource metrics = client.getMetrics();
+                if (metrics != null) {
+                    builder.append(String.format("Msg Build %s: %.2fms%n", client.getName(),
+                            metrics.getMessageBuildTimeSinceLastCall()));
+                    builder.append(String.format("Compression %s: %.0f%%, %.1fns/byte%n", client.getName(),
+                            metrics.getCompressionRatio() * 100, metrics.getCompressionTimePerByte()));
+                    builder.append(String.format("Alloc %s: %.0f bytes/msg%n", client.getName(),
+                            metrics.getAllocationPerMessageSinceLastCall()));
+                }
+            }
             if (lastTime != 0) {
                 // ignore the first update as it will not have useful data
                 lastMetric = builder.toString();
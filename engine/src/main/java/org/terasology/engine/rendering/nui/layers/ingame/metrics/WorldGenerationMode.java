@@ -0,0 +1,53 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.rendering.nui.layers.ingame.metrics;
+
+import com.google.common.cache.CacheStats;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.world.generation.ColumnFacetCache;
+import org.terasology.engine.world.generation.World;
+import org.terasology.engine.world.generation.WorldImpl;
+import org.terasology.engine.world.generator.WorldGenerator;
+
+/**
+ * Shows how well the 2D facets of the world generator are shared between the chunks of a column.
+ */
+final class WorldGenerationMode extends MetricsMode {
+
+    WorldGenerationMode() {
+        super("\n- World Generation -");
+    }
+
+    @Override
+    public String getMetrics() {
+        ColumnFacetCache facetCache = getFacetCache();
+        if (facetCache == null) {
+            return getName();
+        }
+        CacheStats stats = facetCache.getStats();
+        return getName() + "\n"
+                + String.format("2D Facet Cache: %d entries%n", facetCache.size())
+                + String.format("Hits: %d, Misses: %d, Hit Rate: %.1f%%%n", stats.hitCount(), stats.missCount(),
+                stats.hitRate() * 100)
+                + String.format("Generation: %.2fms average%n", stats.averageLoadPenalty() / 1_000_000);
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return getFacetCache() != null;
+    }
+
+    @Override
+    public boolean isPerformanceManagerMode() {
+        return false;
+    }
+
+    private static ColumnFacetCache getFacetCache() {
+        WorldGenerator worldGenerator = CoreRegistry.get(WorldGenerator.class);
+        if (worldGenerator == null) {
+            return null;
+        }
+        World world = worldGenerator.getWorld();
+        return world instanceof WorldImpl ? ((WorldImpl) world).getFacetCache() : null;
+    }
+}
@@ -3,6 +3,11 @@
 
 package org.terasology.engine.utilities.procedural;
 
+import org.terasology.engine.world.block.BlockAreac;
+import org.terasology.engine.world.block.BlockRegionc;
+
+import java.util.Arrays;
+
 /**
  * Computes Brownian noise based on some noise generator.
  * Originally, Brown integrates white noise, but using other noises can be sometimes useful, too.
@@ -25,6 +30,8 @@ public class BrownianNoise extends AbstractNoise {
     private int octaves;
     private float[] spectralWeights;
     private float scale;                // 1/sum of all weights
+    private float[] offsetsX;           // the 2D offsets of the octaves
+    private float[] offsetsY;
     private final Noise other;
 
     /**
@@ -64,9 +71,8 @@ public float noise(float x, float y) {
             workingX *= (float) getLacunarity();
             workingY *= (float) getLacunarity();
 
-            // Include random offsets so that the origins of all the octaves don't all add up and make a weird feature there.
-            workingX += 10 * other.noise(i + 0.5f, 0.5f);
-            workingY += 10 * other.noise(-i - 0.5f, -0.5f);
+            workingX += offsetsX[i];
+            workingY += offsetsY[i];
         }
 
         return result * scale;
@@ -98,6 +104,88 @@ public float noise(float x, float y, float z) {
         return result * scale;
     }
 
+    /**
+     * Fills the array with Fractional Brownian Motion, see {@link Noise#noise(float[], BlockAreac, int, float, float)}.
+     * <p>
+     * Computes the same values as {@link #noise(float, float)}, but an octave at a time for all positions, so the
+     * setup of an octave is done once and the base noise is called in one tight loop.
+     */
+    @Override
+    public void noise(float[] result, BlockAreac area, int stride, float scaleX, float scaleY) {
+        int samplesX = (area.getSizeX() - 1) / stride + 1;
+        int samplesY = (area.getSizeY() - 1) / stride + 1;
+        int samples = samplesX * samplesY;
+        float[] workingX = new float[samples];
+        float[] workingY = new float[samples];
+        for (int j = 0; j < samplesY; j++) {
+            float y = (area.minY() + j * stride) * scaleY;
+            for (int i = 0; i < samplesX; i++) {
+                workingX[i + samplesX * j] = (area.minX() + i * stride) * scaleX;
+                workingY[i + samplesX * j] = y;
+            }
+        }
+
+        float lacunarityFactor = (float) lacunarity;
+        Arrays.fill(result, 0, samples, 0.0f);
+        for (int octave = 0; octave < octaves; octave++) {
+            float weight = spectralWeights[octave];
+            float offsetX = offsetsX[octave];
+            float offsetY = offsetsY[octave];
+            for (int n = 0; n < samples; n++) {
+                result[n] += other.noise(workingX[n], workingY[n]) * weight;
+                workingX[n] = workingX[n] * lacunarityFactor + offsetX;
+                workingY[n] = workingY[n] * lacunarityFactor + offsetY;
+            }
+        }
+        for (int n = 0; n < samples; n++) {
+            result[n] *= scale;
+        }
+    }
+
+    /**
+     * Fills the array with Fractional Brownian Motion, see
+     * {@link Noise#noise(float[], BlockRegionc, int, float, float, float)}.
+     * <p>
+     * Computes the same values as {@link #noise(float, float, float)}, but an octave at a time for all positions.
+     */
+    @Override
+    public void noise(float[] result, BlockRegionc region, int stride, float scaleX, float scaleY, float scaleZ) {
+        int samplesX = (region.getSizeX() - 1) / stride + 1;
+        int samplesY = (region.getSizeY() - 1) / stride + 1;
+        int samplesZ = (region.getSizeZ() - 1) / stride + 1;
+        int samples = samplesX * samplesY * samplesZ;
+        float[] workingX = new float[samples];
+        float[] workingY = new float[samples];
+        float[] workingZ = new float[samples];
+        for (int k = 0; k < samplesZ; k++) {
+            float z = (region.minZ() + k * stride) * scaleZ;
+            for (int j = 0; j < samplesY; j++) {
+                float y = (region.minY() + j * stride) * scaleY;
+                int offset = samplesX * (j + samplesY * k);
+                for (int i = 0; i < samplesX; i++) {
+                    workingX[offset + i] = (region.minX() + i * stride) * scaleX;
+                    workingY[offset + i] = y;
+                    workingZ[offset + i] = z;
+                }
+            }
+        }
+
+        float lacunarityFactor = (float) lacunarity;
+        Arrays.fill(result, 0, samples, 0.0f);
+        for (int octave = 0; octave < octaves; octave++) {
+            float weight = spectralWeights[octave];
+            for (int n = 0; n < samples; n++) {
+                result[n] += other.noise(workingX[n], workingY[n], workingZ[n]) * weight;
+                workingX[n] *= lacunarityFactor;
+                workingY[n] *= lacunarityFactor;
+                workingZ[n] *= lacunarityFactor;
+            }
+        }
+        for (int n = 0; n < samples; n++) {
+            result[n] *= scale;
+        }
+    }
+
     private static float computeScale(float[] spectralWeights) {
         float sum = 0;
         for (float weight : spectralWeights) {
@@ -112,6 +200,7 @@ private static float computeScale(float[] spectralWeights) {
     public void setOctaves(int octaves) {
         this.octaves = octaves;
         updateWeights();
+        updateOffsets();
     }
 
     /**
@@ -168,4 +257,15 @@ private void updateWeights() {
 
         scale = computeScale(spectralWeights);
    }
+
+    private void updateOffsets() {
+        // Include random offsets so that the origins of all the octaves don't all add up and make a weird feature there.
+        offsetsX = new float[octaves];
+        offsetsY = new float[octaves];
+
+        for (int i = 0; i < octaves; i++) {
+            offsetsX[i] = 10 * other.noise(i + 0.5f, 0.5f);
+            offsetsY[i] = 10 * other.noise(-i - 0.5f, -0.5f);
+        }
+    }
 }
@@ -3,6 +3,9 @@
 
 package org.terasology.engine.utilities.procedural;
 
+import org.terasology.engine.world.block.BlockAreac;
+import org.terasology.engine.world.block.BlockRegionc;
+
 /**
  * Provides or generates noise
  *
@@ -46,4 +49,107 @@ public interface Noise {
      * @return The noise value in the range [-1..1]
      */
     float noise(float x, float y, float z);
+
+    /**
+     * Returns the noise values of all positions in an area, where position (x, y) is sampled at
+     * (x * scale, y * scale). The value of a position is stored at index (x - minX) + sizeX * (y - minY).
+     *
+     * @param area the positions to sample
+     * @param scale the factor to multiply the positions with
+     * @return the noise values in the range [-1..1]
+     */
+    default float[] noise(BlockAreac area, float scale) {
+        float[] result = new float[area.area()];
+        noise(result, area, 1, scale, scale);
+        return result;
+    }
+
+    /**
+     * Returns the noise values of all positions in an area.
+     *
+     * @see #noise(BlockAreac, float)
+     */
+    default float[] noise(BlockAreac area) {
+        return noise(area, 1);
+    }
+
+    /**
+     * Returns the noise values of all positions in a region, where position (x, y, z) is sampled at
+     * (x * scale, y * scale, z * scale). The value of a position is stored at index
+     * (x - minX) + sizeX * ((y - minY) + sizeY * (z - minZ)).
+     *
+     * @param region the positions to sample
+     * @param scale the factor to multiply the positions with
+     * @return the noise values in the range [-1..1]
+     */
+    default float[] noise(BlockRegionc region, float scale) {
+        float[] result = new float[region.volume()];
+        noise(result, region, 1, scale, scale, scale);
+        return result;
+    }
+
+    /**
+     * Returns the noise values of all positions in a region.
+     *
+     * @see #noise(BlockRegionc, float)
+     */
+    default float[] noise(BlockRegionc region) {
+        return noise(region, 1);
+    }
+
+    /**
+     * Fills an array with the noise values of every stride-th position of an area, starting at its minimum corner.
+     * Position (minX + i * stride, minY + j * stride) is sampled at the position multiplied with the scale, and stored
+     * at index i + samplesX * j, with samplesX = (sizeX - 1) / stride + 1.
+     * <p>
+     * The values are the same as those of {@link #noise(float, float)}, but implementations fill the whole array at
+     * once, which is a lot quicker than asking for every position on its own.
+     *
+     * @param result the array to fill, at least as long as the number of samples
+     * @param area the area to sample
+     * @param stride the distance between two samples along an axis
+     * @param scaleX the factor to multiply the x-coordinates with
+     * @param scaleY the factor to multiply the y-coordinates with
+     */
+    default void noise(float[] result, BlockAreac area, int stride, float scaleX, float scaleY) {
+        int samplesX = (area.getSizeX() - 1) / stride + 1;
+        int samplesY = (area.getSizeY() - 1) / stride + 1;
+        for (int j = 0; j < samplesY; j++) {
+            float y = (area.minY() + j * stride) * scaleY;
+            for (int i = 0; i < samplesX; i++) {
+                result[i + samplesX * j] = noise((area.minX() + i * stride) * scaleX, y);
+            }
+        }
+    }
+
+    /**
+     * Fills an array with the noise values of every stride-th position of a region, starting at its minimum corner.
+     * Position (minX + i * stride, minY + j * stride, minZ + k * stride) is sampled at the position multiplied with the
+     * scale, and stored at index i + samplesX * (j + samplesY * k), with samplesX = (sizeX - 1) / stride + 1 and
+     * samplesY likewise.
+     * <p>
+     * The values are the same as those of {@link #noise(float, float, float)}, but implementations fill the whole array
+     * at once, which is a lot quicker than asking for every position on its own.
+     *
+     * @param result the array to fill, at least as long as the number of samples
+     * @param region the region to sample
+     * @param stride the distance between two samples along an axis
+     * @param scaleX the factor to multiply the x-coordinates with
+     * @param scaleY the factor to multiply the y-coordinates with
+     * @param scaleZ the factor to multiply the z-coordinates with
+     */
+    default void noise(float[] result, BlockRegionc region, int stride, float scaleX, float scaleY, float scaleZ) {
+        int samplesX = (region.getSizeX() - 1) / stride + 1;
+        int samplesY = (region.getSizeY() - 1) / stride + 1;
+        int samplesZ = (region.getSizeZ() - 1) / stride + 1;
+        for (int k = 0; k < samplesZ; k++) {
+            float z = (region.minZ() + k * stride) * scaleZ;
+            for (int j = 0; j < samplesY; j++) {
+                float y = (region.minY() + j * stride) * scaleY;
+                for (int i = 0; i < samplesX; i++) {
+                    result[i + samplesX * (j + samplesY * k)] = noise((region.minX() + i * stride) * scaleX, y, z);
+                }
+            }
+        }
+    }
 }
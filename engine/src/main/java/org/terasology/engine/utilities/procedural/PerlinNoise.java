@@ -3,6 +3,9 @@
 package org.terasology.engine.utilities.procedural;
 
 import org.terasology.engine.utilities.random.FastRandom;
+import org.terasology.engine.world.block.BlockAreac;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
 import org.terasology.math.TeraMath;
 
 /**
@@ -107,6 +110,73 @@ public float noise(float posX, float posY, float posZ) {
         return TeraMath.lerp(val1, val2, w);
     }
 
+    /**
+     * Fills the array with 2D noise, which is the 3D noise at z = 0.
+     */
+    @Override
+    public void noise(float[] result, BlockAreac area, int stride, float scaleX, float scaleY) {
+        BlockRegion region = new BlockRegion(area.minX(), area.minY(), 0, area.maxX(), area.maxY(), 0);
+        noise(result, region, stride, scaleX, scaleY, 0);
+    }
+
+    /**
+     * Fills the array with 3D noise, see {@link Noise#noise(float[], BlockRegionc, int, float, float, float)}.
+     * <p>
+     * Computes the same values as {@link #noise(float, float, float)}. The lattice cell, offset and fade of every
+     * x-coordinate are computed once for all rows, those of the y- and z-coordinates once per row.
+     */
+    @Override
+    public void noise(float[] result, BlockRegionc region, int stride, float scaleX, float scaleY, float scaleZ) {
+        int samplesX = (region.getSizeX() - 1) / stride + 1;
+        int samplesY = (region.getSizeY() - 1) / stride + 1;
+        int samplesZ = (region.getSizeZ() - 1) / stride + 1;
+        int[] p = noisePermutations;
+
+        int[] xInts = new int[samplesX];
+        float[] xs = new float[samplesX];
+        float[] us = new float[samplesX];
+        for (int i = 0; i < samplesX; i++) {
+            float posX = (region.minX() + i * stride) * scaleX;
+            xInts[i] = Math.floorMod(TeraMath.floorToInt(posX), permCount);
+            xs[i] = posX - TeraMath.fastFloor(posX);
+            us[i] = TeraMath.fadePerlin(xs[i]);
+        }
+
+        for (int k = 0; k < samplesZ; k++) {
+            float posZ = (region.minZ() + k * stride) * scaleZ;
+            int zInt = Math.floorMod(TeraMath.floorToInt(posZ), permCount);
+            float z = posZ - TeraMath.fastFloor(posZ);
+            float w = TeraMath.fadePerlin(z);
+            for (int j = 0; j < samplesY; j++) {
+                float posY = (region.minY() + j * stride) * scaleY;
+                int yInt = Math.floorMod(TeraMath.floorToInt(posY), permCount);
+                float y = posY - TeraMath.fastFloor(posY);
+                float v = TeraMath.fadePerlin(y);
+                int offset = samplesX * (j + samplesY * k);
+                for (int i = 0; i < samplesX; i++) {
+                    int xInt = xInts[i];
+                    float x = xs[i];
+                    float u = us[i];
+                    int a = p[xInt] + yInt;
+                    int aa = p[a] + zInt;
+                    int ab = p[a + 1] + zInt;
+                    int b = p[xInt + 1] + yInt;
+                    int ba = p[b] + zInt;
+                    int bb = p[b + 1] + zInt;
+
+                    float val1 = TeraMath.lerp(
+                            TeraMath.lerp(grad(p[aa], x, y, z), grad(p[ba], x - 1, y, z), u),
+                            TeraMath.lerp(grad(p[ab], x, y - 1, z), grad(p[bb], x - 1, y - 1, z), u), v);
+                    float val2 = TeraMath.lerp(
+                            TeraMath.lerp(grad(p[aa + 1], x, y, z - 1), grad(p[ba + 1], x - 1, y, z - 1), u),
+                            TeraMath.lerp(grad(p[ab + 1], x, y - 1, z - 1), grad(p[bb + 1], x - 1, y - 1, z - 1), u),
+                            v);
+                    result[offset + i] = TeraMath.lerp(val1, val2, w);
+                }
+            }
+        }
+    }
+
     private static float grad(int hash, float x, float y, float z) {
         int h = hash & 15;
         float u = h < 8 ? x : y;
@@ -3,6 +3,8 @@
 package org.terasology.engine.utilities.procedural;
 
 import org.terasology.engine.utilities.random.FastRandom;
+import org.terasology.engine.world.block.BlockAreac;
+import org.terasology.engine.world.block.BlockRegionc;
 import org.terasology.math.TeraMath;
 
 /**
@@ -47,6 +49,19 @@ public class SimplexNoise extends AbstractNoise implements Noise2D, Noise3D {
             new Grad(1, 1, 1, 0), new Grad(1, 1, -1, 0), new Grad(1, -1, 1, 0), new Grad(1, -1, -1, 0),
             new Grad(-1, 1, 1, 0), new Grad(-1, 1, -1, 0), new Grad(-1, -1, 1, 0), new Grad(-1, -1, -1, 0)};
 
+    // The components of grad3 in flat arrays, for the bulk methods
+    private static final float[] GRAD3_X = new float[grad3.length];
+    private static final float[] GRAD3_Y = new float[grad3.length];
+    private static final float[] GRAD3_Z = new float[grad3.length];
+
+    static {
+        for (int i = 0; i < grad3.length; i++) {
+            GRAD3_X[i] = grad3[i].x;
+            GRAD3_Y[i] = grad3[i].y;
+            GRAD3_Z[i] = grad3[i].z;
+        }
+    }
+
     // Skewing and unskewing factors for 2, 3, and 4 dimensions
     private static final float F2 = 0.5f * (float) (Math.sqrt(3.0f) - 1.0f);
     private static final float G2 = (3.0f - (float) Math.sqrt(3.0f)) / 6.0f;
@@ -337,6 +352,161 @@ public float noise(float xin, float yin, float zin) {
         return 32.0f * (n0 + n1 + n2 + n3);
     }
 
+    /**
+     * The same as {@link TeraMath#floorToInt(float)}, without the call to {@link Math#floor(double)}.
+     */
+    private static int floor(float value) {
+        int floor = (int) value;
+        return value < floor ? floor - 1 : floor;
+    }
+
+    /**
+     * Fills the array with 2D simplex noise, see {@link Noise#noise(float[], BlockAreac, int, float, float)}.
+     * <p>
+     * Computes the same values as {@link #noise(float, float)} in one loop without calls or branches, with the
+     * permutation and gradient tables in local variables. Grids of a power of two wrap with a mask instead of a
+     * division.
+     */
+    @Override
+    public void noise(float[] result, BlockAreac area, int stride, float scaleX, float scaleY) {
+        int samplesX = (area.getSizeX() - 1) / stride + 1;
+        int samplesY = (area.getSizeY() - 1) / stride + 1;
+        short[] permTable = perm;
+        short[] gradIndexTable = permMod12;
+        int count = permCount;
+        int mask = Integer.bitCount(count) == 1 ? count - 1 : -1;
+        float[] gradX = GRAD3_X;
+        float[] gradY = GRAD3_Y;
+
+        float[] xs = new float[samplesX];
+        for (int a = 0; a < samplesX; a++) {
+            xs[a] = (area.minX() + a * stride) * scaleX;
+        }
+        for (int b = 0; b < samplesY; b++) {
+            float yin = (area.minY() + b * stride) * scaleY;
+            int offset = samplesX * b;
+            for (int a = 0; a < samplesX; a++) {
+                float xin = xs[a];
+                float s = (xin + yin) * F2;
+                int i = floor(xin + s);
+                int j = floor(yin + s);
+                float t = (i + j) * G2;
+                float x0 = xin - (i - t);
+                float y0 = yin - (j - t);
+
+                int i1 = x0 > y0 ? 1 : 0;
+                int j1 = 1 - i1;
+                float x1 = x0 - i1 + G2;
+                float y1 = y0 - j1 + G2;
+                float x2 = x0 - 1.0f + 2.0f * G2;
+                float y2 = y0 - 1.0f + 2.0f * G2;
+
+                int ii = mask >= 0 ? i & mask : Math.floorMod(i, count);
+                int jj = mask >= 0 ? j & mask : Math.floorMod(j, count);
+                int gi0 = gradIndexTable[ii + permTable[jj]];
+                int gi1 = gradIndexTable[ii + i1 + permTable[jj + j1]];
+                int gi2 = gradIndexTable[ii + 1 + permTable[jj + 1]];
+
+                float t0 = Math.max(0.5f - x0 * x0 - y0 * y0, 0);
+                float t1 = Math.max(0.5f - x1 * x1 - y1 * y1, 0);
+                float t2 = Math.max(0.5f - x2 * x2 - y2 * y2, 0);
+                t0 *= t0;
+                t1 *= t1;
+                t2 *= t2;
+                float n0 = t0 * t0 * (gradX[gi0] * x0 + gradY[gi0] * y0);
+                float n1 = t1 * t1 * (gradX[gi1] * x1 + gradY[gi1] * y1);
+                float n2 = t2 * t2 * (gradX[gi2] * x2 + gradY[gi2] * y2);
+                result[offset + a] = 70.0f * (n0 + n1 + n2);
+            }
+        }
+    }
+
+    /**
+     * Fills the array with 3D simplex noise, see {@link Noise#noise(float[], BlockRegionc, int, float, float, float)}.
+     * <p>
+     * Computes the same values as {@link #noise(float, float, float)} in one loop without calls or branches, with the
+     * permutation and gradient tables in local variables. The simplex is found from the rank of the coordinates
+     * instead of nested comparisons, grids of a power of two wrap with a mask instead of a division.
+     */
+    @Override
+    public void noise(float[] result, BlockRegionc region, int stride, float scaleX, float scaleY, float scaleZ) {
+        int samplesX = (region.getSizeX() - 1) / stride + 1;
+        int samplesY = (region.getSizeY() - 1) / stride + 1;
+        int samplesZ = (region.getSizeZ() - 1) / stride + 1;
+        short[] permTable = perm;
+        short[] gradIndexTable = permMod12;
+        int count = permCount;
+        int mask = Integer.bitCount(count) == 1 ? count - 1 : -1;
+        float[] gradX = GRAD3_X;
+        float[] gradY = GRAD3_Y;
+        float[] gradZ = GRAD3_Z;
+
+        float[] xs = new float[samplesX];
+        for (int a = 0; a < samplesX; a++) {
+            xs[a] = (region.minX() + a * stride) * scaleX;
+        }
+        for (int c = 0; c < samplesZ; c++) {
+            float zin = (region.minZ() + c * stride) * scaleZ;
+            for (int b = 0; b < samplesY; b++) {
+                float yin = (region.minY() + b * stride) * scaleY;
+                int offset = samplesX * (b + samplesY * c);
+                for (int a = 0; a < samplesX; a++) {
+                    float xin = xs[a];
+                    float s = (xin + yin + zin) * F3;
+                    int i = floor(xin + s);
+                    int j = floor(yin + s);
+                    int k = floor(zin + s);
+                    float t = (i + j + k) * G3;
+                    float x0 = xin - (i - t);
+                    float y0 = yin - (j - t);
+                    float z0 = zin - (k - t);
+
+                    // the second corner steps along the largest coordinate, the third along all but the smallest
+                    int xy = x0 >= y0 ? 1 : 0;
+                    int yz = y0 >= z0 ? 1 : 0;
+                    int xz = x0 >= z0 ? 1 : 0;
+                    int i1 = xy & xz;
+                    int j1 = (1 - xy) & yz;
+                    int k1 = 1 - i1 - j1;
+                    int i2 = xy | xz;
+                    int j2 = (1 - xy) | yz;
+                    int k2 = 2 - i2 - j2;
+
+                    float x1 = x0 - i1 + G3;
+                    float y1 = y0 - j1 + G3;
+                    float z1 = z0 - k1 + G3;
+                    float x2 = x0 - i2 + 2.0f * G3;
+                    float y2 = y0 - j2 + 2.0f * G3;
+                    float z2 = z0 - k2 + 2.0f * G3;
+                    float x3 = x0 - 1.0f + 3.0f * G3;
+                    float y3 = y0 - 1.0f + 3.0f * G3;
+                    float z3 = z0 - 1.0f + 3.0f * G3;
+
+                    int ii = mask >= 0 ? i & mask : Math.floorMod(i, count);
+                    int jj = mask >= 0 ? j & mask : Math.floorMod(j, count);
+                    int kk = mask >= 0 ? k & mask : Math.floorMod(k, count);
+                    int gi0 = gradIndexTable[ii + permTable[jj + permTable[kk]]];
+                    int gi1 = gradIndexTable[ii + i1 + permTable[jj + j1 + permTable[kk + k1]]];
+                    int gi2 = gradIndexTable[ii + i2 + permTable[jj + j2 + permTable[kk + k2]]];
+                    int gi3 = gradIndexTable[ii + 1 + permTable[jj + 1 + permTable[kk + 1]]];
+
+                    float t0 = Math.max(0.6f - x0 * x0 - y0 * y0 - z0 * z0, 0);
+                    float t1 = Math.max(0.6f - x1 * x1 - y1 * y1 - z1 * z1, 0);
+                    float t2 = Math.max(0.6f - x2 * x2 - y2 * y2 - z2 * z2, 0);
+                    float t3 = Math.max(0.6f - x3 * x3 - y3 * y3 - z3 * z3, 0);
+                    t0 *= t0;
+                    t1 *= t1;
+                    t2 *= t2;
+                    t3 *= t3;
+                    float n0 = t0 * t0 * (gradX[gi0] * x0 + gradY[gi0] * y0 + gradZ[gi0] * z0);
+                    float n1 = t1 * t1 * (gradX[gi1] * x1 + gradY[gi1] * y1 + gradZ[gi1] * z1);
+                    float n2 = t2 * t2 * (gradX[gi2] * x2 + gradY[gi2] * y2 + gradZ[gi2] * z2);
+                    float n3 = t3 * t3 * (gradX[gi3] * x3 + gradY[gi3] * y3 + gradZ[gi3] * z3);
+                    result[offset + a] = 32.0f * (n0 + n1 + n2 + n3);
+                }
+            }
+        }
+    }
 
     /**
      * 4D simplex noise, better simplex rank ordering method 2012-03-09
@@ -11,6 +11,7 @@
 import org.terasology.engine.world.block.BlockArea;
 import org.terasology.engine.world.block.BlockAreac;
 import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
 
 public class SubSampledNoise extends AbstractNoise {
 
@@ -51,10 +52,12 @@ public float noise(float x, float y) {
         return TeraMath.biLerp(q00, q10, q01, q11, xMod / sampleRate, yMod / sampleRate);
     }
 
+    @Override
     public float[] noise(BlockAreac area) {
         return noise(area, 1);
     }
 
+    @Override
     public float[] noise(BlockAreac area, float scale) {
         BlockArea fullRegion = determineRequiredRegion(area);
         float[] keyData = getKeyValues(fullRegion, scale);
@@ -100,14 +103,9 @@ private float[] getKeyValues(BlockAreac fullRegion, float scale) {
         int xDim = fullRegion.getSizeX() / sampleRate + 1;
         int yDim = fullRegion.getSizeY() / sampleRate + 1;
         float[] fullData = new float[xDim * yDim];
-        for (int y = 0; y < yDim; y++) {
-            for (int x = 0; x < xDim; x++) {
-                int actualX = x * sampleRate + fullRegion.minX();
-                int actualY = y * sampleRate + fullRegion.minY();
-                fullData[x + y * xDim] = source.noise(zoom.x * scale * actualX, zoom.y * scale * actualY);
-            }
-        }
-
+        BlockArea keyArea = new BlockArea(fullRegion.minX(), fullRegion.minY(),
+                fullRegion.minX() + (xDim - 1) * sampleRate, fullRegion.minY() + (yDim - 1) * sampleRate);
+        source.noise(fullData, keyArea, sampleRate, zoom.x * scale, zoom.y * scale);
         return fullData;
     }
 
@@ -143,18 +141,20 @@ public float noise(float x, float y, float z) {
         return TeraMath.triLerp(q000, q100, q010, q110, q001, q101, q011, q111, xMod / sampleRate, yMod / sampleRate, zMod / sampleRate);
     }
 
-    public float[] noise(BlockRegion region) {
+    @Override
+    public float[] noise(BlockRegionc region) {
         return noise(region, 1);
     }
 
-    public float[] noise(BlockRegion region, float scale) {
+    @Override
+    public float[] noise(BlockRegionc region, float scale) {
         BlockRegion fullRegion = determineRequiredRegion(region);
         float[] keyData = getKeyValues(fullRegion, scale);
         float[] fullData = mapExpand(keyData, fullRegion);
         return getSubset(fullData, fullRegion, region);
     }
 
-    private float[] getSubset(float[] fullData, BlockRegion fullRegion, BlockRegion subRegion) {
+    private float[] getSubset(float[] fullData, BlockRegion fullRegion, BlockRegionc subRegion) {
         if (subRegion.getSizeX() != fullRegion.getSizeX() || subRegion.getSizeY() != fullRegion.getSizeY() || subRegion.getSizeZ() != fullRegion.getSizeZ()) {
             float[] result = new float[subRegion.getSizeX() * subRegion.getSizeY() * subRegion.getSizeZ()];
             Vector3i offset = new Vector3i(subRegion.minX() - fullRegion.minX(), subRegion.minY() - fullRegion.minY(), subRegion.minZ() - fullRegion.minZ());
@@ -206,20 +206,14 @@ private float[] getKeyValues(BlockRegion fullRegion, float scale) {
         int yDim = fullRegion.getSizeY() / sampleRate + 1;
         int zDim = fullRegion.getSizeZ() / sampleRate + 1;
         float[] fullData = new float[xDim * yDim * zDim];
-        for (int z = 0; z < zDim; z++) {
-            for (int y = 0; y < yDim; y++) {
-                for (int x = 0; x < xDim; x++) {
-                    int actualX = x * sampleRate + fullRegion.minX();
-                    int actualY = y * sampleRate + fullRegion.minY();
-                    int actualZ = z * sampleRate + fullRegion.minZ();
-                    fullData[x + xDim * (y + yDim * z)] = source.noise(zoom.x * scale * actualX, zoom.y * scale * actualY, zoom.z * scale * actualZ);
-                }
-            }
-        }
+        BlockRegion keyRegion = new BlockRegion(fullRegion.minX(), fullRegion.minY(), fullRegion.minZ(),
+                fullRegion.minX() + (xDim - 1) * sampleRate, fullRegion.minY() + (yDim - 1) * sampleRate,
+                fullRegion.minZ() + (zDim - 1) * sampleRate);
+        source.noise(fullData, keyRegion, sampleRate, zoom.x * scale, zoom.y * scale, zoom.z * scale);
         return fullData;
     }
 
-    private BlockRegion determineRequiredRegion(BlockRegion region) {
+    private BlockRegion determineRequiredRegion(BlockRegionc region) {
         int newMinX = region.minX() - IntMath.mod(region.minX(), sampleRate);
         int newMinY = region.minY() - IntMath.mod(region.minY(), sampleRate);
         int newMinZ = region.minZ() - IntMath.mod(region.minZ(), sampleRate);
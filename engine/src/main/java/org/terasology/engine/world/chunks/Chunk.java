@@ -344,6 +344,14 @@ default Vector3f getRenderPosition() {
 
     void deflateSunlight();
 
+    /**
+     * Copies the blocks and light values of this chunk. The copy can be read on another thread while this chunk keeps
+     * changing. It has no extra data, is never ready and is not part of the world.
+     *
+     * @return a copy of the blocks and light values
+     */
+    Chunk copyBlocksAndLight();
+
     void dispose();
 
     boolean isDisposed();
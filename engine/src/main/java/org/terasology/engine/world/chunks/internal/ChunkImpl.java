@@ -28,6 +28,7 @@
 import org.terasology.engine.world.chunks.deflate.TeraStandardDeflator;
 
 import java.text.DecimalFormat;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Chunks are the basic components of the world. Each chunk contains a fixed amount of blocks determined by its
@@ -62,6 +63,16 @@ public class ChunkImpl implements Chunk {
     private boolean disposed;
     private boolean ready;
     private volatile boolean dirty;
+    /**
+     * Incremented whenever block or extra data changes. Unlike {@link #dirty}, which tracks whether the mesh needs to
+     * be rebuilt, this tracks whether the chunk differs from its saved version.
+     */
+    private final AtomicLong persistentChangeGeneration = new AtomicLong();
+    /**
+     * Value of {@link #persistentChangeGeneration} the saved version of the chunk got created from, -1 if the chunk
+     * never got saved.
+     */
+    private volatile long savedGeneration = -1;
     private boolean animated;
 
     // Rendering
@@ -96,6 +107,22 @@ public ChunkImpl(Vector3ic chunkPos, TeraArray blocks, TeraArray[] extra, BlockM
         ChunkMonitor.fireChunkCreated(this);
     }
 
+    private ChunkImpl(ChunkImpl source) {
+        chunkPos.set(source.chunkPos);
+        region = new BlockRegion(source.region);
+        blockManager = source.blockManager;
+        blockData = source.blockData.copy();
+        extraData = new TeraArray[0];
+        sunlightData = source.sunlightData.copy();
+        sunlightRegenData = source.sunlightRegenData.copy();
+        lightData = source.lightData.copy();
+    }
+
+    @Override
+    public Chunk copyBlocksAndLight() {
+        return new ChunkImpl(this);
+    }
+
     @Override
     public Vector3ic getPosition() {
         return chunkPos;
@@ -116,6 +143,29 @@ public void setDirty(boolean dirty) {
         this.dirty = dirty;
     }
 
+    /**
+     * @return counter which increases with every change of block or extra data of this chunk.
+     */
+    public long getPersistentChangeGeneration() {
+        return persistentChangeGeneration.get();
+    }
+
+    /**
+     * @return true if block or extra data changed since the chunk got saved or loaded, or if it never got saved.
+     */
+    public boolean isPersistentDirty() {
+        return persistentChangeGeneration.get() != savedGeneration;
+    }
+
+    /**
+     * Marks the chunk as saved. Changes which happened after the given generation keep the chunk persistent dirty.
+     *
+     * @param generation value of {@link #getPersistentChangeGeneration()} at the time the saved data got captured.
+     */
+    public void markPersistentChangesSaved(long generation) {
+        this.savedGeneration = generation;
+    }
+
     @Override
     public int getEstimatedMemoryConsumptionInBytes() {
         int extraDataSize = 0;
@@ -151,6 +201,10 @@ public Block setBlock(int x, int y, int z, Block block) {
             blockData = blockData.copy();
         }
         int oldValue = blockData.set(x, y, z, block.getId());
+        if (oldValue != block.getId()) {
+            // incremented after the change, so a concurrent snapshot never claims to contain a change it missed
+            persistentChangeGeneration.incrementAndGet();
+        }
         return blockManager.getBlock((short) oldValue);
     }
 
@@ -237,7 +291,9 @@ public void setExtraData(int index, int x, int y, int z, int value) {
         if (extraDataSnapshots != null && extraData[index] == extraDataSnapshots[index]) {
             extraData[index] = extraData[index].copy();
         }
-        extraData[index].set(x, y, z, value);
+        if (extraData[index].set(x, y, z, value) != value) {
+            persistentChangeGeneration.incrementAndGet();
+        }
     }
 
     @Override
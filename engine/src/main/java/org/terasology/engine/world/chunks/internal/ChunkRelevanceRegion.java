@@ -6,6 +6,7 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.Sets;
 import org.joml.Vector3f;
+import org.joml.Vector3fc;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.terasology.engine.entitySystem.entity.EntityRef;
@@ -21,6 +22,23 @@
 /**
  */
 public class ChunkRelevanceRegion {
+    /**
+     * Cosine of angle, which heading should turn by before chunk priorities are considered outdated.
+     */
+    private static final float HEADING_CHANGE_COS = 0.87f;
+    /**
+     * Weight of the latest movement in the velocity estimate.
+     */
+    private static final float VELOCITY_SMOOTHING = 0.3f;
+    /**
+     * Movements faster than this, in blocks per second, are taken as teleports and reset the velocity.
+     */
+    private static final float MAX_TRACKED_SPEED = 256;
+    /**
+     * Entities slower than this, in blocks per second, get their chunks in time without any prediction.
+     */
+    private static final float MIN_PREDICTED_SPEED = 10;
+
     private EntityRef entity;
     private Vector3i relevanceDistance = new Vector3i();
     private boolean dirty;
@@ -28,6 +46,10 @@ public class ChunkRelevanceRegion {
     private BlockRegion currentRegion = new BlockRegion(BlockRegion.INVALID);
     private BlockRegion previousRegion = new BlockRegion(BlockRegion.INVALID);
     private ChunkRegionListener listener;
+    private final Vector3f heading = new Vector3f();
+    private final Vector3f prioritizedHeading = new Vector3f();
+    private final Vector3f lastWorldPosition = new Vector3f(Float.NaN);
+    private final Vector3f velocity = new Vector3f();
 
     private Set<Vector3ic> relevantChunks = Sets.newLinkedHashSet();
 
@@ -50,6 +72,35 @@ public Vector3i getCenter() {
         return center;
     }
 
+    /**
+     * Direction, in which region most likely needs chunks soon: facing direction of the region's entity, turned
+     * towards its movement. Zero vector, if unknown.
+     *
+     * @return normalized heading or zero vector.
+     */
+    public Vector3fc getHeading() {
+        return heading;
+    }
+
+    /**
+     * @return true if heading turned noticeably since last {@link #setHeadingUpToDate()}.
+     */
+    public boolean isHeadingChanged() {
+        return heading.dot(prioritizedHeading) < HEADING_CHANGE_COS
+                && (heading.lengthSquared() > 0 || prioritizedHeading.lengthSquared() > 0);
+    }
+
+    public void setHeadingUpToDate() {
+        prioritizedHeading.set(heading);
+    }
+
+    /**
+     * Smoothed velocity of the region's entity, in blocks per second. Zero vector, if unknown.
+     */
+    public Vector3fc getVelocity() {
+        return velocity;
+    }
+
     public void setRelevanceDistance(Vector3ic distance) {
         if (!distance.equals(this.relevanceDistance)) {
             reviewRelevantChunks(distance);
@@ -93,10 +144,14 @@ public BlockRegion getPreviousRegion() {
         return previousRegion;
     }
 
-    public void update() {
+    /**
+     * @param delta the time in seconds since the last update
+     */
+    public void update(float delta) {
         if (!isValid()) {
             dirty = false;
         } else {
+            updateHeading(delta);
             Vector3i newCenter = calculateCenter();
             if (!newCenter.equals(center)) {
                 dirty = true;
@@ -107,6 +162,75 @@ public void update() {
         }
     }
 
+    private void updateHeading(float delta) {
+        LocationComponent loc = entity.getComponent(LocationComponent.class);
+        Vector3f position = loc.getWorldPosition(new Vector3f());
+        if (!position.isFinite()) {
+            return;
+        }
+        Vector3f direction = loc.getWorldDirection(new Vector3f());
+        if (lastWorldPosition.isFinite()) {
+            Vector3f movement = position.sub(lastWorldPosition, new Vector3f());
+            updateVelocity(movement, delta);
+            if (movement.lengthSquared() > 0) {
+                direction.add(movement.normalize());
+            }
+        }
+        lastWorldPosition.set(position);
+        if (direction.isFinite() && direction.lengthSquared() > 0) {
+            heading.set(direction).normalize();
+        }
+    }
+
+    private void updateVelocity(Vector3fc movement, float delta) {
+        if (delta <= 0) {
+            return;
+        }
+        Vector3f currentVelocity = movement.div(delta, new Vector3f());
+        if (currentVelocity.lengthSquared() > MAX_TRACKED_SPEED * MAX_TRACKED_SPEED) {
+            velocity.zero();
+        } else {
+            velocity.lerp(currentVelocity, VELOCITY_SMOOTHING);
+        }
+    }
+
+    /**
+     * Collects the chunks the region will probably need within the given time, if its entity keeps moving the way it
+     * does: the chunks of the region around each chunk along the extrapolated path, which are not in the current
+     * region yet. Chunks along the nearer part of the path come first. Nothing is predicted for slow entities.
+     *
+     * @param seconds how far ahead to extrapolate the path
+     * @param limit the maximum number of chunks to add
+     * @param dest the set to add the chunk positions to
+     * @return the number of chunks added
+     */
+    public int gatherPredictedChunks(float seconds, int limit, Set<Vector3ic> dest) {
+        float speed = velocity.length();
+        if (speed < MIN_PREDICTED_SPEED || !currentRegion.isValid() || !lastWorldPosition.isFinite()) {
+            return 0;
+        }
+        Vector3i extents = new Vector3i(relevanceDistance.x / 2, relevanceDistance.y / 2, relevanceDistance.z / 2);
+        Vector3f pathPosition = new Vector3f();
+        Vector3i pathChunk = new Vector3i();
+        Vector3i lastPathChunk = new Vector3i(center);
+        float step = Chunks.SIZE_X / speed;
+        int added = 0;
+        for (float time = step; time <= seconds && added < limit; time += step) {
+            lastWorldPosition.fma(time, velocity, pathPosition);
+            Chunks.toChunkPos(pathPosition, pathChunk);
+            if (pathChunk.equals(lastPathChunk)) {
+                continue;
+            }
+            lastPathChunk.set(pathChunk);
+            for (Vector3ic pos : new BlockRegion(pathChunk).expand(extents)) {
+                if (!currentRegion.contains(pos) && dest.add(new Vector3i(pos)) && ++added >= limit) {
+                    break;
+                }
+            }
+        }
+        return added;
+    }
+
     private BlockRegion calculateRegion() {
         LocationComponent loc = entity.getComponent(LocationComponent.class);
         if (loc != null&& !Float.isNaN(loc.getWorldPosition(new Vector3f()).x)) {
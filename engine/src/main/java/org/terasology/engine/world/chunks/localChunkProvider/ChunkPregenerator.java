@@ -0,0 +1,142 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.chunks.localChunkProvider;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
+import com.google.common.collect.Sets;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.world.block.BlockRegion;
+import org.terasology.engine.world.block.BlockRegionc;
+import org.terasology.engine.world.chunks.Chunk;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Generates or loads all chunks of a region for the {@link LocalChunkProvider}, e.g. around the spawn before players
+ * join a server.
+ * <p>
+ * The region is split into tiles of a few columns of chunks, which are processed one after another, closest to the
+ * center of the region first. Only the chunks of the current tile and their neighbours, which are needed to light
+ * them, are kept. Chunks of done tiles are unloaded and therefore stored by the chunk provider.
+ */
+class ChunkPregenerator {
+    private static final Logger logger = LoggerFactory.getLogger(ChunkPregenerator.class);
+    private static final int TILE_SIZE = 8;
+
+    private final LocalChunkProvider chunkProvider;
+    private final Queue<BlockRegion> tiles;
+    private final int tileCount;
+    private final int totalCount;
+    private final Set<Vector3ic> requested = Sets.newHashSet();
+    private final Map<Vector3ic, Future<Chunk>> tileChunks = Maps.newHashMap();
+    private BlockRegion currentTile;
+    private int doneCount;
+
+    ChunkPregenerator(LocalChunkProvider chunkProvider, BlockRegionc region) {
+        this.chunkProvider = chunkProvider;
+        List<BlockRegion> tileList = Lists.newArrayList();
+        for (int x = region.minX(); x <= region.maxX(); x += TILE_SIZE) {
+            for (int z = region.minZ(); z <= region.maxZ(); z += TILE_SIZE) {
+                tileList.add(new BlockRegion(x, region.minY(), z,
+                        Math.min(x + TILE_SIZE - 1, region.maxX()), region.maxY(),
+                        Math.min(z + TILE_SIZE - 1, region.maxZ())));
+            }
+        }
+        float centerX = (region.minX() + region.maxX()) / 2f;
+        float centerZ = (region.minZ() + region.maxZ()) / 2f;
+        tileList.sort(Comparator.comparingDouble(tile -> {
+            float dx = (tile.minX() + tile.maxX()) / 2f - centerX;
+            float dz = (tile.minZ() + tile.maxZ()) / 2f - centerZ;
+            return dx * dx + dz * dz;
+        }));
+        tiles = Queues.newArrayDeque(tileList);
+        tileCount = tileList.size();
+        totalCount = region.volume();
+    }
+
+    /**
+     * Checks whether the current tile is done and requests the chunks of the next tile then.
+     *
+     * @return {@code true} if all tiles are done, otherwise {@code false}
+     */
+    boolean update() {
+        for (Map.Entry<Vector3ic, Future<Chunk>> entry : tileChunks.entrySet()) {
+            if (!chunkProvider.isChunkReady(entry.getKey()) && !isFailed(entry.getValue())) {
+                return false;
+            }
+        }
+        if (currentTile != null) {
+            doneCount += currentTile.volume();
+        }
+        tileChunks.clear();
+        requested.clear();
+
+        BlockRegion tile = tiles.poll();
+        currentTile = tile;
+        if (tile == null) {
+            return true;
+        }
+        logger.debug("Pre-generating tile {} of {}: {}", tileCount - tiles.size(), tileCount, tile);
+        for (Vector3ic pos : new BlockRegion(tile).expand(1, 1, 1)) {
+            Vector3i chunkPos = new Vector3i(pos);
+            requested.add(chunkPos);
+            if (chunkProvider.isChunkReady(chunkPos)) {
+                continue;
+            }
+            Future<Chunk> future = chunkProvider.createOrLoadChunk(chunkPos);
+            if (tile.contains(chunkPos)) {
+                tileChunks.put(chunkPos, future);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param pos position of chunk
+     * @return {@code true} if the chunk must be kept for the current tile, otherwise {@code false}
+     */
+    boolean isRequested(Vector3ic pos) {
+        return requested.contains(pos);
+    }
+
+    /**
+     * @return count of chunks in done tiles
+     */
+    int getDoneCount() {
+        return doneCount;
+    }
+
+    /**
+     * @return count of chunks in all tiles
+     */
+    int getTotalCount() {
+        return totalCount;
+    }
+
+    private boolean isFailed(Future<Chunk> future) {
+        if (!future.isDone()) {
+            return false;
+        }
+        try {
+            future.get();
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return true;
+        }
+    }
+}
@@ -2,10 +2,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.world.chunks.localChunkProvider;
 
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Queues;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.Futures;
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.TShortObjectMap;
@@ -56,9 +61,11 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -83,17 +90,28 @@
  * {@link BeforeChunkUnload} when chunk ready to remove from provider.
  * <p>
  * {@link BeforeDeactivateBlocks} when chunk ready to remove and have block lifecycle.
+ * <p>
+ * Chunks can also be requested ahead of time with {@link #requestSpeculativeChunk}. These are kept in a bounded
+ * cache of "warm" chunks, without being added to the world or producing any events, until they are requested with
+ * {@link #createOrLoadChunk}. Warm chunks which aren't requested in time are dropped again.
  */
 public class LocalChunkProvider implements ChunkProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(LocalChunkProvider.class);
     private static final int UNLOAD_PER_FRAME = 64;
+    /**
+     * Maximum count of chunks which were generated ahead of time and wait to be requested.
+     */
+    static final int WARM_CACHE_SIZE = 256;
+    static final int WARM_CHUNK_EXPIRY_SECONDS = 60;
     private final EntityManager entityManager;
     private final BlockingQueue<Chunk> readyChunks = Queues.newLinkedBlockingQueue();
     private final BlockingQueue<TShortObjectMap<TIntList>> deactivateBlocksQueue = Queues.newLinkedBlockingQueue();
     private final Map<Vector3ic, Chunk> chunkCache;
 
     private final Map<Vector3ic, List<EntityStore>> generateQueuedEntities = new ConcurrentHashMap<>();
+    private final Cache<Vector3ic, Chunk> warmChunks;
+    private final Set<Vector3ic> speculativeChunks = Sets.newConcurrentHashSet();
 
     private final StorageManager storageManager;
     private final WorldGenerator generator;
@@ -105,10 +123,21 @@ public class LocalChunkProvider implements ChunkProvider {
     private BlockEntityRegistry registry;
 
     private RelevanceSystem relevanceSystem;
+    private ChunkPregenerator pregenerator;
 
     public LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
                               BlockManager blockManager, ExtraBlockDataManager extraDataManager,
                               Map<Vector3ic, Chunk> chunkCache) {
+        this(storageManager, entityManager, generator, blockManager, extraDataManager, chunkCache,
+            Ticker.systemTicker());
+    }
+
+    /**
+     * @param warmChunkTicker the time source for the expiry of warm chunks
+     */
+    LocalChunkProvider(StorageManager storageManager, EntityManager entityManager, WorldGenerator generator,
+                       BlockManager blockManager, ExtraBlockDataManager extraDataManager,
+                       Map<Vector3ic, Chunk> chunkCache, Ticker warmChunkTicker) {
         this.storageManager = storageManager;
         this.entityManager = entityManager;
         this.generator = generator;
@@ -116,11 +145,44 @@ public LocalChunkProvider(StorageManager storageManager, EntityManager entityMan
         this.extraDataManager = extraDataManager;
         this.unloadRequestTaskMaster = TaskMaster.createFIFOTaskMaster("Chunk-Unloader", 4);
         this.chunkCache = chunkCache;
+        this.warmChunks = CacheBuilder.newBuilder()
+            .maximumSize(WARM_CACHE_SIZE)
+            .expireAfterWrite(WARM_CHUNK_EXPIRY_SECONDS, TimeUnit.SECONDS)
+            .ticker(warmChunkTicker)
+            .<Vector3ic, Chunk>removalListener(this::onWarmChunkRemoved)
+            .build();
         ChunkMonitor.fireChunkProviderInitialized(this);
     }
 
 
     protected Future<Chunk> createOrLoadChunk(Vector3ic chunkPos) {
+        speculativeChunks.remove(chunkPos);
+        Chunk warmChunk = warmChunks.asMap().remove(chunkPos);
+        if (warmChunk != null) {
+            readyChunks.add(warmChunk);
+            return Futures.immediateFuture(warmChunk);
+        }
+        return invokeLoadingPipeline(chunkPos);
+    }
+
+    /**
+     * Generates or loads a chunk, which will probably be needed soon, with low priority. The chunk is kept in the warm
+     * cache until it is requested with {@link #createOrLoadChunk}.
+     *
+     * @param chunkPos position of chunk to prepare
+     * @return Future of chunk processing, or {@code null} if the chunk is already there or being processed.
+     */
+    Future<Chunk> requestSpeculativeChunk(Vector3ic chunkPos) {
+        if (chunkCache.containsKey(chunkPos) || loadingPipeline.isPositionProcessing(chunkPos)
+            || warmChunks.getIfPresent(chunkPos) != null) {
+            return null;
+        }
+        Vector3i pos = new Vector3i(chunkPos);
+        speculativeChunks.add(pos);
+        return invokeLoadingPipeline(pos);
+    }
+
+    private Future<Chunk> invokeLoadingPipeline(Vector3ic chunkPos) {
         Vector3i pos = new Vector3i(chunkPos);
         return loadingPipeline.invokeGeneratorTask(
             pos,
@@ -139,6 +201,25 @@ protected Future<Chunk> createOrLoadChunk(Vector3ic chunkPos) {
             });
     }
 
+    private void onWarmChunkRemoved(RemovalNotification<Vector3ic, Chunk> notification) {
+        if (notification.wasEvicted()) {
+            generateQueuedEntities.remove(notification.getKey());
+            notification.getValue().dispose();
+        }
+    }
+
+    /**
+     * Provides chunks to the loading pipeline, which aren't processed by it: ready chunks, and warm chunks so that
+     * chunks requested ahead of time can be lit with their neighbours.
+     */
+    private Chunk getChunkForProcessing(Vector3ic pos) {
+        Chunk chunk = getChunk(pos);
+        if (chunk == null) {
+            chunk = warmChunks.getIfPresent(pos);
+        }
+        return chunk;
+    }
+
     public void setBlockEntityRegistry(BlockEntityRegistry value) {
         this.registry = value;
     }
@@ -164,6 +245,10 @@ private void processReadyChunk(final Chunk chunk) {
         if (chunkCache.get(chunk.getPosition(new Vector3i())) != null) {
             return; // TODO move it in pipeline;
         }
+        if (speculativeChunks.remove(chunk.getPosition())) {
+            warmChunks.put(chunk.getPosition(new Vector3i()), chunk);
+            return;
+        }
         chunkCache.put(chunk.getPosition(new Vector3i()), chunk);
         chunk.markReady();
         //TODO, it is not clear if the activate/addedBlocks event logic is correct.
@@ -231,11 +316,60 @@ private void generateQueuedEntities(EntityStore store) {
     @Override
     public void update() {
         deactivateBlocks();
+        updatePregeneration();
         checkForUnload();
         Chunk chunk;
         while ((chunk = readyChunks.poll()) != null) {
             processReadyChunk(chunk);
         }
+        warmChunks.cleanUp();
+    }
+
+    private void updatePregeneration() {
+        if (pregenerator != null && pregenerator.update()) {
+            logger.info("Pre-generated {} chunks", pregenerator.getDoneCount());
+            pregenerator = null;
+            loadingPipeline.setNumTaskThreads(ChunkProcessingPipeline.getConfiguredNumTaskThreads());
+        }
+    }
+
+    /**
+     * Generates or loads all chunks of a region and stores them. Only a few columns of chunks are kept at once, and
+     * all available processors are used for chunk processing until the region is done.
+     *
+     * @param chunkRegion the positions of the chunks to pre-generate
+     * @return count of chunks which will be pre-generated
+     * @throws IllegalStateException if a region is already being pre-generated
+     */
+    public int pregenerate(BlockRegionc chunkRegion) {
+        if (pregenerator != null) {
+            throw new IllegalStateException("Already pre-generating " + pregenerator.getTotalCount() + " chunks");
+        }
+        pregenerator = new ChunkPregenerator(this, chunkRegion);
+        loadingPipeline.setNumTaskThreads(Math.max(ChunkProcessingPipeline.getConfiguredNumTaskThreads(),
+            Runtime.getRuntime().availableProcessors()));
+        return chunkRegion.volume();
+    }
+
+    /**
+     * @return {@code true} if a region is being pre-generated, otherwise {@code false}
+     */
+    public boolean isPregenerating() {
+        return pregenerator != null;
+    }
+
+    /**
+     * @return count of chunks of the region being pre-generated which are done, or 0 if none is
+     */
+    public int getPregeneratedCount() {
+        return pregenerator != null ? pregenerator.getDoneCount() : 0;
+    }
+
+    /**
+     * @return count of chunks of the region being pre-generated, or 0 if none is
+     */
+    public int getPregenerationTotal() {
+        return pregenerator != null ? pregenerator.getTotalCount() : 0;
     }
 
     private void deactivateBlocks() {
@@ -260,7 +394,9 @@ private void checkForUnload() {
             loadingPipeline.getProcessingPosition().iterator());
         while (iterator.hasNext()) {
             Vector3ic pos = iterator.next();
-            boolean keep = relevanceSystem.isChunkInRegions(pos); // TODO: move it to relevance system.
+            boolean keep = relevanceSystem.isChunkInRegions(pos) // TODO: move it to relevance system.
+                || relevanceSystem.isChunkPredicted(pos)
+                || pregenerator != null && pregenerator.isRequested(pos);
             if (!keep && unloadChunkInternal(pos)) {
                 iterator.remove();
                 if (++unloaded >= UNLOAD_PER_FRAME) {
@@ -279,6 +415,7 @@ private boolean unloadChunkInternal(Vector3ic pos) {
         if (loadingPipeline.isPositionProcessing(pos)) {
             // Chunk hasn't been finished or changed, so just drop it.
             loadingPipeline.stopProcessingAt(pos);
+            speculativeChunks.remove(pos);
             return false;
         }
         Chunk chunk = chunkCache.get(pos);
@@ -365,6 +502,7 @@ public void dispose() {
             chunk.dispose();
         }
         chunkCache.clear();
+        disposeWarmChunks();
         /*
          * The chunk monitor needs to clear chunk references, so it's important
          * that no new chunk get created
@@ -398,10 +536,14 @@ public void purgeWorld() {
             chunk.dispose();
         });
         chunkCache.clear();
+        disposeWarmChunks();
+        pregenerator = null;
         storageManager.deleteWorld();
         worldEntity.send(new PurgeWorldEvent());
 
-        loadingPipeline = new ChunkProcessingPipeline(this::getChunk, relevanceSystem.createChunkTaskComporator());
+        loadingPipeline = new ChunkProcessingPipeline(ChunkProcessingPipeline.getConfiguredNumTaskThreads(),
+            this::getChunkForProcessing,
+            relevanceSystem.createChunkTaskPriority());
         loadingPipeline.addStage(
             ChunkTaskProvider.create("Chunk generate internal lightning",
                 (Consumer<Chunk>) InternalLightProcessor::generateInternalLighting))
@@ -427,6 +569,20 @@ public void purgeWorld() {
         }
     }
 
+    private void disposeWarmChunks() {
+        warmChunks.asMap().values().forEach(Chunk::dispose);
+        warmChunks.invalidateAll();
+        speculativeChunks.clear();
+        generateQueuedEntities.clear();
+    }
+
+    /**
+     * Recalculate priorities of queued chunk tasks, e.g. after relevance regions moved.
+     */
+    void reprioritizeChunkTasks() {
+        loadingPipeline.reprioritize();
+    }
+
     @Override
     public boolean isChunkReady(Vector3ic pos) {
         return isChunkReady(chunkCache.get(pos));
@@ -439,7 +595,9 @@ private boolean isChunkReady(Chunk chunk) {
     // TODO: move loadingPipeline initialization into constructor.
     public void setRelevanceSystem(RelevanceSystem relevanceSystem) {
         this.relevanceSystem = relevanceSystem;
-        loadingPipeline = new ChunkProcessingPipeline(this::getChunk, relevanceSystem.createChunkTaskComporator());
+        loadingPipeline = new ChunkProcessingPipeline(ChunkProcessingPipeline.getConfiguredNumTaskThreads(),
+            this::getChunkForProcessing,
+            relevanceSystem.createChunkTaskPriority());
         loadingPipeline.addStage(
             ChunkTaskProvider.create("Chunk generate internal lightning",
                 (Consumer<Chunk>) InternalLightProcessor::generateInternalLighting))
@@ -3,8 +3,11 @@
 package org.terasology.engine.world.chunks.localChunkProvider;
 
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.joml.Vector3fc;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
+import org.terasology.engine.config.SystemConfig;
 import org.terasology.engine.entitySystem.entity.EntityRef;
 import org.terasology.engine.entitySystem.entity.lifecycleEvents.BeforeDeactivateComponent;
 import org.terasology.engine.entitySystem.entity.lifecycleEvents.OnActivatedComponent;
@@ -22,14 +25,14 @@
 import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
 import org.terasology.engine.world.chunks.event.OnChunkLoaded;
 import org.terasology.engine.world.chunks.internal.ChunkRelevanceRegion;
-import org.terasology.engine.world.chunks.pipeline.PositionFuture;
 
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Map;
-import java.util.concurrent.Future;
+import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
 import java.util.stream.StreamSupport;
 
 /**
@@ -41,16 +44,34 @@
  * Client side multiplayer downloads and displays the chunks sent by the server.
  * <p>
  * It is uses {@link RelevanceRegionComponent} for determinate "view distance".
+ * <p>
+ * With predictive chunk generation enabled, it also requests the chunks fast entities will probably need soon, along
+ * their extrapolated path, with a low priority. These are kept aside by the {@link LocalChunkProvider} until a region
+ * actually needs them.
  */
 public class RelevanceSystem implements UpdateSubscriberSystem {
 
     private static final Vector3i UNLOAD_LEEWAY = new Vector3i(1, 1, 1);
+    /**
+     * How far ahead, in seconds, the paths of moving regions are extrapolated.
+     */
+    private static final float PREDICTION_SECONDS = 4;
+    /**
+     * Added to the priority of chunks outside of all regions, so they are only processed when no region is waiting.
+     */
+    private static final int PREDICTED_CHUNK_PRIORITY_OFFSET = 1 << 20;
     private final ReadWriteLock regionLock = new ReentrantReadWriteLock();
     private final Map<EntityRef, ChunkRelevanceRegion> regions = Maps.newHashMap();
     private final LocalChunkProvider chunkProvider;
+    private final SystemConfig systemConfig;
+    private final Set<Vector3ic> predictedChunks = Sets.newHashSet();
 
-    public RelevanceSystem(LocalChunkProvider chunkProvider) {
+    /**
+     * @param systemConfig the config telling whether to predict chunks, or {@code null} to predict none
+     */
+    public RelevanceSystem(LocalChunkProvider chunkProvider, SystemConfig systemConfig) {
         this.chunkProvider = chunkProvider;
+        this.systemConfig = systemConfig;
     }
 
     @ReceiveEvent(components = {RelevanceRegionComponent.class, LocationComponent.class})
@@ -121,10 +142,15 @@ public void removeRelevanceEntity(EntityRef entity) {
     /**
      * Synchronize region center to entity's position and create/load chunks in that region.
      */
-    private void updateRelevance() {
+    private void updateRelevance(float delta) {
         try (Activity activity = PerformanceMonitor.startActivity("Update relevance")) {
+            boolean prioritiesChanged = false;
             for (ChunkRelevanceRegion chunkRelevanceRegion : regions.values()) {
-                chunkRelevanceRegion.update();
+                chunkRelevanceRegion.update(delta);
+                if (chunkRelevanceRegion.isDirty() || chunkRelevanceRegion.isHeadingChanged()) {
+                    chunkRelevanceRegion.setHeadingUpToDate();
+                    prioritiesChanged = true;
+                }
                 if (chunkRelevanceRegion.isDirty()) {
                     for (Vector3i pos : chunkRelevanceRegion.getNeededChunks()) {
                         Chunk chunk = chunkProvider.getChunk(pos);
@@ -137,9 +163,38 @@ private void updateRelevance() {
                     chunkRelevanceRegion.setUpToDate();
                 }
             }
+            if (prioritiesChanged) {
+                updatePredictedChunks();
+                chunkProvider.reprioritizeChunkTasks();
+            } else if (!isPredictionEnabled()) {
+                predictedChunks.clear();
+            }
         }
     }
 
+    /**
+     * Extrapolates the paths of the regions and requests the chunks along them, which aren't there yet.
+     */
+    private void updatePredictedChunks() {
+        predictedChunks.clear();
+        if (!isPredictionEnabled()) {
+            return;
+        }
+        int budget = LocalChunkProvider.WARM_CACHE_SIZE;
+        for (ChunkRelevanceRegion chunkRelevanceRegion : regions.values()) {
+            budget -= chunkRelevanceRegion.gatherPredictedChunks(PREDICTION_SECONDS, budget, predictedChunks);
+        }
+        for (Vector3ic pos : predictedChunks) {
+            if (!isChunkInRegions(pos)) {
+                chunkProvider.requestSpeculativeChunk(pos);
+            }
+        }
+    }
+
+    private boolean isPredictionEnabled() {
+        return systemConfig != null && systemConfig.predictiveChunkGenerationEnabled.get();
+    }
+
     /**
      * Add entity to relevance system. create region for it. Update distance if region exists already. Create/Load
      * chunks for region.
@@ -203,12 +258,23 @@ public boolean isChunkInRegions(Vector3ic pos) {
     }
 
     /**
-     * Create comporator for ChunkTasks, which compare by distance from region centers
+     * Check that chunk is requested ahead of time, because a region will probably need it soon.
      *
-     * @return Comporator.
+     * @param pos chunk's position
+     * @return {@code true} if chunk is predicted to be needed, otherwise {@code false}
      */
-    public Comparator<Future<Chunk>> createChunkTaskComporator() {
-        return new ChunkTaskRelevanceComparator();
+    public boolean isChunkPredicted(Vector3ic pos) {
+        return predictedChunks.contains(pos);
+    }
+
+    /**
+     * Create priority function for ChunkTasks, which prefers chunks close to region centers and in front of regions'
+     * heading.
+     *
+     * @return priority function, lower value means higher priority.
+     */
+    public ToIntFunction<Vector3ic> createChunkTaskPriority() {
+        return this::regionsPriorityScore;
     }
 
     /**
@@ -216,7 +282,7 @@ public Comparator<Future<Chunk>> createChunkTaskComporator() {
      */
     @Override
     public void update(float delta) {
-        updateRelevance();
+        updateRelevance(delta);
     }
 
     @Override
@@ -271,21 +337,46 @@ private int regionsDistanceScore(Vector3ic chunk) {
     }
 
     /**
-     * Compare ChunkTasks by distance from region's centers.
+     * Scores chunk by distance from region's centers. Distance to chunks in front of region's heading counts less
+     * than distance to chunks behind it, so chunks player is going to see are processed first. Chunks outside of all
+     * regions, e.g. predicted ones, come after all chunks inside of them.
      */
-    private class ChunkTaskRelevanceComparator implements Comparator<Future<Chunk>> {
-
-        @Override
-        public int compare(Future<Chunk> o1, Future<Chunk> o2) {
-            return score((PositionFuture<?>) o1) - score((PositionFuture<?>) o2);
-        }
+    private int regionsPriorityScore(Vector3ic chunk) {
+        int score = Integer.MAX_VALUE;
+        boolean inRegion = false;
 
-        private int score(PositionFuture<?> task) {
-            return RelevanceSystem.this.regionsDistanceScore(task.getPosition());
+        regionLock.readLock().lock();
+        try {
+            for (ChunkRelevanceRegion region : regions.values()) {
+                Vector3ic center = region.getCenter();
+                long dist = chunk.gridDistance(center);
+                Vector3fc heading = region.getHeading();
+                float cos = 0;
+                if (dist > 0) {
+                    float dx = chunk.x() - center.x();
+                    float dy = chunk.y() - center.y();
+                    float dz = chunk.z() - center.z();
+                    cos = heading.dot(dx, dy, dz) / (float) Math.sqrt(dx * dx + dy * dy + dz * dz);
+                }
+                // front: 2 * dist, sides: 3 * dist, behind: 4 * dist
+                int regionScore = (int) (dist * (3 - cos));
+                if (regionScore < score) {
+                    score = regionScore;
+                }
+                inRegion |= region.getCurrentRegion().contains(chunk);
+                if (score == 0) {
+                    break;
+                }
+            }
+            if (!inRegion && score < Integer.MAX_VALUE - PREDICTED_CHUNK_PRIORITY_OFFSET) {
+                score += PREDICTED_CHUNK_PRIORITY_OFFSET;
+            }
+            return score;
+        } finally {
+            regionLock.readLock().unlock();
         }
     }
 
-
     /**
      * Compare ChunkTasks by distance from region's centers.
      */
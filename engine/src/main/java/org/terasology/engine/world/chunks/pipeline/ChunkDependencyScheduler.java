@@ -0,0 +1,121 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.world.chunks.pipeline;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.pipeline.stages.ChunkTask;
+import org.terasology.engine.world.chunks.pipeline.stages.ChunkTaskProvider;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Schedules {@link ChunkTask}s of {@link ChunkProcessingPipeline} by their requirements.
+ * <p>
+ * Tasks which cannot run yet are indexed by the first position they are missing. When a chunk at some position
+ * reaches the next stage, only the tasks waiting for that position are woken and checked again, instead of
+ * re-resolving every pending task in the pipeline.
+ * <p>
+ * Requirements which were already resolved are remembered in {@link ChunkProcessingInfo}, so each wake-up only
+ * resolves the remaining positions.
+ */
+class ChunkDependencyScheduler {
+    private final Map<Vector3ic, Set<ChunkProcessingInfo>> waitingTasks = Maps.newConcurrentMap();
+    private final BiFunction<ChunkTaskProvider, Vector3ic, Chunk> chunkResolver;
+    private final BiConsumer<ChunkProcessingInfo, Collection<Chunk>> taskRunner;
+
+    /**
+     * @param chunkResolver provides chunk at position, which is at required stage or further. null if there is no such chunk
+     * @param taskRunner submits chunk task of {@link ChunkProcessingInfo} with all required chunks
+     */
+    ChunkDependencyScheduler(BiFunction<ChunkTaskProvider, Vector3ic, Chunk> chunkResolver,
+                             BiConsumer<ChunkProcessingInfo, Collection<Chunk>> taskRunner) {
+        this.chunkResolver = chunkResolver;
+        this.taskRunner = taskRunner;
+    }
+
+    /**
+     * Runs chunk task of processing info if all requirements are available, otherwise waits for the first missing
+     * one.
+     *
+     * @param chunkProcessingInfo processing info with created, but not submitted chunk task.
+     */
+    void schedule(ChunkProcessingInfo chunkProcessingInfo) {
+        if (!chunkProcessingInfo.isAwaitingRequirements()) {
+            return;
+        }
+        ChunkTaskProvider requiredStage = chunkProcessingInfo.getChunkTaskProvider();
+        for (Vector3ic requirement : chunkProcessingInfo.getChunkTask().getRequirements()) {
+            Chunk provided = chunkProcessingInfo.getProvidedChunk(requirement);
+            if (provided == null || provided.isDisposed()) {
+                provided = chunkResolver.apply(requiredStage, requirement);
+                if (provided == null) {
+                    await(requirement, chunkProcessingInfo);
+                    return;
+                }
+                chunkProcessingInfo.provideChunk(requirement, provided);
+            }
+        }
+        chunkProcessingInfo.setAwaitedPosition(null);
+        taskRunner.accept(chunkProcessingInfo, Sets.newHashSet(chunkProcessingInfo.getProvidedChunks()));
+    }
+
+    /**
+     * Wakes tasks which are waiting for chunk at position. Should be called when chunk at position moved to the next
+     * stage or finished processing.
+     *
+     * @param position position of chunk which became available.
+     */
+    void onChunkAvailable(Vector3ic position) {
+        Set<ChunkProcessingInfo> awakened = waitingTasks.remove(position);
+        if (awakened != null) {
+            awakened.forEach(this::schedule);
+        }
+    }
+
+    /**
+     * Forget about processing info, which will not be processed anymore.
+     *
+     * @param chunkProcessingInfo cancelled processing info.
+     */
+    void cancel(ChunkProcessingInfo chunkProcessingInfo) {
+        Vector3ic awaitedPosition = chunkProcessingInfo.getAwaitedPosition();
+        if (awaitedPosition != null) {
+            waitingTasks.computeIfPresent(awaitedPosition, (pos, tasks) -> {
+                tasks.remove(chunkProcessingInfo);
+                return tasks.isEmpty() ? null : tasks;
+            });
+        }
+    }
+
+    /**
+     * @return count of chunk tasks waiting for their requirements.
+     */
+    int getWaitingCount() {
+        return waitingTasks.values().stream().mapToInt(Set::size).sum();
+    }
+
+    void clear() {
+        waitingTasks.clear();
+    }
+
+    private void await(Vector3ic requirement, ChunkProcessingInfo chunkProcessingInfo) {
+        chunkProcessingInfo.setAwaitedPosition(requirement);
+        waitingTasks.compute(requirement, (pos, tasks) -> {
+            Set<ChunkProcessingInfo> result = tasks == null ? Sets.newConcurrentHashSet() : tasks;
+            result.add(chunkProcessingInfo);
+            return result;
+        });
+        if (!chunkProcessingInfo.isAwaitingRequirements()) {
+            // was cancelled concurrently
+            cancel(chunkProcessingInfo);
+        }
+    }
+}
@@ -3,13 +3,16 @@
 
 package org.terasology.engine.world.chunks.pipeline;
 
+import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.SettableFuture;
 import org.joml.Vector3ic;
 import org.terasology.engine.world.chunks.pipeline.stages.ChunkTask;
 import org.terasology.engine.world.chunks.pipeline.stages.ChunkTaskProvider;
 import org.terasology.engine.world.chunks.Chunk;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 
 public final class ChunkProcessingInfo {
@@ -21,6 +24,8 @@ public final class ChunkProcessingInfo {
 
     private Future<Chunk> currentFuture;
     private org.terasology.engine.world.chunks.pipeline.stages.ChunkTask chunkTask;
+    private final Map<Vector3ic, Chunk> providedChunks = Maps.newHashMap();
+    private Vector3ic awaitedPosition;
 
     public ChunkProcessingInfo(Vector3ic position, SettableFuture<Chunk> externalFuture) {
         this.position = position;
@@ -94,8 +99,37 @@ ChunkTask makeChunkTask() {
         return chunkTask;
     }
 
+    /**
+     * @return true if current chunk task was created but not submitted yet, because of some missing requirements.
+     */
+    boolean isAwaitingRequirements() {
+        return chunkTask != null && currentFuture == null && !externalFuture.isDone();
+    }
+
+    Chunk getProvidedChunk(Vector3ic requirement) {
+        return providedChunks.get(requirement);
+    }
+
+    void provideChunk(Vector3ic requirement, Chunk providedChunk) {
+        providedChunks.put(requirement, providedChunk);
+    }
+
+    Collection<Chunk> getProvidedChunks() {
+        return providedChunks.values();
+    }
+
+    Vector3ic getAwaitedPosition() {
+        return awaitedPosition;
+    }
+
+    void setAwaitedPosition(Vector3ic awaitedPosition) {
+        this.awaitedPosition = awaitedPosition;
+    }
+
     void resetTaskState() {
         currentFuture = null;
         chunkTask = null;
+        providedChunks.clear();
+        awaitedPosition = null;
     }
 }
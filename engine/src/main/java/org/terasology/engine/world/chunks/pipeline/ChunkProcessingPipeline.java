@@ -6,37 +6,35 @@
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
 import com.google.common.util.concurrent.SettableFuture;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.terasology.engine.config.SystemConfig;
 import org.terasology.engine.monitoring.ThreadActivity;
 import org.terasology.engine.monitoring.ThreadMonitor;
+import org.terasology.engine.registry.CoreRegistry;
 import org.terasology.engine.world.chunks.pipeline.stages.ChunkTask;
 import org.terasology.engine.world.chunks.pipeline.stages.ChunkTaskProvider;
-import org.terasology.engine.utilities.ReflectionUtil;
 import org.terasology.engine.world.chunks.Chunk;
 
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
-import java.util.concurrent.PriorityBlockingQueue;
-import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.function.ToIntFunction;
 
 /**
  * Manages execution of chunk processing.
@@ -45,63 +43,60 @@
  */
 public class ChunkProcessingPipeline {
 
-    private static final int NUM_TASK_THREADS = 4;
+    public static final int DEFAULT_NUM_TASK_THREADS = 4;
     private static final Logger logger = LoggerFactory.getLogger(ChunkProcessingPipeline.class);
 
     private final List<ChunkTaskProvider> stages = Lists.newArrayList();
     private final Thread reactor;
-    private final CompletionService<Chunk> chunkProcessor;
+    private final ChunkTaskQueue taskQueue;
+    private final BlockingQueue<PositionFuture<Chunk>> completedTasks = Queues.newLinkedBlockingQueue();
     private final ThreadPoolExecutor executor;
     private final Function<Vector3ic, Chunk> chunkProvider;
     private final Map<Vector3ic, ChunkProcessingInfo> chunkProcessingInfoMap = Maps.newConcurrentMap();
+    private final ChunkDependencyScheduler scheduler = new ChunkDependencyScheduler(this::getChunkBy, this::runTask);
     private int threadIndex;
 
+    /**
+     * Create ChunkProcessingPipeline with {@link #DEFAULT_NUM_TASK_THREADS} processing threads.
+     */
+    public ChunkProcessingPipeline(Function<Vector3ic, Chunk> chunkProvider, ToIntFunction<Vector3ic> priorityFunction) {
+        this(DEFAULT_NUM_TASK_THREADS, chunkProvider, priorityFunction);
+    }
+
     /**
      * Create ChunkProcessingPipeline.
+     *
+     * @param numTaskThreads count of threads which run chunk tasks.
+     * @param chunkProvider provides chunks, which are not processing by pipeline.
+     * @param priorityFunction calculates priority of chunk tasks by chunk position, lower value runs first. Must
+     *         be thread-safe.
      */
-    public ChunkProcessingPipeline(Function<Vector3ic, Chunk> chunkProvider, Comparator<Future<Chunk>> comparable) {
+    public ChunkProcessingPipeline(int numTaskThreads, Function<Vector3ic, Chunk> chunkProvider,
+                                   ToIntFunction<Vector3ic> priorityFunction) {
+        Preconditions.checkArgument(numTaskThreads > 0, "ChunkProcessingPipeline must have at least one thread");
         this.chunkProvider = chunkProvider;
 
+        taskQueue = new ChunkTaskQueue(priorityFunction);
         executor = new ThreadPoolExecutor(
-                NUM_TASK_THREADS,
-                NUM_TASK_THREADS, 0L,
+                numTaskThreads,
+                numTaskThreads, 0L,
                 TimeUnit.MILLISECONDS,
-                new PriorityBlockingQueue(800, unwrappingComporator(comparable)),
+                taskQueue,
                 this::threadFactory,
-                this::rejectQueueHandler) {
-            @Override
-            protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
-                RunnableFuture<T> newTaskFor = super.newTaskFor(callable);
-                return new PositionFuture<>(newTaskFor, ((PositionalCallable) callable).getPosition());
-            }
-        };
-        chunkProcessor = new ExecutorCompletionService<>(executor,
-                new PriorityBlockingQueue<>(800, comparable));
+                this::rejectQueueHandler);
         reactor = new Thread(this::chunkTaskHandler);
         reactor.setDaemon(true);
         reactor.setName("Chunk-Processing-Reactor");
         reactor.start();
     }
 
-    /**
-     * BlackMagic method: {@link ExecutorCompletionService} wraps task with QueueingFuture (private access)
-     * there takes wrapped task for comparing in {@link ThreadPoolExecutor}
-     */
-    private Comparator unwrappingComporator(Comparator<Future<Chunk>> comparable) {
-        return (o1, o2) -> {
-                Object unwrapped1 = ReflectionUtil.readField(o1, "task");
-                Object unwrapped2 = ReflectionUtil.readField(o2, "task");
-                return comparable.compare((Future<Chunk>) unwrapped1, (Future<Chunk>) unwrapped2);
-        };
-    }
-
     /**
      * Reactor thread. Handles all ChunkTask dependency logic and running.
      */
     private void chunkTaskHandler() {
         try {
             while (!executor.isTerminated()) {
-                PositionFuture<Chunk> future = (PositionFuture<Chunk>) chunkProcessor.take();
+                PositionFuture<Chunk> future = completedTasks.take();
                 ChunkProcessingInfo chunkProcessingInfo = chunkProcessingInfoMap.get(future.getPosition());
                 if (chunkProcessingInfo == null) {
                     continue; // chunk processing was cancelled.
@@ -125,12 +120,15 @@ private void onStageDone(PositionFuture<Chunk> future, ChunkProcessingInfo chunk
             if (chunkProcessingInfo.hasNextStage(stages)) {
                 chunkProcessingInfo.nextStage(stages);
                 chunkProcessingInfo.makeChunkTask();
+                scheduler.schedule(chunkProcessingInfo);
+                scheduler.onChunkAvailable(chunkProcessingInfo.getPosition());
             } else {
                 // haven't next stage
                 chunkProcessingInfo.endProcessing();
+                // wake dependent tasks while chunk still can be found in pipeline.
+                scheduler.onChunkAvailable(chunkProcessingInfo.getPosition());
                 cleanup(chunkProcessingInfo);
             }
-            processChunkTasks();
 
         } catch (ExecutionException e) {
             String stageName =
@@ -146,21 +144,6 @@ private void onStageDone(PositionFuture<Chunk> future, ChunkProcessingInfo chunk
         }
     }
 
-    private void processChunkTasks() {
-        chunkProcessingInfoMap.values().stream()
-                .filter(chunkProcessingInfo -> chunkProcessingInfo.getChunkTask() != null && chunkProcessingInfo.getCurrentFuture() == null)
-                .forEach(chunkProcessingInfo -> {
-                    org.terasology.engine.world.chunks.pipeline.stages.ChunkTask chunkTask = chunkProcessingInfo.getChunkTask();
-                    Set<Chunk> providedChunks = chunkTask.getRequirements().stream()
-                            .map(pos -> getChunkBy(chunkProcessingInfo.getChunkTaskProvider(), pos))
-                            .filter(Objects::nonNull)
-                            .collect(Collectors.toSet());
-                    if (providedChunks.size() == chunkTask.getRequirements().size()) {
-                        chunkProcessingInfo.setCurrentFuture(runTask(chunkTask, providedChunks));
-                    }
-                });
-    }
-
     private Chunk getChunkBy(ChunkTaskProvider requiredStage, Vector3ic position) {
         Chunk chunk = chunkProvider.apply(position);
         if (chunk == null) {
@@ -176,14 +159,21 @@ private Chunk getChunkBy(ChunkTaskProvider requiredStage, Vector3ic position) {
         return chunk;
     }
 
-    private Future<Chunk> runTask(ChunkTask task, Set<Chunk> chunks) {
-        return chunkProcessor.submit(new PositionalCallable(() -> {
+    private void runTask(ChunkProcessingInfo chunkProcessingInfo, Collection<Chunk> chunks) {
+        ChunkTask task = chunkProcessingInfo.getChunkTask();
+        chunkProcessingInfo.setCurrentFuture(submit(() -> {
             try (ThreadActivity ignored = ThreadMonitor.startThreadActivity(task.getName())) {
                 return task.apply(chunks);
             }
         }, task.getPosition()));
     }
 
+    private Future<Chunk> submit(Callable<Chunk> callable, Vector3ic position) {
+        PositionFuture<Chunk> future = new PositionFuture<>(callable, position, completedTasks::add);
+        executor.execute(future);
+        return future;
+    }
+
     private Thread threadFactory(Runnable runnable) {
         Thread thread = new Thread(runnable);
         thread.setDaemon(true);
@@ -223,8 +213,7 @@ public Future<Chunk> invokeGeneratorTask(Vector3i position, Supplier<Chunk> gene
             SettableFuture<Chunk> exitFuture = SettableFuture.create();
             chunkProcessingInfo = new ChunkProcessingInfo(position, exitFuture);
             chunkProcessingInfoMap.put(position, chunkProcessingInfo);
-            chunkProcessingInfo.setCurrentFuture(chunkProcessor.submit(new PositionalCallable(generatorTask::get,
-                    position)));
+            chunkProcessingInfo.setCurrentFuture(submit(generatorTask::get, position));
             return exitFuture;
         }
     }
@@ -243,12 +232,14 @@ public void shutdown() {
         executor.shutdown();
         chunkProcessingInfoMap.keySet().forEach(this::stopProcessingAt);
         chunkProcessingInfoMap.clear();
+        scheduler.clear();
         executor.getQueue().clear();
         reactor.interrupt();
     }
 
     public void restart() {
         chunkProcessingInfoMap.clear();
+        scheduler.clear();
         executor.getQueue().clear();
         chunkProcessingInfoMap.keySet().forEach(this::stopProcessingAt);
     }
@@ -265,6 +256,7 @@ public void stopProcessingAt(Vector3ic pos) {
         }
 
         removed.getExternalFuture().cancel(true);
+        scheduler.cancel(removed);
 
         Future<Chunk> currentFuture = removed.getCurrentFuture();
         if (currentFuture != null) {
@@ -297,33 +289,55 @@ public boolean isPositionProcessing(Vector3ic pos) {
     }
 
     /**
-     * Get processing positions.
-     *
-     * @return copy of processing positions
+     * @return the count of threads to run chunk tasks on, as set in the {@link SystemConfig}, or
+     *         {@link #DEFAULT_NUM_TASK_THREADS} if there is no config
      */
-    public List<Vector3ic> getProcessingPosition() {
-        return new LinkedList<>(chunkProcessingInfoMap.keySet());
+    public static int getConfiguredNumTaskThreads() {
+        return Optional.ofNullable(CoreRegistry.get(SystemConfig.class))
+            .map(config -> config.chunkProcessingThreads.get())
+            .orElse(DEFAULT_NUM_TASK_THREADS);
     }
 
     /**
-     * Dummy callable for passthru position for {@link java.util.concurrent.ThreadPoolExecutor}#newTaskFor
+     * Change the count of threads which run chunk tasks. Additional threads start right away if tasks are queued,
+     * surplus threads stop once their current task is done.
+     *
+     * @param numTaskThreads new count of threads which run chunk tasks.
      */
-    private static final class PositionalCallable implements Callable<Chunk> {
-        private final Callable<Chunk> callable;
-        private final Vector3ic position;
-
-        private PositionalCallable(Callable<Chunk> callable, Vector3ic position) {
-            this.callable = callable;
-            this.position = position;
+    public void setNumTaskThreads(int numTaskThreads) {
+        Preconditions.checkArgument(numTaskThreads > 0, "ChunkProcessingPipeline must have at least one thread");
+        if (numTaskThreads > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(numTaskThreads);
+            executor.setCorePoolSize(numTaskThreads);
+        } else {
+            executor.setCorePoolSize(numTaskThreads);
+            executor.setMaximumPoolSize(numTaskThreads);
         }
+    }
 
-        public Vector3ic getPosition() {
-            return position;
-        }
+    /**
+     * Recalculate priorities of all queued chunk tasks. Should be called when priority function changes its result,
+     * e.g. when relevance regions were moved.
+     */
+    public void reprioritize() {
+        taskQueue.reprioritize();
+    }
 
-        @Override
-        public Chunk call() throws Exception {
-            return callable.call();
-        }
+    /**
+     * Get count of chunk tasks, which are waiting for chunks they require.
+     *
+     * @return count of waiting chunk tasks
+     */
+    public int getWaitingTaskCount() {
+        return scheduler.getWaitingCount();
+    }
+
+    /**
+     * Get processing positions.
+     *
+     * @return copy of processing positions
+     */
+    public List<Vector3ic> getProcessingPosition() {
+        return new LinkedList<>(chunkProcessingInfoMap.keySet());
     }
 }
@@ -0,0 +1,292 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.engine.world.chunks.pipeline;
+
+import com.google.common.base.Preconditions;
+import org.joml.Vector3ic;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * Work queue of {@link ChunkProcessingPipeline}, ordered by relevance of chunk positions.
+ * <p>
+ * Holds {@link PositionFuture}s in a binary heap. Priority of each task is calculated once, when task is queued, and
+ * stored in the future itself, so comparisons are cheap. When priorities change (e.g. a player moved or turned), all
+ * queued tasks can be re-prioritised at once with {@link #reprioritize()}.
+ * <p>
+ * Tasks with the same priority are taken in order of arrival.
+ */
+public class ChunkTaskQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+    private static final int INITIAL_CAPACITY = 800;
+
+    private final ToIntFunction<Vector3ic> priorityFunction;
+
+    /**
+     * Lock used for all public operations
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Condition for blocking when empty
+     */
+    private final Condition notEmpty = lock.newCondition();
+
+    private PositionFuture<?>[] heap = new PositionFuture<?>[INITIAL_CAPACITY];
+    private int size;
+    private long nextSequence;
+
+    /**
+     * @param priorityFunction calculates priority of chunk position, lower value runs first. Must be thread-safe.
+     */
+    public ChunkTaskQueue(ToIntFunction<Vector3ic> priorityFunction) {
+        this.priorityFunction = priorityFunction;
+    }
+
+    @Override
+    public boolean add(Runnable runnable) {
+        return offer(runnable);
+    }
+
+    @Override
+    public void put(Runnable runnable) {
+        offer(runnable);
+    }
+
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+        return offer(runnable);
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+        Preconditions.checkArgument(runnable instanceof PositionFuture, "ChunkTaskQueue accepts only PositionFutures");
+        PositionFuture<?> future = (PositionFuture<?>) runnable;
+        int priority = priorityFunction.applyAsInt(future.getPosition());
+        lock.lock();
+        try {
+            future.setPriority(priority);
+            future.setSequence(nextSequence++);
+            if (size == heap.length) {
+                heap = Arrays.copyOf(heap, heap.length * 2);
+            }
+            heap[size] = future;
+            siftUp(size++);
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            Runnable result = dequeue();
+            while (result == null) {
+                notEmpty.await();
+                result = dequeue();
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            Runnable result = dequeue();
+            while (result == null && nanos > 0) {
+                nanos = notEmpty.awaitNanos(nanos);
+                result = dequeue();
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            return size == 0 ? null : heap[0];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Recalculates priorities of all queued tasks and restores queue order.
+     */
+    public void reprioritize() {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                heap[i].setPriority(priorityFunction.applyAsInt(heap[i].getPosition()));
+            }
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        lock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (heap[i] == o) {
+                    removeAt(i);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            Arrays.fill(heap, 0, size, null);
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        lock.lock();
+        try {
+            int count = 0;
+            while (size > 0 && count < maxElements) {
+                c.add(dequeue());
+                count++;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Iterates over snapshot of queued tasks, in no particular order.
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        lock.lock();
+        try {
+            return Arrays.<Runnable>asList(Arrays.copyOf(heap, size)).iterator();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private PositionFuture<?> dequeue() {
+        if (size == 0) {
+            return null;
+        }
+        PositionFuture<?> result = heap[0];
+        removeAt(0);
+        return result;
+    }
+
+    private void removeAt(int index) {
+        size--;
+        PositionFuture<?> last = heap[size];
+        heap[size] = null;
+        if (index != size) {
+            heap[index] = last;
+            siftDown(index);
+            if (heap[index] == last) {
+                siftUp(index);
+            }
+        }
+    }
+
+    private void siftUp(int index) {
+        PositionFuture<?> future = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!less(future, heap[parent])) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = future;
+    }
+
+    private void siftDown(int index) {
+        PositionFuture<?> future = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && less(heap[right], heap[child])) {
+                child = right;
+            }
+            if (!less(heap[child], future)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = future;
+    }
+
+    private static boolean less(PositionFuture<?> a, PositionFuture<?> b) {
+        if (a.getPriority() != b.getPriority()) {
+            return a.getPriority() < b.getPriority();
+        }
+        return a.getSequence() < b.getSequence();
+    }
+}
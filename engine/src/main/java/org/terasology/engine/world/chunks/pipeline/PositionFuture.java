@@ -5,53 +5,55 @@
 
 import org.joml.Vector3ic;
 
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.RunnableFuture;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.function.Consumer;
+
+/**
+ * Future of chunk processing task, which knows chunk position and it's priority in {@link ChunkTaskQueue}.
+ * <p>
+ * Notifies completion listener when task is done (successfully, exceptionally or cancelled).
+ *
+ * @param <T> result type
+ */
+public class PositionFuture<T> extends FutureTask<T> {
 
-public class PositionFuture<T> implements RunnableFuture<T> {
-
-    private final RunnableFuture<T> delegate;
     private final Vector3ic position;
+    private final Consumer<PositionFuture<T>> completionListener;
+    private int priority;
+    private long sequence;
 
-    public PositionFuture(RunnableFuture<T> delegate, Vector3ic position) {
-        this.delegate = delegate;
+    public PositionFuture(Callable<T> callable, Vector3ic position, Consumer<PositionFuture<T>> completionListener) {
+        super(callable);
         this.position = position;
+        this.completionListener = completionListener;
     }
 
     public Vector3ic getPosition() {
         return position;
     }
 
-    @Override
-    public void run() {
-        delegate.run();
-    }
-
-    @Override
-    public boolean cancel(boolean mayInterruptIfRunning) {
-        return delegate.cancel(mayInterruptIfRunning);
+    /**
+     * @return priority of task, lower value runs first.
+     */
+    public int getPriority() {
+        return priority;
     }
 
-    @Override
-    public boolean isCancelled() {
-        return delegate.isCancelled();
+    void setPriority(int priority) {
+        this.priority = priority;
     }
 
-    @Override
-    public boolean isDone() {
-        return delegate.isDone();
+    long getSequence() {
+        return sequence;
     }
 
-    @Override
-    public T get() throws InterruptedException, ExecutionException {
-        return delegate.get();
+    void setSequence(long sequence) {
+        this.sequence = sequence;
     }
 
     @Override
-    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
-            TimeoutException {
-        return delegate.get(timeout, unit);
+    protected void done() {
+        completionListener.accept(this);
     }
 }
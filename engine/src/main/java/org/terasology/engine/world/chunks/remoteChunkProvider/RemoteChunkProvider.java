@@ -27,16 +27,14 @@
 import org.terasology.engine.world.chunks.event.BeforeChunkUnload;
 import org.terasology.engine.world.chunks.event.OnChunkLoaded;
 import org.terasology.engine.world.chunks.pipeline.ChunkProcessingPipeline;
-import org.terasology.engine.world.chunks.pipeline.PositionFuture;
 import org.terasology.engine.world.chunks.pipeline.stages.ChunkTaskProvider;
 
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Future;
 import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -59,13 +57,17 @@ public class RemoteChunkProvider implements ChunkProvider {
     private final Map<Vector3ic, Chunk> chunkCache = Maps.newHashMap();
     private final BlockManager blockManager;
     private final ChunkProcessingPipeline loadingPipeline;
+    private final LocalPlayer localPlayer;
+    private final Vector3i lastPlayerChunkPos = new Vector3i();
     private EntityRef worldEntity = EntityRef.NULL;
     private ChunkReadyListener listener;
 
     public RemoteChunkProvider(BlockManager blockManager, LocalPlayer localPlayer) {
         this.blockManager = blockManager;
-        loadingPipeline = new ChunkProcessingPipeline(this::getChunk,
-            new LocalPlayerRelativeChunkComparator(localPlayer));
+        this.localPlayer = localPlayer;
+        loadingPipeline = new ChunkProcessingPipeline(ChunkProcessingPipeline.getConfiguredNumTaskThreads(),
+            this::getChunk,
+            new LocalPlayerRelativeChunkPriority(localPlayer));
 
         loadingPipeline.addStage(
             ChunkTaskProvider.create("Chunk generate internal lightning",
@@ -103,6 +105,11 @@ public void update() {
         if (listener != null) {
             checkForUnload();
         }
+        Vector3i playerChunkPos = Chunks.toChunkPos(localPlayer.getPosition(new Vector3f()), new Vector3i());
+        if (!playerChunkPos.equals(lastPlayerChunkPos)) {
+            lastPlayerChunkPos.set(playerChunkPos);
+            loadingPipeline.reprioritize();
+        }
         Chunk chunk;
         while ((chunk = readyChunks.poll()) != null) {
             Chunk oldChunk = chunkCache.put(chunk.getPosition(new Vector3i()), chunk);
@@ -197,20 +204,16 @@ public void setWorldEntity(EntityRef entity) {
         this.worldEntity = entity;
     }
 
-    private class LocalPlayerRelativeChunkComparator implements Comparator<Future<Chunk>> {
+    private class LocalPlayerRelativeChunkPriority implements ToIntFunction<Vector3ic> {
         private final LocalPlayer localPlayer;
 
-        private LocalPlayerRelativeChunkComparator(LocalPlayer localPlayer) {
+        private LocalPlayerRelativeChunkPriority(LocalPlayer localPlayer) {
             this.localPlayer = localPlayer;
         }
 
         @Override
-        public int compare(Future<Chunk> o1, Future<Chunk> o2) {
-            return score((PositionFuture<?>) o1) - score((PositionFuture<?>) o2);
-        }
-
-        private int score(PositionFuture<?> task) {
-            return (int) Chunks.toChunkPos(localPlayer.getPosition(new Vector3f()), new Vector3i()).distance(task.getPosition());
+        public int applyAsInt(Vector3ic position) {
+            return (int) Chunks.toChunkPos(localPlayer.getPosition(new Vector3f()), new Vector3i()).distance(position);
         }
     }
 }
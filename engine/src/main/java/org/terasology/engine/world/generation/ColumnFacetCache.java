@@ -0,0 +1,120 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.generation;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.terasology.engine.world.block.BlockRegionc;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Keeps the 2D facets of recently generated regions, so that chunks stacked in the same column share them instead of
+ * running the facet providers again for every chunk.
+ * <p>
+ * An entry holds all facets the provider chain of a 2D facet produces or updates, and is found by the facet, the
+ * horizontal area of the region, the border of the facet and the scale. The height of the region plays no part. The
+ * cache holds a limited number of entries and is safe to use from all threads generating chunks of a world. If two
+ * threads ask for the same entry at once, one generates it while the other waits.
+ */
+public class ColumnFacetCache {
+    private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final Cache<Key, Map<Class<? extends WorldFacet>, WorldFacet>> cache;
+
+    public ColumnFacetCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize the number of entries to keep at most
+     */
+    public ColumnFacetCache(int maximumSize) {
+        cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached facets for a region, or generates and caches them.
+     *
+     * @param facet the facet the entry is for
+     * @param region the region the facets are for
+     * @param border the border of the facet
+     * @param scale the scale the facets are generated at
+     * @param generator generates the facets, which must not be changed any more afterwards
+     * @return the facets by their type
+     */
+    public Map<Class<? extends WorldFacet>, WorldFacet> get(Class<? extends WorldFacet> facet, BlockRegionc region,
+                                                            Border3D border, float scale,
+                                                            Callable<Map<Class<? extends WorldFacet>, WorldFacet>> generator) {
+        Key key = new Key(facet, region.minX(), region.minZ(), region.maxX(), region.maxZ(), border.getSides(), scale);
+        try {
+            return cache.get(key, generator);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException("Failed to generate " + facet.getSimpleName(), e.getCause());
+        }
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * @return the statistics of the cache since it was created
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    private static final class Key {
+        private final Class<? extends WorldFacet> facet;
+        private final int minX;
+        private final int minZ;
+        private final int maxX;
+        private final int maxZ;
+        private final int border;
+        private final float scale;
+
+        Key(Class<? extends WorldFacet> facet, int minX, int minZ, int maxX, int maxZ, int border, float scale) {
+            this.facet = facet;
+            this.minX = minX;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxZ = maxZ;
+            this.border = border;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof Key) {
+                Key other = (Key) obj;
+                return facet == other.facet
+                        && minX == other.minX
+                        && minZ == other.minZ
+                        && maxX == other.maxX
+                        && maxZ == other.maxZ
+                        && border == other.border
+                        && Float.compare(scale, other.scale) == 0;
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(facet, minX, minZ, maxX, maxZ, border, scale);
+        }
+    }
+}
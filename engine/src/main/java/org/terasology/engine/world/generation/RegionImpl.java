@@ -3,10 +3,13 @@
 package org.terasology.engine.world.generation;
 
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.terasology.engine.utilities.collection.TypeMap;
 import org.terasology.engine.world.block.BlockRegion;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,36 +21,88 @@ public class RegionImpl implements Region, GeneratingRegion {
     private final ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains;
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
     private final float scale;
+    private final ColumnFacetCache facetCache;
+    private final Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> columnFacets;
 
     private final TypeMap<WorldFacet> generatingFacets = TypeMap.create();
     private final Set<FacetProvider> processedProviders = Sets.newHashSet();
     private final TypeMap<WorldFacet> generatedFacets = TypeMap.create();
 
     public RegionImpl(BlockRegion region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains, Map<Class<? extends WorldFacet>, Border3D> borders, float scale) {
+        this(region, facetProviderChains, borders, scale, null, Collections.emptyMap());
+    }
+
+    /**
+     * @param facetCache the cache to share 2D facets with other regions in the same column, may be null
+     * @param columnFacets for each facet which is the same for all regions in a column, the facets produced or
+     *         updated by its provider chain
+     */
+    RegionImpl(BlockRegion region, ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
+               Map<Class<? extends WorldFacet>, Border3D> borders, float scale, ColumnFacetCache facetCache,
+               Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> columnFacets) {
         this.region = region;
         this.facetProviderChains = facetProviderChains;
         this.borders = borders;
         this.scale = scale;
+        this.facetCache = facetCache;
+        this.columnFacets = columnFacets;
     }
 
     @Override
     public <T extends WorldFacet> T getFacet(Class<T> dataType) {
         T facet = generatedFacets.get(dataType);
         if (facet == null) {
-            facetProviderChains.get(dataType).stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
-                if (scale == 1) {
-                    provider.process(this);
-                } else {
-                    ((ScalableFacetProvider) provider).process(this, scale);
+            if (facetCache != null) {
+                List<FacetProvider> chain = facetProviderChains.get(dataType);
+                for (Class<? extends WorldFacet> columnFacet : columnFacets.keySet()) {
+                    if (chain.containsAll(facetProviderChains.get(columnFacet))) {
+                        loadColumnFacets(columnFacet);
+                    }
                 }
-                processedProviders.add(provider);
-            });
+            }
+            processProviders(dataType);
             facet = generatingFacets.get(dataType);
             generatedFacets.put(dataType, facet);
         }
         return facet;
     }
 
+    /**
+     * Takes the facets of the chain of a 2D facet from the cache, or generates them in this region and caches them.
+     * The chain only depends on 2D facets itself, so it can run before the rest of a chain which contains it.
+     */
+    private void loadColumnFacets(Class<? extends WorldFacet> columnFacet) {
+        List<FacetProvider> chain = facetProviderChains.get(columnFacet);
+        if (processedProviders.containsAll(chain)) {
+            return;
+        }
+        Map<Class<? extends WorldFacet>, WorldFacet> cachedFacets = facetCache.get(columnFacet, region,
+                getBorderForFacet(columnFacet), scale, () -> {
+                    processProviders(columnFacet);
+                    Map<Class<? extends WorldFacet>, WorldFacet> facets = Maps.newHashMap();
+                    for (Class<? extends WorldFacet> chainFacet : columnFacets.get(columnFacet)) {
+                        WorldFacet chainFacetValue = generatingFacets.get(chainFacet);
+                        if (chainFacetValue != null) {
+                            facets.put(chainFacet, chainFacetValue);
+                        }
+                    }
+                    return facets;
+                });
+        generatingFacets.asMap().putAll(cachedFacets);
+        processedProviders.addAll(chain);
+    }
+
+    private void processProviders(Class<? extends WorldFacet> dataType) {
+        facetProviderChains.get(dataType).stream().filter(provider -> !processedProviders.contains(provider)).forEach(provider -> {
+            if (scale == 1) {
+                provider.process(this);
+            } else {
+                ((ScalableFacetProvider) provider).process(this, scale);
+            }
+            processedProviders.add(provider);
+        });
+    }
+
     @Override
     public BlockRegion getRegion() {
         return region;
@@ -2,11 +2,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package org.terasology.engine.world.generation;
 
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 import org.terasology.engine.world.block.BlockRegion;
 import org.terasology.engine.world.chunks.Chunk;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -24,6 +28,10 @@ public class WorldImpl implements World {
     private final Map<Class<? extends WorldFacet>, Border3D> borders;
     private final int seaLevel;
 
+    private final ColumnFacetCache facetCache = new ColumnFacetCache();
+    private final Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> columnFacets;
+    private final Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> scalableColumnFacets;
+
     public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetProviderChains,
                      ListMultimap<Class<? extends WorldFacet>, FacetProvider> scalableFacetProviderChains,
                      List<WorldRasterizer> worldRasterizers,
@@ -38,11 +46,78 @@ public WorldImpl(ListMultimap<Class<? extends WorldFacet>, FacetProvider> facetP
         this.entityProviders = entityProviders;
         this.borders = borders;
         this.seaLevel = seaLevel;
+        this.columnFacets = determineColumnFacets(facetProviderChains);
+        this.scalableColumnFacets = determineColumnFacets(scalableFacetProviderChains);
+    }
+
+    /**
+     * Finds the 2D facets which are the same for all regions in a column. These are the facets whose provider chain
+     * only produces, updates and requires 2D facets, and whose products are not updated by any provider outside of
+     * the chain, so they are final once the chain has run.
+     *
+     * @return for each of these facets, the facets the providers of its chain produce or update
+     */
+    private static Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> determineColumnFacets(
+            ListMultimap<Class<? extends WorldFacet>, FacetProvider> providerChains) {
+        SetMultimap<Class<? extends WorldFacet>, FacetProvider> updaters = HashMultimap.create();
+        for (FacetProvider provider : providerChains.values()) {
+            Updates updates = provider.getClass().getAnnotation(Updates.class);
+            if (updates != null) {
+                for (Facet facet : updates.value()) {
+                    updaters.put(facet.value(), provider);
+                }
+            }
+        }
+
+        Map<Class<? extends WorldFacet>, Set<Class<? extends WorldFacet>>> result = Maps.newHashMap();
+        for (Class<? extends WorldFacet> facet : providerChains.keySet()) {
+            List<FacetProvider> chain = providerChains.get(facet);
+            if (!WorldFacet2D.class.isAssignableFrom(facet) || chain.isEmpty()) {
+                continue;
+            }
+            Set<Class<? extends WorldFacet>> products = Sets.newHashSet();
+            boolean columnFacet = true;
+            for (FacetProvider provider : chain) {
+                Produces produces = provider.getClass().getAnnotation(Produces.class);
+                if (produces != null) {
+                    products.addAll(Arrays.asList(produces.value()));
+                }
+                Updates updates = provider.getClass().getAnnotation(Updates.class);
+                if (updates != null) {
+                    for (Facet updated : updates.value()) {
+                        products.add(updated.value());
+                    }
+                }
+                Requires requires = provider.getClass().getAnnotation(Requires.class);
+                if (requires != null) {
+                    for (Facet required : requires.value()) {
+                        columnFacet &= WorldFacet2D.class.isAssignableFrom(required.value());
+                    }
+                }
+            }
+            for (Class<? extends WorldFacet> product : products) {
+                columnFacet &= WorldFacet2D.class.isAssignableFrom(product) && chain.containsAll(updaters.get(product));
+            }
+            if (columnFacet) {
+                result.put(facet, products);
+            }
+        }
+        return result;
     }
 
     @Override
     public Region getWorldData(BlockRegion region, float scale) {
-        return new RegionImpl(region, scale == 1 ? facetProviderChains : scalableFacetProviderChains, borders, scale);
+        if (scale == 1) {
+            return new RegionImpl(region, facetProviderChains, borders, scale, facetCache, columnFacets);
+        }
+        return new RegionImpl(region, scalableFacetProviderChains, borders, scale, facetCache, scalableColumnFacets);
+    }
+
+    /**
+     * @return the cache of 2D facets shared by the chunks in a column
+     */
+    public ColumnFacetCache getFacetCache() {
+        return facetCache;
     }
 
     @Override
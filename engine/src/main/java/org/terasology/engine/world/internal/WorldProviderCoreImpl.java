@@ -23,14 +23,9 @@
 import org.terasology.engine.world.chunks.Chunks;
 import org.terasology.engine.world.propagation.BatchPropagator;
 import org.terasology.engine.world.propagation.BlockChange;
-import org.terasology.engine.world.propagation.PropagationRules;
 import org.terasology.engine.world.propagation.PropagatorWorldView;
-import org.terasology.engine.world.propagation.StandardBatchPropagator;
-import org.terasology.engine.world.propagation.SunlightRegenBatchPropagator;
-import org.terasology.engine.world.propagation.light.LightPropagationRules;
 import org.terasology.engine.world.propagation.light.LightWorldView;
-import org.terasology.engine.world.propagation.light.SunlightPropagationRules;
-import org.terasology.engine.world.propagation.light.SunlightRegenPropagationRules;
+import org.terasology.engine.world.propagation.light.ParallelLightPropagator;
 import org.terasology.engine.world.propagation.light.SunlightRegenWorldView;
 import org.terasology.engine.world.propagation.light.SunlightWorldView;
 import org.terasology.engine.world.time.WorldTime;
@@ -61,7 +56,9 @@ public class WorldProviderCoreImpl implements WorldProviderCore {
     private final List<WorldChangeListener> listeners = Lists.newArrayList();
 
     private final Map<Vector3i, BlockChange> blockChanges = Maps.newHashMap();
-    private List<BatchPropagator> propagators = Lists.newArrayList();
+    private final List<BatchPropagator> propagators;
+    // propagates large batches of changes in the background
+    private final ParallelLightPropagator parallelPropagator;
 
     private Block unloadedBlock;
 
@@ -79,14 +76,12 @@ public WorldProviderCoreImpl(String title, String customTitle, String seed, long
         this.worldTime = new WorldTimeImpl();
         worldTime.setMilliseconds(time);
 
-        propagators.add(new StandardBatchPropagator(new LightPropagationRules(), new LightWorldView(chunkProvider)));
+        PropagatorWorldView lightWorldView = new LightWorldView(chunkProvider);
         PropagatorWorldView regenWorldView = new SunlightRegenWorldView(chunkProvider);
-        PropagationRules sunlightRules = new SunlightPropagationRules(regenWorldView);
         PropagatorWorldView sunlightWorldView = new SunlightWorldView(chunkProvider);
-        BatchPropagator sunlightPropagator = new StandardBatchPropagator(sunlightRules, sunlightWorldView);
-        propagators.add(new SunlightRegenBatchPropagator(new SunlightRegenPropagationRules(), regenWorldView,
-                sunlightPropagator, sunlightWorldView));
-        propagators.add(sunlightPropagator);
+        propagators = ParallelLightPropagator.createPropagators(lightWorldView, regenWorldView, sunlightWorldView);
+        parallelPropagator = new ParallelLightPropagator(chunkProvider, lightWorldView, regenWorldView,
+                sunlightWorldView);
     }
 
     public WorldProviderCoreImpl(WorldInfo info, ChunkProvider chunkProvider, Block unloadedBlock,
@@ -122,10 +117,54 @@ public WorldInfo getWorldInfo() {
 
     @Override
     public void processPropagation() {
+        if (parallelPropagator.isBusy()) {
+            parallelPropagator.tryPublish(this::requeueChange);
+        }
+        if (blockChanges.isEmpty()) {
+            return;
+        }
+        if (!parallelPropagator.isBusy()) {
+            if (blockChanges.size() >= ParallelLightPropagator.MIN_PARALLEL_CHANGES) {
+                parallelPropagator.submit(Lists.newArrayList(blockChanges.values()));
+            } else {
+                propagate(blockChanges.values());
+            }
+            blockChanges.clear();
+            return;
+        }
+        // while the light of a large batch is propagated, small batches away from it are still propagated right away
+        List<BlockChange> independentChanges = Lists.newArrayList();
+        for (BlockChange change : blockChanges.values()) {
+            if (!parallelPropagator.isNearPendingRegions(change.getPosition())) {
+                independentChanges.add(change);
+            }
+        }
+        if (!independentChanges.isEmpty()
+                && independentChanges.size() < ParallelLightPropagator.MIN_PARALLEL_CHANGES) {
+            propagate(independentChanges);
+            for (BlockChange change : independentChanges) {
+                blockChanges.remove(change.getPosition());
+            }
+        }
+    }
+
+    private void propagate(Collection<BlockChange> changes) {
         for (BatchPropagator propagator : propagators) {
-            propagator.process(blockChanges.values());
+            propagator.process(changes);
+        }
+    }
+
+    /**
+     * Queues a change again, for which propagation failed. The block may have changed again since.
+     */
+    private void requeueChange(BlockChange change) {
+        BlockChange laterChange = blockChanges.get(change.getPosition());
+        if (laterChange == null) {
+            blockChanges.put(new Vector3i(change.getPosition()), change);
+        } else {
+            blockChanges.put(new Vector3i(change.getPosition()),
+                    new BlockChange(change.getPosition(), change.getFrom(), laterChange.getTo()));
         }
-        blockChanges.clear();
     }
 
     @Override
@@ -342,6 +381,7 @@ public int setExtraData(int index, Vector3ic worldPos, int value) {
 
     @Override
     public void dispose() {
+        parallelPropagator.dispose();
         chunkProvider.dispose();
 
     }
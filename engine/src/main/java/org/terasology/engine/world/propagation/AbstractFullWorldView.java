@@ -5,18 +5,23 @@
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.terasology.engine.world.block.Block;
-import org.terasology.engine.world.block.BlockRegion;
 import org.terasology.engine.world.chunks.Chunk;
 import org.terasology.engine.world.chunks.ChunkProvider;
 import org.terasology.engine.world.chunks.Chunks;
 
 /**
- * A base world view implementation sitting on ChunkProvider.
+ * A base world view implementation sitting on ChunkProvider. Propagation mostly reads and writes blocks next to each
+ * other, so the chunk of the last position is kept and only looked up again for a position in another chunk. Not
+ * thread safe.
  */
 public abstract class AbstractFullWorldView implements PropagatorWorldView {
 
     private ChunkProvider chunkProvider;
 
+    private Chunk cachedChunk;
+    private final Vector3i cachedChunkPos = new Vector3i();
+    private final Vector3i relativePos = new Vector3i();
+
     public AbstractFullWorldView(ChunkProvider chunkProvider) {
         this.chunkProvider = chunkProvider;
     }
@@ -28,14 +33,23 @@ public AbstractFullWorldView(ChunkProvider chunkProvider) {
      * @return The chunk for that position
      */
     private Chunk getChunk(Vector3ic pos) {
-        return chunkProvider.getChunk(Chunks.toChunkPos(pos, new Vector3i()));
+        int x = Chunks.toChunkPosX(pos.x());
+        int y = Chunks.toChunkPosY(pos.y());
+        int z = Chunks.toChunkPosZ(pos.z());
+        if (cachedChunk != null && cachedChunkPos.x == x && cachedChunkPos.y == y && cachedChunkPos.z == z && !cachedChunk.isDisposed()) {
+            return cachedChunk;
+        }
+        Chunk chunk = chunkProvider.getChunk(x, y, z);
+        cachedChunk = chunk;
+        cachedChunkPos.set(x, y, z);
+        return chunk;
     }
 
     @Override
     public byte getValueAt(Vector3ic pos) {
         Chunk chunk = getChunk(pos);
         if (chunk != null) {
-            return getValueAt(chunk, Chunks.toRelative(pos, new Vector3i()));
+            return getValueAt(chunk, Chunks.toRelative(pos, relativePos));
         }
         return UNAVAILABLE;
     }
@@ -51,12 +65,28 @@ public byte getValueAt(Vector3ic pos) {
 
     @Override
     public void setValueAt(Vector3ic pos, byte value) {
-        setValueAt(getChunk(pos), Chunks.toRelative(pos, new Vector3i()), value);
-        BlockRegion chunkRegion = new BlockRegion(pos).expand(1, 1, 1);
-        for (Vector3ic affectedChunkPos : Chunks.toChunkRegion(chunkRegion, chunkRegion)) {
-            Chunk dirtiedChunk = chunkProvider.getChunk(affectedChunkPos);
-            if (dirtiedChunk != null) {
-                dirtiedChunk.setDirty(true);
+        Chunk chunk = getChunk(pos);
+        setValueAt(chunk, Chunks.toRelative(pos, relativePos), value);
+        chunk.setDirty(true);
+
+        /* The meshes of the chunks next to a block on the edge show its light too */
+        int minX = Chunks.toChunkPosX(pos.x() - 1);
+        int maxX = Chunks.toChunkPosX(pos.x() + 1);
+        int minY = Chunks.toChunkPosY(pos.y() - 1);
+        int maxY = Chunks.toChunkPosY(pos.y() + 1);
+        int minZ = Chunks.toChunkPosZ(pos.z() - 1);
+        int maxZ = Chunks.toChunkPosZ(pos.z() + 1);
+        if (minX == maxX && minY == maxY && minZ == maxZ) {
+            return;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    Chunk dirtiedChunk = chunkProvider.getChunk(x, y, z);
+                    if (dirtiedChunk != null) {
+                        dirtiedChunk.setDirty(true);
+                    }
+                }
             }
         }
     }
@@ -72,9 +102,9 @@ public void setValueAt(Vector3ic pos, byte value) {
 
     @Override
     public Block getBlockAt(Vector3ic pos) {
-       Chunk chunk = chunkProvider.getChunk(Chunks.toChunkPos(pos, new Vector3i()));
+        Chunk chunk = getChunk(pos);
         if (chunk != null) {
-            return chunk.getBlock(Chunks.toRelative(pos, new Vector3i()));
+            return chunk.getBlock(Chunks.toRelative(pos, relativePos));
         }
         return null;
     }
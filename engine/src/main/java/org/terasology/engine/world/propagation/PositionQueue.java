@@ -0,0 +1,180 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.propagation;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.joml.Vector3i;
+import org.terasology.engine.world.chunks.Chunks;
+
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * A queue of block positions without duplicates, which allocates nothing once it has grown to the size it needs.
+ * <p>
+ * Positions are packed into longs, 22 bits for x and 21 bits each for y and z, so they have to be within a million
+ * blocks of the origin. Which positions are queued is kept in a bitset per chunk, indexed by the position within the
+ * chunk. A position is removed by clearing its bit, it is skipped when it comes up in the queue.
+ * <p>
+ * All bits are clear again once the queue is empty, so the bitsets go back to a pool shared with other queues then.
+ */
+final class PositionQueue {
+    private static final int CHUNK_VOLUME = Chunks.SIZE_X * Chunks.SIZE_Y * Chunks.SIZE_Z;
+    private static final int BITSET_LENGTH = CHUNK_VOLUME / Long.SIZE;
+    private static final long MASK_21 = (1L << 21) - 1;
+
+    private final Deque<long[]> bitsetPool;
+    private final TLongObjectMap<long[]> bitsets = new TLongObjectHashMap<>();
+    private long lastChunk;
+    private long[] lastBitset;
+
+    private long[] positions = new long[64];
+    private int head;
+    private int tail;
+    private int size;
+
+    /**
+     * @param bitsetPool the cleared bitsets to take from and return to
+     */
+    PositionQueue(Deque<long[]> bitsetPool) {
+        this.bitsetPool = bitsetPool;
+    }
+
+    static long pack(int x, int y, int z) {
+        return ((long) x << 42) | ((y & MASK_21) << 21) | (z & MASK_21);
+    }
+
+    static Vector3i unpack(long packed, Vector3i dest) {
+        return dest.set((int) (packed >> 42), (int) (packed << 22 >> 43), (int) (packed << 43 >> 43));
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return whether the position was added, false if it was queued already
+     */
+    boolean add(int x, int y, int z) {
+        long[] bitset = getBitset(x, y, z, true);
+        int index = getIndex(x, y, z);
+        long bit = 1L << index;
+        if ((bitset[index >>> 6] & bit) != 0) {
+            return false;
+        }
+        bitset[index >>> 6] |= bit;
+        if (tail == positions.length) {
+            makeRoom();
+        }
+        positions[tail++] = pack(x, y, z);
+        size++;
+        return true;
+    }
+
+    /**
+     * @return whether the position was queued
+     */
+    boolean remove(int x, int y, int z) {
+        long[] bitset = getBitset(x, y, z, false);
+        if (bitset == null || !clear(bitset, getIndex(x, y, z))) {
+            return false;
+        }
+        if (--size == 0) {
+            reset();
+        }
+        return true;
+    }
+
+    /**
+     * Takes the next position out of the queue, which must not be empty.
+     *
+     * @return the packed position, see {@link #unpack}
+     */
+    long poll() {
+        while (true) {
+            long packed = positions[head++];
+            int x = (int) (packed >> 42);
+            int y = (int) (packed << 22 >> 43);
+            int z = (int) (packed << 43 >> 43);
+            if (clear(getBitset(x, y, z, false), getIndex(x, y, z))) {
+                if (--size == 0) {
+                    reset();
+                }
+                return packed;
+            }
+        }
+    }
+
+    void clear() {
+        if (size > 0) {
+            bitsets.forEachValue(bitset -> {
+                Arrays.fill(bitset, 0);
+                return true;
+            });
+            size = 0;
+            reset();
+        }
+    }
+
+    private static boolean clear(long[] bitset, int index) {
+        long bit = 1L << index;
+        if ((bitset[index >>> 6] & bit) == 0) {
+            return false;
+        }
+        bitset[index >>> 6] &= ~bit;
+        return true;
+    }
+
+    private static int getIndex(int x, int y, int z) {
+        return (x & Chunks.INNER_CHUNK_POS_FILTER_X)
+                + Chunks.SIZE_X * ((z & Chunks.INNER_CHUNK_POS_FILTER_Z) + Chunks.SIZE_Z * (y & Chunks.INNER_CHUNK_POS_FILTER_Y));
+    }
+
+    private long[] getBitset(int x, int y, int z, boolean create) {
+        long chunk = pack(Chunks.toChunkPosX(x), Chunks.toChunkPosY(y), Chunks.toChunkPosZ(z));
+        if (lastBitset != null && lastChunk == chunk) {
+            return lastBitset;
+        }
+        long[] bitset = bitsets.get(chunk);
+        if (bitset == null) {
+            if (!create) {
+                return null;
+            }
+            bitset = bitsetPool.isEmpty() ? new long[BITSET_LENGTH] : bitsetPool.pop();
+            bitsets.put(chunk, bitset);
+        }
+        lastChunk = chunk;
+        lastBitset = bitset;
+        return bitset;
+    }
+
+    private void makeRoom() {
+        if (head >= positions.length / 2) {
+            System.arraycopy(positions, head, positions, 0, tail - head);
+        } else {
+            positions = Arrays.copyOf(positions, positions.length * 2);
+            System.arraycopy(positions, head, positions, 0, tail - head);
+        }
+        tail -= head;
+        head = 0;
+    }
+
+    /**
+     * Returns the bitsets to the pool, once all their bits are clear.
+     */
+    private void reset() {
+        bitsets.forEachValue(bitset -> {
+            bitsetPool.push(bitset);
+            return true;
+        });
+        bitsets.clear();
+        lastBitset = null;
+        head = 0;
+        tail = 0;
+    }
+}
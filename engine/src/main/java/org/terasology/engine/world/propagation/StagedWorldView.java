@@ -0,0 +1,101 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.propagation;
+
+import gnu.trove.impl.Constants;
+import gnu.trove.map.TLongByteMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongByteHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import org.joml.Vector3i;
+import org.joml.Vector3ic;
+import org.terasology.engine.world.block.Block;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.Chunks;
+
+/**
+ * A view of the values of a fixed set of chunks, which keeps the values set through it to itself until they are
+ * published. A propagator can work on it away from the main thread, while everything else still sees the old values.
+ * <p>
+ * The chunks are only read, positions outside of them are unavailable. If other threads keep changing the chunks,
+ * the view should be given copies of them, see {@link Chunk#copyBlocksAndLight()}. Not thread safe.
+ */
+public final class StagedWorldView implements PropagatorWorldView {
+    private final PropagationRules rules;
+    private final TLongObjectMap<Chunk> chunks = new TLongObjectHashMap<>();
+    private final TLongByteMap stagedValues = new TLongByteHashMap(Constants.DEFAULT_CAPACITY,
+            Constants.DEFAULT_LOAD_FACTOR, 0, UNAVAILABLE);
+
+    private Chunk cachedChunk;
+    private long cachedChunkKey;
+    private final Vector3i relativePos = new Vector3i();
+
+    /**
+     * @param rules the rules to read the values of the chunks with
+     * @param chunks the chunks of the view
+     */
+    public StagedWorldView(PropagationRules rules, Iterable<Chunk> chunks) {
+        this.rules = rules;
+        for (Chunk chunk : chunks) {
+            Vector3ic chunkPos = chunk.getPosition();
+            this.chunks.put(PositionQueue.pack(chunkPos.x(), chunkPos.y(), chunkPos.z()), chunk);
+        }
+    }
+
+    private Chunk getChunk(Vector3ic pos) {
+        long key = PositionQueue.pack(Chunks.toChunkPosX(pos.x()), Chunks.toChunkPosY(pos.y()), Chunks.toChunkPosZ(pos.z()));
+        if (cachedChunk == null || cachedChunkKey != key) {
+            cachedChunk = chunks.get(key);
+            cachedChunkKey = key;
+        }
+        if (cachedChunk != null && cachedChunk.isDisposed()) {
+            return null;
+        }
+        return cachedChunk;
+    }
+
+    @Override
+    public byte getValueAt(Vector3ic pos) {
+        byte value = stagedValues.get(PositionQueue.pack(pos.x(), pos.y(), pos.z()));
+        if (value != UNAVAILABLE) {
+            return value;
+        }
+        Chunk chunk = getChunk(pos);
+        if (chunk != null) {
+            return rules.getValue(chunk, Chunks.toRelative(pos, relativePos));
+        }
+        return UNAVAILABLE;
+    }
+
+    @Override
+    public void setValueAt(Vector3ic pos, byte value) {
+        stagedValues.put(PositionQueue.pack(pos.x(), pos.y(), pos.z()), value);
+    }
+
+    @Override
+    public Block getBlockAt(Vector3ic pos) {
+        Chunk chunk = getChunk(pos);
+        if (chunk != null) {
+            return chunk.getBlock(Chunks.toRelative(pos, relativePos));
+        }
+        return null;
+    }
+
+    /**
+     * Sets all staged values in the given view and forgets them. Values of positions which are no longer available
+     * in that view are dropped.
+     *
+     * @param target the view to set the values in
+     */
+    public void publish(PropagatorWorldView target) {
+        Vector3i pos = new Vector3i();
+        stagedValues.forEachEntry((packed, value) -> {
+            PositionQueue.unpack(packed, pos);
+            if (target.getValueAt(pos) != UNAVAILABLE) {
+                target.setValueAt(pos, value);
+            }
+            return true;
+        });
+        stagedValues.clear();
+    }
+}
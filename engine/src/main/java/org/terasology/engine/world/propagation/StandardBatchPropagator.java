@@ -3,7 +3,6 @@
 package org.terasology.engine.world.propagation;
 
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import org.joml.Vector3i;
 import org.joml.Vector3ic;
 import org.terasology.engine.math.Side;
@@ -13,13 +12,17 @@
 import org.terasology.engine.world.chunks.Chunk;
 import org.terasology.engine.world.chunks.Chunks;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
 
 /**
  * Batch propagator that works on a set of changed blocks Works for a single given propagation ruleset
+ * <p>
+ * The positions to process are kept in {@link PositionQueue}s, which are reused for every batch, so propagating
+ * allocates next to nothing once the queues have grown.
  */
 public class StandardBatchPropagator implements BatchPropagator {
 
@@ -30,8 +33,12 @@ public class StandardBatchPropagator implements BatchPropagator {
     private int scale;
 
     /* Queues are stored in reverse order. Ie, strongest light is 0. */
-    private Set<Vector3ic>[] reduceQueues;
-    private Set<Vector3ic>[] increaseQueues;
+    private PositionQueue[] reduceQueues;
+    private PositionQueue[] increaseQueues;
+
+    /* The position being processed, and one next to it */
+    private final Vector3i currentPos = new Vector3i();
+    private final Vector3i sidePos = new Vector3i();
 
     private Map<Side, Vector3ic> chunkEdgeDeltas = Maps.newEnumMap(Side.class);
 
@@ -64,11 +71,12 @@ public StandardBatchPropagator(PropagationRules rules, PropagatorWorldView world
             chunkEdgeDeltas.put(side, delta);
         }
 
-        increaseQueues = new Set[rules.getMaxValue()];
-        reduceQueues = new Set[rules.getMaxValue()];
+        Deque<long[]> bitsetPool = new ArrayDeque<>();
+        increaseQueues = new PositionQueue[rules.getMaxValue()];
+        reduceQueues = new PositionQueue[rules.getMaxValue()];
         for (int i = 0; i < rules.getMaxValue(); ++i) {
-            increaseQueues[i] = Sets.newLinkedHashSet();
-            reduceQueues[i] = Sets.newLinkedHashSet();
+            increaseQueues[i] = new PositionQueue(bitsetPool);
+            reduceQueues[i] = new PositionQueue(bitsetPool);
         }
 
     }
@@ -111,7 +119,6 @@ private void reviewChange(BlockChange blockChange) {
         }
 
         /* Process propagation out to other blocks */
-        Vector3i adjPos = new Vector3i();
         for (Side side : Side.getAllSides()) {
             PropagationComparison comparison = rules.comparePropagation(blockChange.getTo(), blockChange.getFrom(),
                     side);
@@ -119,10 +126,10 @@ private void reviewChange(BlockChange blockChange) {
             if (comparison.isRestricting() && existingValue > 0) {
                 /* If the propagation of the new value is going to be lower/reduced */
                 reduce(blockChangePosition, existingValue);
-                side.getAdjacentPos(blockChangePosition, adjPos);
-                byte adjValue = world.getValueAt(adjPos);
+                side.getAdjacentPos(blockChangePosition, sidePos);
+                byte adjValue = world.getValueAt(sidePos);
                 if (adjValue == rules.propagateValue(existingValue, side, blockChange.getFrom(), scale)) {
-                    reduce(adjPos, adjValue);
+                    reduce(sidePos, adjValue);
                 }
 
             } else if (comparison.isPermitting()) {
@@ -132,10 +139,10 @@ private void reviewChange(BlockChange blockChange) {
                     queueSpreadValue(blockChangePosition, existingValue);
                 }
                 /* Spread it out to the block on the side */
-                side.getAdjacentPos(blockChangePosition, adjPos);
-                byte adjValue = world.getValueAt(adjPos);
+                side.getAdjacentPos(blockChangePosition, sidePos);
+                byte adjValue = world.getValueAt(sidePos);
                 if (adjValue != PropagatorWorldView.UNAVAILABLE) {
-                    queueSpreadValue(adjPos, adjValue);
+                    queueSpreadValue(sidePos, adjValue);
                 }
             }
         }
@@ -148,7 +155,7 @@ private void reviewChange(BlockChange blockChange) {
      * @param oldValue The value present before reset
      */
     private void purge(Vector3ic pos, byte oldValue) {
-        increaseQueues[rules.getMaxValue() - oldValue].remove(pos);
+        increaseQueues[rules.getMaxValue() - oldValue].remove(pos.x(), pos.y(), pos.z());
 
         /* Clear the value and re-propagate it if it's a positive value */
         Block block = world.getBlockAt(pos);
@@ -159,20 +166,19 @@ private void purge(Vector3ic pos, byte oldValue) {
             world.setValueAt(pos, NO_VALUE);
         }
 
-        Vector3i adjPos = new Vector3i();
         for (Side side : Side.getAllSides()) {
             /* Handle this value being reset to the default by updating sides as needed */
             byte expectedValue = rules.propagateValue(oldValue, side, block, scale);
             if (rules.canSpreadOutOf(block, side)) {
-                side.getAdjacentPos(pos, adjPos);
-                byte adjValue = world.getValueAt(adjPos);
+                side.getAdjacentPos(pos, sidePos);
+                byte adjValue = world.getValueAt(sidePos);
                 if (adjValue == expectedValue) {
-                    Block adjBlock = world.getBlockAt(adjPos);
+                    Block adjBlock = world.getBlockAt(sidePos);
                     if (rules.canSpreadInto(adjBlock, side.reverse())) {
-                        reduce(adjPos, expectedValue);
+                        reduce(sidePos, expectedValue);
                     }
                 } else if (adjValue > 0) {
-                    queueSpreadValue(adjPos, adjValue);
+                    queueSpreadValue(sidePos, adjValue);
                 }
             }
         }
@@ -185,14 +191,10 @@ private void processReduction() {
         for (int depth = 0; depth < rules.getMaxValue(); depth++) {
             byte oldValue = (byte) (rules.getMaxValue() - depth);
 
-            while (!reduceQueues[depth].isEmpty()) {
-                Set<Vector3ic> toProcess = reduceQueues[depth];
-                reduceQueues[depth] = Sets.newLinkedHashSetWithExpectedSize(toProcess.size());
-
-                /* This step will add any new reductions to to the `reduceQueues` set */
-                for (Vector3ic pos : toProcess) {
-                    purge(pos, oldValue);
-                }
+            /* This step will add any new reductions to the `reduceQueues` */
+            PositionQueue queue = reduceQueues[depth];
+            while (!queue.isEmpty()) {
+                purge(PositionQueue.unpack(queue.poll(), currentPos), oldValue);
             }
         }
     }
@@ -204,14 +206,10 @@ private void processIncrease() {
         for (int depth = 0; depth < rules.getMaxValue() - 1; depth++) {
             byte value = (byte) (rules.getMaxValue() - depth);
 
-            while (!increaseQueues[depth].isEmpty()) {
-                Set<Vector3ic> toProcess = increaseQueues[depth];
-                increaseQueues[depth] = Sets.newLinkedHashSetWithExpectedSize(toProcess.size());
-
-                /* This step will add any new values to `increaseQueues` */
-                for (Vector3ic pos : toProcess) {
-                    push(pos, value);
-                }
+            /* This step will add any new values to `increaseQueues` */
+            PositionQueue queue = increaseQueues[depth];
+            while (!queue.isEmpty()) {
+                push(PositionQueue.unpack(queue.poll(), currentPos), value);
             }
         }
 
@@ -228,19 +226,18 @@ private void processIncrease() {
      */
     private void push(Vector3ic pos, byte value) {
         Block block = world.getBlockAt(pos);
-        Vector3i adjPos = new Vector3i();
         for (Side side : Side.getAllSides()) {
             byte propagatedValue = rules.propagateValue(value, side, block, scale);
 
             if (rules.canSpreadOutOf(block, side)) {
-                side.getAdjacentPos(pos, adjPos);
-                byte adjValue = world.getValueAt(adjPos);
+                side.getAdjacentPos(pos, sidePos);
+                byte adjValue = world.getValueAt(sidePos);
 
                 if (adjValue < propagatedValue && adjValue != PropagatorWorldView.UNAVAILABLE) {
-                    Block adjBlock = world.getBlockAt(adjPos);
+                    Block adjBlock = world.getBlockAt(sidePos);
 
                     if (rules.canSpreadInto(adjBlock, side.reverse())) {
-                        increase(adjPos, propagatedValue);
+                        increase(sidePos, propagatedValue);
                     }
                 }
             }
@@ -268,7 +265,7 @@ private void increase(Vector3ic position, byte value) {
      */
     private void reduce(Vector3ic position, byte oldValue) {
         if (oldValue > 0) {
-            reduceQueues[rules.getMaxValue() - oldValue].add(new Vector3i(position));
+            reduceQueues[rules.getMaxValue() - oldValue].add(position.x(), position.y(), position.z());
         }
     }
 
@@ -280,7 +277,7 @@ private void reduce(Vector3ic position, byte oldValue) {
      */
     private void queueSpreadValue(Vector3ic position, byte value) {
         if (value > 1) {
-            increaseQueues[rules.getMaxValue() - value].add(new Vector3i(position));
+            increaseQueues[rules.getMaxValue() - value].add(position.x(), position.y(), position.z());
         }
     }
 
@@ -288,7 +285,7 @@ private void queueSpreadValue(Vector3ic position, byte value) {
      * Clears all the queues and cleans up the object
      */
     private void cleanUp() {
-        for (Set<Vector3ic> queue : increaseQueues) {
+        for (PositionQueue queue : increaseQueues) {
             queue.clear();
         }
     }
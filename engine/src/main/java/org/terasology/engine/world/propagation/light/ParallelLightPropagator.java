@@ -0,0 +1,288 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+package org.terasology.engine.world.propagation.light;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gnu.trove.list.TLongList;
+import gnu.trove.list.array.TLongArrayList;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import gnu.trove.set.TLongSet;
+import gnu.trove.set.hash.TLongHashSet;
+import org.joml.Vector3ic;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.monitoring.ThreadActivity;
+import org.terasology.engine.monitoring.ThreadMonitor;
+import org.terasology.engine.world.chunks.Chunk;
+import org.terasology.engine.world.chunks.ChunkProvider;
+import org.terasology.engine.world.chunks.Chunks;
+import org.terasology.engine.world.propagation.BatchPropagator;
+import org.terasology.engine.world.propagation.BlockChange;
+import org.terasology.engine.world.propagation.PropagatorWorldView;
+import org.terasology.engine.world.propagation.StagedWorldView;
+import org.terasology.engine.world.propagation.StandardBatchPropagator;
+import org.terasology.engine.world.propagation.SunlightRegenBatchPropagator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Propagates block light and sunlight for large batches of block changes on worker threads, so big edits don't hold
+ * up the main thread.
+ * <p>
+ * The changes are split into regions of chunk columns. Light from a change never reaches further than the columns
+ * next to its own column, sunlight regeneration only goes straight down. So regions which are more than two columns
+ * apart never read or write the same chunk, and are propagated independently and in parallel. Each region works on
+ * {@link StagedWorldView}s of copies of the chunks it can reach, taken when the changes are submitted, so the main
+ * thread can keep changing the chunks meanwhile. Once all regions are done, their values are published together on
+ * the main thread, so the new light shows up in one frame.
+ * <p>
+ * Block changes near the submitted regions must not be propagated until the light is published, as their light could
+ * be overwritten by it. Changes elsewhere can be propagated right away, see {@link #isNearPendingRegions}.
+ */
+public class ParallelLightPropagator {
+    /**
+     * Batches with fewer changes are propagated on the main thread straight away.
+     */
+    public static final int MIN_PARALLEL_CHANGES = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelLightPropagator.class);
+    private static final int MAX_THREADS = 4;
+    private static final int REGION_SPACING = 2;
+
+    private final ChunkProvider chunkProvider;
+    private final PropagatorWorldView lightWorld;
+    private final PropagatorWorldView regenWorld;
+    private final PropagatorWorldView sunlightWorld;
+    // the threads stop when there is nothing to propagate
+    private final ExecutorService executor = createExecutor();
+
+    private final List<Region> pending = Lists.newArrayList();
+    private final TLongSet pendingColumns = new TLongHashSet();
+
+    /**
+     * @param chunkProvider the chunks to propagate in
+     * @param lightWorld the view the block light is published to
+     * @param regenWorld the view the sunlight regeneration is published to
+     * @param sunlightWorld the view the sunlight is published to
+     */
+    public ParallelLightPropagator(ChunkProvider chunkProvider, PropagatorWorldView lightWorld,
+                                   PropagatorWorldView regenWorld, PropagatorWorldView sunlightWorld) {
+        this.chunkProvider = chunkProvider;
+        this.lightWorld = lightWorld;
+        this.regenWorld = regenWorld;
+        this.sunlightWorld = sunlightWorld;
+    }
+
+    /**
+     * Creates the propagators for block light and sunlight over the given views, in the order they have to process
+     * block changes in.
+     */
+    public static List<BatchPropagator> createPropagators(PropagatorWorldView lightWorld,
+                                                          PropagatorWorldView regenWorld,
+                                                          PropagatorWorldView sunlightWorld) {
+        BatchPropagator sunlightPropagator = new StandardBatchPropagator(new SunlightPropagationRules(regenWorld),
+                sunlightWorld);
+        return Lists.newArrayList(
+                new StandardBatchPropagator(new LightPropagationRules(), lightWorld),
+                new SunlightRegenBatchPropagator(new SunlightRegenPropagationRules(), regenWorld, sunlightPropagator,
+                        sunlightWorld),
+                sunlightPropagator);
+    }
+
+    private static ExecutorService createExecutor() {
+        int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder()
+                        .setNameFormat("Light-Propagator-%d")
+                        .setDaemon(true)
+                        .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static long column(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return whether changes are being propagated, which have not been published yet
+     */
+    public boolean isBusy() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Checks whether the light of a change at the given position could reach chunks, which the changes being
+     * propagated reach too.
+     *
+     * @param pos the position of the changed block
+     * @return whether the change has to wait until the pending light is published
+     */
+    public boolean isNearPendingRegions(Vector3ic pos) {
+        int chunkX = Chunks.toChunkPosX(pos.x());
+        int chunkZ = Chunks.toChunkPosZ(pos.z());
+        for (int x = -1; x <= 1; x++) {
+            for (int z = -1; z <= 1; z++) {
+                if (pendingColumns.contains(column(chunkX + x, chunkZ + z))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stops the worker threads. Light which has not been published yet is dropped.
+     */
+    public void dispose() {
+        executor.shutdownNow();
+        pending.clear();
+        pendingColumns.clear();
+    }
+
+    /**
+     * Starts to propagate the given changes on the worker threads. The blocks must have been changed already, and the
+     * propagator must not be busy.
+     */
+    public void submit(Collection<BlockChange> changes) {
+        Preconditions.checkState(pending.isEmpty(), "The last changes have not been published yet");
+
+        TLongObjectMap<List<BlockChange>> changesByColumn = new TLongObjectHashMap<>();
+        for (BlockChange change : changes) {
+            Vector3ic pos = change.getPosition();
+            long column = column(Chunks.toChunkPosX(pos.x()), Chunks.toChunkPosZ(pos.z()));
+            List<BlockChange> columnChanges = changesByColumn.get(column);
+            if (columnChanges == null) {
+                columnChanges = Lists.newArrayList();
+                changesByColumn.put(column, columnChanges);
+            }
+            columnChanges.add(change);
+        }
+
+        TLongObjectMap<List<Chunk>> chunksByColumn = new TLongObjectHashMap<>();
+        for (Chunk chunk : chunkProvider.getAllChunks()) {
+            long column = column(chunk.getPosition().x(), chunk.getPosition().z());
+            List<Chunk> columnChunks = chunksByColumn.get(column);
+            if (columnChunks == null) {
+                columnChunks = Lists.newArrayList();
+                chunksByColumn.put(column, columnChunks);
+            }
+            columnChunks.add(chunk);
+        }
+
+        TLongSet visited = new TLongHashSet();
+        TLongList toVisit = new TLongArrayList();
+        for (long start : changesByColumn.keys()) {
+            if (!visited.add(start)) {
+                continue;
+            }
+            List<BlockChange> regionChanges = Lists.newArrayList();
+            TLongSet reachedColumns = new TLongHashSet();
+            toVisit.add(start);
+            while (!toVisit.isEmpty()) {
+                long column = toVisit.removeAt(toVisit.size() - 1);
+                regionChanges.addAll(changesByColumn.get(column));
+                int chunkX = (int) (column >> 32);
+                int chunkZ = (int) column;
+                for (int x = -REGION_SPACING; x <= REGION_SPACING; x++) {
+                    for (int z = -REGION_SPACING; z <= REGION_SPACING; z++) {
+                        long adjColumn = column(chunkX + x, chunkZ + z);
+                        if (Math.abs(x) <= 1 && Math.abs(z) <= 1) {
+                            reachedColumns.add(adjColumn);
+                        }
+                        if (changesByColumn.containsKey(adjColumn) && visited.add(adjColumn)) {
+                            toVisit.add(adjColumn);
+                        }
+                    }
+                }
+            }
+
+            List<Chunk> regionChunks = Lists.newArrayList();
+            reachedColumns.forEach(column -> {
+                List<Chunk> columnChunks = chunksByColumn.get(column);
+                if (columnChunks != null) {
+                    for (Chunk chunk : columnChunks) {
+                        regionChunks.add(chunk.copyBlocksAndLight());
+                    }
+                }
+                return true;
+            });
+            pendingColumns.addAll(reachedColumns);
+            Region region = new Region(regionChanges, regionChunks);
+            region.future = executor.submit(region::propagate);
+            pending.add(region);
+        }
+        logger.debug("Propagating light of {} block changes in {} regions", changes.size(), pending.size());
+    }
+
+    /**
+     * Publishes the light of all regions, if they are all done.
+     *
+     * @param failedChanges receives the changes of regions which failed, so they can be propagated again
+     * @return whether the light was published, false if regions are still being propagated
+     */
+    public boolean tryPublish(Consumer<BlockChange> failedChanges) {
+        for (Region region : pending) {
+            if (!region.future.isDone()) {
+                return false;
+            }
+        }
+        for (Region region : pending) {
+            try {
+                region.future.get();
+                region.publish();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while publishing light");
+                region.changes.forEach(failedChanges);
+            } catch (ExecutionException e) {
+                logger.error("Failed to propagate light of {} block changes", region.changes.size(), e.getCause());
+                region.changes.forEach(failedChanges);
+            }
+        }
+        pending.clear();
+        pendingColumns.clear();
+        return true;
+    }
+
+    private final class Region {
+        private final List<BlockChange> changes;
+        private final StagedWorldView light;
+        private final StagedWorldView regen;
+        private final StagedWorldView sunlight;
+        private Future<?> future;
+
+        Region(List<BlockChange> changes, List<Chunk> chunks) {
+            this.changes = changes;
+            light = new StagedWorldView(new LightPropagationRules(), chunks);
+            regen = new StagedWorldView(new SunlightRegenPropagationRules(), chunks);
+            sunlight = new StagedWorldView(new SunlightPropagationRules(regen), chunks);
+        }
+
+        void propagate() {
+            try (ThreadActivity ignored = ThreadMonitor.startThreadActivity("Propagate light")) {
+                for (BatchPropagator propagator : createPropagators(light, regen, sunlight)) {
+                    propagator.process(changes);
+                }
+            }
+        }
+
+        void publish() {
+            light.publish(lightWorld);
+            regen.publish(regenWorld);
+            sunlight.publish(sunlightWorld);
+        }
+    }
+}
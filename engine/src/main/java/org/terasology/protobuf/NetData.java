@@ -197,31 +197,6 @@ org.terasology.protobuf.NetData.EventMessageOrBuilder getEventOrBuilder(
      */
     long getTime();
 
-    // repeated .BiomeChangeMessage biomeChange = 10;
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> 
-        getBiomeChangeList();
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    org.terasology.protobuf.NetData.BiomeChangeMessage getBiomeChange(int index);
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    int getBiomeChangeCount();
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-        getBiomeChangeOrBuilderList();
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuilder(
-        int index);
-
     // repeated .ExtraDataChangeMessage extraDataChange = 11;
     /**
      * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
@@ -247,6 +222,31 @@ org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuil
     org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraDataChangeOrBuilder(
         int index);
 
+    // repeated .BlockChangeBatch blockChangeBatch = 12;
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    java.util.List<org.terasology.protobuf.NetData.BlockChangeBatch> 
+        getBlockChangeBatchList();
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    org.terasology.protobuf.NetData.BlockChangeBatch getBlockChangeBatch(int index);
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    int getBlockChangeBatchCount();
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    java.util.List<? extends org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder> 
+        getBlockChangeBatchOrBuilderList();
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder getBlockChangeBatchOrBuilder(
+        int index);
+
     // optional .ServerInfoRequest serverInfoRequest = 15;
     /**
      * <code>optional .ServerInfoRequest serverInfoRequest = 15;</code>
@@ -448,6 +448,33 @@ org.terasology.protobuf.NetData.ModuleRequestOrBuilder getModuleRequestOrBuilder
      * <code>optional .HandshakeVerification handshakeVerification = 103;</code>
      */
     org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder getHandshakeVerificationOrBuilder();
+
+    // optional string compression = 104;
+    /**
+     * <code>optional string compression = 104;</code>
+     *
+     * <pre>
+     * The compression asked for by the client and chosen by the server, see NetworkCompression
+     * </pre>
+     */
+    boolean hasCompression();
+    /**
+     * <code>optional string compression = 104;</code>
+     *
+     * <pre>
+     * The compression asked for by the client and chosen by the server, see NetworkCompression
+     * </pre>
+     */
+    java.lang.String getCompression();
+    /**
+     * <code>optional string compression = 104;</code>
+     *
+     * <pre>
+     * The compression asked for by the client and chosen by the server, see NetworkCompression
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getCompressionBytes();
   }
   /**
    * Protobuf type {@code NetMessage}
@@ -561,20 +588,20 @@ private NetMessage(
               time_ = input.readInt64();
               break;
             }
-            case 82: {
+            case 90: {
               if (!((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
-                biomeChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BiomeChangeMessage>();
+                extraDataChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ExtraDataChangeMessage>();
                 mutable_bitField0_ |= 0x00000100;
               }
-              biomeChange_.add(input.readMessage(org.terasology.protobuf.NetData.BiomeChangeMessage.PARSER, extensionRegistry));
+              extraDataChange_.add(input.readMessage(org.terasology.protobuf.NetData.ExtraDataChangeMessage.PARSER, extensionRegistry));
               break;
             }
-            case 90: {
+            case 98: {
               if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-                extraDataChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ExtraDataChangeMessage>();
+                blockChangeBatch_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BlockChangeBatch>();
                 mutable_bitField0_ |= 0x00000200;
               }
-              extraDataChange_.add(input.readMessage(org.terasology.protobuf.NetData.ExtraDataChangeMessage.PARSER, extensionRegistry));
+              blockChangeBatch_.add(input.readMessage(org.terasology.protobuf.NetData.BlockChangeBatch.PARSER, extensionRegistry));
               break;
             }
             case 122: {
@@ -723,6 +750,11 @@ private NetMessage(
               bitField0_ |= 0x00000400;
               break;
             }
+            case 834: {
+              bitField0_ |= 0x00000800;
+              compression_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -753,10 +785,10 @@ private NetMessage(
           event_ = java.util.Collections.unmodifiableList(event_);
         }
         if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
-          biomeChange_ = java.util.Collections.unmodifiableList(biomeChange_);
+          extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
         }
         if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-          extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
+          blockChangeBatch_ = java.util.Collections.unmodifiableList(blockChangeBatch_);
         }
         if (((mutable_bitField0_ & 0x00001000) == 0x00001000)) {
           blockFamilyRegistered_ = java.util.Collections.unmodifiableList(blockFamilyRegistered_);
@@ -1064,42 +1096,6 @@ public long getTime() {
       return time_;
     }
 
-    // repeated .BiomeChangeMessage biomeChange = 10;
-    public static final int BIOMECHANGE_FIELD_NUMBER = 10;
-    private java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> biomeChange_;
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> getBiomeChangeList() {
-      return biomeChange_;
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-        getBiomeChangeOrBuilderList() {
-      return biomeChange_;
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public int getBiomeChangeCount() {
-      return biomeChange_.size();
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public org.terasology.protobuf.NetData.BiomeChangeMessage getBiomeChange(int index) {
-      return biomeChange_.get(index);
-    }
-    /**
-     * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
-     */
-    public org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuilder(
-        int index) {
-      return biomeChange_.get(index);
-    }
-
     // repeated .ExtraDataChangeMessage extraDataChange = 11;
     public static final int EXTRADATACHANGE_FIELD_NUMBER = 11;
     private java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage> extraDataChange_;
@@ -1136,6 +1132,42 @@ public org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraD
       return extraDataChange_.get(index);
     }
 
+    // repeated .BlockChangeBatch blockChangeBatch = 12;
+    public static final int BLOCKCHANGEBATCH_FIELD_NUMBER = 12;
+    private java.util.List<org.terasology.protobuf.NetData.BlockChangeBatch> blockChangeBatch_;
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    public java.util.List<org.terasology.protobuf.NetData.BlockChangeBatch> getBlockChangeBatchList() {
+      return blockChangeBatch_;
+    }
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    public java.util.List<? extends org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder> 
+        getBlockChangeBatchOrBuilderList() {
+      return blockChangeBatch_;
+    }
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    public int getBlockChangeBatchCount() {
+      return blockChangeBatch_.size();
+    }
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    public org.terasology.protobuf.NetData.BlockChangeBatch getBlockChangeBatch(int index) {
+      return blockChangeBatch_.get(index);
+    }
+    /**
+     * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
+     */
+    public org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder getBlockChangeBatchOrBuilder(
+        int index) {
+      return blockChangeBatch_.get(index);
+    }
+
     // optional .ServerInfoRequest serverInfoRequest = 15;
     public static final int SERVERINFOREQUEST_FIELD_NUMBER = 15;
     private org.terasology.protobuf.NetData.ServerInfoRequest serverInfoRequest_;
@@ -1440,6 +1472,61 @@ public org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder getHandsha
       return handshakeVerification_;
     }
 
+    // optional string compression = 104;
+    public static final int COMPRESSION_FIELD_NUMBER = 104;
+    private java.lang.Object compression_;
+    /**
+     * <code>optional string compression = 104;</code>
+     *
+     * <pre>
+     * The compression asked for by the client and chosen by the server, see NetworkCompression
+     * </pre>
+     */
+    public boolean hasCompression() {
+      return ((bitField0_ & 0x00000800) == 0x00000800);
+    }
+    /**
+     * <code>optional string compression = 104;</code>
+     *
+     * <pre>
+     * The compression asked for by the client and chosen by the server, see NetworkCompression
+     * </pre>
+     */
+    public java.lang.String getCompression() {
+      java.lang.Object ref = compression_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          compression_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string compression = 104;</code>
+     *
+     * <pre>
+     * The compression asked for by the client and chosen by the server, see NetworkCompression
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getCompressionBytes() {
+      java.lang.Object ref = compression_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        compression_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       chunkInfo_ = java.util.Collections.emptyList();
       invalidateChunk_ = java.util.Collections.emptyList();
@@ -1449,8 +1536,8 @@ private void initFields() {
       updateEntity_ = java.util.Collections.emptyList();
       event_ = java.util.Collections.emptyList();
       time_ = 0L;
-      biomeChange_ = java.util.Collections.emptyList();
       extraDataChange_ = java.util.Collections.emptyList();
+      blockChangeBatch_ = java.util.Collections.emptyList();
       serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
       serverInfo_ = org.terasology.protobuf.NetData.ServerInfoMessage.getDefaultInstance();
       blockFamilyRegistered_ = java.util.Collections.emptyList();
@@ -1463,6 +1550,7 @@ private void initFields() {
       newIdentityRequest_ = org.terasology.protobuf.NetData.NewIdentityRequest.getDefaultInstance();
       provisionIdentity_ = org.terasology.protobuf.NetData.ProvisionIdentity.getDefaultInstance();
       handshakeVerification_ = org.terasology.protobuf.NetData.HandshakeVerification.getDefaultInstance();
+      compression_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1511,14 +1599,14 @@ public final boolean isInitialized() {
           return false;
         }
       }
-      for (int i = 0; i < getBiomeChangeCount(); i++) {
-        if (!getBiomeChange(i).isInitialized()) {
+      for (int i = 0; i < getExtraDataChangeCount(); i++) {
+        if (!getExtraDataChange(i).isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
       }
-      for (int i = 0; i < getExtraDataChangeCount(); i++) {
-        if (!getExtraDataChange(i).isInitialized()) {
+      for (int i = 0; i < getBlockChangeBatchCount(); i++) {
+        if (!getBlockChangeBatch(i).isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
@@ -1633,12 +1721,12 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeInt64(9, time_);
       }
-      for (int i = 0; i < biomeChange_.size(); i++) {
-        output.writeMessage(10, biomeChange_.get(i));
-      }
       for (int i = 0; i < extraDataChange_.size(); i++) {
         output.writeMessage(11, extraDataChange_.get(i));
       }
+      for (int i = 0; i < blockChangeBatch_.size(); i++) {
+        output.writeMessage(12, blockChangeBatch_.get(i));
+      }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeMessage(15, serverInfoRequest_);
       }
@@ -1675,6 +1763,9 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       if (((bitField0_ & 0x00000400) == 0x00000400)) {
         output.writeMessage(103, handshakeVerification_);
       }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        output.writeBytes(104, getCompressionBytes());
+      }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
     }
@@ -1717,14 +1808,14 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(9, time_);
       }
-      for (int i = 0; i < biomeChange_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(10, biomeChange_.get(i));
-      }
       for (int i = 0; i < extraDataChange_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(11, extraDataChange_.get(i));
       }
+      for (int i = 0; i < blockChangeBatch_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, blockChangeBatch_.get(i));
+      }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(15, serverInfoRequest_);
@@ -1773,6 +1864,10 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(103, handshakeVerification_);
       }
+      if (((bitField0_ & 0x00000800) == 0x00000800)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(104, getCompressionBytes());
+      }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -1889,8 +1984,8 @@ private void maybeForceBuilderInitialization() {
           getRemoveEntityFieldBuilder();
           getUpdateEntityFieldBuilder();
           getEventFieldBuilder();
-          getBiomeChangeFieldBuilder();
           getExtraDataChangeFieldBuilder();
+          getBlockChangeBatchFieldBuilder();
           getServerInfoRequestFieldBuilder();
           getServerInfoFieldBuilder();
           getBlockFamilyRegisteredFieldBuilder();
@@ -1955,17 +2050,17 @@ public Builder clear() {
         }
         time_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000080);
-        if (biomeChangeBuilder_ == null) {
-          biomeChange_ = java.util.Collections.emptyList();
+        if (extraDataChangeBuilder_ == null) {
+          extraDataChange_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000100);
         } else {
-          biomeChangeBuilder_.clear();
+          extraDataChangeBuilder_.clear();
         }
-        if (extraDataChangeBuilder_ == null) {
-          extraDataChange_ = java.util.Collections.emptyList();
+        if (blockChangeBatchBuilder_ == null) {
+          blockChangeBatch_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000200);
         } else {
-          extraDataChangeBuilder_.clear();
+          blockChangeBatchBuilder_.clear();
         }
         if (serverInfoRequestBuilder_ == null) {
           serverInfoRequest_ = org.terasology.protobuf.NetData.ServerInfoRequest.getDefaultInstance();
@@ -2039,6 +2134,8 @@ public Builder clear() {
           handshakeVerificationBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00200000);
+        compression_ = "";
+        bitField0_ = (bitField0_ & ~0x00400000);
         return this;
       }
 
@@ -2134,23 +2231,23 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
           to_bitField0_ |= 0x00000001;
         }
         result.time_ = time_;
-        if (biomeChangeBuilder_ == null) {
+        if (extraDataChangeBuilder_ == null) {
           if (((bitField0_ & 0x00000100) == 0x00000100)) {
-            biomeChange_ = java.util.Collections.unmodifiableList(biomeChange_);
+            extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
             bitField0_ = (bitField0_ & ~0x00000100);
           }
-          result.biomeChange_ = biomeChange_;
+          result.extraDataChange_ = extraDataChange_;
         } else {
-          result.biomeChange_ = biomeChangeBuilder_.build();
+          result.extraDataChange_ = extraDataChangeBuilder_.build();
         }
-        if (extraDataChangeBuilder_ == null) {
+        if (blockChangeBatchBuilder_ == null) {
           if (((bitField0_ & 0x00000200) == 0x00000200)) {
-            extraDataChange_ = java.util.Collections.unmodifiableList(extraDataChange_);
+            blockChangeBatch_ = java.util.Collections.unmodifiableList(blockChangeBatch_);
             bitField0_ = (bitField0_ & ~0x00000200);
           }
-          result.extraDataChange_ = extraDataChange_;
+          result.blockChangeBatch_ = blockChangeBatch_;
         } else {
-          result.extraDataChange_ = extraDataChangeBuilder_.build();
+          result.blockChangeBatch_ = blockChangeBatchBuilder_.build();
         }
         if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
           to_bitField0_ |= 0x00000002;
@@ -2250,6 +2347,10 @@ public org.terasology.protobuf.NetData.NetMessage buildPartial() {
         } else {
           result.handshakeVerification_ = handshakeVerificationBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00400000) == 0x00400000)) {
+          to_bitField0_ |= 0x00000800;
+        }
+        result.compression_ = compression_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2451,37 +2552,11 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
         if (other.hasTime()) {
           setTime(other.getTime());
         }
-        if (biomeChangeBuilder_ == null) {
-          if (!other.biomeChange_.isEmpty()) {
-            if (biomeChange_.isEmpty()) {
-              biomeChange_ = other.biomeChange_;
-              bitField0_ = (bitField0_ & ~0x00000100);
-            } else {
-              ensureBiomeChangeIsMutable();
-              biomeChange_.addAll(other.biomeChange_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.biomeChange_.isEmpty()) {
-            if (biomeChangeBuilder_.isEmpty()) {
-              biomeChangeBuilder_.dispose();
-              biomeChangeBuilder_ = null;
-              biomeChange_ = other.biomeChange_;
-              bitField0_ = (bitField0_ & ~0x00000100);
-              biomeChangeBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getBiomeChangeFieldBuilder() : null;
-            } else {
-              biomeChangeBuilder_.addAllMessages(other.biomeChange_);
-            }
-          }
-        }
         if (extraDataChangeBuilder_ == null) {
           if (!other.extraDataChange_.isEmpty()) {
             if (extraDataChange_.isEmpty()) {
               extraDataChange_ = other.extraDataChange_;
-              bitField0_ = (bitField0_ & ~0x00000200);
+              bitField0_ = (bitField0_ & ~0x00000100);
             } else {
               ensureExtraDataChangeIsMutable();
               extraDataChange_.addAll(other.extraDataChange_);
@@ -2494,7 +2569,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
               extraDataChangeBuilder_.dispose();
               extraDataChangeBuilder_ = null;
               extraDataChange_ = other.extraDataChange_;
-              bitField0_ = (bitField0_ & ~0x00000200);
+              bitField0_ = (bitField0_ & ~0x00000100);
               extraDataChangeBuilder_ = 
                 com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
                    getExtraDataChangeFieldBuilder() : null;
@@ -2503,6 +2578,32 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
             }
           }
         }
+        if (blockChangeBatchBuilder_ == null) {
+          if (!other.blockChangeBatch_.isEmpty()) {
+            if (blockChangeBatch_.isEmpty()) {
+              blockChangeBatch_ = other.blockChangeBatch_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureBlockChangeBatchIsMutable();
+              blockChangeBatch_.addAll(other.blockChangeBatch_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.blockChangeBatch_.isEmpty()) {
+            if (blockChangeBatchBuilder_.isEmpty()) {
+              blockChangeBatchBuilder_.dispose();
+              blockChangeBatchBuilder_ = null;
+              blockChangeBatch_ = other.blockChangeBatch_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+              blockChangeBatchBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getBlockChangeBatchFieldBuilder() : null;
+            } else {
+              blockChangeBatchBuilder_.addAllMessages(other.blockChangeBatch_);
+            }
+          }
+        }
         if (other.hasServerInfoRequest()) {
           mergeServerInfoRequest(other.getServerInfoRequest());
         }
@@ -2585,6 +2686,11 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.NetMessage other) {
         if (other.hasHandshakeVerification()) {
           mergeHandshakeVerification(other.getHandshakeVerification());
         }
+        if (other.hasCompression()) {
+          bitField0_ |= 0x00400000;
+          compression_ = other.compression_;
+          onChanged();
+        }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -2633,14 +2739,14 @@ public final boolean isInitialized() {
             return false;
           }
         }
-        for (int i = 0; i < getBiomeChangeCount(); i++) {
-          if (!getBiomeChange(i).isInitialized()) {
+        for (int i = 0; i < getExtraDataChangeCount(); i++) {
+          if (!getExtraDataChange(i).isInitialized()) {
             
             return false;
           }
         }
-        for (int i = 0; i < getExtraDataChangeCount(); i++) {
-          if (!getExtraDataChange(i).isInitialized()) {
+        for (int i = 0; i < getBlockChangeBatchCount(); i++) {
+          if (!getBlockChangeBatch(i).isInitialized()) {
             
             return false;
           }
@@ -4456,484 +4562,484 @@ public Builder clearTime() {
         return this;
       }
 
-      // repeated .BiomeChangeMessage biomeChange = 10;
-      private java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> biomeChange_ =
+      // repeated .ExtraDataChangeMessage extraDataChange = 11;
+      private java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage> extraDataChange_ =
         java.util.Collections.emptyList();
-      private void ensureBiomeChangeIsMutable() {
+      private void ensureExtraDataChangeIsMutable() {
         if (!((bitField0_ & 0x00000100) == 0x00000100)) {
-          biomeChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BiomeChangeMessage>(biomeChange_);
+          extraDataChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ExtraDataChangeMessage>(extraDataChange_);
           bitField0_ |= 0x00000100;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilder<
-          org.terasology.protobuf.NetData.BiomeChangeMessage, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> biomeChangeBuilder_;
+          org.terasology.protobuf.NetData.ExtraDataChangeMessage, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder, org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder> extraDataChangeBuilder_;
 
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage> getBiomeChangeList() {
-        if (biomeChangeBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(biomeChange_);
+      public java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage> getExtraDataChangeList() {
+        if (extraDataChangeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(extraDataChange_);
         } else {
-          return biomeChangeBuilder_.getMessageList();
+          return extraDataChangeBuilder_.getMessageList();
         }
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public int getBiomeChangeCount() {
-        if (biomeChangeBuilder_ == null) {
-          return biomeChange_.size();
+      public int getExtraDataChangeCount() {
+        if (extraDataChangeBuilder_ == null) {
+          return extraDataChange_.size();
         } else {
-          return biomeChangeBuilder_.getCount();
+          return extraDataChangeBuilder_.getCount();
         }
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage getBiomeChange(int index) {
-        if (biomeChangeBuilder_ == null) {
-          return biomeChange_.get(index);
+      public org.terasology.protobuf.NetData.ExtraDataChangeMessage getExtraDataChange(int index) {
+        if (extraDataChangeBuilder_ == null) {
+          return extraDataChange_.get(index);
         } else {
-          return biomeChangeBuilder_.getMessage(index);
+          return extraDataChangeBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder setBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage value) {
-        if (biomeChangeBuilder_ == null) {
+      public Builder setExtraDataChange(
+          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage value) {
+        if (extraDataChangeBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureBiomeChangeIsMutable();
-          biomeChange_.set(index, value);
+          ensureExtraDataChangeIsMutable();
+          extraDataChange_.set(index, value);
           onChanged();
         } else {
-          biomeChangeBuilder_.setMessage(index, value);
+          extraDataChangeBuilder_.setMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder setBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder builderForValue) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.set(index, builderForValue.build());
+      public Builder setExtraDataChange(
+          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder builderForValue) {
+        if (extraDataChangeBuilder_ == null) {
+          ensureExtraDataChangeIsMutable();
+          extraDataChange_.set(index, builderForValue.build());
           onChanged();
         } else {
-          biomeChangeBuilder_.setMessage(index, builderForValue.build());
+          extraDataChangeBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder addBiomeChange(org.terasology.protobuf.NetData.BiomeChangeMessage value) {
-        if (biomeChangeBuilder_ == null) {
+      public Builder addExtraDataChange(org.terasology.protobuf.NetData.ExtraDataChangeMessage value) {
+        if (extraDataChangeBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(value);
+          ensureExtraDataChangeIsMutable();
+          extraDataChange_.add(value);
           onChanged();
         } else {
-          biomeChangeBuilder_.addMessage(value);
+          extraDataChangeBuilder_.addMessage(value);
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder addBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage value) {
-        if (biomeChangeBuilder_ == null) {
+      public Builder addExtraDataChange(
+          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage value) {
+        if (extraDataChangeBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(index, value);
+          ensureExtraDataChangeIsMutable();
+          extraDataChange_.add(index, value);
           onChanged();
         } else {
-          biomeChangeBuilder_.addMessage(index, value);
+          extraDataChangeBuilder_.addMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder addBiomeChange(
-          org.terasology.protobuf.NetData.BiomeChangeMessage.Builder builderForValue) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(builderForValue.build());
+      public Builder addExtraDataChange(
+          org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder builderForValue) {
+        if (extraDataChangeBuilder_ == null) {
+          ensureExtraDataChangeIsMutable();
+          extraDataChange_.add(builderForValue.build());
           onChanged();
         } else {
-          biomeChangeBuilder_.addMessage(builderForValue.build());
+          extraDataChangeBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder addBiomeChange(
-          int index, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder builderForValue) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.add(index, builderForValue.build());
+      public Builder addExtraDataChange(
+          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder builderForValue) {
+        if (extraDataChangeBuilder_ == null) {
+          ensureExtraDataChangeIsMutable();
+          extraDataChange_.add(index, builderForValue.build());
           onChanged();
         } else {
-          biomeChangeBuilder_.addMessage(index, builderForValue.build());
+          extraDataChangeBuilder_.addMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder addAllBiomeChange(
-          java.lang.Iterable<? extends org.terasology.protobuf.NetData.BiomeChangeMessage> values) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          super.addAll(values, biomeChange_);
+      public Builder addAllExtraDataChange(
+          java.lang.Iterable<? extends org.terasology.protobuf.NetData.ExtraDataChangeMessage> values) {
+        if (extraDataChangeBuilder_ == null) {
+          ensureExtraDataChangeIsMutable();
+          super.addAll(values, extraDataChange_);
           onChanged();
         } else {
-          biomeChangeBuilder_.addAllMessages(values);
+          extraDataChangeBuilder_.addAllMessages(values);
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder clearBiomeChange() {
-        if (biomeChangeBuilder_ == null) {
-          biomeChange_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000100);
+      public Builder clearExtraDataChange() {
+        if (extraDataChangeBuilder_ == null) {
+          extraDataChange_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000100);
           onChanged();
         } else {
-          biomeChangeBuilder_.clear();
+          extraDataChangeBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public Builder removeBiomeChange(int index) {
-        if (biomeChangeBuilder_ == null) {
-          ensureBiomeChangeIsMutable();
-          biomeChange_.remove(index);
+      public Builder removeExtraDataChange(int index) {
+        if (extraDataChangeBuilder_ == null) {
+          ensureExtraDataChangeIsMutable();
+          extraDataChange_.remove(index);
           onChanged();
         } else {
-          biomeChangeBuilder_.remove(index);
+          extraDataChangeBuilder_.remove(index);
         }
         return this;
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage.Builder getBiomeChangeBuilder(
+      public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder getExtraDataChangeBuilder(
           int index) {
-        return getBiomeChangeFieldBuilder().getBuilder(index);
+        return getExtraDataChangeFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder getBiomeChangeOrBuilder(
+      public org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraDataChangeOrBuilder(
           int index) {
-        if (biomeChangeBuilder_ == null) {
-          return biomeChange_.get(index);  } else {
-          return biomeChangeBuilder_.getMessageOrBuilder(index);
+        if (extraDataChangeBuilder_ == null) {
+          return extraDataChange_.get(index);  } else {
+          return extraDataChangeBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public java.util.List<? extends org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-           getBiomeChangeOrBuilderList() {
-        if (biomeChangeBuilder_ != null) {
-          return biomeChangeBuilder_.getMessageOrBuilderList();
+      public java.util.List<? extends org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder> 
+           getExtraDataChangeOrBuilderList() {
+        if (extraDataChangeBuilder_ != null) {
+          return extraDataChangeBuilder_.getMessageOrBuilderList();
         } else {
-          return java.util.Collections.unmodifiableList(biomeChange_);
+          return java.util.Collections.unmodifiableList(extraDataChange_);
         }
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage.Builder addBiomeChangeBuilder() {
-        return getBiomeChangeFieldBuilder().addBuilder(
-            org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance());
+      public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder addExtraDataChangeBuilder() {
+        return getExtraDataChangeFieldBuilder().addBuilder(
+            org.terasology.protobuf.NetData.ExtraDataChangeMessage.getDefaultInstance());
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public org.terasology.protobuf.NetData.BiomeChangeMessage.Builder addBiomeChangeBuilder(
+      public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder addExtraDataChangeBuilder(
           int index) {
-        return getBiomeChangeFieldBuilder().addBuilder(
-            index, org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance());
+        return getExtraDataChangeFieldBuilder().addBuilder(
+            index, org.terasology.protobuf.NetData.ExtraDataChangeMessage.getDefaultInstance());
       }
       /**
-       * <code>repeated .BiomeChangeMessage biomeChange = 10;</code>
+       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
        */
-      public java.util.List<org.terasology.protobuf.NetData.BiomeChangeMessage.Builder> 
-           getBiomeChangeBuilderList() {
-        return getBiomeChangeFieldBuilder().getBuilderList();
+      public java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder> 
+           getExtraDataChangeBuilderList() {
+        return getExtraDataChangeFieldBuilder().getBuilderList();
       }
       private com.google.protobuf.RepeatedFieldBuilder<
-          org.terasology.protobuf.NetData.BiomeChangeMessage, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder> 
-          getBiomeChangeFieldBuilder() {
-        if (biomeChangeBuilder_ == null) {
-          biomeChangeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.terasology.protobuf.NetData.BiomeChangeMessage, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder, org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder>(
-                  biomeChange_,
+          org.terasology.protobuf.NetData.ExtraDataChangeMessage, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder, org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder> 
+          getExtraDataChangeFieldBuilder() {
+        if (extraDataChangeBuilder_ == null) {
+          extraDataChangeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.terasology.protobuf.NetData.ExtraDataChangeMessage, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder, org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder>(
+                  extraDataChange_,
                   ((bitField0_ & 0x00000100) == 0x00000100),
                   getParentForChildren(),
                   isClean());
-          biomeChange_ = null;
+          extraDataChange_ = null;
         }
-        return biomeChangeBuilder_;
+        return extraDataChangeBuilder_;
       }
 
-      // repeated .ExtraDataChangeMessage extraDataChange = 11;
-      private java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage> extraDataChange_ =
+      // repeated .BlockChangeBatch blockChangeBatch = 12;
+      private java.util.List<org.terasology.protobuf.NetData.BlockChangeBatch> blockChangeBatch_ =
         java.util.Collections.emptyList();
-      private void ensureExtraDataChangeIsMutable() {
+      private void ensureBlockChangeBatchIsMutable() {
         if (!((bitField0_ & 0x00000200) == 0x00000200)) {
-          extraDataChange_ = new java.util.ArrayList<org.terasology.protobuf.NetData.ExtraDataChangeMessage>(extraDataChange_);
+          blockChangeBatch_ = new java.util.ArrayList<org.terasology.protobuf.NetData.BlockChangeBatch>(blockChangeBatch_);
           bitField0_ |= 0x00000200;
          }
       }
 
       private com.google.protobuf.RepeatedFieldBuilder<
-          org.terasology.protobuf.NetData.ExtraDataChangeMessage, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder, org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder> extraDataChangeBuilder_;
+          org.terasology.protobuf.NetData.BlockChangeBatch, org.terasology.protobuf.NetData.BlockChangeBatch.Builder, org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder> blockChangeBatchBuilder_;
 
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage> getExtraDataChangeList() {
-        if (extraDataChangeBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(extraDataChange_);
+      public java.util.List<org.terasology.protobuf.NetData.BlockChangeBatch> getBlockChangeBatchList() {
+        if (blockChangeBatchBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(blockChangeBatch_);
         } else {
-          return extraDataChangeBuilder_.getMessageList();
+          return blockChangeBatchBuilder_.getMessageList();
         }
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public int getExtraDataChangeCount() {
-        if (extraDataChangeBuilder_ == null) {
-          return extraDataChange_.size();
+      public int getBlockChangeBatchCount() {
+        if (blockChangeBatchBuilder_ == null) {
+          return blockChangeBatch_.size();
         } else {
-          return extraDataChangeBuilder_.getCount();
+          return blockChangeBatchBuilder_.getCount();
         }
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public org.terasology.protobuf.NetData.ExtraDataChangeMessage getExtraDataChange(int index) {
-        if (extraDataChangeBuilder_ == null) {
-          return extraDataChange_.get(index);
+      public org.terasology.protobuf.NetData.BlockChangeBatch getBlockChangeBatch(int index) {
+        if (blockChangeBatchBuilder_ == null) {
+          return blockChangeBatch_.get(index);
         } else {
-          return extraDataChangeBuilder_.getMessage(index);
+          return blockChangeBatchBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder setExtraDataChange(
-          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage value) {
-        if (extraDataChangeBuilder_ == null) {
+      public Builder setBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatch value) {
+        if (blockChangeBatchBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureExtraDataChangeIsMutable();
-          extraDataChange_.set(index, value);
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.set(index, value);
           onChanged();
         } else {
-          extraDataChangeBuilder_.setMessage(index, value);
+          blockChangeBatchBuilder_.setMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder setExtraDataChange(
-          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder builderForValue) {
-        if (extraDataChangeBuilder_ == null) {
-          ensureExtraDataChangeIsMutable();
-          extraDataChange_.set(index, builderForValue.build());
+      public Builder setBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatch.Builder builderForValue) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.set(index, builderForValue.build());
           onChanged();
         } else {
-          extraDataChangeBuilder_.setMessage(index, builderForValue.build());
+          blockChangeBatchBuilder_.setMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder addExtraDataChange(org.terasology.protobuf.NetData.ExtraDataChangeMessage value) {
-        if (extraDataChangeBuilder_ == null) {
+      public Builder addBlockChangeBatch(org.terasology.protobuf.NetData.BlockChangeBatch value) {
+        if (blockChangeBatchBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureExtraDataChangeIsMutable();
-          extraDataChange_.add(value);
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(value);
           onChanged();
         } else {
-          extraDataChangeBuilder_.addMessage(value);
+          blockChangeBatchBuilder_.addMessage(value);
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder addExtraDataChange(
-          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage value) {
-        if (extraDataChangeBuilder_ == null) {
+      public Builder addBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatch value) {
+        if (blockChangeBatchBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          ensureExtraDataChangeIsMutable();
-          extraDataChange_.add(index, value);
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(index, value);
           onChanged();
         } else {
-          extraDataChangeBuilder_.addMessage(index, value);
+          blockChangeBatchBuilder_.addMessage(index, value);
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder addExtraDataChange(
-          org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder builderForValue) {
-        if (extraDataChangeBuilder_ == null) {
-          ensureExtraDataChangeIsMutable();
-          extraDataChange_.add(builderForValue.build());
+      public Builder addBlockChangeBatch(
+          org.terasology.protobuf.NetData.BlockChangeBatch.Builder builderForValue) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(builderForValue.build());
           onChanged();
         } else {
-          extraDataChangeBuilder_.addMessage(builderForValue.build());
+          blockChangeBatchBuilder_.addMessage(builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder addExtraDataChange(
-          int index, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder builderForValue) {
-        if (extraDataChangeBuilder_ == null) {
-          ensureExtraDataChangeIsMutable();
-          extraDataChange_.add(index, builderForValue.build());
+      public Builder addBlockChangeBatch(
+          int index, org.terasology.protobuf.NetData.BlockChangeBatch.Builder builderForValue) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.add(index, builderForValue.build());
           onChanged();
         } else {
-          extraDataChangeBuilder_.addMessage(index, builderForValue.build());
+          blockChangeBatchBuilder_.addMessage(index, builderForValue.build());
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder addAllExtraDataChange(
-          java.lang.Iterable<? extends org.terasology.protobuf.NetData.ExtraDataChangeMessage> values) {
-        if (extraDataChangeBuilder_ == null) {
-          ensureExtraDataChangeIsMutable();
-          super.addAll(values, extraDataChange_);
+      public Builder addAllBlockChangeBatch(
+          java.lang.Iterable<? extends org.terasology.protobuf.NetData.BlockChangeBatch> values) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          super.addAll(values, blockChangeBatch_);
           onChanged();
         } else {
-          extraDataChangeBuilder_.addAllMessages(values);
+          blockChangeBatchBuilder_.addAllMessages(values);
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder clearExtraDataChange() {
-        if (extraDataChangeBuilder_ == null) {
-          extraDataChange_ = java.util.Collections.emptyList();
+      public Builder clearBlockChangeBatch() {
+        if (blockChangeBatchBuilder_ == null) {
+          blockChangeBatch_ = java.util.Collections.emptyList();
           bitField0_ = (bitField0_ & ~0x00000200);
           onChanged();
         } else {
-          extraDataChangeBuilder_.clear();
+          blockChangeBatchBuilder_.clear();
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public Builder removeExtraDataChange(int index) {
-        if (extraDataChangeBuilder_ == null) {
-          ensureExtraDataChangeIsMutable();
-          extraDataChange_.remove(index);
+      public Builder removeBlockChangeBatch(int index) {
+        if (blockChangeBatchBuilder_ == null) {
+          ensureBlockChangeBatchIsMutable();
+          blockChangeBatch_.remove(index);
           onChanged();
         } else {
-          extraDataChangeBuilder_.remove(index);
+          blockChangeBatchBuilder_.remove(index);
         }
         return this;
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder getExtraDataChangeBuilder(
+      public org.terasology.protobuf.NetData.BlockChangeBatch.Builder getBlockChangeBatchBuilder(
           int index) {
-        return getExtraDataChangeFieldBuilder().getBuilder(index);
+        return getBlockChangeBatchFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder getExtraDataChangeOrBuilder(
+      public org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder getBlockChangeBatchOrBuilder(
           int index) {
-        if (extraDataChangeBuilder_ == null) {
-          return extraDataChange_.get(index);  } else {
-          return extraDataChangeBuilder_.getMessageOrBuilder(index);
+        if (blockChangeBatchBuilder_ == null) {
+          return blockChangeBatch_.get(index);  } else {
+          return blockChangeBatchBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public java.util.List<? extends org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder> 
-           getExtraDataChangeOrBuilderList() {
-        if (extraDataChangeBuilder_ != null) {
-          return extraDataChangeBuilder_.getMessageOrBuilderList();
+      public java.util.List<? extends org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder> 
+           getBlockChangeBatchOrBuilderList() {
+        if (blockChangeBatchBuilder_ != null) {
+          return blockChangeBatchBuilder_.getMessageOrBuilderList();
         } else {
-          return java.util.Collections.unmodifiableList(extraDataChange_);
+          return java.util.Collections.unmodifiableList(blockChangeBatch_);
         }
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder addExtraDataChangeBuilder() {
-        return getExtraDataChangeFieldBuilder().addBuilder(
-            org.terasology.protobuf.NetData.ExtraDataChangeMessage.getDefaultInstance());
+      public org.terasology.protobuf.NetData.BlockChangeBatch.Builder addBlockChangeBatchBuilder() {
+        return getBlockChangeBatchFieldBuilder().addBuilder(
+            org.terasology.protobuf.NetData.BlockChangeBatch.getDefaultInstance());
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder addExtraDataChangeBuilder(
+      public org.terasology.protobuf.NetData.BlockChangeBatch.Builder addBlockChangeBatchBuilder(
           int index) {
-        return getExtraDataChangeFieldBuilder().addBuilder(
-            index, org.terasology.protobuf.NetData.ExtraDataChangeMessage.getDefaultInstance());
+        return getBlockChangeBatchFieldBuilder().addBuilder(
+            index, org.terasology.protobuf.NetData.BlockChangeBatch.getDefaultInstance());
       }
       /**
-       * <code>repeated .ExtraDataChangeMessage extraDataChange = 11;</code>
+       * <code>repeated .BlockChangeBatch blockChangeBatch = 12;</code>
        */
-      public java.util.List<org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder> 
-           getExtraDataChangeBuilderList() {
-        return getExtraDataChangeFieldBuilder().getBuilderList();
+      public java.util.List<org.terasology.protobuf.NetData.BlockChangeBatch.Builder> 
+           getBlockChangeBatchBuilderList() {
+        return getBlockChangeBatchFieldBuilder().getBuilderList();
       }
       private com.google.protobuf.RepeatedFieldBuilder<
-          org.terasology.protobuf.NetData.ExtraDataChangeMessage, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder, org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder> 
-          getExtraDataChangeFieldBuilder() {
-        if (extraDataChangeBuilder_ == null) {
-          extraDataChangeBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              org.terasology.protobuf.NetData.ExtraDataChangeMessage, org.terasology.protobuf.NetData.ExtraDataChangeMessage.Builder, org.terasology.protobuf.NetData.ExtraDataChangeMessageOrBuilder>(
-                  extraDataChange_,
+          org.terasology.protobuf.NetData.BlockChangeBatch, org.terasology.protobuf.NetData.BlockChangeBatch.Builder, org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder> 
+          getBlockChangeBatchFieldBuilder() {
+        if (blockChangeBatchBuilder_ == null) {
+          blockChangeBatchBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.terasology.protobuf.NetData.BlockChangeBatch, org.terasology.protobuf.NetData.BlockChangeBatch.Builder, org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder>(
+                  blockChangeBatch_,
                   ((bitField0_ & 0x00000200) == 0x00000200),
                   getParentForChildren(),
                   isClean());
-          extraDataChange_ = null;
+          blockChangeBatch_ = null;
         }
-        return extraDataChangeBuilder_;
+        return blockChangeBatchBuilder_;
       }
 
       // optional .ServerInfoRequest serverInfoRequest = 15;
@@ -6622,6 +6728,104 @@ public org.terasology.protobuf.NetData.HandshakeVerificationOrBuilder getHandsha
         return handshakeVerificationBuilder_;
       }
 
+      // optional string compression = 104;
+      private java.lang.Object compression_ = "";
+      /**
+       * <code>optional string compression = 104;</code>
+       *
+       * <pre>
+       * The compression asked for by the client and chosen by the server, see NetworkCompression
+       * </pre>
+       */
+      public boolean hasCompression() {
+        return ((bitField0_ & 0x00400000) == 0x00400000);
+      }
+      /**
+       * <code>optional string compression = 104;</code>
+       *
+       * <pre>
+       * The compression asked for by the client and chosen by the server, see NetworkCompression
+       * </pre>
+       */
+      public java.lang.String getCompression() {
+        java.lang.Object ref = compression_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          compression_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string compression = 104;</code>
+       *
+       * <pre>
+       * The compression asked for by the client and chosen by the server, see NetworkCompression
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getCompressionBytes() {
+        java.lang.Object ref = compression_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          compression_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string compression = 104;</code>
+       *
+       * <pre>
+       * The compression asked for by the client and chosen by the server, see NetworkCompression
+       * </pre>
+       */
+      public Builder setCompression(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string compression = 104;</code>
+       *
+       * <pre>
+       * The compression asked for by the client and chosen by the server, see NetworkCompression
+       * </pre>
+       */
+      public Builder clearCompression() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        compression_ = getDefaultInstance().getCompression();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string compression = 104;</code>
+       *
+       * <pre>
+       * The compression asked for by the client and chosen by the server, see NetworkCompression
+       * </pre>
+       */
+      public Builder setCompressionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00400000;
+        compression_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:NetMessage)
     }
 
@@ -11808,53 +12012,103 @@ public Builder clearNewBlock() {
     // @@protoc_insertion_point(class_scope:BlockChangeMessage)
   }
 
-  public interface BiomeChangeMessageOrBuilder extends
+  public interface BlockChangeBatchOrBuilder extends
       com.google.protobuf.GeneratedMessage.
-          ExtendableMessageOrBuilder<BiomeChangeMessage> {
+          ExtendableMessageOrBuilder<BlockChangeBatch> {
 
-    // optional .Vector3iData pos = 1;
+    // optional sint32 x = 1;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional sint32 x = 1;</code>
      */
-    boolean hasPos();
+    boolean hasX();
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional sint32 x = 1;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iData getPos();
+    int getX();
+
+    // optional sint32 y = 2;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional sint32 y = 2;</code>
      */
-    org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder();
+    boolean hasY();
+    /**
+     * <code>optional sint32 y = 2;</code>
+     */
+    int getY();
 
-    // optional int32 newBiome = 2;
+    // optional sint32 z = 3;
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>optional sint32 z = 3;</code>
      */
-    boolean hasNewBiome();
+    boolean hasZ();
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>optional sint32 z = 3;</code>
      */
-    int getNewBiome();
-  }
-  /**
-   * Protobuf type {@code BiomeChangeMessage}
-   */
-  public static final class BiomeChangeMessage extends
-      com.google.protobuf.GeneratedMessage.ExtendableMessage<
-        BiomeChangeMessage> implements BiomeChangeMessageOrBuilder {
-    // Use BiomeChangeMessage.newBuilder() to construct.
-    private BiomeChangeMessage(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BiomeChangeMessage, ?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private BiomeChangeMessage(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    int getZ();
 
-    private static final BiomeChangeMessage defaultInstance;
-    public static BiomeChangeMessage getDefaultInstance() {
-      return defaultInstance;
-    }
+    // repeated int32 runLengths = 4 [packed = true];
+    /**
+     * <code>repeated int32 runLengths = 4 [packed = true];</code>
+     */
+    java.util.List<java.lang.Integer> getRunLengthsList();
+    /**
+     * <code>repeated int32 runLengths = 4 [packed = true];</code>
+     */
+    int getRunLengthsCount();
+    /**
+     * <code>repeated int32 runLengths = 4 [packed = true];</code>
+     */
+    int getRunLengths(int index);
 
-    public BiomeChangeMessage getDefaultInstanceForType() {
+    // repeated sint32 blockIds = 5 [packed = true];
+    /**
+     * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+     *
+     * <pre>
+     * -1 for unchanged blocks
+     * </pre>
+     */
+    java.util.List<java.lang.Integer> getBlockIdsList();
+    /**
+     * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+     *
+     * <pre>
+     * -1 for unchanged blocks
+     * </pre>
+     */
+    int getBlockIdsCount();
+    /**
+     * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+     *
+     * <pre>
+     * -1 for unchanged blocks
+     * </pre>
+     */
+    int getBlockIds(int index);
+  }
+  /**
+   * Protobuf type {@code BlockChangeBatch}
+   *
+   * <pre>
+   * The changed blocks of one chunk, run-length encoded over the block indices of the chunk
+   * </pre>
+   */
+  public static final class BlockChangeBatch extends
+      com.google.protobuf.GeneratedMessage.ExtendableMessage<
+        BlockChangeBatch> implements BlockChangeBatchOrBuilder {
+    // Use BlockChangeBatch.newBuilder() to construct.
+    private BlockChangeBatch(com.google.protobuf.GeneratedMessage.ExtendableBuilder<org.terasology.protobuf.NetData.BlockChangeBatch, ?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BlockChangeBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final BlockChangeBatch defaultInstance;
+    public static BlockChangeBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public BlockChangeBatch getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -11864,7 +12118,7 @@ public BiomeChangeMessage getDefaultInstanceForType() {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private BiomeChangeMessage(
+    private BlockChangeBatch(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -11887,22 +12141,61 @@ private BiomeChangeMessage(
               }
               break;
             }
-            case 10: {
-              org.terasology.protobuf.NetData.Vector3iData.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = pos_.toBuilder();
-              }
-              pos_ = input.readMessage(org.terasology.protobuf.NetData.Vector3iData.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(pos_);
-                pos_ = subBuilder.buildPartial();
-              }
+            case 8: {
               bitField0_ |= 0x00000001;
+              x_ = input.readSInt32();
               break;
             }
             case 16: {
               bitField0_ |= 0x00000002;
-              newBiome_ = input.readInt32();
+              y_ = input.readSInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              z_ = input.readSInt32();
+              break;
+            }
+            case 32: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                runLengths_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              runLengths_.add(input.readInt32());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                runLengths_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                runLengths_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 40: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                blockIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              blockIds_.add(input.readSInt32());
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010) && input.getBytesUntilLimit() > 0) {
+                blockIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                blockIds_.add(input.readSInt32());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -11913,79 +12206,158 @@ private BiomeChangeMessage(
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          runLengths_ = java.util.Collections.unmodifiableList(runLengths_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          blockIds_ = java.util.Collections.unmodifiableList(blockIds_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+      return org.terasology.protobuf.NetData.internal_static_BlockChangeBatch_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
+      return org.terasology.protobuf.NetData.internal_static_BlockChangeBatch_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
+              org.terasology.protobuf.NetData.BlockChangeBatch.class, org.terasology.protobuf.NetData.BlockChangeBatch.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<BiomeChangeMessage> PARSER =
-        new com.google.protobuf.AbstractParser<BiomeChangeMessage>() {
-      public BiomeChangeMessage parsePartialFrom(
+    public static com.google.protobuf.Parser<BlockChangeBatch> PARSER =
+        new com.google.protobuf.AbstractParser<BlockChangeBatch>() {
+      public BlockChangeBatch parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BiomeChangeMessage(input, extensionRegistry);
+        return new BlockChangeBatch(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<BiomeChangeMessage> getParserForType() {
+    public com.google.protobuf.Parser<BlockChangeBatch> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional .Vector3iData pos = 1;
-    public static final int POS_FIELD_NUMBER = 1;
-    private org.terasology.protobuf.NetData.Vector3iData pos_;
+    // optional sint32 x = 1;
+    public static final int X_FIELD_NUMBER = 1;
+    private int x_;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional sint32 x = 1;</code>
      */
-    public boolean hasPos() {
+    public boolean hasX() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional sint32 x = 1;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iData getPos() {
-      return pos_;
+    public int getX() {
+      return x_;
     }
+
+    // optional sint32 y = 2;
+    public static final int Y_FIELD_NUMBER = 2;
+    private int y_;
     /**
-     * <code>optional .Vector3iData pos = 1;</code>
+     * <code>optional sint32 y = 2;</code>
      */
-    public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-      return pos_;
+    public boolean hasY() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional sint32 y = 2;</code>
+     */
+    public int getY() {
+      return y_;
     }
 
-    // optional int32 newBiome = 2;
-    public static final int NEWBIOME_FIELD_NUMBER = 2;
-    private int newBiome_;
+    // optional sint32 z = 3;
+    public static final int Z_FIELD_NUMBER = 3;
+    private int z_;
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>optional sint32 z = 3;</code>
      */
-    public boolean hasNewBiome() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public boolean hasZ() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>optional int32 newBiome = 2;</code>
+     * <code>optional sint32 z = 3;</code>
      */
-    public int getNewBiome() {
-      return newBiome_;
+    public int getZ() {
+      return z_;
     }
 
+    // repeated int32 runLengths = 4 [packed = true];
+    public static final int RUNLENGTHS_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Integer> runLengths_;
+    /**
+     * <code>repeated int32 runLengths = 4 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getRunLengthsList() {
+      return runLengths_;
+    }
+    /**
+     * <code>repeated int32 runLengths = 4 [packed = true];</code>
+     */
+    public int getRunLengthsCount() {
+      return runLengths_.size();
+    }
+    /**
+     * <code>repeated int32 runLengths = 4 [packed = true];</code>
+     */
+    public int getRunLengths(int index) {
+      return runLengths_.get(index);
+    }
+    private int runLengthsMemoizedSerializedSize = -1;
+
+    // repeated sint32 blockIds = 5 [packed = true];
+    public static final int BLOCKIDS_FIELD_NUMBER = 5;
+    private java.util.List<java.lang.Integer> blockIds_;
+    /**
+     * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+     *
+     * <pre>
+     * -1 for unchanged blocks
+     * </pre>
+     */
+    public java.util.List<java.lang.Integer>
+        getBlockIdsList() {
+      return blockIds_;
+    }
+    /**
+     * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+     *
+     * <pre>
+     * -1 for unchanged blocks
+     * </pre>
+     */
+    public int getBlockIdsCount() {
+      return blockIds_.size();
+    }
+    /**
+     * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+     *
+     * <pre>
+     * -1 for unchanged blocks
+     * </pre>
+     */
+    public int getBlockIds(int index) {
+      return blockIds_.get(index);
+    }
+    private int blockIdsMemoizedSerializedSize = -1;
+
     private void initFields() {
-      pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
-      newBiome_ = 0;
+      x_ = 0;
+      y_ = 0;
+      z_ = 0;
+      runLengths_ = java.util.Collections.emptyList();
+      blockIds_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -12004,13 +12376,30 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
       com.google.protobuf.GeneratedMessage
-        .ExtendableMessage<org.terasology.protobuf.NetData.BiomeChangeMessage>.ExtensionWriter extensionWriter =
+        .ExtendableMessage<org.terasology.protobuf.NetData.BlockChangeBatch>.ExtensionWriter extensionWriter =
           newExtensionWriter();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, pos_);
+        output.writeSInt32(1, x_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeInt32(2, newBiome_);
+        output.writeSInt32(2, y_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeSInt32(3, z_);
+      }
+      if (getRunLengthsList().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(runLengthsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < runLengths_.size(); i++) {
+        output.writeInt32NoTag(runLengths_.get(i));
+      }
+      if (getBlockIdsList().size() > 0) {
+        output.writeRawVarint32(42);
+        output.writeRawVarint32(blockIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < blockIds_.size(); i++) {
+        output.writeSInt32NoTag(blockIds_.get(i));
       }
       extensionWriter.writeUntil(536870912, output);
       getUnknownFields().writeTo(output);
@@ -12024,11 +12413,43 @@ public int getSerializedSize() {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, pos_);
+          .computeSInt32Size(1, x_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(2, newBiome_);
+          .computeSInt32Size(2, y_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeSInt32Size(3, z_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < runLengths_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(runLengths_.get(i));
+        }
+        size += dataSize;
+        if (!getRunLengthsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        runLengthsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < blockIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeSInt32SizeNoTag(blockIds_.get(i));
+        }
+        size += dataSize;
+        if (!getBlockIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        blockIdsMemoizedSerializedSize = dataSize;
       }
       size += extensionsSerializedSize();
       size += getUnknownFields().getSerializedSize();
@@ -12043,53 +12464,53 @@ protected java.lang.Object writeReplace()
       return super.writeReplace();
     }
 
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(byte[] data)
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(java.io.InputStream input)
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseDelimitedFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
+    public static org.terasology.protobuf.NetData.BlockChangeBatch parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -12098,7 +12519,7 @@ public static org.terasology.protobuf.NetData.BiomeChangeMessage parseFrom(
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.terasology.protobuf.NetData.BiomeChangeMessage prototype) {
+    public static Builder newBuilder(org.terasology.protobuf.NetData.BlockChangeBatch prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -12110,24 +12531,28 @@ protected Builder newBuilderForType(
       return builder;
     }
     /**
-     * Protobuf type {@code BiomeChangeMessage}
+     * Protobuf type {@code BlockChangeBatch}
+     *
+     * <pre>
+     * The changed blocks of one chunk, run-length encoded over the block indices of the chunk
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.ExtendableBuilder<
-          org.terasology.protobuf.NetData.BiomeChangeMessage, Builder> implements org.terasology.protobuf.NetData.BiomeChangeMessageOrBuilder {
+          org.terasology.protobuf.NetData.BlockChangeBatch, Builder> implements org.terasology.protobuf.NetData.BlockChangeBatchOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeBatch_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_fieldAccessorTable
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeBatch_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.terasology.protobuf.NetData.BiomeChangeMessage.class, org.terasology.protobuf.NetData.BiomeChangeMessage.Builder.class);
+                org.terasology.protobuf.NetData.BlockChangeBatch.class, org.terasology.protobuf.NetData.BlockChangeBatch.Builder.class);
       }
 
-      // Construct using org.terasology.protobuf.NetData.BiomeChangeMessage.newBuilder()
+      // Construct using org.terasology.protobuf.NetData.BlockChangeBatch.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -12139,7 +12564,6 @@ private Builder(
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getPosFieldBuilder();
         }
       }
       private static Builder create() {
@@ -12148,14 +12572,16 @@ private static Builder create() {
 
       public Builder clear() {
         super.clear();
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
-        } else {
-          posBuilder_.clear();
-        }
+        x_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        newBiome_ = 0;
+        y_ = 0;
         bitField0_ = (bitField0_ & ~0x00000002);
+        z_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        runLengths_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        blockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -12165,58 +12591,91 @@ public Builder clone() {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.terasology.protobuf.NetData.internal_static_BiomeChangeMessage_descriptor;
+        return org.terasology.protobuf.NetData.internal_static_BlockChangeBatch_descriptor;
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage getDefaultInstanceForType() {
-        return org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance();
+      public org.terasology.protobuf.NetData.BlockChangeBatch getDefaultInstanceForType() {
+        return org.terasology.protobuf.NetData.BlockChangeBatch.getDefaultInstance();
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage build() {
-        org.terasology.protobuf.NetData.BiomeChangeMessage result = buildPartial();
+      public org.terasology.protobuf.NetData.BlockChangeBatch build() {
+        org.terasology.protobuf.NetData.BlockChangeBatch result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.terasology.protobuf.NetData.BiomeChangeMessage buildPartial() {
-        org.terasology.protobuf.NetData.BiomeChangeMessage result = new org.terasology.protobuf.NetData.BiomeChangeMessage(this);
+      public org.terasology.protobuf.NetData.BlockChangeBatch buildPartial() {
+        org.terasology.protobuf.NetData.BlockChangeBatch result = new org.terasology.protobuf.NetData.BlockChangeBatch(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        if (posBuilder_ == null) {
-          result.pos_ = pos_;
-        } else {
-          result.pos_ = posBuilder_.build();
-        }
+        result.x_ = x_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.newBiome_ = newBiome_;
+        result.y_ = y_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.z_ = z_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          runLengths_ = java.util.Collections.unmodifiableList(runLengths_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.runLengths_ = runLengths_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          blockIds_ = java.util.Collections.unmodifiableList(blockIds_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.blockIds_ = blockIds_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.terasology.protobuf.NetData.BiomeChangeMessage) {
-          return mergeFrom((org.terasology.protobuf.NetData.BiomeChangeMessage)other);
+        if (other instanceof org.terasology.protobuf.NetData.BlockChangeBatch) {
+          return mergeFrom((org.terasology.protobuf.NetData.BlockChangeBatch)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.terasology.protobuf.NetData.BiomeChangeMessage other) {
-        if (other == org.terasology.protobuf.NetData.BiomeChangeMessage.getDefaultInstance()) return this;
-        if (other.hasPos()) {
-          mergePos(other.getPos());
+      public Builder mergeFrom(org.terasology.protobuf.NetData.BlockChangeBatch other) {
+        if (other == org.terasology.protobuf.NetData.BlockChangeBatch.getDefaultInstance()) return this;
+        if (other.hasX()) {
+          setX(other.getX());
+        }
+        if (other.hasY()) {
+          setY(other.getY());
+        }
+        if (other.hasZ()) {
+          setZ(other.getZ());
+        }
+        if (!other.runLengths_.isEmpty()) {
+          if (runLengths_.isEmpty()) {
+            runLengths_ = other.runLengths_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureRunLengthsIsMutable();
+            runLengths_.addAll(other.runLengths_);
+          }
+          onChanged();
         }
-        if (other.hasNewBiome()) {
-          setNewBiome(other.getNewBiome());
+        if (!other.blockIds_.isEmpty()) {
+          if (blockIds_.isEmpty()) {
+            blockIds_ = other.blockIds_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureBlockIdsIsMutable();
+            blockIds_.addAll(other.blockIds_);
+          }
+          onChanged();
         }
         this.mergeExtensionFields(other);
         this.mergeUnknownFields(other.getUnknownFields());
@@ -12235,11 +12694,11 @@ public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.terasology.protobuf.NetData.BiomeChangeMessage parsedMessage = null;
+        org.terasology.protobuf.NetData.BlockChangeBatch parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.terasology.protobuf.NetData.BiomeChangeMessage) e.getUnfinishedMessage();
+          parsedMessage = (org.terasology.protobuf.NetData.BlockChangeBatch) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -12250,165 +12709,274 @@ public Builder mergeFrom(
       }
       private int bitField0_;
 
-      // optional .Vector3iData pos = 1;
-      private org.terasology.protobuf.NetData.Vector3iData pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> posBuilder_;
+      // optional sint32 x = 1;
+      private int x_ ;
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 x = 1;</code>
        */
-      public boolean hasPos() {
+      public boolean hasX() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 x = 1;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData getPos() {
-        if (posBuilder_ == null) {
-          return pos_;
-        } else {
-          return posBuilder_.getMessage();
-        }
+      public int getX() {
+        return x_;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 x = 1;</code>
        */
-      public Builder setPos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          pos_ = value;
-          onChanged();
-        } else {
-          posBuilder_.setMessage(value);
-        }
+      public Builder setX(int value) {
         bitField0_ |= 0x00000001;
+        x_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 x = 1;</code>
        */
-      public Builder setPos(
-          org.terasology.protobuf.NetData.Vector3iData.Builder builderForValue) {
-        if (posBuilder_ == null) {
-          pos_ = builderForValue.build();
-          onChanged();
-        } else {
-          posBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
+      public Builder clearX() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        x_ = 0;
+        onChanged();
         return this;
       }
+
+      // optional sint32 y = 2;
+      private int y_ ;
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 y = 2;</code>
        */
-      public Builder mergePos(org.terasology.protobuf.NetData.Vector3iData value) {
-        if (posBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              pos_ != org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance()) {
-            pos_ =
-              org.terasology.protobuf.NetData.Vector3iData.newBuilder(pos_).mergeFrom(value).buildPartial();
-          } else {
-            pos_ = value;
-          }
-          onChanged();
-        } else {
-          posBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
+      public boolean hasY() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional sint32 y = 2;</code>
+       */
+      public int getY() {
+        return y_;
+      }
+      /**
+       * <code>optional sint32 y = 2;</code>
+       */
+      public Builder setY(int value) {
+        bitField0_ |= 0x00000002;
+        y_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 y = 2;</code>
        */
-      public Builder clearPos() {
-        if (posBuilder_ == null) {
-          pos_ = org.terasology.protobuf.NetData.Vector3iData.getDefaultInstance();
-          onChanged();
-        } else {
-          posBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearY() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        y_ = 0;
+        onChanged();
         return this;
       }
+
+      // optional sint32 z = 3;
+      private int z_ ;
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 z = 3;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iData.Builder getPosBuilder() {
-        bitField0_ |= 0x00000001;
+      public boolean hasZ() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional sint32 z = 3;</code>
+       */
+      public int getZ() {
+        return z_;
+      }
+      /**
+       * <code>optional sint32 z = 3;</code>
+       */
+      public Builder setZ(int value) {
+        bitField0_ |= 0x00000004;
+        z_ = value;
         onChanged();
-        return getPosFieldBuilder().getBuilder();
+        return this;
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>optional sint32 z = 3;</code>
        */
-      public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getPosOrBuilder() {
-        if (posBuilder_ != null) {
-          return posBuilder_.getMessageOrBuilder();
-        } else {
-          return pos_;
-        }
+      public Builder clearZ() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        z_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated int32 runLengths = 4 [packed = true];
+      private java.util.List<java.lang.Integer> runLengths_ = java.util.Collections.emptyList();
+      private void ensureRunLengthsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          runLengths_ = new java.util.ArrayList<java.lang.Integer>(runLengths_);
+          bitField0_ |= 0x00000008;
+         }
       }
       /**
-       * <code>optional .Vector3iData pos = 1;</code>
+       * <code>repeated int32 runLengths = 4 [packed = true];</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder> 
-          getPosFieldBuilder() {
-        if (posBuilder_ == null) {
-          posBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.terasology.protobuf.NetData.Vector3iData, org.terasology.protobuf.NetData.Vector3iData.Builder, org.terasology.protobuf.NetData.Vector3iDataOrBuilder>(
-                  pos_,
-                  getParentForChildren(),
-                  isClean());
-          pos_ = null;
-        }
-        return posBuilder_;
+      public java.util.List<java.lang.Integer>
+          getRunLengthsList() {
+        return java.util.Collections.unmodifiableList(runLengths_);
+      }
+      /**
+       * <code>repeated int32 runLengths = 4 [packed = true];</code>
+       */
+      public int getRunLengthsCount() {
+        return runLengths_.size();
+      }
+      /**
+       * <code>repeated int32 runLengths = 4 [packed = true];</code>
+       */
+      public int getRunLengths(int index) {
+        return runLengths_.get(index);
+      }
+      /**
+       * <code>repeated int32 runLengths = 4 [packed = true];</code>
+       */
+      public Builder setRunLengths(
+          int index, int value) {
+        ensureRunLengthsIsMutable();
+        runLengths_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLengths = 4 [packed = true];</code>
+       */
+      public Builder addRunLengths(int value) {
+        ensureRunLengthsIsMutable();
+        runLengths_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLengths = 4 [packed = true];</code>
+       */
+      public Builder addAllRunLengths(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureRunLengthsIsMutable();
+        super.addAll(values, runLengths_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 runLengths = 4 [packed = true];</code>
+       */
+      public Builder clearRunLengths() {
+        runLengths_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
       }
 
-      // optional int32 newBiome = 2;
-      private int newBiome_ ;
+      // repeated sint32 blockIds = 5 [packed = true];
+      private java.util.List<java.lang.Integer> blockIds_ = java.util.Collections.emptyList();
+      private void ensureBlockIdsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          blockIds_ = new java.util.ArrayList<java.lang.Integer>(blockIds_);
+          bitField0_ |= 0x00000010;
+         }
+      }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+       *
+       * <pre>
+       * -1 for unchanged blocks
+       * </pre>
        */
-      public boolean hasNewBiome() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public java.util.List<java.lang.Integer>
+          getBlockIdsList() {
+        return java.util.Collections.unmodifiableList(blockIds_);
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+       *
+       * <pre>
+       * -1 for unchanged blocks
+       * </pre>
        */
-      public int getNewBiome() {
-        return newBiome_;
+      public int getBlockIdsCount() {
+        return blockIds_.size();
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+       *
+       * <pre>
+       * -1 for unchanged blocks
+       * </pre>
        */
-      public Builder setNewBiome(int value) {
-        bitField0_ |= 0x00000002;
-        newBiome_ = value;
+      public int getBlockIds(int index) {
+        return blockIds_.get(index);
+      }
+      /**
+       * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+       *
+       * <pre>
+       * -1 for unchanged blocks
+       * </pre>
+       */
+      public Builder setBlockIds(
+          int index, int value) {
+        ensureBlockIdsIsMutable();
+        blockIds_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 newBiome = 2;</code>
+       * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+       *
+       * <pre>
+       * -1 for unchanged blocks
+       * </pre>
        */
-      public Builder clearNewBiome() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        newBiome_ = 0;
+      public Builder addBlockIds(int value) {
+        ensureBlockIdsIsMutable();
+        blockIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+       *
+       * <pre>
+       * -1 for unchanged blocks
+       * </pre>
+       */
+      public Builder addAllBlockIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureBlockIdsIsMutable();
+        super.addAll(values, blockIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated sint32 blockIds = 5 [packed = true];</code>
+       *
+       * <pre>
+       * -1 for unchanged blocks
+       * </pre>
+       */
+      public Builder clearBlockIds() {
+        blockIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:BiomeChangeMessage)
+      // @@protoc_insertion_point(builder_scope:BlockChangeBatch)
     }
 
     static {
-      defaultInstance = new BiomeChangeMessage(true);
+      defaultInstance = new BlockChangeBatch(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:BiomeChangeMessage)
+    // @@protoc_insertion_point(class_scope:BlockChangeBatch)
   }
 
   public interface ExtraDataChangeMessageOrBuilder extends
@@ -15871,59 +16439,25 @@ org.terasology.protobuf.NetData.SerializationInfoOrBuilder getEventOrBuilder(
      * <code>repeated .WorldInfo worldInfo = 9;</code>
      */
     java.util.List<org.terasology.protobuf.NetData.WorldInfo> 
-        getWorldInfoList();
-    /**
-     * <code>repeated .WorldInfo worldInfo = 9;</code>
-     */
-    org.terasology.protobuf.NetData.WorldInfo getWorldInfo(int index);
-    /**
-     * <code>repeated .WorldInfo worldInfo = 9;</code>
-     */
-    int getWorldInfoCount();
-    /**
-     * <code>repeated .WorldInfo worldInfo = 9;</code>
-     */
-    java.util.List<? extends org.terasology.protobuf.NetData.WorldInfoOrBuilder> 
-        getWorldInfoOrBuilderList();
-    /**
-     * <code>repeated .WorldInfo worldInfo = 9;</code>
-     */
-    org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
-        int index);
-
-    // repeated sint32 biomeShortId = 10 [packed = true];
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    java.util.List<java.lang.Integer> getBiomeShortIdList();
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    int getBiomeShortIdCount();
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    int getBiomeShortId(int index);
-
-    // repeated string biomeId = 11;
+        getWorldInfoList();
     /**
-     * <code>repeated string biomeId = 11;</code>
+     * <code>repeated .WorldInfo worldInfo = 9;</code>
      */
-    java.util.List<java.lang.String>
-    getBiomeIdList();
+    org.terasology.protobuf.NetData.WorldInfo getWorldInfo(int index);
     /**
-     * <code>repeated string biomeId = 11;</code>
+     * <code>repeated .WorldInfo worldInfo = 9;</code>
      */
-    int getBiomeIdCount();
+    int getWorldInfoCount();
     /**
-     * <code>repeated string biomeId = 11;</code>
+     * <code>repeated .WorldInfo worldInfo = 9;</code>
      */
-    java.lang.String getBiomeId(int index);
+    java.util.List<? extends org.terasology.protobuf.NetData.WorldInfoOrBuilder> 
+        getWorldInfoOrBuilderList();
     /**
-     * <code>repeated string biomeId = 11;</code>
+     * <code>repeated .WorldInfo worldInfo = 9;</code>
      */
-    com.google.protobuf.ByteString
-        getBiomeIdBytes(int index);
+    org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
+        int index);
 
     // optional string errorMessage = 12;
     /**
@@ -16164,35 +16698,6 @@ private ServerInfoMessage(
               worldInfo_.add(input.readMessage(org.terasology.protobuf.NetData.WorldInfo.PARSER, extensionRegistry));
               break;
             }
-            case 80: {
-              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-                biomeShortId_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000200;
-              }
-              biomeShortId_.add(input.readSInt32());
-              break;
-            }
-            case 82: {
-              int length = input.readRawVarint32();
-              int limit = input.pushLimit(length);
-              if (!((mutable_bitField0_ & 0x00000200) == 0x00000200) && input.getBytesUntilLimit() > 0) {
-                biomeShortId_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000200;
-              }
-              while (input.getBytesUntilLimit() > 0) {
-                biomeShortId_.add(input.readSInt32());
-              }
-              input.popLimit(limit);
-              break;
-            }
-            case 90: {
-              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
-                biomeId_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000400;
-              }
-              biomeId_.add(input.readBytes());
-              break;
-            }
             case 98: {
               bitField0_ |= 0x00000001;
               errorMessage_ = input.readBytes();
@@ -16263,12 +16768,6 @@ private ServerInfoMessage(
         if (((mutable_bitField0_ & 0x00000100) == 0x00000100)) {
           worldInfo_ = java.util.Collections.unmodifiableList(worldInfo_);
         }
-        if (((mutable_bitField0_ & 0x00000200) == 0x00000200)) {
-          biomeShortId_ = java.util.Collections.unmodifiableList(biomeShortId_);
-        }
-        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
-          biomeId_ = new com.google.protobuf.UnmodifiableLazyStringList(biomeId_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
@@ -16583,60 +17082,6 @@ public org.terasology.protobuf.NetData.WorldInfoOrBuilder getWorldInfoOrBuilder(
       return worldInfo_.get(index);
     }
 
-    // repeated sint32 biomeShortId = 10 [packed = true];
-    public static final int BIOMESHORTID_FIELD_NUMBER = 10;
-    private java.util.List<java.lang.Integer> biomeShortId_;
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    public java.util.List<java.lang.Integer>
-        getBiomeShortIdList() {
-      return biomeShortId_;
-    }
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    public int getBiomeShortIdCount() {
-      return biomeShortId_.size();
-    }
-    /**
-     * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-     */
-    public int getBiomeShortId(int index) {
-      return biomeShortId_.get(index);
-    }
-    private int biomeShortIdMemoizedSerializedSize = -1;
-
-    // repeated string biomeId = 11;
-    public static final int BIOMEID_FIELD_NUMBER = 11;
-    private com.google.protobuf.LazyStringList biomeId_;
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public java.util.List<java.lang.String>
-        getBiomeIdList() {
-      return biomeId_;
-    }
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public int getBiomeIdCount() {
-      return biomeId_.size();
-    }
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public java.lang.String getBiomeId(int index) {
-      return biomeId_.get(index);
-    }
-    /**
-     * <code>repeated string biomeId = 11;</code>
-     */
-    public com.google.protobuf.ByteString
-        getBiomeIdBytes(int index) {
-      return biomeId_.getByteString(index);
-    }
-
     // optional string errorMessage = 12;
     public static final int ERRORMESSAGE_FIELD_NUMBER = 12;
     private java.lang.Object errorMessage_;
@@ -16867,8 +17312,6 @@ private void initFields() {
       assetUri_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       registerBlockFamily_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       worldInfo_ = java.util.Collections.emptyList();
-      biomeShortId_ = java.util.Collections.emptyList();
-      biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
       errorMessage_ = "";
       version_ = "";
       gameName_ = "";
@@ -16955,16 +17398,6 @@ public void writeTo(com.google.protobuf.CodedOutputStream output)
       for (int i = 0; i < worldInfo_.size(); i++) {
         output.writeMessage(9, worldInfo_.get(i));
       }
-      if (getBiomeShortIdList().size() > 0) {
-        output.writeRawVarint32(82);
-        output.writeRawVarint32(biomeShortIdMemoizedSerializedSize);
-      }
-      for (int i = 0; i < biomeShortId_.size(); i++) {
-        output.writeSInt32NoTag(biomeShortId_.get(i));
-      }
-      for (int i = 0; i < biomeId_.size(); i++) {
-        output.writeBytes(11, biomeId_.getByteString(i));
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(12, getErrorMessageBytes());
       }
@@ -17067,29 +17500,6 @@ public int getSerializedSize() {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(9, worldInfo_.get(i));
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < biomeShortId_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeSInt32SizeNoTag(biomeShortId_.get(i));
-        }
-        size += dataSize;
-        if (!getBiomeShortIdList().isEmpty()) {
-          size += 1;
-          size += com.google.protobuf.CodedOutputStream
-              .computeInt32SizeNoTag(dataSize);
-        }
-        biomeShortIdMemoizedSerializedSize = dataSize;
-      }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < biomeId_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(biomeId_.getByteString(i));
-        }
-        size += dataSize;
-        size += 1 * getBiomeIdList().size();
-      }
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(12, getErrorMessageBytes());
@@ -17273,24 +17683,20 @@ public Builder clear() {
         } else {
           worldInfoBuilder_.clear();
         }
-        biomeShortId_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000200);
-        biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000400);
         errorMessage_ = "";
-        bitField0_ = (bitField0_ & ~0x00000800);
+        bitField0_ = (bitField0_ & ~0x00000200);
         version_ = "";
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00000400);
         gameName_ = "";
-        bitField0_ = (bitField0_ & ~0x00002000);
+        bitField0_ = (bitField0_ & ~0x00000800);
         time_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00001000);
         reflectionHeight_ = 0F;
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         mOTD_ = "";
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00004000);
         onlinePlayersAmount_ = 0;
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00008000);
         return this;
       }
 
@@ -17383,42 +17789,31 @@ public org.terasology.protobuf.NetData.ServerInfoMessage buildPartial() {
         } else {
           result.worldInfo_ = worldInfoBuilder_.build();
         }
-        if (((bitField0_ & 0x00000200) == 0x00000200)) {
-          biomeShortId_ = java.util.Collections.unmodifiableList(biomeShortId_);
-          bitField0_ = (bitField0_ & ~0x00000200);
-        }
-        result.biomeShortId_ = biomeShortId_;
-        if (((bitField0_ & 0x00000400) == 0x00000400)) {
-          biomeId_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              biomeId_);
-          bitField0_ = (bitField0_ & ~0x00000400);
-        }
-        result.biomeId_ = biomeId_;
-        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
           to_bitField0_ |= 0x00000001;
         }
         result.errorMessage_ = errorMessage_;
-        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
+        if (((from_bitField0_ & 0x00000400) == 0x00000400)) {
           to_bitField0_ |= 0x00000002;
         }
         result.version_ = version_;
-        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
+        if (((from_bitField0_ & 0x00000800) == 0x00000800)) {
           to_bitField0_ |= 0x00000004;
         }
         result.gameName_ = gameName_;
-        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+        if (((from_bitField0_ & 0x00001000) == 0x00001000)) {
           to_bitField0_ |= 0x00000008;
         }
         result.time_ = time_;
-        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
+        if (((from_bitField0_ & 0x00002000) == 0x00002000)) {
           to_bitField0_ |= 0x00000010;
         }
         result.reflectionHeight_ = reflectionHeight_;
-        if (((from_bitField0_ & 0x00010000) == 0x00010000)) {
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
           to_bitField0_ |= 0x00000020;
         }
         result.mOTD_ = mOTD_;
-        if (((from_bitField0_ & 0x00020000) == 0x00020000)) {
+        if (((from_bitField0_ & 0x00008000) == 0x00008000)) {
           to_bitField0_ |= 0x00000040;
         }
         result.onlinePlayersAmount_ = onlinePlayersAmount_;
@@ -17592,38 +17987,18 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.ServerInfoMessage other
             }
           }
         }
-        if (!other.biomeShortId_.isEmpty()) {
-          if (biomeShortId_.isEmpty()) {
-            biomeShortId_ = other.biomeShortId_;
-            bitField0_ = (bitField0_ & ~0x00000200);
-          } else {
-            ensureBiomeShortIdIsMutable();
-            biomeShortId_.addAll(other.biomeShortId_);
-          }
-          onChanged();
-        }
-        if (!other.biomeId_.isEmpty()) {
-          if (biomeId_.isEmpty()) {
-            biomeId_ = other.biomeId_;
-            bitField0_ = (bitField0_ & ~0x00000400);
-          } else {
-            ensureBiomeIdIsMutable();
-            biomeId_.addAll(other.biomeId_);
-          }
-          onChanged();
-        }
         if (other.hasErrorMessage()) {
-          bitField0_ |= 0x00000800;
+          bitField0_ |= 0x00000200;
           errorMessage_ = other.errorMessage_;
           onChanged();
         }
         if (other.hasVersion()) {
-          bitField0_ |= 0x00001000;
+          bitField0_ |= 0x00000400;
           version_ = other.version_;
           onChanged();
         }
         if (other.hasGameName()) {
-          bitField0_ |= 0x00002000;
+          bitField0_ |= 0x00000800;
           gameName_ = other.gameName_;
           onChanged();
         }
@@ -17634,7 +18009,7 @@ public Builder mergeFrom(org.terasology.protobuf.NetData.ServerInfoMessage other
           setReflectionHeight(other.getReflectionHeight());
         }
         if (other.hasMOTD()) {
-          bitField0_ |= 0x00010000;
+          bitField0_ |= 0x00004000;
           mOTD_ = other.mOTD_;
           onChanged();
         }
@@ -19068,172 +19443,13 @@ public org.terasology.protobuf.NetData.WorldInfo.Builder addWorldInfoBuilder(
         return worldInfoBuilder_;
       }
 
-      // repeated sint32 biomeShortId = 10 [packed = true];
-      private java.util.List<java.lang.Integer> biomeShortId_ = java.util.Collections.emptyList();
-      private void ensureBiomeShortIdIsMutable() {
-        if (!((bitField0_ & 0x00000200) == 0x00000200)) {
-          biomeShortId_ = new java.util.ArrayList<java.lang.Integer>(biomeShortId_);
-          bitField0_ |= 0x00000200;
-         }
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public java.util.List<java.lang.Integer>
-          getBiomeShortIdList() {
-        return java.util.Collections.unmodifiableList(biomeShortId_);
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public int getBiomeShortIdCount() {
-        return biomeShortId_.size();
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public int getBiomeShortId(int index) {
-        return biomeShortId_.get(index);
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder setBiomeShortId(
-          int index, int value) {
-        ensureBiomeShortIdIsMutable();
-        biomeShortId_.set(index, value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder addBiomeShortId(int value) {
-        ensureBiomeShortIdIsMutable();
-        biomeShortId_.add(value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder addAllBiomeShortId(
-          java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureBiomeShortIdIsMutable();
-        super.addAll(values, biomeShortId_);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated sint32 biomeShortId = 10 [packed = true];</code>
-       */
-      public Builder clearBiomeShortId() {
-        biomeShortId_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000200);
-        onChanged();
-        return this;
-      }
-
-      // repeated string biomeId = 11;
-      private com.google.protobuf.LazyStringList biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureBiomeIdIsMutable() {
-        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
-          biomeId_ = new com.google.protobuf.LazyStringArrayList(biomeId_);
-          bitField0_ |= 0x00000400;
-         }
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public java.util.List<java.lang.String>
-          getBiomeIdList() {
-        return java.util.Collections.unmodifiableList(biomeId_);
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public int getBiomeIdCount() {
-        return biomeId_.size();
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public java.lang.String getBiomeId(int index) {
-        return biomeId_.get(index);
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public com.google.protobuf.ByteString
-          getBiomeIdBytes(int index) {
-        return biomeId_.getByteString(index);
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder setBiomeId(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBiomeIdIsMutable();
-        biomeId_.set(index, value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder addBiomeId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBiomeIdIsMutable();
-        biomeId_.add(value);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder addAllBiomeId(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureBiomeIdIsMutable();
-        super.addAll(values, biomeId_);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder clearBiomeId() {
-        biomeId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000400);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated string biomeId = 11;</code>
-       */
-      public Builder addBiomeIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureBiomeIdIsMutable();
-        biomeId_.add(value);
-        onChanged();
-        return this;
-      }
-
       // optional string errorMessage = 12;
       private java.lang.Object errorMessage_ = "";
       /**
        * <code>optional string errorMessage = 12;</code>
        */
       public boolean hasErrorMessage() {
-        return ((bitField0_ & 0x00000800) == 0x00000800);
+        return ((bitField0_ & 0x00000200) == 0x00000200);
       }
       /**
        * <code>optional string errorMessage = 12;</code>
@@ -19273,7 +19489,7 @@ public Builder setErrorMessage(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000800;
+  bitField0_ |= 0x00000200;
         errorMessage_ = value;
         onChanged();
         return this;
@@ -19282,7 +19498,7 @@ public Builder setErrorMessage(
        * <code>optional string errorMessage = 12;</code>
        */
       public Builder clearErrorMessage() {
-        bitField0_ = (bitField0_ & ~0x00000800);
+        bitField0_ = (bitField0_ & ~0x00000200);
         errorMessage_ = getDefaultInstance().getErrorMessage();
         onChanged();
         return this;
@@ -19295,7 +19511,7 @@ public Builder setErrorMessageBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000800;
+  bitField0_ |= 0x00000200;
         errorMessage_ = value;
         onChanged();
         return this;
@@ -19307,7 +19523,7 @@ public Builder setErrorMessageBytes(
        * <code>optional string version = 15;</code>
        */
       public boolean hasVersion() {
-        return ((bitField0_ & 0x00001000) == 0x00001000);
+        return ((bitField0_ & 0x00000400) == 0x00000400);
       }
       /**
        * <code>optional string version = 15;</code>
@@ -19347,7 +19563,7 @@ public Builder setVersion(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00001000;
+  bitField0_ |= 0x00000400;
         version_ = value;
         onChanged();
         return this;
@@ -19356,7 +19572,7 @@ public Builder setVersion(
        * <code>optional string version = 15;</code>
        */
       public Builder clearVersion() {
-        bitField0_ = (bitField0_ & ~0x00001000);
+        bitField0_ = (bitField0_ & ~0x00000400);
         version_ = getDefaultInstance().getVersion();
         onChanged();
         return this;
@@ -19369,7 +19585,7 @@ public Builder setVersionBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00001000;
+  bitField0_ |= 0x00000400;
         version_ = value;
         onChanged();
         return this;
@@ -19381,7 +19597,7 @@ public Builder setVersionBytes(
        * <code>optional string gameName = 16;</code>
        */
       public boolean hasGameName() {
-        return ((bitField0_ & 0x00002000) == 0x00002000);
+        return ((bitField0_ & 0x00000800) == 0x00000800);
       }
       /**
        * <code>optional string gameName = 16;</code>
@@ -19421,7 +19637,7 @@ public Builder setGameName(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00002000;
+  bitField0_ |= 0x00000800;
         gameName_ = value;
         onChanged();
         return this;
@@ -19430,7 +19646,7 @@ public Builder setGameName(
        * <code>optional string gameName = 16;</code>
        */
       public Builder clearGameName() {
-        bitField0_ = (bitField0_ & ~0x00002000);
+        bitField0_ = (bitField0_ & ~0x00000800);
         gameName_ = getDefaultInstance().getGameName();
         onChanged();
         return this;
@@ -19443,7 +19659,7 @@ public Builder setGameNameBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00002000;
+  bitField0_ |= 0x00000800;
         gameName_ = value;
         onChanged();
         return this;
@@ -19455,7 +19671,7 @@ public Builder setGameNameBytes(
        * <code>optional int64 time = 17;</code>
        */
       public boolean hasTime() {
-        return ((bitField0_ & 0x00004000) == 0x00004000);
+        return ((bitField0_ & 0x00001000) == 0x00001000);
       }
       /**
        * <code>optional int64 time = 17;</code>
@@ -19467,7 +19683,7 @@ public long getTime() {
        * <code>optional int64 time = 17;</code>
        */
       public Builder setTime(long value) {
-        bitField0_ |= 0x00004000;
+        bitField0_ |= 0x00001000;
         time_ = value;
         onChanged();
         return this;
@@ -19476,7 +19692,7 @@ public Builder setTime(long value) {
        * <code>optional int64 time = 17;</code>
        */
       public Builder clearTime() {
-        bitField0_ = (bitField0_ & ~0x00004000);
+        bitField0_ = (bitField0_ & ~0x00001000);
         time_ = 0L;
         onChanged();
         return this;
@@ -19488,7 +19704,7 @@ public Builder clearTime() {
        * <code>optional float reflectionHeight = 18;</code>
        */
       public boolean hasReflectionHeight() {
-        return ((bitField0_ & 0x00008000) == 0x00008000);
+        return ((bitField0_ & 0x00002000) == 0x00002000);
       }
       /**
        * <code>optional float reflectionHeight = 18;</code>
@@ -19500,7 +19716,7 @@ public float getReflectionHeight() {
        * <code>optional float reflectionHeight = 18;</code>
        */
       public Builder setReflectionHeight(float value) {
-        bitField0_ |= 0x00008000;
+        bitField0_ |= 0x00002000;
         reflectionHeight_ = value;
         onChanged();
         return this;
@@ -19509,7 +19725,7 @@ public Builder setReflectionHeight(float value) {
        * <code>optional float reflectionHeight = 18;</code>
        */
       public Builder clearReflectionHeight() {
-        bitField0_ = (bitField0_ & ~0x00008000);
+        bitField0_ = (bitField0_ & ~0x00002000);
         reflectionHeight_ = 0F;
         onChanged();
         return this;
@@ -19521,7 +19737,7 @@ public Builder clearReflectionHeight() {
        * <code>optional string MOTD = 19;</code>
        */
       public boolean hasMOTD() {
-        return ((bitField0_ & 0x00010000) == 0x00010000);
+        return ((bitField0_ & 0x00004000) == 0x00004000);
       }
       /**
        * <code>optional string MOTD = 19;</code>
@@ -19561,7 +19777,7 @@ public Builder setMOTD(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00010000;
+  bitField0_ |= 0x00004000;
         mOTD_ = value;
         onChanged();
         return this;
@@ -19570,7 +19786,7 @@ public Builder setMOTD(
        * <code>optional string MOTD = 19;</code>
        */
       public Builder clearMOTD() {
-        bitField0_ = (bitField0_ & ~0x00010000);
+        bitField0_ = (bitField0_ & ~0x00004000);
         mOTD_ = getDefaultInstance().getMOTD();
         onChanged();
         return this;
@@ -19583,7 +19799,7 @@ public Builder setMOTDBytes(
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00010000;
+  bitField0_ |= 0x00004000;
         mOTD_ = value;
         onChanged();
         return this;
@@ -19595,7 +19811,7 @@ public Builder setMOTDBytes(
        * <code>optional int32 onlinePlayersAmount = 20;</code>
        */
       public boolean hasOnlinePlayersAmount() {
-        return ((bitField0_ & 0x00020000) == 0x00020000);
+        return ((bitField0_ & 0x00008000) == 0x00008000);
       }
       /**
        * <code>optional int32 onlinePlayersAmount = 20;</code>
@@ -19607,7 +19823,7 @@ public int getOnlinePlayersAmount() {
        * <code>optional int32 onlinePlayersAmount = 20;</code>
        */
       public Builder setOnlinePlayersAmount(int value) {
-        bitField0_ |= 0x00020000;
+        bitField0_ |= 0x00008000;
         onlinePlayersAmount_ = value;
         onChanged();
         return this;
@@ -19616,7 +19832,7 @@ public Builder setOnlinePlayersAmount(int value) {
        * <code>optional int32 onlinePlayersAmount = 20;</code>
        */
       public Builder clearOnlinePlayersAmount() {
-        bitField0_ = (bitField0_ & ~0x00020000);
+        bitField0_ = (bitField0_ & ~0x00008000);
         onlinePlayersAmount_ = 0;
         onChanged();
         return this;
@@ -26553,10 +26769,10 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_BlockChangeMessage_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
-    internal_static_BiomeChangeMessage_descriptor;
+    internal_static_BlockChangeBatch_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internal_static_BiomeChangeMessage_fieldAccessorTable;
+      internal_static_BlockChangeBatch_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_ExtraDataChangeMessage_descriptor;
   private static
@@ -26656,7 +26872,7 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\020NetMessage.proto\032\020EntityData.proto\"\261\007\n" +
+      "\n\020NetMessage.proto\032\020EntityData.proto\"\311\007\n" +
       "\nNetMessage\022\036\n\tchunkInfo\030\002 \003(\0132\013.ChunkSt" +
       "ore\0220\n\017invalidateChunk\030\003 \003(\0132\027.Invalidat" +
       "eChunkMessage\022(\n\013blockChange\030\004 \003(\0132\023.Blo" +
@@ -26664,83 +26880,84 @@ public org.terasology.protobuf.NetData.Vector3iDataOrBuilder getTargetBlockPosOr
       "CreateEntityMessage\022*\n\014removeEntity\030\006 \003(" +
       "\0132\024.RemoveEntityMessage\022*\n\014updateEntity\030" +
       "\007 \003(\0132\024.UpdateEntityMessage\022\034\n\005event\030\010 \003" +
-      "(\0132\r.EventMessage\022\014\n\004time\030\t \001(\003\022(\n\013biome" +
-      "Change\030\n \003(\0132\023.BiomeChangeMessage\0220\n\017ext",
-      "raDataChange\030\013 \003(\0132\027.ExtraDataChangeMess" +
-      "age\022-\n\021serverInfoRequest\030\017 \001(\0132\022.ServerI" +
-      "nfoRequest\022&\n\nserverInfo\030\020 \001(\0132\022.ServerI" +
-      "nfoMessage\022<\n\025blockFamilyRegistered\030\021 \003(" +
-      "\0132\035.BlockFamilyRegisteredMessage\022\032\n\004join" +
-      "\030\022 \001(\0132\014.JoinMessage\022%\n\rmoduleRequest\030\023 " +
-      "\003(\0132\016.ModuleRequest\022+\n\020moduleDataHeader\030" +
-      "\024 \001(\0132\021.ModuleDataHeader\022\037\n\nmoduleData\030\025" +
-      " \001(\0132\013.ModuleData\022*\n\014joinComplete\030\026 \001(\0132" +
-      "\024.JoinCompleteMessage\022\'\n\016handshakeHello\030",
-      "d \001(\0132\017.HandshakeHello\022/\n\022newIdentityReq" +
-      "uest\030e \001(\0132\023.NewIdentityRequest\022-\n\021provi" +
-      "sionIdentity\030f \001(\0132\022.ProvisionIdentity\0225" +
-      "\n\025handshakeVerification\030g \001(\0132\026.Handshak" +
-      "eVerification*\t\010\210\'\020\200\200\200\200\002\"a\n\016HandshakeHel" +
-      "lo\022\016\n\006random\030\001 \001(\014\022!\n\013certificate\030\002 \001(\0132" +
-      "\014.Certificate\022\021\n\ttimestamp\030\003 \001(\022*\t\010\210\'\020\200\200" +
-      "\200\200\002\"H\n\022NewIdentityRequest\022\027\n\017preMasterSe" +
-      "cret\030\001 \001(\014\022\016\n\006random\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"=\n" +
-      "\021ProvisionIdentity\022\035\n\025encryptedCertifica",
-      "tes\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"]\n\016CertificateSet\022\'" +
-      "\n\021publicCertificate\030\001 \001(\0132\014.Certificate\022" +
-      "\027\n\017privateExponent\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"5\n\025H" +
-      "andshakeVerification\022\021\n\tsignature\030\001 \001(\014*" +
-      "\t\010\210\'\020\200\200\200\200\002\"Z\n\013Certificate\022\n\n\002id\030\001 \001(\t\022\017\n" +
-      "\007modulus\030\002 \001(\014\022\020\n\010exponent\030\003 \001(\014\022\021\n\tsign" +
-      "ature\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002\"L\n\034BlockFamilyReg" +
-      "isteredMessage\022\020\n\010blockUri\030\001 \003(\t\022\017\n\007bloc" +
-      "kId\030\002 \003(\005*\t\010\210\'\020\200\200\200\200\002\"?\n\026InvalidateChunkM" +
-      "essage\022\032\n\003pos\030\001 \001(\0132\r.Vector3iData*\t\010\210\'\020",
-      "\200\200\200\200\002\"M\n\022BlockChangeMessage\022\032\n\003pos\030\001 \001(\013" +
-      "2\r.Vector3iData\022\020\n\010newBlock\030\002 \001(\005*\t\010\210\'\020\200" +
-      "\200\200\200\002\"M\n\022BiomeChangeMessage\022\032\n\003pos\030\001 \001(\0132" +
-      "\r.Vector3iData\022\020\n\010newBiome\030\002 \001(\005*\t\010\210\'\020\200\200" +
-      "\200\200\002\"_\n\026ExtraDataChangeMessage\022\r\n\005index\030\001" +
-      " \001(\005\022\032\n\003pos\030\002 \001(\0132\r.Vector3iData\022\017\n\007newD" +
-      "ata\030\003 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\014Vector3iData\022\t\n\001" +
-      "x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003 \001(\005\"\036\n\021ServerI" +
-      "nfoRequest*\t\010\210\'\020\200\200\200\200\002\"i\n\013JoinMessage\022\014\n\004" +
-      "name\030\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\031\n\021viewDista",
-      "nceLevel\030\003 \001(\021\022\025\n\005color\030\004 \001(\0132\006.Color*\t\010" +
-      "\210\'\020\200\200\200\200\002\"\025\n\005Color\022\014\n\004rgba\030\001 \001(\r\"2\n\023JoinC" +
-      "ompleteMessage\022\020\n\010clientId\030\001 \001(\005*\t\010\210\'\020\200\200" +
-      "\200\200\002\"\307\003\n\021ServerInfoMessage\022\033\n\006module\030\001 \003(" +
-      "\0132\013.ModuleInfo\022\023\n\007blockId\030\002 \003(\021B\002\020\001\022\021\n\tb" +
-      "lockName\030\003 \003(\t\022%\n\tcomponent\030\004 \003(\0132\022.Seri" +
-      "alizationInfo\022!\n\005event\030\005 \003(\0132\022.Serializa" +
-      "tionInfo\022\023\n\007assetId\030\006 \003(\005B\002\020\001\022\020\n\010assetUr" +
-      "i\030\007 \003(\t\022\033\n\023registerBlockFamily\030\010 \003(\t\022\035\n\t" +
-      "worldInfo\030\t \003(\0132\n.WorldInfo\022\030\n\014biomeShor",
-      "tId\030\n \003(\021B\002\020\001\022\017\n\007biomeId\030\013 \003(\t\022\024\n\014errorM" +
-      "essage\030\014 \001(\t\022\017\n\007version\030\017 \001(\t\022\020\n\010gameNam" +
-      "e\030\020 \001(\t\022\014\n\004time\030\021 \001(\003\022\030\n\020reflectionHeigh" +
-      "t\030\022 \001(\002\022\014\n\004MOTD\030\023 \001(\t\022\033\n\023onlinePlayersAm" +
-      "ount\030\024 \001(\005*\t\010\210\'\020\200\200\200\200\002\"3\n\tWorldInfo\022\r\n\005ti" +
-      "tle\030\001 \001(\t\022\014\n\004time\030\002 \001(\003*\t\010\210\'\020\200\200\200\200\002\"]\n\021Se" +
-      "rializationInfo\022\014\n\004name\030\001 \001(\t\022\n\n\002id\030\002 \001(" +
-      "\005\022\021\n\tfieldName\030\003 \003(\t\022\020\n\010fieldIds\030\004 \001(\014*\t" +
-      "\010\210\'\020\200\200\200\200\002\"@\n\nModuleInfo\022\020\n\010moduleId\030\001 \001(" +
-      "\t\022\025\n\rmoduleVersion\030\002 \001(\t*\t\010\210\'\020\200\200\200\200\002\",\n\rM",
-      "oduleRequest\022\020\n\010moduleId\030\001 \001(\t*\t\010\210\'\020\200\200\200\200" +
-      "\002\"W\n\020ModuleDataHeader\022\n\n\002id\030\001 \001(\t\022\017\n\007ver" +
-      "sion\030\002 \001(\t\022\014\n\004size\030\003 \001(\003\022\r\n\005error\030\017 \001(\t*" +
-      "\t\010\210\'\020\200\200\200\200\002\"\'\n\nModuleData\022\016\n\006module\030\001 \001(\014" +
-      "*\t\010\210\'\020\200\200\200\200\002\"-\n\017ModuleSendError\022\017\n\007messag" +
-      "e\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"`\n\023CreateEntityMessag" +
-      "e\022\035\n\006entity\030\001 \001(\0132\r.PackedEntity\022\037\n\010bloc" +
-      "kPos\030\002 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"N\n\023" +
-      "UpdateEntityMessage\022\035\n\006entity\030\001 \001(\0132\r.Pa" +
-      "ckedEntity\022\r\n\005netId\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\023",
-      "RemoveEntityMessage\022\r\n\005netId\030\001 \001(\005*\t\010\210\'\020" +
-      "\200\200\200\200\002\"i\n\014EventMessage\022\020\n\010targetId\030\001 \001(\005\022" +
-      "\025\n\005event\030\002 \001(\0132\006.Event\022%\n\016targetBlockPos" +
-      "\030\003 \001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002B$\n\027org." +
-      "terasology.protobufB\007NetDataH\001"
+      "(\0132\r.EventMessage\022\014\n\004time\030\t \001(\003\0220\n\017extra" +
+      "DataChange\030\013 \003(\0132\027.ExtraDataChangeMessag",
+      "e\022+\n\020blockChangeBatch\030\014 \003(\0132\021.BlockChang" +
+      "eBatch\022-\n\021serverInfoRequest\030\017 \001(\0132\022.Serv" +
+      "erInfoRequest\022&\n\nserverInfo\030\020 \001(\0132\022.Serv" +
+      "erInfoMessage\022<\n\025blockFamilyRegistered\030\021" +
+      " \003(\0132\035.BlockFamilyRegisteredMessage\022\032\n\004j" +
+      "oin\030\022 \001(\0132\014.JoinMessage\022%\n\rmoduleRequest" +
+      "\030\023 \003(\0132\016.ModuleRequest\022+\n\020moduleDataHead" +
+      "er\030\024 \001(\0132\021.ModuleDataHeader\022\037\n\nmoduleDat" +
+      "a\030\025 \001(\0132\013.ModuleData\022*\n\014joinComplete\030\026 \001" +
+      "(\0132\024.JoinCompleteMessage\022\'\n\016handshakeHel",
+      "lo\030d \001(\0132\017.HandshakeHello\022/\n\022newIdentity" +
+      "Request\030e \001(\0132\023.NewIdentityRequest\022-\n\021pr" +
+      "ovisionIdentity\030f \001(\0132\022.ProvisionIdentit" +
+      "y\0225\n\025handshakeVerification\030g \001(\0132\026.Hands" +
+      "hakeVerification\022\023\n\013compression\030h \001(\t*\t\010" +
+      "\210\'\020\200\200\200\200\002\"a\n\016HandshakeHello\022\016\n\006random\030\001 \001" +
+      "(\014\022!\n\013certificate\030\002 \001(\0132\014.Certificate\022\021\n" +
+      "\ttimestamp\030\003 \001(\022*\t\010\210\'\020\200\200\200\200\002\"H\n\022NewIdenti" +
+      "tyRequest\022\027\n\017preMasterSecret\030\001 \001(\014\022\016\n\006ra" +
+      "ndom\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"=\n\021ProvisionIdenti",
+      "ty\022\035\n\025encryptedCertificates\030\001 \001(\014*\t\010\210\'\020\200" +
+      "\200\200\200\002\"]\n\016CertificateSet\022\'\n\021publicCertific" +
+      "ate\030\001 \001(\0132\014.Certificate\022\027\n\017privateExpone" +
+      "nt\030\002 \001(\014*\t\010\210\'\020\200\200\200\200\002\"5\n\025HandshakeVerifica" +
+      "tion\022\021\n\tsignature\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"Z\n\013Ce" +
+      "rtificate\022\n\n\002id\030\001 \001(\t\022\017\n\007modulus\030\002 \001(\014\022\020" +
+      "\n\010exponent\030\003 \001(\014\022\021\n\tsignature\030\004 \001(\014*\t\010\210\'" +
+      "\020\200\200\200\200\002\"L\n\034BlockFamilyRegisteredMessage\022\020" +
+      "\n\010blockUri\030\001 \003(\t\022\017\n\007blockId\030\002 \003(\005*\t\010\210\'\020\200" +
+      "\200\200\200\002\"?\n\026InvalidateChunkMessage\022\032\n\003pos\030\001 ",
+      "\001(\0132\r.Vector3iData*\t\010\210\'\020\200\200\200\200\002\"M\n\022BlockCh" +
+      "angeMessage\022\032\n\003pos\030\001 \001(\0132\r.Vector3iData\022" +
+      "\020\n\010newBlock\030\002 \001(\005*\t\010\210\'\020\200\200\200\200\002\"l\n\020BlockCha" +
+      "ngeBatch\022\t\n\001x\030\001 \001(\021\022\t\n\001y\030\002 \001(\021\022\t\n\001z\030\003 \001(" +
+      "\021\022\026\n\nrunLengths\030\004 \003(\005B\002\020\001\022\024\n\010blockIds\030\005 " +
+      "\003(\021B\002\020\001*\t\010\210\'\020\200\200\200\200\002\"_\n\026ExtraDataChangeMes" +
+      "sage\022\r\n\005index\030\001 \001(\005\022\032\n\003pos\030\002 \001(\0132\r.Vecto" +
+      "r3iData\022\017\n\007newData\030\003 \001(\005*\t\010\210\'\020\200\200\200\200\002\"/\n\014V" +
+      "ector3iData\022\t\n\001x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\t\n\001z\030\003" +
+      " \001(\005\"\036\n\021ServerInfoRequest*\t\010\210\'\020\200\200\200\200\002\"i\n\013",
+      "JoinMessage\022\014\n\004name\030\001 \001(\t\022\017\n\007version\030\002 \001" +
+      "(\t\022\031\n\021viewDistanceLevel\030\003 \001(\021\022\025\n\005color\030\004" +
+      " \001(\0132\006.Color*\t\010\210\'\020\200\200\200\200\002\"\025\n\005Color\022\014\n\004rgba" +
+      "\030\001 \001(\r\"2\n\023JoinCompleteMessage\022\020\n\010clientI" +
+      "d\030\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"\234\003\n\021ServerInfoMessage" +
+      "\022\033\n\006module\030\001 \003(\0132\013.ModuleInfo\022\023\n\007blockId" +
+      "\030\002 \003(\021B\002\020\001\022\021\n\tblockName\030\003 \003(\t\022%\n\tcompone" +
+      "nt\030\004 \003(\0132\022.SerializationInfo\022!\n\005event\030\005 " +
+      "\003(\0132\022.SerializationInfo\022\023\n\007assetId\030\006 \003(\005" +
+      "B\002\020\001\022\020\n\010assetUri\030\007 \003(\t\022\033\n\023registerBlockF",
+      "amily\030\010 \003(\t\022\035\n\tworldInfo\030\t \003(\0132\n.WorldIn" +
+      "fo\022\024\n\014errorMessage\030\014 \001(\t\022\017\n\007version\030\017 \001(" +
+      "\t\022\020\n\010gameName\030\020 \001(\t\022\014\n\004time\030\021 \001(\003\022\030\n\020ref" +
+      "lectionHeight\030\022 \001(\002\022\014\n\004MOTD\030\023 \001(\t\022\033\n\023onl" +
+      "inePlayersAmount\030\024 \001(\005*\t\010\210\'\020\200\200\200\200\002\"3\n\tWor" +
+      "ldInfo\022\r\n\005title\030\001 \001(\t\022\014\n\004time\030\002 \001(\003*\t\010\210\'" +
+      "\020\200\200\200\200\002\"]\n\021SerializationInfo\022\014\n\004name\030\001 \001(" +
+      "\t\022\n\n\002id\030\002 \001(\005\022\021\n\tfieldName\030\003 \003(\t\022\020\n\010fiel" +
+      "dIds\030\004 \001(\014*\t\010\210\'\020\200\200\200\200\002\"@\n\nModuleInfo\022\020\n\010m" +
+      "oduleId\030\001 \001(\t\022\025\n\rmoduleVersion\030\002 \001(\t*\t\010\210",
+      "\'\020\200\200\200\200\002\",\n\rModuleRequest\022\020\n\010moduleId\030\001 \001" +
+      "(\t*\t\010\210\'\020\200\200\200\200\002\"W\n\020ModuleDataHeader\022\n\n\002id\030" +
+      "\001 \001(\t\022\017\n\007version\030\002 \001(\t\022\014\n\004size\030\003 \001(\003\022\r\n\005" +
+      "error\030\017 \001(\t*\t\010\210\'\020\200\200\200\200\002\"\'\n\nModuleData\022\016\n\006" +
+      "module\030\001 \001(\014*\t\010\210\'\020\200\200\200\200\002\"-\n\017ModuleSendErr" +
+      "or\022\017\n\007message\030\001 \001(\t*\t\010\210\'\020\200\200\200\200\002\"`\n\023Create" +
+      "EntityMessage\022\035\n\006entity\030\001 \001(\0132\r.PackedEn" +
+      "tity\022\037\n\010blockPos\030\002 \001(\0132\r.Vector3iData*\t\010" +
+      "\210\'\020\200\200\200\200\002\"N\n\023UpdateEntityMessage\022\035\n\006entit" +
+      "y\030\001 \001(\0132\r.PackedEntity\022\r\n\005netId\030\002 \001(\005*\t\010",
+      "\210\'\020\200\200\200\200\002\"/\n\023RemoveEntityMessage\022\r\n\005netId" +
+      "\030\001 \001(\005*\t\010\210\'\020\200\200\200\200\002\"i\n\014EventMessage\022\020\n\010tar" +
+      "getId\030\001 \001(\005\022\025\n\005event\030\002 \001(\0132\006.Event\022%\n\016ta" +
+      "rgetBlockPos\030\003 \001(\0132\r.Vector3iData*\t\010\210\'\020\200" +
+      "\200\200\200\002B$\n\027org.terasology.protobufB\007NetData" +
+      "H\001"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -26752,7 +26969,7 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
           internal_static_NetMessage_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_NetMessage_descriptor,
-              new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "BiomeChange", "ExtraDataChange", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", });
+              new java.lang.String[] { "ChunkInfo", "InvalidateChunk", "BlockChange", "CreateEntity", "RemoveEntity", "UpdateEntity", "Event", "Time", "ExtraDataChange", "BlockChangeBatch", "ServerInfoRequest", "ServerInfo", "BlockFamilyRegistered", "Join", "ModuleRequest", "ModuleDataHeader", "ModuleData", "JoinComplete", "HandshakeHello", "NewIdentityRequest", "ProvisionIdentity", "HandshakeVerification", "Compression", });
           internal_static_HandshakeHello_descriptor =
             getDescriptor().getMessageTypes().get(1);
           internal_static_HandshakeHello_fieldAccessorTable = new
@@ -26807,12 +27024,12 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_BlockChangeMessage_descriptor,
               new java.lang.String[] { "Pos", "NewBlock", });
-          internal_static_BiomeChangeMessage_descriptor =
+          internal_static_BlockChangeBatch_descriptor =
             getDescriptor().getMessageTypes().get(10);
-          internal_static_BiomeChangeMessage_fieldAccessorTable = new
+          internal_static_BlockChangeBatch_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-              internal_static_BiomeChangeMessage_descriptor,
-              new java.lang.String[] { "Pos", "NewBiome", });
+              internal_static_BlockChangeBatch_descriptor,
+              new java.lang.String[] { "X", "Y", "Z", "RunLengths", "BlockIds", });
           internal_static_ExtraDataChangeMessage_descriptor =
             getDescriptor().getMessageTypes().get(11);
           internal_static_ExtraDataChangeMessage_fieldAccessorTable = new
@@ -26854,7 +27071,7 @@ public com.google.protobuf.ExtensionRegistry assignDescriptors(
           internal_static_ServerInfoMessage_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_ServerInfoMessage_descriptor,
-              new java.lang.String[] { "Module", "BlockId", "BlockName", "Component", "Event", "AssetId", "AssetUri", "RegisterBlockFamily", "WorldInfo", "BiomeShortId", "BiomeId", "ErrorMessage", "Version", "GameName", "Time", "ReflectionHeight", "MOTD", "OnlinePlayersAmount", });
+              new java.lang.String[] { "Module", "BlockId", "BlockName", "Component", "Event", "AssetId", "AssetUri", "RegisterBlockFamily", "WorldInfo", "ErrorMessage", "Version", "GameName", "Time", "ReflectionHeight", "MOTD", "OnlinePlayersAmount", });
           internal_static_WorldInfo_descriptor =
             getDescriptor().getMessageTypes().get(18);
           internal_static_WorldInfo_fieldAccessorTable = new
@@ -0,0 +1,84 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.loadtest;
+
+import org.terasology.engine.core.SimpleUri;
+import org.terasology.engine.entitySystem.entity.EntityRef;
+import org.terasology.engine.input.BindAxisEvent;
+import org.terasology.engine.input.binds.interaction.AttackButton;
+import org.terasology.engine.input.binds.movement.ForwardsMovementAxis;
+import org.terasology.engine.input.binds.movement.RotationPitchAxis;
+import org.terasology.engine.input.binds.movement.RotationYawAxis;
+import org.terasology.engine.logic.players.LocalPlayer;
+import org.terasology.input.ButtonState;
+
+/**
+ * Plays the local player of a bot like a person at the keyboard would, by sending the input events the input system
+ * sends for key presses and mouse moves. The local player systems turn them into the same requests to the server as for
+ * any other client. This has to run on the main thread.
+ * <p>
+ * The bot looks down in front of its feet and walks in a circle, at the walking speed of its character. Every few
+ * seconds it attacks the block it looks at; whether that breaks the block depends on the modules of the game.
+ */
+public class BotDriver {
+    static final float MIN_RADIUS = 8.0f;
+    static final float WALKING_SPEED = 4.0f;
+
+    private static final float LOOK_DOWN_PITCH = -60.0f;
+    private static final SimpleUri ATTACK_ID = new SimpleUri("engine:attack");
+
+    private final LocalPlayer localPlayer;
+    private final float radius;
+    private final long editInterval;
+    private boolean started;
+    private long lastUpdate;
+    private long nextEdit;
+
+    /**
+     * @param radius the radius of the circle the bot walks in
+     * @param editInterval the time between the block attacks of the bot in ms, or 0 to attack none
+     */
+    public BotDriver(LocalPlayer localPlayer, float radius, long editInterval) {
+        this.localPlayer = localPlayer;
+        this.radius = radius;
+        this.editInterval = editInterval;
+    }
+
+    /**
+     * Sends the input of the bot since the last update.
+     *
+     * @param time the time since the bot started, in ms
+     */
+    public void update(long time) {
+        if (!localPlayer.isValid()) {
+            return;
+        }
+        EntityRef client = localPlayer.getClientEntity();
+        EntityRef character = localPlayer.getCharacterEntity();
+        float delta = (time - lastUpdate) / 1000.0f;
+        if (!started) {
+            started = true;
+            nextEdit = time + editInterval;
+            character.send(prepare(new RotationPitchAxis(), "engine:rotationPitch", LOOK_DOWN_PITCH, delta));
+            client.send(prepare(new ForwardsMovementAxis(), "engine:forwardsMovement", 1.0f, delta));
+        } else {
+            // turning by the angle walked on the circle since the last update keeps the bot on it
+            character.send(prepare(new RotationYawAxis(), "engine:rotationYaw", (float) Math.toDegrees(WALKING_SPEED / radius * delta), delta));
+        }
+        if (editInterval > 0 && time >= nextEdit) {
+            nextEdit = time + editInterval;
+            AttackButton attack = new AttackButton();
+            attack.prepare(ATTACK_ID, ButtonState.DOWN, delta);
+            character.send(attack);
+            attack.prepare(ATTACK_ID, ButtonState.UP, 0);
+            character.send(attack);
+        }
+        lastUpdate = time;
+    }
+
+    private static <T extends BindAxisEvent> T prepare(T event, String id, float value, float delta) {
+        event.prepare(id, value, delta);
+        return event;
+    }
+}
@@ -0,0 +1,94 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.loadtest;
+
+import com.google.common.collect.Lists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts every bot as a game client in a process of its own. The engine keeps its state in static registries, so
+ * there can only be one client per process.
+ * <p>
+ * Each bot gets a home directory of its own below the given one, holding its config, the identity the server gives it,
+ * its logs, and the output of its process.
+ */
+public class BotLauncher {
+    private static final Logger logger = LoggerFactory.getLogger(BotLauncher.class);
+    private static final long STOP_TIMEOUT = 10;
+
+    private final Path homeRoot;
+    private final List<String> botArguments;
+    private final List<Process> processes = Lists.newCopyOnWriteArrayList();
+
+    /**
+     * @param homeRoot the directory to put the home directories of the bots in
+     * @param botArguments the launch arguments every bot gets in addition to its name and home directory
+     */
+    public BotLauncher(Path homeRoot, List<String> botArguments) {
+        this.homeRoot = homeRoot;
+        this.botArguments = botArguments;
+    }
+
+    public void launch(String name) throws IOException {
+        Path home = homeRoot.resolve(name);
+        Files.createDirectories(home);
+        List<String> command = Lists.newArrayList(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                LoadTest.class.getName(),
+                LoadTest.BOT + name,
+                LoadTest.USE_SPECIFIED_DIR_AS_HOME + home);
+        command.addAll(botArguments);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(home.resolve("output.log").toFile()))
+                .start();
+        processes.add(process);
+        logger.info("Started {} in {}", name, home);
+    }
+
+    /**
+     * @return the count of bots whose process still runs
+     */
+    public int getRunningCount() {
+        int running = 0;
+        for (Process process : processes) {
+            if (process.isAlive()) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    public int getLaunchedCount() {
+        return processes.size();
+    }
+
+    /**
+     * Ends the processes of all bots, forcibly if they don't end in time.
+     */
+    public void stop() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(STOP_TIMEOUT, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+}
@@ -0,0 +1,399 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.loadtest;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import gnu.trove.map.TObjectDoubleMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.config.Config;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.core.GameThread;
+import org.terasology.engine.core.LoggingContext;
+import org.terasology.engine.core.TerasologyConstants;
+import org.terasology.engine.core.TerasologyEngine;
+import org.terasology.engine.core.TerasologyEngineBuilder;
+import org.terasology.engine.core.modes.GameState;
+import org.terasology.engine.core.modes.StateIngame;
+import org.terasology.engine.core.paths.PathManager;
+import org.terasology.engine.core.subsystem.common.ConfigurationSubsystem;
+import org.terasology.engine.core.subsystem.common.hibernation.HibernationSubsystem;
+import org.terasology.engine.core.subsystem.headless.HeadlessAudio;
+import org.terasology.engine.core.subsystem.headless.HeadlessGraphics;
+import org.terasology.engine.core.subsystem.headless.HeadlessInput;
+import org.terasology.engine.core.subsystem.headless.HeadlessTimer;
+import org.terasology.engine.core.subsystem.headless.mode.HeadlessStateChangeListener;
+import org.terasology.engine.core.subsystem.headless.mode.StateHeadlessSetup;
+import org.terasology.engine.logic.players.LocalPlayer;
+import org.terasology.engine.monitoring.PerformanceMonitor;
+import org.terasology.engine.network.Client;
+import org.terasology.engine.network.NetMetricSource;
+import org.terasology.engine.network.NetworkSystem;
+import org.terasology.engine.network.Server;
+import org.terasology.engine.rendering.world.viewDistance.ViewDistance;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Measures how many players a server can take. It hosts a headless server and connects a number of bots to it over
+ * localhost, which walk around and attack the blocks in front of them. Every few seconds it logs the time the server
+ * spends per tick and the data sent to every client.
+ * <p>
+ * Every bot is a headless game client in a process of its own, which joins the server like a player does and is
+ * played by sending it the input events of a player. It logs what it receives from the server to its own log, in its
+ * home directory below the bots directory of the load test.
+ * <p>
+ * The bots can also join a server started elsewhere with -connect, leaving out the server side of the report.
+ * <br><br>
+ * Launch arguments:
+ * <table summary="Launch arguments">
+ * <tbody>
+ * <tr><td>-homedir=path</td><td>Use the specified directory as the home directory.</td></tr>
+ * <tr><td>-bots=n</td><td>The number of bots, 8 by default.</td></tr>
+ * <tr><td>-duration=s</td><td>Stop after this many seconds, or never with 0, the default.</td></tr>
+ * <tr><td>-report=s</td><td>Seconds between reports, 10 by default.</td></tr>
+ * <tr><td>-edit=ms</td><td>Time between the block attacks of each bot, or none with 0. 2000 by default.</td></tr>
+ * <tr><td>-viewDistance=n</td><td>The view distance level the bots ask for, 2 (moderate) by default.</td></tr>
+ * <tr><td>-serverPort=port</td><td>The port to host the server on.</td></tr>
+ * <tr><td>-connect=host:port</td><td>Connect the bots to this server instead of hosting one.</td></tr>
+ * <tr><td>-bot=name</td><td>Run a single bot with this name in this process, used for the bot processes.</td></tr>
+ * </tbody>
+ * </table>
+ */
+public final class LoadTest {
+    static final String BOT_NAME_PREFIX = "Bot-";
+    static final String USE_SPECIFIED_DIR_AS_HOME = "-homedir=";
+    static final String BOT = "-bot=";
+
+    private static final String BOTS = "-bots=";
+    private static final String DURATION = "-duration=";
+    private static final String REPORT = "-report=";
+    private static final String EDIT = "-edit=";
+    private static final String VIEW_DISTANCE = "-viewDistance=";
+    private static final String SERVER_PORT = "-serverPort=";
+    private static final String CONNECT = "-connect=";
+    private static final String USAGE = "Usage: LoadTest [-homedir=path] [-bots=n] [-duration=s] [-report=s] [-edit=ms] "
+            + "[-viewDistance=n] [-serverPort=port] [-connect=host:port]";
+
+    private static final String BOTS_DIR = "bots";
+    private static final long JOIN_INTERVAL = 1000;
+    private static final long DRIVE_INTERVAL = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    private int botCount = 8;
+    private long duration;
+    private long reportInterval = 10;
+    private long editInterval = 2000;
+    private ViewDistance viewDistance = ViewDistance.MODERATE;
+    private Path homePath;
+    private String connectHost;
+    private int connectPort = TerasologyConstants.DEFAULT_PORT;
+    private String botName;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("Load-Test").setDaemon(true).build());
+    private final AtomicBoolean driving = new AtomicBoolean();
+    private BotLauncher launcher;
+    private boolean started;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) {
+        LoadTest loadTest = new LoadTest();
+        if (!loadTest.handleLaunchArguments(args)) {
+            logger.error(USAGE);
+            System.exit(1);
+        }
+        try {
+            if (loadTest.botName != null) {
+                loadTest.runBot();
+            } else if (loadTest.connectHost != null) {
+                loadTest.runBots();
+            } else {
+                loadTest.runServer();
+            }
+        } catch (Throwable e) {
+            logger.error("Load test failed", e);
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * @return whether all arguments are valid
+     */
+    private boolean handleLaunchArguments(String[] args) {
+        for (String arg : args) {
+            try {
+                if (arg.startsWith(USE_SPECIFIED_DIR_AS_HOME)) {
+                    homePath = Paths.get(arg.substring(USE_SPECIFIED_DIR_AS_HOME.length()));
+                } else if (arg.startsWith(BOTS)) {
+                    botCount = Integer.parseInt(arg.substring(BOTS.length()));
+                } else if (arg.startsWith(DURATION)) {
+                    duration = Long.parseLong(arg.substring(DURATION.length()));
+                } else if (arg.startsWith(REPORT)) {
+                    reportInterval = Math.max(1, Long.parseLong(arg.substring(REPORT.length())));
+                } else if (arg.startsWith(EDIT)) {
+                    editInterval = Long.parseLong(arg.substring(EDIT.length()));
+                } else if (arg.startsWith(VIEW_DISTANCE)) {
+                    viewDistance = ViewDistance.forIndex(Integer.parseInt(arg.substring(VIEW_DISTANCE.length())));
+                } else if (arg.startsWith(SERVER_PORT)) {
+                    System.setProperty(ConfigurationSubsystem.SERVER_PORT_PROPERTY, arg.substring(SERVER_PORT.length()));
+                } else if (arg.startsWith(CONNECT)) {
+                    String address = arg.substring(CONNECT.length());
+                    int colon = address.lastIndexOf(':');
+                    if (colon >= 0) {
+                        connectPort = Integer.parseInt(address.substring(colon + 1));
+                        address = address.substring(0, colon);
+                    }
+                    connectHost = address;
+                } else if (arg.startsWith(BOT)) {
+                    botName = arg.substring(BOT.length());
+                } else {
+                    logger.error("Invalid argument: {}", arg);
+                    return false;
+                }
+            } catch (NumberFormatException e) {
+                logger.error("Invalid number in argument: {}", arg);
+                return false;
+            }
+        }
+        if (botName != null && connectHost == null) {
+            logger.error("A bot needs a server to connect to");
+            return false;
+        }
+        return true;
+    }
+
+    private void initPaths() throws IOException {
+        if (homePath != null) {
+            PathManager.getInstance().useOverrideHomePath(homePath);
+        } else {
+            PathManager.getInstance().useDefaultHomePath();
+        }
+        LoggingContext.initialize(PathManager.getInstance().getLogPath());
+    }
+
+    private static TerasologyEngine createHeadlessEngine() {
+        TerasologyEngine engine = new TerasologyEngineBuilder()
+                .add(new HeadlessGraphics())
+                .add(new HeadlessTimer())
+                .add(new HeadlessAudio())
+                .add(new HeadlessInput())
+                .add(new HibernationSubsystem())
+                .build();
+        engine.subscribeToStateChange(new HeadlessStateChangeListener(engine));
+        return engine;
+    }
+
+    /**
+     * Starts the bots to join a server which runs elsewhere, and reports how many of them run until the time is up.
+     */
+    private void runBots() throws IOException, InterruptedException {
+        initPaths();
+        startBots(connectHost, connectPort);
+        scheduler.scheduleAtFixedRate(() -> logger.info("Bots: {} of {} running",
+                launcher.getRunningCount(), launcher.getLaunchedCount()), reportInterval, reportInterval, TimeUnit.SECONDS);
+        try {
+            if (duration > 0) {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(duration));
+            } else {
+                Thread.currentThread().join();
+            }
+        } finally {
+            stopBots();
+        }
+    }
+
+    /**
+     * Hosts a headless server, the same way the PC facade does, and starts the bots once it is running.
+     */
+    private void runServer() throws IOException {
+        initPaths();
+        PerformanceMonitor.setEnabled(true);
+
+        TerasologyEngine engine = createHeadlessEngine();
+        engine.subscribeToStateChange(() -> {
+            GameState state = engine.getState();
+            if (state instanceof StateIngame && !started) {
+                started = true;
+                startLoad(engine, state.getContext());
+            }
+        });
+        try {
+            engine.run(new StateHeadlessSetup());
+        } finally {
+            stopBots();
+        }
+    }
+
+    /**
+     * Runs a single bot, which joins the server and is played once it is in the game.
+     */
+    private void runBot() throws IOException {
+        initPaths();
+
+        TerasologyEngine engine = createHeadlessEngine();
+        engine.subscribeToStateChange(() -> {
+            GameState state = engine.getState();
+            if (state instanceof StateIngame && !started) {
+                started = true;
+                startDriving(engine, state.getContext());
+            }
+        });
+        try {
+            engine.run(new StateJoinServer(connectHost, connectPort, botName, viewDistance));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void startLoad(TerasologyEngine engine, Context context) {
+        NetworkSystem networkSystem = context.get(NetworkSystem.class);
+        if (!networkSystem.getMode().isServer()) {
+            logger.error("The server failed to host, there is nothing to connect the bots to");
+            engine.shutdown();
+            return;
+        }
+        scheduler.scheduleAtFixedRate(() -> GameThread.asynch(() -> reportServer(networkSystem)),
+                reportInterval, reportInterval, TimeUnit.SECONDS);
+        scheduleShutdown(engine);
+
+        startBots("localhost", context.get(Config.class).getNetwork().getServerPort());
+    }
+
+    private void startDriving(TerasologyEngine engine, Context context) {
+        float radius = BotDriver.MIN_RADIUS * (1 + new Random().nextInt(4));
+        BotDriver driver = new BotDriver(context.get(LocalPlayer.class), radius, editInterval);
+        long start = System.currentTimeMillis();
+        scheduler.scheduleAtFixedRate(() -> {
+            // skips a step when the client is too busy to take the last one
+            if (driving.compareAndSet(false, true)) {
+                GameThread.asynch(() -> {
+                    driver.update(System.currentTimeMillis() - start);
+                    driving.set(false);
+                });
+            }
+        }, DRIVE_INTERVAL, DRIVE_INTERVAL, TimeUnit.MILLISECONDS);
+        NetworkSystem networkSystem = context.get(NetworkSystem.class);
+        scheduler.scheduleAtFixedRate(() -> GameThread.asynch(() -> reportBot(networkSystem)),
+                reportInterval, reportInterval, TimeUnit.SECONDS);
+        scheduleShutdown(engine);
+    }
+
+    private void scheduleShutdown(TerasologyEngine engine) {
+        if (duration > 0) {
+            scheduler.schedule(() -> GameThread.asynch(engine::shutdown), duration, TimeUnit.SECONDS);
+        }
+    }
+
+    private void startBots(String host, int port) {
+        logger.info("Starting {} bots to join {}:{}", botCount, host, port);
+        List<String> botArguments = Lists.newArrayList(
+                CONNECT + host + ":" + port,
+                VIEW_DISTANCE + viewDistance.getIndex(),
+                EDIT + editInterval,
+                REPORT + reportInterval);
+        launcher = new BotLauncher(PathManager.getInstance().getHomePath().resolve(BOTS_DIR), botArguments);
+        for (int i = 0; i < botCount; i++) {
+            String name = BOT_NAME_PREFIX + (i + 1);
+            // starting a client takes a while, so the bots start one after another
+            scheduler.schedule(() -> {
+                try {
+                    launcher.launch(name);
+                } catch (IOException e) {
+                    logger.error("Failed to start {}", name, e);
+                }
+            }, i * JOIN_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopBots() {
+        scheduler.shutdownNow();
+        if (launcher != null) {
+            launcher.stop();
+        }
+    }
+
+    /**
+     * Logs the time the server spends per tick and the data it sent to each client since the last report.
+     */
+    private void reportServer(NetworkSystem networkSystem) {
+        TObjectDoubleMap<String> means = PerformanceMonitor.getRunningMean();
+        double tickTime = 0;
+        for (String activity : means.keySet()) {
+            if (!"Other".equals(activity)) {
+                tickTime += means.get(activity);
+            }
+        }
+        logger.info("Server tick: {} ms, of which client update {} ms and entity interest {} ms",
+                format(tickTime), format(means.get("Client update")), format(means.get("Entity interest")));
+
+        for (Client client : networkSystem.getPlayers()) {
+            NetMetricSource metrics = client.getMetrics();
+            if (metrics == null) {
+                continue;
+            }
+            logger.info("  {}: sent {} kbit/s in {} msg/s, received {} kbit/s in {} msg/s, compression {} at {} ns/B, "
+                            + "serialization cache {} hits saving {} kB, message build {} ms, {} B allocated per message",
+                    client.getName(),
+                    format(kbitPerSecond(metrics.getSentBytesSinceLastCall())),
+                    format(perSecond(metrics.getSentMessagesSinceLastCall())),
+                    format(kbitPerSecond(metrics.getReceivedBytesSinceLastCall())),
+                    format(perSecond(metrics.getReceivedMessagesSinceLastCall())),
+                    format(metrics.getCompressionRatio()),
+                    format(metrics.getCompressionTimePerByte()),
+                    metrics.getSerializationCacheHitsSinceLastCall(),
+                    format(metrics.getSerializationBytesSavedSinceLastCall() / 1024.0),
+                    format(metrics.getMessageBuildTimeSinceLastCall()),
+                    format(metrics.getAllocationPerMessageSinceLastCall()));
+        }
+        int joined = 0;
+        for (Client client : networkSystem.getPlayers()) {
+            if (client.getName().startsWith(BOT_NAME_PREFIX)) {
+                joined++;
+            }
+        }
+        logger.info("Bots: {} of {} running, {} joined", launcher.getRunningCount(), launcher.getLaunchedCount(), joined);
+    }
+
+    /**
+     * Logs what the bot received from the server since the last report.
+     */
+    private void reportBot(NetworkSystem networkSystem) {
+        Server server = networkSystem.getServer();
+        if (server == null || server.getMetrics() == null) {
+            return;
+        }
+        NetMetricSource metrics = server.getMetrics();
+        logger.info("Received {} kbit/s in {} msg/s, sent {} kbit/s in {} msg/s",
+                format(kbitPerSecond(metrics.getReceivedBytesSinceLastCall())),
+                format(perSecond(metrics.getReceivedMessagesSinceLastCall())),
+                format(kbitPerSecond(metrics.getSentBytesSinceLastCall())),
+                format(perSecond(metrics.getSentMessagesSinceLastCall())));
+    }
+
+    private double kbitPerSecond(long bytes) {
+        return bytes * 8 / 1000.0 / reportInterval;
+    }
+
+    private double perSecond(long count) {
+        return (double) count / reportInterval;
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+}
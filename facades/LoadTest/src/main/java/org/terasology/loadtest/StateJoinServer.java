@@ -0,0 +1,98 @@
+// Copyright 2021 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.engine.config.Config;
+import org.terasology.engine.config.PlayerConfig;
+import org.terasology.engine.context.Context;
+import org.terasology.engine.core.GameEngine;
+import org.terasology.engine.core.LoggingContext;
+import org.terasology.engine.core.modes.GameState;
+import org.terasology.engine.core.modes.StateLoading;
+import org.terasology.engine.network.JoinStatus;
+import org.terasology.engine.network.NetworkSystem;
+import org.terasology.engine.registry.CoreRegistry;
+import org.terasology.engine.rendering.world.viewDistance.ViewDistance;
+
+/**
+ * Joins a server the way the join game screen does: the network system connects to it, and the game loads with
+ * {@link StateLoading} once the handshake is under way.
+ * <p>
+ * The player name and view distance of the bot are stored in the config of its home directory, which also keeps the
+ * identity the server gives the bot when it joins for the first time.
+ */
+public class StateJoinServer implements GameState {
+    private static final Logger logger = LoggerFactory.getLogger(StateJoinServer.class);
+
+    private final String host;
+    private final int port;
+    private final String playerName;
+    private final ViewDistance viewDistance;
+    private Context context;
+
+    public StateJoinServer(String host, int port, String playerName, ViewDistance viewDistance) {
+        this.host = host;
+        this.port = port;
+        this.playerName = playerName;
+        this.viewDistance = viewDistance;
+    }
+
+    @Override
+    public void init(GameEngine gameEngine) {
+        context = gameEngine.createChildContext();
+        CoreRegistry.setContext(context);
+
+        context.get(PlayerConfig.class).playerName.set(playerName);
+        context.get(Config.class).getRendering().setViewDistance(viewDistance);
+
+        logger.info("Joining {}:{} as {}", host, port, playerName);
+        JoinStatus joinStatus;
+        try {
+            joinStatus = context.get(NetworkSystem.class).join(host, port);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            gameEngine.shutdown();
+            return;
+        }
+        if (joinStatus.getStatus() == JoinStatus.Status.FAILED) {
+            logger.error("Failed to join {}:{}: {}", host, port, joinStatus.getErrorMessage());
+            gameEngine.shutdown();
+            return;
+        }
+        gameEngine.changeState(new StateLoading(joinStatus));
+    }
+
+    @Override
+    public void dispose(boolean shuttingDown) {
+    }
+
+    @Override
+    public void handleInput(float delta) {
+    }
+
+    @Override
+    public void update(float delta) {
+    }
+
+    @Override
+    public void render() {
+    }
+
+    @Override
+    public boolean isHibernationAllowed() {
+        return false;
+    }
+
+    @Override
+    public String getLoggingPhase() {
+        return LoggingContext.INIT_PHASE;
+    }
+
+    @Override
+    public Context getContext() {
+        return context;
+    }
+}